@@ -20,6 +20,10 @@
  */
 package org.cellocad.v2.common;
 
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * The CObject class is the base object for all classes within the Poros framework.
  *  
@@ -81,9 +85,39 @@ public class CObject {
 	 *  @param name the name to set <i>name</i>
 	 */
 	public void setName(final String name){
+		List<WeakReference<CObjectCollection<?>>> owners = this.indexOwners;
+		if (owners != null) {
+			for (WeakReference<CObjectCollection<?>> owner : owners) {
+				CObjectCollection<?> collection = owner.get();
+				if (collection != null) {
+					collection.elementRenamed();
+				}
+			}
+		}
 		this.name = name;
 	}
 
+	/**
+	 *  Marks this instance as an element of the name-indexed CObjectCollection defined by parameter <i>collection</i>, so that renaming this instance invalidates the name index of that collection only.
+	 *  The collection is held weakly, and is kept after this instance is removed from it, which at worst causes a needless rebuild of its name index.
+	 *  @param collection the CObjectCollection
+	 */
+	synchronized void markIndexedBy(final CObjectCollection<?> collection) {
+		if (this.indexOwners == null) {
+			this.indexOwners = new CopyOnWriteArrayList<WeakReference<CObjectCollection<?>>>();
+		}
+		for (WeakReference<CObjectCollection<?>> owner : this.indexOwners) {
+			CObjectCollection<?> c = owner.get();
+			if (c == collection) {
+				return;
+			}
+			if (c == null) {
+				this.indexOwners.remove(owner);
+			}
+		}
+		this.indexOwners.add(new WeakReference<CObjectCollection<?>>(collection));
+	}
+
 	/**
 	 *  Getter for <i>name</i>
 	 *  @return the name of this instance
@@ -267,5 +301,6 @@ public class CObject {
 	private String name;
 	private int type;
 	private int idx;
+	private transient volatile List<WeakReference<CObjectCollection<?>>> indexOwners;
 	
 }
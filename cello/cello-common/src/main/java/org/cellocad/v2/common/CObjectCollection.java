@@ -23,20 +23,30 @@
 package org.cellocad.v2.common;
 
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.RandomAccess;
 
 /**
  * Collection for CObject Object's.
  * 
+ * A collection may index its elements by name, so that
+ * {@link #findCObjectByName(String)} is a hash lookup rather than a scan. The
+ * index is kept in sync on add, remove and set, and is rebuilt after other
+ * modifications, including the renaming of one of its elements. Renaming an
+ * element invalidates the index of the collections that contain it only.
+ * 
  * @param <T> the type of elements in this collection
  * 
  * @author Vincent Mirian
  * @author Timothy Jones
+ * @author agent
  * 
  * @date Oct 27, 2017
  *
@@ -56,6 +66,149 @@ public class CObjectCollection<T extends CObject> extends CObject implements Lis
 		init();
 	}
 
+	/**
+	 *  Constructs an empty list, indexed by name if parameter <i>nameIndexed</i> is true.
+	 *  
+	 *  @param nameIndexed true to index the elements by name
+	 */
+	public CObjectCollection(final boolean nameIndexed) {
+		this();
+		this.setNameIndexed(nameIndexed);
+	}
+
+	/*
+	 * Name index
+	 */
+	/**
+	 *  Setter for <i>nameIndexed</i>, whether the elements of this instance are indexed by name.
+	 *  
+	 *  @param nameIndexed true to index the elements by name
+	 */
+	public void setNameIndexed(final boolean nameIndexed) {
+		if (!nameIndexed) {
+			nameIndex = null;
+		}
+		else if (nameIndex == null) {
+			this.buildNameIndex();
+		}
+	}
+
+	/**
+	 *  Getter for <i>nameIndexed</i>
+	 *  @return true if the elements of this instance are indexed by name, false otherwise
+	 */
+	public boolean isNameIndexed() {
+		return nameIndex != null;
+	}
+
+	/**
+	 *  Builds and publishes the name index from the elements of this instance.
+	 *  
+	 *  @return the name index
+	 */
+	private NameIndex<T> buildNameIndex() {
+		NameIndex<T> rtn = new NameIndex<T>(modCount, renameCount);
+		for (int i = 0; i < collection.size(); i++) {
+			T e = collection.get(i);
+			if (e != null) {
+				e.markIndexedBy(this);
+				if (rtn.map.putIfAbsent(e.getName(), e) != null) {
+					rtn.hasDuplicateNames = true;
+				}
+			}
+		}
+		nameIndex = rtn;
+		return rtn;
+	}
+
+	/**
+	 *  Returns the name index if it is in sync with the elements of this instance, null otherwise.
+	 *  
+	 *  @return the name index if it is in sync with the elements of this instance, null otherwise
+	 */
+	private NameIndex<T> getCurrentNameIndex() {
+		NameIndex<T> rtn = nameIndex;
+		if (rtn != null
+				&& (rtn.modCount != modCount
+				|| rtn.renameCount != renameCount)) {
+			rtn = null;
+		}
+		return rtn;
+	}
+
+	/**
+	 *  Records the renaming of an element of this instance. The name index is out of sync until it is rebuilt.
+	 */
+	synchronized void elementRenamed() {
+		renameCount++;
+	}
+
+	/**
+	 *  Records a modification of this instance. The name index is out of sync until it is updated or rebuilt.
+	 */
+	private void modified() {
+		modCount++;
+	}
+
+	/**
+	 *  Updates the name index after the element defined by parameter <i>e</i> was appended.
+	 *  
+	 *  @param index the name index before the modification, or null if it was out of sync
+	 *  @param e the element
+	 */
+	private void indexAppended(final NameIndex<T> index, final T e) {
+		this.modified();
+		if (index != null) {
+			if (e != null) {
+				e.markIndexedBy(this);
+				if (index.map.putIfAbsent(e.getName(), e) != null) {
+					index.hasDuplicateNames = true;
+				}
+			}
+			index.modCount = modCount;
+		}
+	}
+
+	/**
+	 *  Updates the name index after the element defined by parameter <i>e</i> was removed.
+	 *  
+	 *  @param index the name index before the modification, or null if it was out of sync
+	 *  @param e the element
+	 */
+	private void indexRemoved(final NameIndex<T> index, final T e) {
+		this.modified();
+		if (index != null && !index.hasDuplicateNames) {
+			if (e != null && index.map.get(e.getName()) == e) {
+				index.map.remove(e.getName());
+			}
+			index.modCount = modCount;
+		}
+	}
+
+	/**
+	 *  Updates the name index after the element defined by parameter <i>e</i> replaced the element defined by parameter <i>old</i>.
+	 *  
+	 *  @param index the name index before the modification, or null if it was out of sync
+	 *  @param old the replaced element
+	 *  @param e the element
+	 */
+	private void indexReplaced(final NameIndex<T> index, final T old, final T e) {
+		this.modified();
+		if (index != null && !index.hasDuplicateNames) {
+			if (old != null && index.map.get(old.getName()) == old) {
+				index.map.remove(old.getName());
+			}
+			if (e != null) {
+				e.markIndexedBy(this);
+				if (index.map.putIfAbsent(e.getName(), e) != null) {
+					// the first occurrence depends on the position
+					return;
+				}
+			}
+			index.modCount = modCount;
+		}
+	}
+
 	/**
 	 *  Returns the first occurrence of the element with its name equivalent to parameter <i>name</i>.
 	 *  
@@ -63,6 +216,13 @@ public class CObjectCollection<T extends CObject> extends CObject implements Lis
 	 *  @return the first occurrence of the element with its name equivalent to parameter <i>name</i>.
 	 */
 	public T findCObjectByName(final String name){
+		if (nameIndex != null) {
+			NameIndex<T> index = this.getCurrentNameIndex();
+			if (index == null) {
+				index = this.buildNameIndex();
+			}
+			return index.map.get(name);
+		}
 		T rtn = null, cobjTemp = null;
 		Iterator<T> cobjIt = collection.iterator();
 		while (
@@ -103,6 +263,28 @@ public class CObjectCollection<T extends CObject> extends CObject implements Lis
 	 */
 	private static final long serialVersionUID = 1L;
 	List<T> collection;
+	private transient volatile NameIndex<T> nameIndex;
+	private transient int modCount;
+	private transient volatile long renameCount;
+
+	/**
+	 * The name index of a CObjectCollection, with the modification count and
+	 * rename count it is in sync with.
+	 */
+	private static final class NameIndex<T> {
+
+		NameIndex(final int modCount, final long renameCount) {
+			this.map = new HashMap<String,T>();
+			this.modCount = modCount;
+			this.renameCount = renameCount;
+		}
+
+		private final Map<String,T> map;
+		private int modCount;
+		private final long renameCount;
+		private boolean hasDuplicateNames;
+
+	}
 
 	/**
 	 * Appends the specified element to the end of this list.
@@ -112,7 +294,10 @@ public class CObjectCollection<T extends CObject> extends CObject implements Lis
 	 */
 	@Override
 	public boolean add(T e) {
-		return collection.add(e);
+		NameIndex<T> current = this.getCurrentNameIndex();
+		boolean rtn = collection.add(e);
+		this.indexAppended(current, e);
+		return rtn;
 	}
 
 	/**
@@ -125,7 +310,14 @@ public class CObjectCollection<T extends CObject> extends CObject implements Lis
 	 */
 	@Override
 	public void add(int index, T element) {
+		NameIndex<T> current = this.getCurrentNameIndex();
 		collection.add(index, element);
+		if (index == collection.size() - 1) {
+			this.indexAppended(current, element);
+		}
+		else {
+			this.modified();
+		}
 	}
 	
 	/**
@@ -138,7 +330,11 @@ public class CObjectCollection<T extends CObject> extends CObject implements Lis
 	 */
 	@Override
 	public boolean addAll(Collection<? extends T> c) {
-		return collection.addAll(c);
+		boolean rtn = false;
+		for (T e : c) {
+			rtn = this.add(e) || rtn;
+		}
+		return rtn;
 	}
 	
 	/**
@@ -153,7 +349,9 @@ public class CObjectCollection<T extends CObject> extends CObject implements Lis
 	 */
 	@Override
 	public boolean addAll(int index, Collection<? extends T> c) {
-		return collection.addAll(index, c);
+		boolean rtn = collection.addAll(index, c);
+		this.modified();
+		return rtn;
 	}
 	
 	/**
@@ -162,6 +360,10 @@ public class CObjectCollection<T extends CObject> extends CObject implements Lis
 	@Override
 	public void clear() {
 		collection.clear();
+		this.modified();
+		if (nameIndex != null) {
+			this.buildNameIndex();
+		}
 	}
 	
 	/**
@@ -227,7 +429,7 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public Iterator<T> iterator() {
-		return collection.iterator();
+		return new CObjectCollectionIterator(collection.listIterator());
 	}
 
 	/**
@@ -248,7 +450,7 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public ListIterator<T> listIterator() {
-		return collection.listIterator();
+		return new CObjectCollectionIterator(collection.listIterator());
 	}
 
 	/**
@@ -259,7 +461,7 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public ListIterator<T> listIterator(int index) {
-		return collection.listIterator(index);
+		return new CObjectCollectionIterator(collection.listIterator(index));
 	}
 	
 	/**
@@ -270,7 +472,13 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public boolean remove(Object o) {
-		return collection.remove(o);
+		boolean rtn = false;
+		int index = collection.indexOf(o);
+		if (index >= 0) {
+			this.remove(index);
+			rtn = true;
+		}
+		return rtn;
 	}
 	
 	/**
@@ -282,7 +490,10 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public T remove(int index) {
-		return collection.remove(index);
+		NameIndex<T> current = this.getCurrentNameIndex();
+		T rtn = collection.remove(index);
+		this.indexRemoved(current, rtn);
+		return rtn;
 	}
 
 	/**
@@ -295,7 +506,9 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public boolean removeAll(Collection<?> c) {
-		return collection.removeAll(c);
+		boolean rtn = collection.removeAll(c);
+		this.modified();
+		return rtn;
 	}
 
 	/**
@@ -308,7 +521,9 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public boolean retainAll(Collection<?> c) {
-		return collection.retainAll(c);
+		boolean rtn = collection.retainAll(c);
+		this.modified();
+		return rtn;
 	}
 
 	/**
@@ -321,7 +536,10 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public T set(int index, T element) {
-		return collection.set(index, element);
+		NameIndex<T> current = this.getCurrentNameIndex();
+		T rtn = collection.set(index, element);
+		this.indexReplaced(current, rtn, element);
+		return rtn;
 	}
 
 	/**
@@ -345,7 +563,111 @@ This implementation iterates over the specified collection, checking each elemen
 	 */
 	@Override
 	public List<T> subList(int fromIndex, int toIndex) {
-		return collection.subList(fromIndex, toIndex);
+		return new CObjectCollectionSubList(collection.subList(fromIndex, toIndex));
+	}
+
+	/**
+	 * A list iterator over the elements of this instance that records every modification made through it.
+	 */
+	private class CObjectCollectionIterator implements ListIterator<T> {
+
+		CObjectCollectionIterator(final ListIterator<T> it) {
+			this.it = it;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return it.hasNext();
+		}
+
+		@Override
+		public T next() {
+			return it.next();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return it.hasPrevious();
+		}
+
+		@Override
+		public T previous() {
+			return it.previous();
+		}
+
+		@Override
+		public int nextIndex() {
+			return it.nextIndex();
+		}
+
+		@Override
+		public int previousIndex() {
+			return it.previousIndex();
+		}
+
+		@Override
+		public void remove() {
+			it.remove();
+			CObjectCollection.this.modified();
+		}
+
+		@Override
+		public void set(final T e) {
+			it.set(e);
+			CObjectCollection.this.modified();
+		}
+
+		@Override
+		public void add(final T e) {
+			it.add(e);
+			CObjectCollection.this.modified();
+		}
+
+		private final ListIterator<T> it;
+
+	}
+
+	/**
+	 * A view of a range of the elements of this instance that records every modification made through it.
+	 */
+	private class CObjectCollectionSubList extends AbstractList<T> implements RandomAccess {
+
+		CObjectCollectionSubList(final List<T> list) {
+			this.list = list;
+		}
+
+		@Override
+		public T get(final int index) {
+			return list.get(index);
+		}
+
+		@Override
+		public int size() {
+			return list.size();
+		}
+
+		@Override
+		public T set(final int index, final T element) {
+			T rtn = list.set(index, element);
+			CObjectCollection.this.modified();
+			return rtn;
+		}
+
+		@Override
+		public void add(final int index, final T element) {
+			list.add(index, element);
+			CObjectCollection.this.modified();
+		}
+
+		@Override
+		public T remove(final int index) {
+			T rtn = list.remove(index);
+			CObjectCollection.this.modified();
+			return rtn;
+		}
+
+		private final List<T> list;
+
 	}
 
 	/**
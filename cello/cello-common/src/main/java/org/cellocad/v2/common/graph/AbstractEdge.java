@@ -80,6 +80,7 @@ abstract public class AbstractEdge <T extends AbstractVertex<?>> extends CObject
 	 */
 	public void setSrc(final T Src){
 		this.src = Src;
+		this.structureModified();
 	}
 
 	/**
@@ -97,6 +98,7 @@ abstract public class AbstractEdge <T extends AbstractVertex<?>> extends CObject
 	public void addDst(final T Dst){
 		if (Dst != null) {
 			this.getMyDst().add(Dst);	
+			this.structureModified();
 		}
 	}
 
@@ -325,9 +327,25 @@ abstract public class AbstractEdge <T extends AbstractVertex<?>> extends CObject
 		return this.dst;
 	}
 
+	/**
+	 *  Records a structural modification of this instance in the graphs that contain this instance, to be called after modifying the destination node list of this instance
+	 */
+	protected void structureModified(){
+		this.getOwners().structureModified();
+	}
+
+	/**
+	 *  Getter for <i>owners</i>, the graphs that contain this instance
+	 *  @return the owners of this instance
+	 */
+	GraphOwners getOwners(){
+		return this.owners;
+	}
+
 	/*
 	 * Members of class
 	 */
 	private T src;
 	private CObjectCollection<T> dst;
+	private final GraphOwners owners = new GraphOwners();
 }
@@ -22,8 +22,12 @@ package org.cellocad.v2.common.graph;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
@@ -42,16 +46,23 @@ import org.cellocad.v2.common.Utils;
 abstract public class AbstractGraph<V extends AbstractVertex<E>, E extends AbstractEdge<V>> extends CObject {
 
 	private void init(){
-		this.vertices = new CObjectCollection<V>();
-		this.edges = new CObjectCollection<E>();		
+		this.vertices = new CObjectCollection<V>(true);
+		this.edges = new CObjectCollection<E>(true);		
 	}
 	
 	/**
 	 *  Clear the contents of the AbstractGraph
 	 */
 	public void clear(){
+		for (int i = 0; i < vertices.size(); i++){
+			vertices.get(i).getOwners().remove(this);
+		}
+		for (int i = 0; i < edges.size(); i++){
+			edges.get(i).getOwners().remove(this);
+		}
 		this.vertices.clear();
 		this.edges.clear();
+		this.structureModified();
 	}
 
 	/**
@@ -230,6 +241,8 @@ abstract public class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 	public void addVertex(final V vertex){
 		if (vertex != null){
 			vertices.add(vertex);
+			vertex.getOwners().add(this);
+			this.structureModified();
 		}
 	}
 	
@@ -240,7 +253,10 @@ abstract public class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 	 */
 	public void removeVertex(final V vertex){
 		if (vertex != null){
-			vertices.remove(vertex);
+			if (vertices.remove(vertex)){
+				vertex.getOwners().remove(this);
+			}
+			this.structureModified();
 		}
 	}
 
@@ -294,6 +310,8 @@ abstract public class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 	public void addEdge(final E edge){
 		if (edge != null){
 			edges.add(edge);
+			edge.getOwners().add(this);
+			this.structureModified();
 		}
 	}
 	
@@ -304,7 +322,10 @@ abstract public class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 	 */
 	public void removeEdge(final E edge){
 		if (edge != null){
-			edges.remove(edge);
+			if (edges.remove(edge)){
+				edge.getOwners().remove(this);
+			}
+			this.structureModified();
 		}
 	}
 
@@ -351,54 +372,99 @@ abstract public class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 	 * is valid?
 	 */
 	/**
-	 *  Returns a boolean flag signifying the validity of this instance
+	 *  Records a structural modification of this instance, or of one of its vertices or edges.
+	 *  Vertices and edges record their modifications in every graph that contains them.
+	 */
+	void structureModified() {
+		structureModCount.incrementAndGet();
+	}
+
+	/**
+	 *  Returns the number of structural modifications of this instance and of its vertices and edges.
+	 *  The structure of this instance is unchanged while the returned value is unchanged, so the value may be used to invalidate data derived from the structure.
+	 *  @return the number of structural modifications of this instance and of its vertices and edges
+	 */
+	public long getStructureModCount() {
+		return structureModCount.get();
+	}
+
+	/**
+	 *  Returns a boolean flag signifying the validity of this instance, of its vertices and of its edges.
+	 *  The vertices and edges are validated on every call, since their validity may depend on state other than the structure.
+	 *  A valid result of the membership of the adjacent edges and vertices is cached until the next structural modification of this instance or of its vertices or edges,
+	 *  so that validating an unchanged graph does not rebuild the membership sets.
 	 *  @return true if the instance is valid; false otherwise.
 	 */
 	@Override
 	public boolean isValid(){
 		boolean rtn = true;
-		V v = null;
-		E e = null;
 		// parent is valid
 		rtn = rtn && super.isValid();
-		/*
-		 *  for each vertex, ensure that:
-		 *  1) vertex is valid
-		 *  2) the in/out edges are in graph
-		 */
+		// vertices are valid
+		for (int i = 0; rtn && (i < vertices.size()); i++){
+			rtn = rtn && this.getVertexAtIdx(i).isValid();
+		}
+		// edges are valid
+		for (int i = 0; rtn && (i < edges.size()); i++){
+			rtn = rtn && this.getEdgeAtIdx(i).isValid();
+		}
+		rtn = rtn && this.isMembershipValid();
+		return rtn;
+	}
+
+	/**
+	 *  Returns a boolean flag signifying whether the adjacent edges and vertices of the vertices and edges of this instance are in this instance.
+	 *  A valid result is cached until the next structural modification of this instance or of its vertices or edges.
+	 *  @return true if the adjacent edges and vertices are in this instance; false otherwise.
+	 */
+	private boolean isMembershipValid(){
+		long count = structureModCount.get();
+		if (count == validModCount) {
+			return true;
+		}
+		boolean rtn = this.validateMembership();
+		if (rtn) {
+			validModCount = count;
+		}
+		return rtn;
+	}
+
+	/**
+	 *  Returns a boolean flag signifying whether the adjacent edges and vertices of the vertices and edges of this instance are in this instance. Membership of edges and vertices is tested by identity.
+	 *  @return true if the adjacent edges and vertices are in this instance; false otherwise.
+	 */
+	private boolean validateMembership(){
+		boolean rtn = true;
+		V v = null;
+		E e = null;
+		Set<V> vertexSet = Collections.newSetFromMap(new IdentityHashMap<V,Boolean>());
+		vertexSet.addAll(vertices);
+		Set<E> edgeSet = Collections.newSetFromMap(new IdentityHashMap<E,Boolean>());
+		edgeSet.addAll(edges);
+		// for each vertex, ensure that the in/out edges are in graph
 		for (int i = 0; rtn && (i < vertices.size()); i++){
 			v = this.getVertexAtIdx(i);
-			// 1) vertex is valid
-			rtn = rtn && v.isValid();
-			// 2) the in/out edges are in graph
 			for (int j = 0; j < v.getNumOutEdge(); j++){
 				e = v.getOutEdgeAtIdx(j);
-				rtn = rtn && edges.contains(e);
+				rtn = rtn && edgeSet.contains(e);
 			}
 			for (int j = 0; j < v.getNumInEdge(); j++){
 				e = v.getInEdgeAtIdx(j);
-				rtn = rtn && edges.contains(e);
+				rtn = rtn && edgeSet.contains(e);
 			}
 		}
-		/*
-		 *  for each edge, ensure that:
-		 *  1) edge is valid
-		 *  2) the src/dst vertices are in graph
-		 */
+		// for each edge, ensure that the src/dst vertices are in graph
 		for (int i = 0; rtn && (i < edges.size()); i++){
 			e = this.getEdgeAtIdx(i);
-			// 1) edge is valid
-			rtn = rtn && e.isValid();
-			// 2) the src/dst vertices are in graph
 			v = e.getSrc();
-			rtn = rtn && vertices.contains(v);
+			rtn = rtn && vertexSet.contains(v);
 			for (int j = 0; j < e.getNumDst(); j++) {
 				v = e.getDstAtIdx(j);
-				rtn = rtn && vertices.contains(v);	
+				rtn = rtn && vertexSet.contains(v);
 			}
 		}
 		return rtn;
-	}	
+	}
 
 	/*
 	 * dot file
@@ -631,4 +697,6 @@ abstract public class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 
 	private CObjectCollection<V> vertices;
 	private CObjectCollection<E> edges;
+	private volatile long validModCount = -1;
+	private final AtomicLong structureModCount = new AtomicLong();
 }
@@ -250,6 +250,7 @@ abstract public class AbstractVertex <T extends AbstractEdge<?>> extends CObject
 	public void addInEdge(final T edge){
 		if (edge != null){
 			inEdges.add(edge);
+			this.structureModified();
 		}
 	}
 	
@@ -261,6 +262,7 @@ abstract public class AbstractVertex <T extends AbstractEdge<?>> extends CObject
 	public void removeInEdge(final T edge){
 		if (edge != null){
 			inEdges.remove(edge);
+			this.structureModified();
 		}
 	}
 
@@ -317,6 +319,7 @@ abstract public class AbstractVertex <T extends AbstractEdge<?>> extends CObject
 	 */
 	public void clearInEdge(){
 		inEdges.clear();
+		this.structureModified();
 	}
 	
 	/*
@@ -330,6 +333,7 @@ abstract public class AbstractVertex <T extends AbstractEdge<?>> extends CObject
 	public void addOutEdge(final T edge){
 		if (edge != null){
 			outEdges.add(edge);
+			this.structureModified();
 		}
 	}
 	
@@ -341,6 +345,7 @@ abstract public class AbstractVertex <T extends AbstractEdge<?>> extends CObject
 	public void removeOutEdge(final T edge){
 		if (edge != null){
 			outEdges.remove(edge);
+			this.structureModified();
 		}
 	}
 
@@ -397,6 +402,7 @@ abstract public class AbstractVertex <T extends AbstractEdge<?>> extends CObject
 	 */
 	public void clearOutEdge(){
 		outEdges.clear();
+		this.structureModified();
 	}
 	
 	/*
@@ -615,9 +621,25 @@ abstract public class AbstractVertex <T extends AbstractEdge<?>> extends CObject
 		return rtn;
 	}
 
+	/**
+	 *  Records a structural modification of this instance in the graphs that contain this instance
+	 */
+	protected void structureModified(){
+		this.getOwners().structureModified();
+	}
+
+	/**
+	 *  Getter for <i>owners</i>, the graphs that contain this instance
+	 *  @return the owners of this instance
+	 */
+	GraphOwners getOwners(){
+		return this.owners;
+	}
+
 	private VertexType vertexType;
 	private VertexColor vertexColor;
 	private VertexDiscovery vertexDiscovery;
 	private CObjectCollection<T> inEdges;
 	private CObjectCollection<T> outEdges;
+	private final GraphOwners owners = new GraphOwners();
 }
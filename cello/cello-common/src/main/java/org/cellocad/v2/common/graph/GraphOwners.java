@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.graph;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The GraphOwners class holds the graphs that contain a vertex or an edge, so
+ * that a structural modification of the vertex or the edge is recorded by
+ * these graphs only. A graph is held once for each time it contains the
+ * instance.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+final class GraphOwners {
+
+	GraphOwners() {
+		this.graphs = new CopyOnWriteArrayList<AbstractGraph<?,?>>();
+	}
+
+	/**
+	 *  Adds the AbstractGraph defined by parameter <i>graph</i>
+	 *  @param graph the AbstractGraph
+	 */
+	void add(final AbstractGraph<?,?> graph) {
+		this.graphs.add(graph);
+	}
+
+	/**
+	 *  Removes one occurrence of the AbstractGraph defined by parameter <i>graph</i>, compared by identity
+	 *  @param graph the AbstractGraph
+	 */
+	void remove(final AbstractGraph<?,?> graph) {
+		for (int i = 0; i < this.graphs.size(); i++) {
+			if (this.graphs.get(i) == graph) {
+				this.graphs.remove(i);
+				return;
+			}
+		}
+	}
+
+	/**
+	 *  Records a structural modification in each AbstractGraph of this instance
+	 */
+	void structureModified() {
+		for (AbstractGraph<?,?> graph : this.graphs) {
+			graph.structureModified();
+		}
+	}
+
+	private final List<AbstractGraph<?,?>> graphs;
+
+}
@@ -20,17 +20,19 @@
  */
 package org.cellocad.v2.common.graph.algorithm;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Stack;
 
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.graph.AbstractEdge;
 import org.cellocad.v2.common.graph.AbstractGraph;
 import org.cellocad.v2.common.graph.AbstractVertex;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexDiscovery;
 import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 
 /**
  * The DFS class is class performing depth-first search (DFS) on an <i>AbstractGraph</i>.
+ * The discovery of the vertices is held by the traversal rather than by the vertices, so that several traversals of the same graph can run concurrently.
  * @param <V> the type of the AbstractVertex
  * @param <E> the type of the AbstractEdge
  * @param <G> the type of the AbstractGraph
@@ -40,7 +42,7 @@ import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
  * @date Nov 1, 2017
  *
  */
-public class DFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G extends AbstractGraph<V,E>> extends CObject{
+public class DFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G extends AbstractGraph<V,E>> extends CObject implements Iterator<V>{
 
 	private void init() {
 		DFS = new Stack<V>();
@@ -53,7 +55,7 @@ public class DFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G exten
 	private void doDFS() {
 		G g = this.getGraph();
 		Stack<V> stack = new Stack<V>();
-		// initialize VertexDiscovery		
+		TraversalState<V> state = new TraversalState<V>(g);
 		// get Source Vertex
 		for (int i = 0; i < g.getNumVertex(); i++) {
 			V v = g.getVertexAtIdx(i);
@@ -61,25 +63,24 @@ public class DFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G exten
 				this.getDFS().push(v);
 				stack.push(v);
 			}
-			v.setVertexDiscovery(VertexDiscovery.UNVISITED);
 		}
 		// doDFS
 		while(!stack.isEmpty()) {
 			V v = stack.pop();
 			// skip if SINK
 			if (v.getVertexType() == VertexType.SINK) {
-				v.setVertexDiscovery(VertexDiscovery.VISITED);
+				state.setVisited(v);
 			}
 			// skip if VISITED
-			if (v.getVertexDiscovery() == VertexDiscovery.VISITED) {
+			if (state.isVisited(v)) {
 				continue;
 			}
-			v.setVertexDiscovery(VertexDiscovery.VISITED);
+			state.setVisited(v);
 			for (int i = 0; i < v.getNumOutEdge(); i++) {
 				E e = (E) v.getOutEdgeAtIdx(i);
 				for (int j = 0; j < e.getNumDst(); j++) {
 					V dst = (V) e.getDstAtIdx(j);
-					if (dst.getVertexDiscovery() == VertexDiscovery.UNVISITED) {
+					if (state.isUnvisited(dst)) {
 						this.getDFS().push(dst);
 						stack.push(dst);
 					}
@@ -136,6 +137,28 @@ public class DFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G exten
 		return rtn;
 	}
 
+	/**
+	 *  Returns true if the depth-first search (DFS) algorithm has more AbstractVertex
+	 *  @return true if the depth-first search (DFS) algorithm has more AbstractVertex, false otherwise
+	 */
+	@Override
+	public boolean hasNext() {
+		return !this.getDFS().isEmpty();
+	}
+
+	/**
+	 *  Returns the next AbstractVertex of this instance's AbstractGraph when performing the depth-first search (DFS) algorithm
+	 *  @return the next AbstractVertex of this instance's AbstractGraph when performing the depth-first search (DFS) algorithm
+	 *  @throws NoSuchElementException if the depth-first search (DFS) algorithm has no more AbstractVertex
+	 */
+	@Override
+	public V next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.getNextVertex();
+	}
+
 	/*
 	 * HashCode
 	 */
@@ -20,18 +20,20 @@
  */
 package org.cellocad.v2.common.graph.algorithm;
 
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.graph.AbstractEdge;
 import org.cellocad.v2.common.graph.AbstractGraph;
 import org.cellocad.v2.common.graph.AbstractVertex;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexDiscovery;
 import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 
 /**
  * The BFS class is class performing breadth-first search (BFS) on an <i>AbstractGraph</i>.
+ * The vertices are visited lazily as they are returned, and the discovery of the vertices is held by this instance, so that several traversals of the same graph can run concurrently.
  * @param <V> the type of the AbstractVertex
  * @param <E> the type of the AbstractEdge
  * @param <G> the type of the AbstractGraph
@@ -41,9 +43,8 @@ import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
  * @date Nov 1, 2017
  *
  */
-// TODO: make BFS dynamic
 // TODO: make BFS_reverse (sink to source)
-public class SinkBFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G extends AbstractGraph<V,E>> extends CObject{
+public class SinkBFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G extends AbstractGraph<V,E>> extends CObject implements Iterator<V>{
 
 	private void init() {
 		BFS = new LinkedList<V>();
@@ -51,40 +52,36 @@ public class SinkBFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G e
 	
 	private void reset() {
 		this.getBFS().clear();
+		this.traversalState = null;
 	}
 	
 	private void doBFS() {
 		G g = this.getGraph();
-		Queue<V> q = new LinkedList<V>();
-		// initialize VertexDiscovery		
+		this.traversalState = new TraversalState<V>(g);
 		// get Sink Vertex
 		for (int i = 0; i < g.getNumVertex(); i++) {
 			V v = g.getVertexAtIdx(i);
 			if (v.getVertexType() == VertexType.SINK) {
 				this.getBFS().add(v);
-				q.add(v);
 			}
-			v.setVertexDiscovery(VertexDiscovery.UNVISITED);
 		}
-		// doBFS
-		while(!q.isEmpty()) {
-			V v = q.remove();
-			// skip if SOURCE
-			if (v.getVertexType() == VertexType.SOURCE) {
-				v.setVertexDiscovery(VertexDiscovery.VISITED);
-			}
-			// skip if VISITED
-			if (v.getVertexDiscovery() == VertexDiscovery.VISITED) {
-				continue;
-			}
-			v.setVertexDiscovery(VertexDiscovery.VISITED);
-			for (int i = 0; i < v.getNumInEdge(); i++) {
-				E e = (E) v.getInEdgeAtIdx(i);
-				V src = (V) e.getSrc();
-				if (src.getVertexDiscovery() == VertexDiscovery.UNVISITED) {
-					this.getBFS().add(src);
-					q.add(src);
-				}
+	}
+
+	private void visit(final V v) {
+		// skip if SOURCE
+		if (v.getVertexType() == VertexType.SOURCE) {
+			this.getTraversalState().setVisited(v);
+		}
+		// skip if VISITED
+		if (this.getTraversalState().isVisited(v)) {
+			return;
+		}
+		this.getTraversalState().setVisited(v);
+		for (int i = 0; i < v.getNumInEdge(); i++) {
+			E e = (E) v.getInEdgeAtIdx(i);
+			V src = (V) e.getSrc();
+			if (this.getTraversalState().isUnvisited(src)) {
+				this.getBFS().add(src);
 			}
 		}
 	}
@@ -93,6 +90,10 @@ public class SinkBFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G e
 		return this.BFS;
 	}
 
+	private TraversalState<V> getTraversalState() {
+		return this.traversalState;
+	}
+
 	/**
 	 *  Initializes a newly created BFS 
 	 */
@@ -132,11 +133,35 @@ public class SinkBFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G e
 	 */
 	public V getNextVertex() {
 		V rtn = null;
-		if (!this.getBFS().isEmpty())
+		if (!this.getBFS().isEmpty()) {
 			rtn = this.getBFS().remove();
+			this.visit(rtn);
+		}
 		return rtn;
 	}
 
+	/**
+	 *  Returns true if the breadth-first search (BFS) algorithm has more AbstractVertex
+	 *  @return true if the breadth-first search (BFS) algorithm has more AbstractVertex, false otherwise
+	 */
+	@Override
+	public boolean hasNext() {
+		return !this.getBFS().isEmpty();
+	}
+
+	/**
+	 *  Returns the next AbstractVertex of this instance's AbstractGraph when performing the breadth-first search (BFS) algorithm
+	 *  @return the next AbstractVertex of this instance's AbstractGraph when performing the breadth-first search (BFS) algorithm
+	 *  @throws NoSuchElementException if the breadth-first search (BFS) algorithm has no more AbstractVertex
+	 */
+	@Override
+	public V next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.getNextVertex();
+	}
+
 	/*
 	 * HashCode
 	 */
@@ -190,4 +215,5 @@ public class SinkBFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G e
 
 	private G graph;
 	private Queue<V> BFS;
+	private TraversalState<V> traversalState;
 }
@@ -20,17 +20,19 @@
  */
 package org.cellocad.v2.common.graph.algorithm;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Stack;
 
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.graph.AbstractEdge;
 import org.cellocad.v2.common.graph.AbstractGraph;
 import org.cellocad.v2.common.graph.AbstractVertex;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexDiscovery;
 import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 
 /**
  * The DFS class is class performing depth-first search (DFS) on an <i>AbstractGraph</i>.
+ * The discovery of the vertices is held by the traversal rather than by the vertices, so that several traversals of the same graph can run concurrently.
  * @param <V> the type of the AbstractVertex
  * @param <E> the type of the AbstractEdge
  * @param <G> the type of the AbstractGraph
@@ -40,7 +42,7 @@ import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
  * @date Nov 1, 2017
  *
  */
-public class SinkDFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G extends AbstractGraph<V,E>> extends CObject{
+public class SinkDFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G extends AbstractGraph<V,E>> extends CObject implements Iterator<V>{
 
 	private void init() {
 		DFS = new Stack<V>();
@@ -53,7 +55,7 @@ public class SinkDFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G e
 	private void doDFS() {
 		G g = this.getGraph();
 		Stack<V> stack = new Stack<V>();
-		// initialize VertexDiscovery		
+		TraversalState<V> state = new TraversalState<V>(g);
 		// get Sink Vertex
 		for (int i = 0; i < g.getNumVertex(); i++) {
 			V v = g.getVertexAtIdx(i);
@@ -61,24 +63,23 @@ public class SinkDFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G e
 				this.getDFS().push(v);
 				stack.push(v);
 			}
-			v.setVertexDiscovery(VertexDiscovery.UNVISITED);
 		}
 		// doDFS
 		while(!stack.isEmpty()) {
 			V v = stack.pop();
 			// skip if SOURCE
 			if (v.getVertexType() == VertexType.SOURCE) {
-				v.setVertexDiscovery(VertexDiscovery.VISITED);
+				state.setVisited(v);
 			}
 			// skip if VISITED
-			if (v.getVertexDiscovery() == VertexDiscovery.VISITED) {
+			if (state.isVisited(v)) {
 				continue;
 			}
-			v.setVertexDiscovery(VertexDiscovery.VISITED);
+			state.setVisited(v);
 			for (int i = 0; i < v.getNumInEdge(); i++) {
 				E e = (E) v.getInEdgeAtIdx(i);
 				V src = (V) e.getSrc();
-				if (src.getVertexDiscovery() == VertexDiscovery.UNVISITED) {
+				if (state.isUnvisited(src)) {
 					this.getDFS().push(src);
 					stack.push(src);
 				}
@@ -134,6 +135,28 @@ public class SinkDFS<V extends AbstractVertex<E>, E extends AbstractEdge<V>, G e
 		return rtn;
 	}
 
+	/**
+	 *  Returns true if the depth-first search (DFS) algorithm has more AbstractVertex
+	 *  @return true if the depth-first search (DFS) algorithm has more AbstractVertex, false otherwise
+	 */
+	@Override
+	public boolean hasNext() {
+		return !this.getDFS().isEmpty();
+	}
+
+	/**
+	 *  Returns the next AbstractVertex of this instance's AbstractGraph when performing the depth-first search (DFS) algorithm
+	 *  @return the next AbstractVertex of this instance's AbstractGraph when performing the depth-first search (DFS) algorithm
+	 *  @throws NoSuchElementException if the depth-first search (DFS) algorithm has no more AbstractVertex
+	 */
+	@Override
+	public V next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.getNextVertex();
+	}
+
 	/*
 	 * HashCode
 	 */
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.graph.algorithm;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.cellocad.v2.common.graph.AbstractGraph;
+import org.cellocad.v2.common.graph.AbstractVertex;
+
+/**
+ * The TraversalState class holds the discovery of the vertices of an <i>AbstractGraph</i> during a traversal, in an array indexed by
+ * the ordinal of the vertex in the graph, rather than on the vertices. Traversals of the same graph can therefore run concurrently.
+ * Vertices added to the graph after the TraversalState was created are not part of the traversal.
+ * @param <V> the type of the AbstractVertex
+ * 
+ * @author agent
+ * 
+ * @date 2026-10-17
+ *
+ */
+final class TraversalState<V extends AbstractVertex<?>> {
+
+	/**
+	 *  Initializes a newly created TraversalState with all the vertices of the AbstractGraph defined by parameter <i>g</i> unvisited
+	 *  
+	 *  @param g the AbstractGraph
+	 */
+	TraversalState(final AbstractGraph<V,?> g) {
+		int num = g.getNumVertex();
+		this.ordinals = new IdentityHashMap<V,Integer>(num);
+		for (int i = 0; i < num; i++) {
+			this.ordinals.put(g.getVertexAtIdx(i), i);
+		}
+		this.visited = new boolean[num];
+	}
+
+	/**
+	 *  Returns true if the vertex defined by parameter <i>v</i> is a vertex of the traversal that is not visited
+	 *  
+	 *  @param v the vertex
+	 *  @return true if the vertex is a vertex of the traversal that is not visited, false otherwise
+	 */
+	boolean isUnvisited(final V v) {
+		Integer i = this.ordinals.get(v);
+		return i != null && !this.visited[i];
+	}
+
+	/**
+	 *  Returns true if the vertex defined by parameter <i>v</i> is visited
+	 *  
+	 *  @param v the vertex
+	 *  @return true if the vertex is visited, false otherwise
+	 */
+	boolean isVisited(final V v) {
+		Integer i = this.ordinals.get(v);
+		return i != null && this.visited[i];
+	}
+
+	/**
+	 *  Marks the vertex defined by parameter <i>v</i> as visited
+	 *  
+	 *  @param v the vertex
+	 */
+	void setVisited(final V v) {
+		Integer i = this.ordinals.get(v);
+		if (i != null) {
+			this.visited[i] = true;
+		}
+	}
+
+	private final Map<V,Integer> ordinals;
+	private final boolean[] visited;
+
+}
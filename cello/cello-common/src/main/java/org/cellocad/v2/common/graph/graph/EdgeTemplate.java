@@ -91,6 +91,7 @@ public class EdgeTemplate<T extends VertexTemplate<?>> extends AbstractEdge<T>{
 			else {
 				this.getMyDst().set(0, Dst);
 			}
+			this.structureModified();
 			assert(this.getNumDst() == 1);
 		}
 	}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.random;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * The RandomService class derives independent, reproducible streams of random
+ * numbers from a single master seed. A stream is identified by the name of the
+ * component that uses it and an index, e.g. of a chain or a thread, and does
+ * not depend on the order in which streams are requested or on the thread that
+ * requests them, so that a parallel run is replayed exactly from its master
+ * seed.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class RandomService {
+
+	/**
+	 * Initializes a newly created RandomService with the master seed defined by
+	 * parameter <i>seed</i>.
+	 *
+	 * @param seed the master seed
+	 */
+	public RandomService(final long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Returns a new SplittableRandom of the stream of the component defined by
+	 * parameter <i>component</i> at the index defined by parameter <i>index</i>.
+	 * Equal arguments return generators of equal sequences.
+	 *
+	 * @param component the name of the component
+	 * @param index     the index of the stream within the component
+	 * @return a new SplittableRandom of the stream
+	 */
+	public SplittableRandom getSplittableRandom(final String component, final long index) {
+		long key = new SplittableRandom(this.getSeed() ^ component.hashCode()).nextLong();
+		key = new SplittableRandom(key + index).nextLong();
+		return new SplittableRandom(key);
+	}
+
+	/**
+	 * Returns a new Random of the stream of the component defined by parameter
+	 * <i>component</i> at the index defined by parameter <i>index</i>, for the
+	 * components that take a Random. The returned Random draws from a
+	 * SplittableRandom and is not thread-safe.
+	 *
+	 * @param component the name of the component
+	 * @param index     the index of the stream within the component
+	 * @return a new Random of the stream
+	 */
+	public Random getRandom(final String component, final long index) {
+		return new SplittableRandomAdapter(this.getSplittableRandom(component, index));
+	}
+
+	/**
+	 * The SplittableRandomAdapter class is a Random that draws from a
+	 * SplittableRandom.
+	 */
+	private static final class SplittableRandomAdapter extends Random {
+
+		private static final long serialVersionUID = 1L;
+
+		private SplittableRandomAdapter(final SplittableRandom random) {
+			super(0L);
+			this.random = random;
+		}
+
+		@Override
+		protected int next(final int bits) {
+			return (int) (this.random.nextLong() >>> (64 - bits));
+		}
+
+		@Override
+		public int nextInt() {
+			return this.random.nextInt();
+		}
+
+		@Override
+		public int nextInt(final int bound) {
+			return this.random.nextInt(bound);
+		}
+
+		@Override
+		public long nextLong() {
+			return this.random.nextLong();
+		}
+
+		@Override
+		public boolean nextBoolean() {
+			return this.random.nextBoolean();
+		}
+
+		@Override
+		public double nextDouble() {
+			return this.random.nextDouble();
+		}
+
+		private final transient SplittableRandom random;
+
+	}
+
+	/**
+	 * Returns a new master seed drawn from the entropy of the system, in the range
+	 * of non-negative int values so that it can be supplied back as a parameter.
+	 *
+	 * @return a new master seed
+	 */
+	public static int getRandomSeed() {
+		return new SplittableRandom().nextInt(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Getter for <i>seed</i>, the master seed.
+	 *
+	 * @return value of <i>seed</i>
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	private final long seed;
+
+}
@@ -37,6 +37,7 @@ import org.cellocad.v2.common.runtime.environment.RuntimeEnv;
 import org.cellocad.v2.common.target.data.data.AnalyticFunction;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.common.target.data.data.BivariateLookupTableFunction;
+import org.cellocad.v2.common.target.data.data.Cytometry;
 import org.cellocad.v2.common.target.data.data.Function;
 import org.cellocad.v2.common.target.data.data.Gate;
 import org.cellocad.v2.common.target.data.data.InputSensor;
@@ -72,9 +73,10 @@ public class TargetDataUtils {
 	private static final String S_INPUTSENSORS = "input_sensors";
 	private static final String S_OUTPUTDEVICES = "output_devices";
 	private static final String S_LOGIC_CONSTRAINTS = "logic_constraints";
+	private static final String S_GATECYTOMETRY = "gate_cytometry";
 
 	public static final CObjectCollection<Part> getParts(final TargetData td) {
-		CObjectCollection<Part> rtn = new CObjectCollection<Part>();
+		CObjectCollection<Part> rtn = new CObjectCollection<Part>(true);
 		for (int i = 0; i < td.getNumJSONObject(S_PARTS); i++) {
 			JSONObject jObj = td.getJSONObjectAtIdx(S_PARTS, i);
 			Part part = new Part(jObj);
@@ -84,7 +86,7 @@ public class TargetDataUtils {
 	}
 
 	public static final CObjectCollection<Function> getFunctions(final TargetData td) throws CelloException {
-		CObjectCollection<Function> rtn = new CObjectCollection<Function>();
+		CObjectCollection<Function> rtn = new CObjectCollection<Function>(true);
 		for (int i = 0; i < td.getNumJSONObject(S_FUNCTIONS); i++) {
 			JSONObject jObj = td.getJSONObjectAtIdx(S_FUNCTIONS, i);
 			Function function;
@@ -123,7 +125,7 @@ public class TargetDataUtils {
 
 	public static final CObjectCollection<Model> getModels(final TargetData td,
 	        final CObjectCollection<Function> functions) {
-		CObjectCollection<Model> rtn = new CObjectCollection<Model>();
+		CObjectCollection<Model> rtn = new CObjectCollection<Model>(true);
 		for (int i = 0; i < td.getNumJSONObject(S_MODELS); i++) {
 			JSONObject jObj = td.getJSONObjectAtIdx(S_MODELS, i);
 			Model model = new Model(jObj);
@@ -134,7 +136,7 @@ public class TargetDataUtils {
 	}
 
 	public static final CObjectCollection<Structure> getStructures(final TargetData td) throws CelloException {
-		CObjectCollection<Structure> rtn = new CObjectCollection<Structure>();
+		CObjectCollection<Structure> rtn = new CObjectCollection<Structure>(true);
 		for (int i = 0; i < td.getNumJSONObject(S_STRUCTURES); i++) {
 			JSONObject jObj = td.getJSONObjectAtIdx(S_STRUCTURES, i);
 			Structure structure = new Structure(jObj);
@@ -159,7 +161,7 @@ public class TargetDataUtils {
 
 	public static final CObjectCollection<Gate> getGates(final TargetData td, final CObjectCollection<Model> models,
 	        final CObjectCollection<Structure> structures) {
-		CObjectCollection<Gate> rtn = new CObjectCollection<Gate>();
+		CObjectCollection<Gate> rtn = new CObjectCollection<Gate>(true);
 		for (int i = 0; i < td.getNumJSONObject(S_GATES); i++) {
 			JSONObject jObj = td.getJSONObjectAtIdx(S_GATES, i);
 			Gate gate = new Gate(jObj);
@@ -174,7 +176,7 @@ public class TargetDataUtils {
 
 	public static final CObjectCollection<InputSensor> getInputSensors(final TargetData td,
 	        final CObjectCollection<Model> models, final CObjectCollection<Structure> structures) {
-		CObjectCollection<InputSensor> rtn = new CObjectCollection<InputSensor>();
+		CObjectCollection<InputSensor> rtn = new CObjectCollection<InputSensor>(true);
 		for (int i = 0; i < td.getNumJSONObject(S_INPUTSENSORS); i++) {
 			JSONObject jObj = td.getJSONObjectAtIdx(S_INPUTSENSORS, i);
 			InputSensor sensor = new InputSensor(jObj);
@@ -189,7 +191,7 @@ public class TargetDataUtils {
 
 	public static final CObjectCollection<OutputDevice> getOutputDevices(final TargetData td,
 	        final CObjectCollection<Model> models, final CObjectCollection<Structure> structures) {
-		CObjectCollection<OutputDevice> rtn = new CObjectCollection<OutputDevice>();
+		CObjectCollection<OutputDevice> rtn = new CObjectCollection<OutputDevice>(true);
 		for (int i = 0; i < td.getNumJSONObject(S_OUTPUTDEVICES); i++) {
 			JSONObject jObj = td.getJSONObjectAtIdx(S_OUTPUTDEVICES, i);
 			OutputDevice device = new OutputDevice(jObj);
@@ -215,6 +217,24 @@ public class TargetDataUtils {
 		return rtn;
 	}
 
+	/**
+	 * Get the gate cytometry section of the target data, the cytometry data of the
+	 * gates of version 1 target data. The cytometry data of version 2 target data
+	 * is the <i>cytometry</i> function of the gate models.
+	 *
+	 * @param td The target data.
+	 * @return The cytometry data of the gates.
+	 */
+	public static final CObjectCollection<Cytometry> getCytometry(final TargetData td) {
+		CObjectCollection<Cytometry> rtn = new CObjectCollection<Cytometry>(true);
+		for (int i = 0; i < td.getNumJSONObject(S_GATECYTOMETRY); i++) {
+			JSONObject jObj = td.getJSONObjectAtIdx(S_GATECYTOMETRY, i);
+			Cytometry cytometry = new Cytometry(jObj);
+			rtn.add(cytometry);
+		}
+		return rtn;
+	}
+
 	private static JSONArray getJsonArrayFromFile(final String file) {
 		JSONArray rtn = null;
 		// get File
@@ -20,16 +20,19 @@
  */
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.mariuszgromada.math.mxparser.Expression;
 
 /**
  *
@@ -86,48 +89,110 @@ public final class AnalyticFunction extends Function {
 		return rtn;
 	}
 
+	/**
+	 * Parses the equation and binds its arguments to slots: the parameters first,
+	 * then the variables, then the state if the equation refers to it.
+	 *
+	 * @return the compiled equation
+	 */
+	private CompiledExpression compile() {
+		String equation = this.getEquation().replace("$", "_");
+		List<String> names = new ArrayList<>();
+		for (Parameter p : this.getParameters()) {
+			names.add(p.getName());
+		}
+		for (Variable v : this.getVariables()) {
+			names.add(v.getName());
+		}
+		if (equation.contains(S_STATE)) {
+			names.add(S_STATE);
+		}
+		return new CompiledExpression(equation, names);
+	}
+
+	/**
+	 * Returns the compiled equation of the calling thread, parsing it on first use.
+	 *
+	 * @return the compiled equation
+	 */
+	private CompiledExpression getCompiledExpression() {
+		return this.compiled.get();
+	}
+
+	private static double getStateValue(final EvaluationContext ec) throws CelloException {
+		NetlistNode node = ec.getNode();
+		State<NetlistNode> state = ec.getState();
+		Boolean nodeState = state.getState(node);
+		if (nodeState == null)
+			throw new CelloException("Node state undefined.");
+		return nodeState.equals(state.getOne()) ? 1.0 : 0.0;
+	}
+
 	@Override
 	public Number evaluate(final EvaluationContext ec) throws CelloException {
 		Double rtn = null;
-		Expression expr = new Expression(this.getEquation().replace("$", "_"));
+		CompiledExpression expr = this.getCompiledExpression();
+		double[] values = new double[expr.getNumArgument()];
+		int i = 0;
 		for (Parameter p : this.getParameters()) {
-			expr.defineArgument(p.getName(), p.evaluate(ec).doubleValue());
+			values[i++] = p.evaluate(ec).doubleValue();
 		}
 		for (Variable v : this.getVariables()) {
-			expr.defineArgument(v.getName(), v.evaluate(ec).doubleValue());
+			values[i++] = v.evaluate(ec).doubleValue();
 		}
-		NetlistNode node = ec.getNode();
-		if (expr.getExpressionString().contains(S_STATE)) {
-			State<NetlistNode> state = ec.getState();
-			Boolean nodeState = state.getState(node);
-			if (nodeState == null)
-				throw new CelloException("Node state undefined.");
-			Double q = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
-			expr.defineArgument(S_STATE, q);
+		if (i < values.length) {
+			values[i] = getStateValue(ec);
 		}
-		rtn = expr.calculate();
+		rtn = expr.calculate(values);
 		return rtn;
 	}
 
+	@Override
+	public void evaluate(final EvaluationContext ec, final double[] out) throws CelloException {
+		NetlistNode node = ec.getNode();
+		CompiledExpression expr = this.getCompiledExpression();
+		double[][] values = new double[expr.getNumArgument()][];
+		int i = 0;
+		for (Parameter p : this.getParameters()) {
+			values[i] = new double[out.length];
+			p.evaluate(ec, values[i++]);
+		}
+		for (Variable v : this.getVariables()) {
+			values[i] = new double[out.length];
+			v.evaluate(ec, values[i++]);
+		}
+		if (i < values.length) {
+			values[i] = new double[out.length];
+			States<NetlistNode> states = ec.getStates();
+			for (int j = 0; j < out.length; j++) {
+				ec.setState(states.getStateAtIdx(j));
+				values[i][j] = getStateValue(ec);
+			}
+		}
+		ec.setNode(node);
+		expr.calculate(values, out);
+	}
+
 	public Number evaluate(final EvaluationContext ec, final Map<Variable, Double> value) throws CelloException {
 		Double rtn = null;
-		Expression expr = new Expression(this.getEquation().replace("$", "_"));
+		Map<String, Double> byName = new HashMap<>();
+		for (Variable v : value.keySet()) {
+			byName.put(v.getName(), value.get(v));
+		}
+		CompiledExpression expr = this.getCompiledExpression();
+		double[] values = new double[expr.getNumArgument()];
+		int i = 0;
 		for (Parameter p : this.getParameters()) {
-			expr.defineArgument(p.getName(), p.evaluate(ec).doubleValue());
+			values[i++] = p.evaluate(ec).doubleValue();
 		}
-		for (Variable v : value.keySet()) {
-			expr.defineArgument(v.getName(), value.get(v));
+		for (Variable v : this.getVariables()) {
+			Double d = byName.get(v.getName());
+			values[i++] = d == null ? Double.NaN : d;
 		}
-		NetlistNode node = ec.getNode();
-		if (expr.getExpressionString().contains(S_STATE)) {
-			State<NetlistNode> state = ec.getState();
-			Boolean nodeState = state.getState(node);
-			if (nodeState == null)
-				throw new CelloException("Node state undefined.");
-			Double q = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
-			expr.defineArgument(S_STATE, q);
+		if (i < values.length) {
+			values[i] = getStateValue(ec);
 		}
-		rtn = expr.calculate();
+		rtn = expr.calculate(values);
 		return rtn;
 	}
 
@@ -141,6 +206,8 @@ public final class AnalyticFunction extends Function {
 
 	private String equation;
 	private CObjectCollection<Parameter> parameters;
+	// mXparser expressions are not thread-safe, so each thread compiles its own
+	private final ThreadLocal<CompiledExpression> compiled = ThreadLocal.withInitial(this::compile);
 
 	public static final String S_EQUATION = "equation";
 	public static final String S_PARAMETERS = "parameters";
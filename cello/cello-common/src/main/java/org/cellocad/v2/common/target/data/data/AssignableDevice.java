@@ -20,6 +20,10 @@
  */
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.cellocad.v2.common.CelloException;
 import org.json.simple.JSONObject;
 
 /**
@@ -60,6 +64,7 @@ public abstract class AssignableDevice extends DNAComponent {
 	 */
 	public void setModel(final Model model) {
 		this.model = model;
+		this.bindings.clear();
 	}
 
 	private Model model;
@@ -80,10 +85,31 @@ public abstract class AssignableDevice extends DNAComponent {
 	 */
 	public void setStructure(Structure structure) {
 		this.structure = structure;
+		this.bindings.clear();
 	}
 
 	private Structure structure;
 
+	/**
+	 * Returns the ReferenceBinding of the reference string defined by parameter
+	 * <i>map</i> resolved against this device. The reference string is parsed on
+	 * first use only.
+	 *
+	 * @param map the reference string
+	 * @return the ReferenceBinding
+	 * @throws CelloException Invalid or unsupported reference string.
+	 */
+	ReferenceBinding getReferenceBinding(final String map) throws CelloException {
+		ReferenceBinding rtn = this.bindings.get(map);
+		if (rtn == null) {
+			rtn = ReferenceBinding.bind(map, this);
+			this.bindings.put(map, rtn);
+		}
+		return rtn;
+	}
+
+	private final Map<String, ReferenceBinding> bindings = new ConcurrentHashMap<>();
+
 	public static final String S_MODEL = "model";
 	public static final String S_STRUCTURE = "structure";
 
@@ -25,7 +25,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.profile.ProfileUtils;
@@ -33,7 +32,10 @@ import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
 /**
- *
+ * The table is stored as primitive arrays: the values of the first variable,
+ * and the values of the second variable and of the output in row-major order,
+ * one row per value of the first variable. Lookups search the arrays in place
+ * and do not allocate.
  *
  * @author Timothy Jones
  *
@@ -46,7 +48,6 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
 		this.vars = new Variable[2];
 	}
 
-	@SuppressWarnings("unchecked")
 	private void parseTable(JSONObject JObj) throws CelloException {
 		JSONArray jArr = (JSONArray) JObj.get(LookupTableFunction.S_TABLE);
 		if (jArr == null) {
@@ -60,27 +61,42 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
 		JSONObject template = (JSONObject) jArr.get(0);
 		for (Variable var : this.getVariables()) {
 			Object entry = template.get(var.getName());
-			if (entry instanceof Double) {
+			if (entry instanceof Number) {
 				vars[0] = var;
 			} else if (entry instanceof JSONArray) {
 				vars[1] = var;
-				// instantiate table
-				int n = jArr.size();
-				int m = ((JSONArray) entry).size();
-				this.X = new Double[n];
-				this.Y = new Double[n][m];
-				this.Z = new Double[n][m];
 			}
 		}
 		// build table
-		for (int i = 0; i < jArr.size(); i++) {
+		int n = jArr.size();
+		double[] x = new double[n];
+		int[] offsets = new int[n + 1];
+		for (int i = 0; i < n; i++) {
 			JSONObject entry = (JSONObject) jArr.get(i);
-			this.X[i] = ProfileUtils.getDouble(entry, vars[0].getName());
 			JSONArray y = (JSONArray) entry.get(vars[1].getName());
 			JSONArray z = (JSONArray) entry.get(S_OUTPUT);
-			this.Y[i] = (Double[]) y.toArray(this.Y[i]);
-			this.Z[i] = (Double[]) z.toArray(this.Z[i]);
+			if (y.size() != z.size() || y.size() == 0) {
+				String fmt = "Invalid %s row: %s.";
+				throw new CelloException(String.format(fmt, BivariateLookupTableFunction.class.getSimpleName(), entry));
+			}
+			x[i] = ProfileUtils.getDouble(entry, vars[0].getName());
+			offsets[i + 1] = offsets[i] + y.size();
+		}
+		double[] y = new double[offsets[n]];
+		double[] z = new double[offsets[n]];
+		for (int i = 0; i < n; i++) {
+			JSONObject entry = (JSONObject) jArr.get(i);
+			JSONArray yArr = (JSONArray) entry.get(vars[1].getName());
+			JSONArray zArr = (JSONArray) entry.get(S_OUTPUT);
+			for (int j = 0; j < yArr.size(); j++) {
+				y[offsets[i] + j] = ((Number) yArr.get(j)).doubleValue();
+				z[offsets[i] + j] = ((Number) zArr.get(j)).doubleValue();
+			}
 		}
+		this.X = x;
+		this.Y = y;
+		this.Z = z;
+		this.offsets = offsets;
 	}
 
 	private void parseLookupTableFunction(JSONObject JObj) throws CelloException {
@@ -108,45 +124,70 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
 		throw new CelloException(String.format(fmt, BivariateLookupTableFunction.class.getSimpleName()));
 	}
 
-	private static Pair<Integer, Integer> argNearestPair(final Double[] p, final Double x) {
-		Pair<Integer, Integer> rtn = null;
-		if (p == null || p.length == 0)
+	/**
+	 * Returns the pair of adjacent indices of the sorted values <i>p[from]</i> to
+	 * <i>p[from + length - 1]</i> that brackets the value defined by parameter
+	 * <i>x</i>, found by bisection in place. The pair is encoded as its first
+	 * index <i>i</i> for the pair (i, i + 1), or as <i>~i</i> for the pair (i, i)
+	 * if <i>x</i> lies outside the values.
+	 *
+	 * @param p      the values
+	 * @param from   the index of the first value
+	 * @param length the number of values
+	 * @param x      the value to bracket
+	 * @return the encoded pair of indices
+	 */
+	private static int argNearestPair(final double[] p, final int from, final int length, final double x) {
+		if (p == null || length == 0)
 			throw new RuntimeException("Input array is null.");
-		if (p.length == 1) {
-			rtn = new Pair<>(0, 0);
-		} else {
-			int w = p.length / 2;
-			if (x > p[w - 1]) {
-				if (x < p[w]) {
-					rtn = new Pair<>(w - 1, w);
-				} else {
-					rtn = argNearestPair(Arrays.copyOfRange(p, w, p.length), x);
-					rtn.setFirst(rtn.getFirst() + w);
-					rtn.setSecond(rtn.getSecond() + w);
+		int lo = from;
+		int len = length;
+		while (len > 1) {
+			int w = len / 2;
+			if (x > p[lo + w - 1]) {
+				if (x < p[lo + w]) {
+					return lo + w - 1;
 				}
+				lo += w;
+				len -= w;
 			} else {
-				rtn = argNearestPair(Arrays.copyOfRange(p, 0, w), x);
+				len = w;
 			}
 		}
-		return rtn;
+		return ~lo;
+	}
+
+	private static int first(final int pair) {
+		return pair < 0 ? ~pair : pair;
+	}
+
+	private static int second(final int pair) {
+		return pair < 0 ? ~pair : pair + 1;
 	}
 
 	public List<Double> evaluate(final Pair<Variable, Double> value) {
 		List<Double> rtn = null;
 		Variable var = value.getFirst();
 		if (var == vars[0]) {
-			Double x = value.getSecond();
-			Pair<Integer, Integer> xbar = argNearestPair(X, x);
-			Double w1 = Math.abs(X[xbar.getFirst()] - x);
-			Double w2 = Math.abs(X[xbar.getSecond()] - x);
+			double x = value.getSecond();
+			int xbar = argNearestPair(X, 0, X.length, x);
+			int a = first(xbar);
+			int b = second(xbar);
+			double w1 = Math.abs(X[a] - x);
+			double w2 = Math.abs(X[b] - x);
+			rtn = new ArrayList<>();
 			if (w1 < 1e-8) {
-				rtn = Arrays.asList(Z[xbar.getFirst()]);
+				for (int i = offsets[a]; i < offsets[a + 1]; i++) {
+					rtn.add(Z[i]);
+				}
 			} else if (w2 < 1e-8) {
-				rtn = Arrays.asList(Z[xbar.getSecond()]);
+				for (int i = offsets[b]; i < offsets[b + 1]; i++) {
+					rtn.add(Z[i]);
+				}
 			} else {
-				rtn = new ArrayList<>();
-				for (int i = 0; i < Y[xbar.getFirst()].length; i++) {
-					rtn.add((Z[xbar.getFirst()][i] / w1 + Z[xbar.getSecond()][i] / w2) / (1.0 / w1 + 1.0 / w2));
+				int n = Math.min(offsets[a + 1] - offsets[a], offsets[b + 1] - offsets[b]);
+				for (int i = 0; i < n; i++) {
+					rtn.add((Z[offsets[a] + i] / w1 + Z[offsets[b] + i] / w2) / (1.0 / w1 + 1.0 / w2));
 				}
 			}
 		} else {
@@ -157,53 +198,116 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
 
 	public Double evaluate(final Map<Variable, Double> value) {
 		Double rtn = null;
-		Variable vi = vars[0];
-		Double x = value.get(vi);
-		Variable vj = vars[1];
-		Double y = value.get(vj);
-		Pair<Integer, Integer> xbar = argNearestPair(X, x);
-		Pair<Integer, Integer> ybar = argNearestPair(Y[xbar.getFirst()], y);
-		List<Double> px = new ArrayList<>();
-		List<Double> py = new ArrayList<>();
-		List<Double> pz = new ArrayList<>();
-		px.add(X[xbar.getFirst()]);
-		px.add(X[xbar.getFirst()]);
-		py.add(Y[xbar.getFirst()][ybar.getFirst()]);
-		py.add(Y[xbar.getFirst()][ybar.getSecond()]);
-		pz.add(Z[xbar.getFirst()][ybar.getFirst()]);
-		pz.add(Z[xbar.getFirst()][ybar.getSecond()]);
-		if (xbar.getFirst() != xbar.getSecond()) {
-			Pair<Integer, Integer> ybar2 = argNearestPair(Y[xbar.getSecond()], y);
-			px.add(X[xbar.getSecond()]);
-			px.add(X[xbar.getSecond()]);
-			py.add(Y[xbar.getSecond()][ybar2.getFirst()]);
-			py.add(Y[xbar.getSecond()][ybar2.getSecond()]);
-			pz.add(Z[xbar.getSecond()][ybar2.getFirst()]);
-			pz.add(Z[xbar.getSecond()][ybar2.getSecond()]);
-		}
-		EuclideanDistance eu = new EuclideanDistance();
-		Double top = 0.0;
-		Double bot = 0.0;
-		for (int i = 0; i < px.size(); i++) {
-			double[] a = new double[] { px.get(i), py.get(i) };
-			double[] b = new double[] { x, y };
-			Double d = eu.compute(a, b);
+		Double x = value.get(vars[0]);
+		Double y = value.get(vars[1]);
+		rtn = this.evaluate(x, y);
+		return rtn;
+	}
+
+	/**
+	 * Returns the inverse-distance weighted output at the point (<i>x</i>,
+	 * <i>y</i>) of the first and second variables, interpolated between the
+	 * values of the second variable that bracket <i>y</i> in the rows that bracket
+	 * <i>x</i>.
+	 *
+	 * @param x the value of the first variable
+	 * @param y the value of the second variable
+	 * @return the output
+	 */
+	public double evaluate(final double x, final double y) {
+		int xbar = argNearestPair(X, 0, X.length, x);
+		int a = first(xbar);
+		int b = second(xbar);
+		int ybar = argNearestPair(Y, offsets[a], offsets[a + 1] - offsets[a], y);
+		double top = 0.0;
+		double bot = 0.0;
+		// fixed-size kernel over the (up to) four bracketing points
+		int num = a != b ? 4 : 2;
+		for (int i = 0; i < num; i++) {
+			int row = i < 2 ? a : b;
+			if (i == 2) {
+				ybar = argNearestPair(Y, offsets[b], offsets[b + 1] - offsets[b], y);
+			}
+			int idx = (i & 1) == 0 ? first(ybar) : second(ybar);
+			double dx = X[row] - x;
+			double dy = Y[idx] - y;
+			double d = Math.sqrt(dx * dx + dy * dy);
 			if (d < 1e-12) {
-				top = pz.get(i);
+				top = Z[idx];
 				bot = 1.0;
 				break;
 			}
-			Double w = 1.0 / d;
-			top += pz.get(i) * w;
+			double w = 1.0 / d;
+			top += Z[idx] * w;
 			bot += w;
 		}
-		rtn = top / bot;
-		return rtn;
+		return top / bot;
+	}
+
+	/**
+	 * Evaluates the points (<i>x[i]</i>, <i>y[i]</i>), e.g. all states of a truth
+	 * table, storing the outputs in <i>out[i]</i>.
+	 *
+	 * @param x   the values of the first variable
+	 * @param y   the values of the second variable
+	 * @param out the outputs
+	 */
+	public void evaluate(final double[] x, final double[] y, final double[] out) {
+		if (x.length != y.length || x.length != out.length) {
+			throw new RuntimeException("Invalid array lengths.");
+		}
+		for (int i = 0; i < x.length; i++) {
+			out[i] = this.evaluate(x[i], y[i]);
+		}
+	}
+
+	/**
+	 * Returns the first variable, whose values index the rows of the table.
+	 *
+	 * @return the first variable
+	 */
+	public Variable getFirstVariable() {
+		return this.vars[0];
+	}
+
+	/**
+	 * Returns the number of rows of the table, one per value of the first
+	 * variable.
+	 *
+	 * @return the number of rows of the table
+	 */
+	public int getNumRows() {
+		return this.X.length;
+	}
+
+	/**
+	 * Returns the value of the first variable of the row at index <i>index</i>.
+	 *
+	 * @param index the index of the row
+	 * @return the value of the first variable of the row
+	 */
+	public double getFirstValueAtIdx(final int index) {
+		return this.X[index];
+	}
+
+	/**
+	 * Returns the values of the second variable of the row at index
+	 * <i>index</i>, in table order.
+	 *
+	 * @param index the index of the row
+	 * @return the values of the second variable of the row
+	 */
+	public double[] getSecondValuesAtIdx(final int index) {
+		return Arrays.copyOfRange(this.Y, this.offsets[index], this.offsets[index + 1]);
 	}
 
 	private Variable[] vars;
-	private Double[] X;
-	private Double[][] Y;
-	private Double[][] Z;
+	// values of the first variable
+	private double[] X;
+	// values of the second variable and outputs, row-major
+	private double[] Y;
+	private double[] Z;
+	// start of each row in Y and Z
+	private int[] offsets;
 
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.target.data.data;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.mariuszgromada.math.mxparser.Argument;
+import org.mariuszgromada.math.mxparser.Expression;
+
+/**
+ * A parsed equation whose arguments are bound to fixed slots, so that the
+ * equation can be evaluated repeatedly by only updating the argument values.
+ * Arithmetic equations are compiled into an {@link ExpressionProgram}, which
+ * evaluates several sets of argument values an instruction at a time. Other
+ * equations, and results the program leaves as NaN, are evaluated by mXparser.
+ * An instance is not thread-safe.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+final class CompiledExpression {
+
+	/**
+	 * Initializes a newly created CompiledExpression.
+	 *
+	 * @param equation the equation, with argument names matching <i>names</i>
+	 * @param names    the argument names, in slot order
+	 */
+	CompiledExpression(final String equation, final List<String> names) {
+		this.equation = equation;
+		this.names = names.toArray(new String[names.size()]);
+		this.program = ExpressionProgram.compile(equation, names);
+		if (this.program != null) {
+			this.stack = new double[this.program.getMaxDepth()];
+		}
+	}
+
+	/**
+	 * Evaluates the expression.
+	 *
+	 * @param values the argument values, in slot order
+	 * @return the value of the expression
+	 */
+	double calculate(final double[] values) {
+		double rtn = Double.NaN;
+		if (this.program != null) {
+			rtn = this.program.evaluate(values, this.stack);
+		}
+		if (Double.isNaN(rtn)) {
+			Argument[] arguments = this.getArguments();
+			for (int i = 0; i < arguments.length; i++) {
+				arguments[i].setArgumentValue(values[i]);
+			}
+			rtn = this.getExpression().calculate();
+		}
+		return rtn;
+	}
+
+	/**
+	 * Evaluates the expression for several sets of argument values.
+	 *
+	 * @param values the argument values, indexed by slot then set
+	 * @param out    the values of the expression, one per set
+	 */
+	void calculate(final double[][] values, final double[] out) {
+		if (this.program != null) {
+			this.program.evaluate(values, out, this.getStack(out.length));
+		} else {
+			Arrays.fill(out, Double.NaN);
+		}
+		for (int j = 0; j < out.length; j++) {
+			if (Double.isNaN(out[j])) {
+				Argument[] arguments = this.getArguments();
+				for (int i = 0; i < arguments.length; i++) {
+					arguments[i].setArgumentValue(values[i][j]);
+				}
+				out[j] = this.getExpression().calculate();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of argument slots.
+	 *
+	 * @return the number of argument slots
+	 */
+	int getNumArgument() {
+		return this.names.length;
+	}
+
+	/**
+	 * Returns whether the expression is compiled into an ExpressionProgram.
+	 *
+	 * @return true if the expression is compiled into an ExpressionProgram
+	 */
+	boolean isCompiled() {
+		return this.program != null;
+	}
+
+	/**
+	 * Returns the stack of the ExpressionProgram for <i>num</i> sets of argument
+	 * values, growing it if needed.
+	 *
+	 * @param num the number of sets
+	 * @return the stack
+	 */
+	private double[][] getStack(final int num) {
+		if (this.stacks == null || this.stacks[0].length < num) {
+			this.stacks = new double[this.program.getMaxDepth()][num];
+		}
+		return this.stacks;
+	}
+
+	/**
+	 * Returns the mXparser arguments, parsing the expression on first use.
+	 *
+	 * @return the arguments, in slot order
+	 */
+	private Argument[] getArguments() {
+		if (this.arguments == null) {
+			this.arguments = new Argument[this.names.length];
+			for (int i = 0; i < this.names.length; i++) {
+				this.arguments[i] = new Argument(this.names[i], Double.NaN);
+			}
+			this.expression = new Expression(this.equation, this.arguments);
+		}
+		return this.arguments;
+	}
+
+	/**
+	 * Returns the mXparser expression, parsing it on first use.
+	 *
+	 * @return the expression
+	 */
+	private Expression getExpression() {
+		this.getArguments();
+		return this.expression;
+	}
+
+	private final String equation;
+	private final String[] names;
+	private final ExpressionProgram program;
+	private double[] stack;
+	private double[][] stacks;
+	private Argument[] arguments;
+	private Expression expression;
+
+}
@@ -59,7 +59,7 @@ public class CytometryData extends CObject{
 	private void parseOutputCounts(final JSONObject JObj){
 		JSONArray JArr = (JSONArray) JObj.get(S_OUTPUTCOUNTS);
 		for (int i = 0; i < JArr.size(); i++) {
-			this.getOutputBins().add(((Number)JArr.get(i)).doubleValue());
+			this.getOutputCounts().add(((Number)JArr.get(i)).doubleValue());
 		}
 	}
 
@@ -23,6 +23,8 @@ package org.cellocad.v2.common.target.data.data;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -56,6 +58,29 @@ public abstract class Evaluatable extends CObject {
 
 	public abstract Number evaluate(EvaluationContext ec) throws CelloException;
 
+	/**
+	 * Evaluates this instance at the current node of the EvaluationContext defined
+	 * by parameter <i>ec</i> for every state of {@link EvaluationContext#getStates()},
+	 * storing the value at the i-th state in <i>out[i]</i>. The node of the
+	 * EvaluationContext is restored before returning.
+	 *
+	 * This implementation evaluates each state in turn. Subclasses override it to
+	 * evaluate all states in one pass.
+	 *
+	 * @param ec  the EvaluationContext
+	 * @param out the values, one per state
+	 * @throws CelloException Unable to evaluate.
+	 */
+	public void evaluate(final EvaluationContext ec, final double[] out) throws CelloException {
+		NetlistNode node = ec.getNode();
+		States<NetlistNode> states = ec.getStates();
+		for (int i = 0; i < out.length; i++) {
+			ec.setState(states.getStateAtIdx(i));
+			out[i] = this.evaluate(ec).doubleValue();
+			ec.setNode(node);
+		}
+	}
+
 	protected static final String S_NAME = "name";
 
 }
@@ -22,13 +22,11 @@ package org.cellocad.v2.common.target.data.data;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.StringTokenizer;
 
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
-import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.netlist.NetlistNode;
-import org.cellocad.v2.results.netlist.data.ResultNetlistEdgeData;
 
 /**
  *
@@ -42,143 +40,167 @@ public class EvaluationContext {
 
 	private void init() {
 		this.cache = new HashMap<>();
+		this.batchCache = new HashMap<>();
 	}
 
 	public EvaluationContext() {
 		this.init();
 	}
 
-	private static void isTooShortException(final StringTokenizer st, final String map) throws CelloException {
-		if (!st.hasMoreTokens()) {
-			String fmt = "%s: '%s' is missing elements.";
-			throw new CelloException(String.format(fmt, S_INVALID, map));
-		}
-	}
-
-	private static void isInvalidTokenException(final String map, final String token) throws CelloException {
-		String fmt = "%s: '%s', error with '%s'.";
-		throw new CelloException(String.format(fmt, S_INVALID, map, token));
+	/**
+	 * Dereferences the reference string defined by parameter <i>map</i> at the
+	 * current node. The reference string is resolved against the device assigned
+	 * to the node once and reused for later calls. The node of this instance may
+	 * be moved to the node owning the returned Evaluatable.
+	 *
+	 * @param map the reference string
+	 * @return the Evaluatable that the reference string refers to
+	 * @throws CelloException Unable to dereference.
+	 */
+	public Evaluatable dereference(final String map) throws CelloException {
+		AssignableDevice d = this.getNode().getResultNetlistNodeData().getDevice();
+		return d.getReferenceBinding(map).dereference(this);
 	}
 
-	private static void isUnsupportedTokenException(final String map, final String token) throws CelloException {
-		String fmt = "%s: '%s', error with '%s'.";
-		throw new CelloException(String.format(fmt, S_UNSUPPORTED, map, token));
+	/**
+	 * Evaluates the Evaluatable defined by parameter <i>e</i> at the current node
+	 * and state. Results of functions are cached so that a function shared by
+	 * several downstream devices is evaluated once per node and state.
+	 *
+	 * @param e the Evaluatable
+	 * @return the value of the Evaluatable
+	 * @throws CelloException Unable to evaluate.
+	 */
+	public Number evaluate(final Evaluatable e) throws CelloException {
+		Number rtn = null;
+		if (!(e instanceof Function)) {
+			return e.evaluate(this);
+		}
+		NetlistNode node = this.getNode();
+		Key key = new Key(node, this.getState(), e);
+		rtn = this.getCache().get(key);
+		if (rtn == null) {
+			rtn = e.evaluate(this);
+			this.setNode(node);
+			this.getCache().put(key, rtn);
+		}
+		return rtn;
 	}
 
-	private Evaluatable dereferenceInput(final StringTokenizer st, final String map, final NetlistNode node,
-			final Input input)
-			throws CelloException {
-		Evaluatable rtn = null;
-		NetlistNode src = null;
-		for (int i = 0; i < node.getNumInEdge(); i++) {
-			NetlistEdge edge = node.getInEdgeAtIdx(i);
-			ResultNetlistEdgeData data = edge.getResultNetlistEdgeData();
-			Input in = data.getInput();
-			if (in.equals(input)) {
-				src = edge.getSrc();
-				this.setNode(src);
-				break;
+	/**
+	 * Evaluates the Evaluatable defined by parameter <i>e</i> at the current node
+	 * for every state of {@link #getStates()}. Results of functions are cached per
+	 * node, and may be provided beforehand with
+	 * {@link #setValues(NetlistNode, Evaluatable, double[])}. The returned array
+	 * must not be modified.
+	 *
+	 * @param e the Evaluatable
+	 * @return the values of the Evaluatable, one per state
+	 * @throws CelloException Unable to evaluate.
+	 */
+	public double[] evaluateAll(final Evaluatable e) throws CelloException {
+		double[] rtn = null;
+		NetlistNode node = this.getNode();
+		Key key = null;
+		if (e instanceof Function) {
+			key = new Key(node, null, e);
+			rtn = this.getBatchCache().get(key);
+		}
+		if (rtn == null) {
+			rtn = new double[this.getStates().getNumStates()];
+			e.evaluate(this, rtn);
+			this.setNode(node);
+			if (key != null) {
+				this.getBatchCache().put(key, rtn);
 			}
 		}
-		if (src == null)
-			rtn = new NullEvaluatable();
-		else
-			rtn = dereferenceRoot(st, map, src);
 		return rtn;
 	}
 
-	private Evaluatable dereferenceStructure(final StringTokenizer st, final String map, final NetlistNode node,
-			final Structure structure)
-			throws CelloException {
-		Evaluatable rtn = null;
-		isTooShortException(st, map);
-		String token = st.nextToken();
-		String name = null;
-		switch (token) {
-		case Structure.S_INPUTS:
-			isTooShortException(st, map);
-			name = st.nextToken();
-			Input input = structure.getInputs().findCObjectByName(name);
-			rtn = dereferenceInput(st, map, node, input);
-			break;
-		case Structure.S_OUTPUTS:
-			isUnsupportedTokenException(map, token);
-			break;
-		case Structure.S_DEVICES:
-			isUnsupportedTokenException(map, token);
-			break;
-		default:
-			isInvalidTokenException(map, token);
-		}
-		return rtn;
+	/**
+	 * Sets the values of the Evaluatable defined by parameter <i>e</i> at the
+	 * NetlistNode defined by parameter <i>node</i> for every state of
+	 * {@link #getStates()}, e.g. activities that are already known, so that
+	 * {@link #evaluateAll(Evaluatable)} does not evaluate them again.
+	 *
+	 * @param node   the NetlistNode
+	 * @param e      the Evaluatable
+	 * @param values the values, one per state, owned by this instance
+	 */
+	public void setValues(final NetlistNode node, final Evaluatable e, final double[] values) {
+		this.getBatchCache().put(new Key(node, null, e), values);
 	}
 
-	private Evaluatable dereferenceModel(final StringTokenizer st, final String map, final NetlistNode node,
-			final Model model)
-			throws CelloException {
-		Evaluatable rtn = null;
-		isTooShortException(st, map);
-		String token = st.nextToken();
-		String name = null;
-		switch (token) {
-		case Model.S_PARAMETERS:
-			isTooShortException(st, map);
-			name = st.nextToken();
-			rtn = model.getParameterByName(name);
-			break;
-		case Model.S_FUNCTIONS:
-			isTooShortException(st, map);
-			name = st.nextToken();
-			rtn = model.getFunctionByName(name);
-			break;
-		default:
-			isInvalidTokenException(map, token);
+	/**
+	 * Key of the cache, compared by identity on all elements. The state is
+	 * <code>null</code> for values computed over all states at once.
+	 */
+	public static final class Key {
+
+		/**
+		 * Initializes a newly created {@link Key}.
+		 *
+		 * @param node        the netlist node.
+		 * @param state       the state.
+		 * @param evaluatable the evaluated object.
+		 */
+		public Key(final NetlistNode node, final State<NetlistNode> state, final Evaluatable evaluatable) {
+			this.node = node;
+			this.state = state;
+			this.evaluatable = evaluatable;
 		}
-		return rtn;
-	}
 
-	private Evaluatable dereferenceRoot(final StringTokenizer st, final String map, final NetlistNode node)
-			throws CelloException {
-		Evaluatable rtn = null;
-		// TODO check cache or originate entry
-		isTooShortException(st, map);
-		String token = st.nextToken();
-		AssignableDevice d = node.getResultNetlistNodeData().getDevice();
-		switch (token) {
-		case AssignableDevice.S_MODEL:
-			Model m = d.getModel();
-			rtn = dereferenceModel(st, map, node, m);
-			break;
-		case AssignableDevice.S_STRUCTURE:
-			Structure s = d.getStructure();
-			rtn = dereferenceStructure(st, map, node, s);
-			break;
-		default:
-			isInvalidTokenException(map, token);
+		@Override
+		public int hashCode() {
+			int rtn = System.identityHashCode(this.node);
+			rtn = 31 * rtn + System.identityHashCode(this.state);
+			rtn = 31 * rtn + System.identityHashCode(this.evaluatable);
+			return rtn;
 		}
-		return rtn;
-	}
 
-	public Evaluatable dereference(final String map) throws CelloException {
-		Evaluatable rtn = null;
-		String str = map;
-		if (!str.startsWith(Reference.S_REFCHAR)) {
-			String fmt = "%s: '%s' must begin with '%s'.";
-			throw new CelloException(String.format(fmt, S_INVALID, str, Reference.S_REFCHAR));
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.node == other.node && this.state == other.state && this.evaluatable == other.evaluatable;
 		}
-		str = str.substring(Reference.S_REFCHAR.length());
-		Boolean root = false;
-		if (str.startsWith(Reference.S_DELIM)) {
-			root = true;
+
+		/**
+		 * Getter for <i>node</i>.
+		 *
+		 * @return value of node
+		 */
+		public NetlistNode getNode() {
+			return node;
 		}
-		StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
-		if (root) {
-			rtn = dereferenceRoot(st, map, this.getNode());
-		} else {
-			String fmt = "%s: '%s'.";
-			throw new CelloException(String.format(fmt, S_UNSUPPORTED, str));
+
+		/**
+		 * Getter for <i>state</i>.
+		 *
+		 * @return value of state
+		 */
+		public State<NetlistNode> getState() {
+			return state;
 		}
-		return rtn;
+
+		/**
+		 * Getter for <i>evaluatable</i>.
+		 *
+		 * @return value of evaluatable
+		 */
+		public Evaluatable getEvaluatable() {
+			return evaluatable;
+		}
+
+		private final NetlistNode node;
+		private final State<NetlistNode> state;
+		private final Evaluatable evaluatable;
+
 	}
 
 	/*
@@ -229,6 +251,68 @@ public class EvaluationContext {
 
 	private State<NetlistNode> state;
 
+	/*
+	 * States
+	 */
+
+	/**
+	 * Getter for <i>states</i>, the states of batch evaluation.
+	 *
+	 * @return value of states
+	 */
+	public States<NetlistNode> getStates() {
+		return states;
+	}
+
+	/**
+	 * Setter for <i>states</i>, the states of batch evaluation. Clears the values
+	 * of previous batch evaluations.
+	 *
+	 * @param states the states to set
+	 */
+	public void setStates(States<NetlistNode> states) {
+		this.states = states;
+		this.getBatchCache().clear();
+	}
+
+	private States<NetlistNode> states;
+
+	/*
+	 * ParameterValues
+	 */
+
+	/**
+	 * Returns the value of the FixedParameter defined by parameter
+	 * <i>parameter</i> in this context, or null if the value of the parameter is
+	 * not overridden.
+	 *
+	 * @param parameter the FixedParameter
+	 * @return the value of the parameter in this context, or null
+	 */
+	public Double getParameterValue(final FixedParameter parameter) {
+		Double rtn = null;
+		if (this.parameterValues != null) {
+			rtn = this.parameterValues.get(parameter);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Setter for <i>parameterValues</i>, values of FixedParameter that override
+	 * their value in this context, e.g. to evaluate perturbed models without
+	 * modifying the shared target data. Keys are compared by identity. Clears the
+	 * cached results.
+	 *
+	 * @param parameterValues the values, or null to use the values of the
+	 *                        parameters
+	 */
+	public void setParameterValues(final Map<FixedParameter, Double> parameterValues) {
+		this.parameterValues = parameterValues;
+		this.clearCache();
+	}
+
+	private Map<FixedParameter, Double> parameterValues;
+
 	/*
 	 * Cache
 	 */
@@ -238,13 +322,30 @@ public class EvaluationContext {
 	 *
 	 * @return value of cache
 	 */
-	public Map<String, Number> getCache() {
+	public Map<Key, Number> getCache() {
 		return cache;
 	}
 
-	private Map<String, Number> cache;
+	/**
+	 * Clears the cached results, e.g. after the device assigned to a node has
+	 * changed.
+	 */
+	public void clearCache() {
+		this.getCache().clear();
+		this.getBatchCache().clear();
+	}
+
+	private Map<Key, Number> cache;
+
+	/**
+	 * Getter for <i>batchCache</i>.
+	 *
+	 * @return value of batchCache
+	 */
+	private Map<Key, double[]> getBatchCache() {
+		return batchCache;
+	}
 
-	private static final String S_INVALID = "Invalid reference string";
-	private static final String S_UNSUPPORTED = "Unsupported reference string";
+	private Map<Key, double[]> batchCache;
 
 }
@@ -0,0 +1,385 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.target.data.data;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An arithmetic equation compiled into a postfix program, evaluated on a stack
+ * of doubles or, for several sets of argument values at once, on a stack of
+ * double arrays. Only numbers, arguments, parentheses and the binary operators
+ * <code>+ - * / ^</code> are supported, which covers the usual response
+ * functions, e.g. <code>ymin+(ymax-ymin)/(1.0+(x/K)^n)</code>. Constructs
+ * whose meaning could differ from mXparser, such as chained powers or a
+ * negated power, are not compiled. As in mXparser, a division by zero is NaN.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+final class ExpressionProgram {
+
+	private ExpressionProgram(final Parser parser) {
+		this.codes = Arrays.copyOf(parser.codes, parser.size);
+		this.operands = Arrays.copyOf(parser.operands, parser.size);
+		this.constants = Arrays.copyOf(parser.constants, parser.size);
+		this.maxDepth = parser.maxDepth;
+	}
+
+	/**
+	 * Compiles the equation defined by parameter <i>equation</i>.
+	 *
+	 * @param equation the equation
+	 * @param names    the argument names, in slot order
+	 * @return the program, or null if the equation is not supported
+	 */
+	static ExpressionProgram compile(final String equation, final List<String> names) {
+		ExpressionProgram rtn = null;
+		Parser parser = new Parser(equation, names);
+		if (parser.parse()) {
+			rtn = new ExpressionProgram(parser);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the depth of the stack required to evaluate this instance.
+	 *
+	 * @return the depth of the stack
+	 */
+	int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	/**
+	 * Evaluates the program.
+	 *
+	 * @param values the argument values, in slot order
+	 * @param stack  the stack, of length at least {@link #getMaxDepth()}
+	 * @return the value of the program
+	 */
+	double evaluate(final double[] values, final double[] stack) {
+		int sp = 0;
+		for (int k = 0; k < this.codes.length; k++) {
+			switch (this.codes[k]) {
+			case ARG:
+				stack[sp++] = values[this.operands[k]];
+				break;
+			case CONST:
+				stack[sp++] = this.constants[k];
+				break;
+			case NEG:
+				stack[sp - 1] = -stack[sp - 1];
+				break;
+			case ADD:
+				sp--;
+				stack[sp - 1] += stack[sp];
+				break;
+			case SUB:
+				sp--;
+				stack[sp - 1] -= stack[sp];
+				break;
+			case MUL:
+				sp--;
+				stack[sp - 1] *= stack[sp];
+				break;
+			case DIV:
+				sp--;
+				stack[sp - 1] = divide(stack[sp - 1], stack[sp]);
+				break;
+			case POW:
+				sp--;
+				stack[sp - 1] = Math.pow(stack[sp - 1], stack[sp]);
+				break;
+			default:
+				throw new RuntimeException("Invalid instruction!");
+			}
+		}
+		return stack[0];
+	}
+
+	/**
+	 * Evaluates the program for several sets of argument values, one instruction
+	 * at a time over all sets.
+	 *
+	 * @param values the argument values, indexed by slot then set
+	 * @param out    the values of the program, one per set
+	 * @param stack  the stack, of at least {@link #getMaxDepth()} arrays, each at
+	 *               least as long as <i>out</i>
+	 */
+	void evaluate(final double[][] values, final double[] out, final double[][] stack) {
+		int n = out.length;
+		int sp = 0;
+		for (int k = 0; k < this.codes.length; k++) {
+			byte code = this.codes[k];
+			if (code == ARG) {
+				System.arraycopy(values[this.operands[k]], 0, stack[sp++], 0, n);
+				continue;
+			}
+			if (code == CONST) {
+				Arrays.fill(stack[sp++], 0, n, this.constants[k]);
+				continue;
+			}
+			if (code == NEG) {
+				double[] a = stack[sp - 1];
+				for (int j = 0; j < n; j++) {
+					a[j] = -a[j];
+				}
+				continue;
+			}
+			sp--;
+			double[] a = stack[sp - 1];
+			double[] b = stack[sp];
+			switch (code) {
+			case ADD:
+				for (int j = 0; j < n; j++) {
+					a[j] += b[j];
+				}
+				break;
+			case SUB:
+				for (int j = 0; j < n; j++) {
+					a[j] -= b[j];
+				}
+				break;
+			case MUL:
+				for (int j = 0; j < n; j++) {
+					a[j] *= b[j];
+				}
+				break;
+			case DIV:
+				for (int j = 0; j < n; j++) {
+					a[j] = divide(a[j], b[j]);
+				}
+				break;
+			case POW:
+				for (int j = 0; j < n; j++) {
+					a[j] = Math.pow(a[j], b[j]);
+				}
+				break;
+			default:
+				throw new RuntimeException("Invalid instruction!");
+			}
+		}
+		System.arraycopy(stack[0], 0, out, 0, n);
+	}
+
+	private static double divide(final double a, final double b) {
+		return b == 0.0 ? Double.NaN : a / b;
+	}
+
+	/**
+	 * A recursive descent parser emitting the postfix program:
+	 *
+	 * <pre>
+	 * sum     := product (('+' | '-') product)*
+	 * product := unary (('*' | '/') unary)*
+	 * unary   := '-' unary | power
+	 * power   := primary ('^' primary)?
+	 * primary := number | argument | '(' sum ')'
+	 * </pre>
+	 */
+	private static final class Parser {
+
+		private Parser(final String equation, final List<String> names) {
+			this.equation = equation;
+			this.names = names;
+			this.codes = new byte[equation.length()];
+			this.operands = new int[equation.length()];
+			this.constants = new double[equation.length()];
+		}
+
+		private boolean parse() {
+			boolean rtn = this.sum();
+			this.skipWhitespace();
+			return rtn && this.pos == this.equation.length() && this.size > 0;
+		}
+
+		private boolean sum() {
+			boolean rtn = this.product();
+			while (rtn) {
+				char c = this.peek();
+				if (c == '+' || c == '-') {
+					this.pos++;
+					rtn = this.product();
+					this.emit(c == '+' ? ADD : SUB);
+				} else {
+					break;
+				}
+			}
+			return rtn;
+		}
+
+		private boolean product() {
+			boolean rtn = this.unary();
+			while (rtn) {
+				char c = this.peek();
+				if (c == '*' || c == '/') {
+					this.pos++;
+					rtn = this.unary();
+					this.emit(c == '*' ? MUL : DIV);
+				} else {
+					break;
+				}
+			}
+			return rtn;
+		}
+
+		private boolean unary() {
+			boolean rtn = false;
+			if (this.peek() == '-') {
+				this.pos++;
+				int start = this.size;
+				rtn = this.unary() && this.size > start;
+				// negated powers are left to mXparser
+				rtn = rtn && this.codes[this.size - 1] != POW;
+				this.emit(NEG);
+			} else {
+				rtn = this.power();
+			}
+			return rtn;
+		}
+
+		private boolean power() {
+			boolean rtn = this.primary();
+			if (rtn && this.peek() == '^') {
+				this.pos++;
+				rtn = this.primary();
+				this.emit(POW);
+				// chained powers are left to mXparser
+				rtn = rtn && this.peek() != '^';
+			}
+			return rtn;
+		}
+
+		private boolean primary() {
+			boolean rtn = false;
+			char c = this.peek();
+			if (c == '(') {
+				this.pos++;
+				rtn = this.sum() && this.peek() == ')';
+				this.pos++;
+			} else if (isDigit(c)) {
+				rtn = this.number();
+			} else if (isIdentifierStart(c)) {
+				rtn = this.argument();
+			}
+			return rtn;
+		}
+
+		private boolean number() {
+			int start = this.pos;
+			while (this.pos < this.equation.length() && isDigit(this.equation.charAt(this.pos))) {
+				this.pos++;
+			}
+			if (this.pos < this.equation.length() && this.equation.charAt(this.pos) == '.') {
+				this.pos++;
+				while (this.pos < this.equation.length() && isDigit(this.equation.charAt(this.pos))) {
+					this.pos++;
+				}
+			}
+			// exponents and implicit products are left to mXparser
+			boolean rtn = this.pos == this.equation.length() || !isIdentifierPart(this.equation.charAt(this.pos));
+			if (rtn) {
+				this.constants[this.size] = Double.parseDouble(this.equation.substring(start, this.pos));
+				this.emit(CONST);
+			}
+			return rtn;
+		}
+
+		private boolean argument() {
+			int start = this.pos;
+			while (this.pos < this.equation.length() && isIdentifierPart(this.equation.charAt(this.pos))) {
+				this.pos++;
+			}
+			// constants and functions are left to mXparser
+			int slot = this.names.indexOf(this.equation.substring(start, this.pos));
+			boolean rtn = slot >= 0 && this.peek() != '(';
+			if (rtn) {
+				this.operands[this.size] = slot;
+				this.emit(ARG);
+			}
+			return rtn;
+		}
+
+		private void emit(final byte code) {
+			if (this.size < this.codes.length) {
+				this.codes[this.size++] = code;
+				if (code == ARG || code == CONST) {
+					this.depth++;
+					this.maxDepth = Math.max(this.maxDepth, this.depth);
+				} else if (code != NEG) {
+					this.depth--;
+				}
+			}
+		}
+
+		private char peek() {
+			this.skipWhitespace();
+			return this.pos < this.equation.length() ? this.equation.charAt(this.pos) : 0;
+		}
+
+		private void skipWhitespace() {
+			while (this.pos < this.equation.length() && Character.isWhitespace(this.equation.charAt(this.pos))) {
+				this.pos++;
+			}
+		}
+
+		private static boolean isDigit(final char c) {
+			return c >= '0' && c <= '9';
+		}
+
+		private static boolean isIdentifierStart(final char c) {
+			return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+		}
+
+		private static boolean isIdentifierPart(final char c) {
+			return isIdentifierStart(c) || isDigit(c) || c == '.';
+		}
+
+		private final String equation;
+		private final List<String> names;
+		private final byte[] codes;
+		private final int[] operands;
+		private final double[] constants;
+		private int size;
+		private int pos;
+		private int depth;
+		private int maxDepth;
+
+	}
+
+	private static final byte ARG = 0;
+	private static final byte CONST = 1;
+	private static final byte NEG = 2;
+	private static final byte ADD = 3;
+	private static final byte SUB = 4;
+	private static final byte MUL = 5;
+	private static final byte DIV = 6;
+	private static final byte POW = 7;
+
+	private final byte[] codes;
+	private final int[] operands;
+	private final double[] constants;
+	private final int maxDepth;
+
+}
@@ -20,6 +20,8 @@
  */
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.Arrays;
+
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.json.simple.JSONObject;
 
@@ -54,7 +56,16 @@ public class FixedParameter extends Parameter {
 
 	@Override
 	public Number evaluate(EvaluationContext ce) {
-		return this.getValue();
+		Double rtn = ce.getParameterValue(this);
+		if (rtn == null) {
+			rtn = this.getValue();
+		}
+		return rtn;
+	}
+
+	@Override
+	public void evaluate(final EvaluationContext ce, final double[] out) {
+		Arrays.fill(out, this.evaluate(ce).doubleValue());
 	}
 
 	@Override
@@ -65,7 +76,12 @@ public class FixedParameter extends Parameter {
 		return rtn;
 	}
 
-	private Double getValue() {
+	/**
+	 * Getter for <i>value</i>, the value of this parameter in the target data.
+	 *
+	 * @return value of <i>value</i>
+	 */
+	public Double getValue() {
 		return value;
 	}
 
@@ -32,5 +32,6 @@ public class FunctionType {
 
 	public static final String S_RESPONSEFUNCTION = "response_function";
 	public static final String S_INPUTCOMPOSITION = "input_composition";
+	public static final String S_CYTOMETRY = "cytometry";
 
 }
@@ -20,6 +20,8 @@
  */
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.Arrays;
+
 import org.cellocad.v2.common.CelloException;
 import org.json.simple.JSONObject;
 
@@ -45,4 +47,9 @@ public class NullEvaluatable extends Evaluatable {
 		return new Double(0.0);
 	}
 
+	@Override
+	public void evaluate(final EvaluationContext ce, final double[] out) {
+		Arrays.fill(out, 0.0);
+	}
+
 }
@@ -22,6 +22,7 @@ package org.cellocad.v2.common.target.data.data;
 
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -56,11 +57,22 @@ public class ParameterReference extends Parameter {
 	@Override
 	public Number evaluate(EvaluationContext ce) throws CelloException {
 		Number rtn = null;
+		NetlistNode node = ce.getNode();
 		Evaluatable e = ce.dereference(this.getMap());
-		rtn = e.evaluate(ce);
+		rtn = ce.evaluate(e);
+		ce.setNode(node);
 		return rtn;
 	}
 
+	@Override
+	public void evaluate(final EvaluationContext ce, final double[] out) throws CelloException {
+		NetlistNode node = ce.getNode();
+		Evaluatable e = ce.dereference(this.getMap());
+		double[] values = ce.evaluateAll(e);
+		System.arraycopy(values, 0, out, 0, out.length);
+		ce.setNode(node);
+	}
+
 	@Override
 	public boolean isValid() {
 		boolean rtn = super.isValid();
@@ -0,0 +1,248 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.target.data.data;
+
+import java.util.StringTokenizer;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * A reference string resolved against one AssignableDevice. The string is
+ * tokenized once, when the binding is created, so that dereferencing is reduced
+ * to returning the target or selecting an input edge.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+abstract class ReferenceBinding {
+
+	/**
+	 * Returns the Evaluatable that this binding refers to for the node of the
+	 * EvaluationContext defined by parameter <i>ec</i>. The node of the context
+	 * may be moved to the node owning the returned Evaluatable.
+	 *
+	 * @param ec the EvaluationContext
+	 * @return the Evaluatable that this binding refers to
+	 * @throws CelloException Unable to dereference.
+	 */
+	abstract Evaluatable dereference(EvaluationContext ec) throws CelloException;
+
+	/**
+	 * A binding to a parameter or a function of the device model.
+	 */
+	private static final class TargetBinding extends ReferenceBinding {
+
+		private TargetBinding(final Evaluatable target) {
+			this.target = target;
+		}
+
+		@Override
+		Evaluatable dereference(final EvaluationContext ec) {
+			return this.target;
+		}
+
+		private final Evaluatable target;
+
+	}
+
+	/**
+	 * A binding to an input of the device structure. The remainder of the
+	 * reference is resolved against the device of the node driving the input.
+	 */
+	private static final class InputBinding extends ReferenceBinding {
+
+		private InputBinding(final Input input, final int idx, final String remainder) {
+			this.input = input;
+			this.idx = idx;
+			this.remainder = remainder;
+		}
+
+		private NetlistNode getSource(final NetlistNode node) throws CelloException {
+			NetlistNode rtn = null;
+			// edges are normally connected in the order of the structure inputs
+			if (this.idx < node.getNumInEdge()) {
+				NetlistEdge edge = node.getInEdgeAtIdx(this.idx);
+				if (this.input.equals(edge.getResultNetlistEdgeData().getInput())) {
+					return edge.getSrc();
+				}
+			}
+			for (int i = 0; i < node.getNumInEdge(); i++) {
+				NetlistEdge edge = node.getInEdgeAtIdx(i);
+				Input in = edge.getResultNetlistEdgeData().getInput();
+				if (in == null) {
+					String fmt = "Edge '%s' of node '%s' is not connected to an input of the device structure.";
+					throw new CelloException(String.format(fmt, edge.getName(), node.getName()));
+				}
+				if (in.equals(this.input)) {
+					rtn = edge.getSrc();
+					break;
+				}
+			}
+			return rtn;
+		}
+
+		@Override
+		Evaluatable dereference(final EvaluationContext ec) throws CelloException {
+			Evaluatable rtn = null;
+			NetlistNode src = this.getSource(ec.getNode());
+			if (src == null) {
+				rtn = S_NULL;
+			} else {
+				ec.setNode(src);
+				rtn = ec.dereference(this.remainder);
+			}
+			return rtn;
+		}
+
+		private final Input input;
+		private final int idx;
+		private final String remainder;
+
+	}
+
+	private static void isTooShortException(final StringTokenizer st, final String map) throws CelloException {
+		if (!st.hasMoreTokens()) {
+			String fmt = "%s: '%s' is missing elements.";
+			throw new CelloException(String.format(fmt, S_INVALID, map));
+		}
+	}
+
+	private static void isInvalidTokenException(final String map, final String token) throws CelloException {
+		String fmt = "%s: '%s', error with '%s'.";
+		throw new CelloException(String.format(fmt, S_INVALID, map, token));
+	}
+
+	private static void isUnsupportedTokenException(final String map, final String token) throws CelloException {
+		String fmt = "%s: '%s', error with '%s'.";
+		throw new CelloException(String.format(fmt, S_UNSUPPORTED, map, token));
+	}
+
+	private static String getRemainder(final StringTokenizer st) {
+		String rtn = Reference.S_REFCHAR;
+		while (st.hasMoreTokens()) {
+			rtn += Reference.S_DELIM + st.nextToken();
+		}
+		return rtn;
+	}
+
+	private static ReferenceBinding bindInput(final StringTokenizer st, final String map, final Structure structure)
+			throws CelloException {
+		isTooShortException(st, map);
+		String name = st.nextToken();
+		Input input = structure.getInputs().findCObjectByName(name);
+		if (input == null) {
+			String fmt = "%s: '%s', structure '%s' has no input '%s'.";
+			throw new CelloException(String.format(fmt, S_INVALID, map, structure.getName(), name));
+		}
+		int idx = structure.getInputs().indexOf(input);
+		return new InputBinding(input, idx, getRemainder(st));
+	}
+
+	private static ReferenceBinding bindStructure(final StringTokenizer st, final String map,
+			final Structure structure) throws CelloException {
+		ReferenceBinding rtn = null;
+		isTooShortException(st, map);
+		String token = st.nextToken();
+		switch (token) {
+		case Structure.S_INPUTS:
+			rtn = bindInput(st, map, structure);
+			break;
+		case Structure.S_OUTPUTS:
+			isUnsupportedTokenException(map, token);
+			break;
+		case Structure.S_DEVICES:
+			isUnsupportedTokenException(map, token);
+			break;
+		default:
+			isInvalidTokenException(map, token);
+		}
+		return rtn;
+	}
+
+	private static ReferenceBinding bindModel(final StringTokenizer st, final String map, final Model model)
+			throws CelloException {
+		ReferenceBinding rtn = null;
+		isTooShortException(st, map);
+		String token = st.nextToken();
+		String name = null;
+		switch (token) {
+		case Model.S_PARAMETERS:
+			isTooShortException(st, map);
+			name = st.nextToken();
+			rtn = new TargetBinding(model.getParameterByName(name));
+			break;
+		case Model.S_FUNCTIONS:
+			isTooShortException(st, map);
+			name = st.nextToken();
+			rtn = new TargetBinding(model.getFunctionByName(name));
+			break;
+		default:
+			isInvalidTokenException(map, token);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Parses the reference string defined by parameter <i>map</i> and resolves it
+	 * against the AssignableDevice defined by parameter <i>device</i>.
+	 *
+	 * @param map    the reference string
+	 * @param device the AssignableDevice
+	 * @return the binding
+	 * @throws CelloException Invalid or unsupported reference string.
+	 */
+	static ReferenceBinding bind(final String map, final AssignableDevice device) throws CelloException {
+		ReferenceBinding rtn = null;
+		String str = map;
+		if (!str.startsWith(Reference.S_REFCHAR)) {
+			String fmt = "%s: '%s' must begin with '%s'.";
+			throw new CelloException(String.format(fmt, S_INVALID, str, Reference.S_REFCHAR));
+		}
+		str = str.substring(Reference.S_REFCHAR.length());
+		if (!str.startsWith(Reference.S_DELIM)) {
+			String fmt = "%s: '%s'.";
+			throw new CelloException(String.format(fmt, S_UNSUPPORTED, str));
+		}
+		StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
+		isTooShortException(st, map);
+		String token = st.nextToken();
+		switch (token) {
+		case AssignableDevice.S_MODEL:
+			rtn = bindModel(st, map, device.getModel());
+			break;
+		case AssignableDevice.S_STRUCTURE:
+			rtn = bindStructure(st, map, device.getStructure());
+			break;
+		default:
+			isInvalidTokenException(map, token);
+		}
+		return rtn;
+	}
+
+	private static final Evaluatable S_NULL = new NullEvaluatable();
+	private static final String S_INVALID = "Invalid reference string";
+	private static final String S_UNSUPPORTED = "Unsupported reference string";
+
+}
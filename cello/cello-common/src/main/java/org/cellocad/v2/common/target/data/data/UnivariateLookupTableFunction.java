@@ -20,18 +20,21 @@
  */
 package org.cellocad.v2.common.target.data.data;
 
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
-import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.ImmutableTable.Builder;
-import com.google.common.collect.Table;
-
 /**
- *
+ * The table is compiled at parse time into primitive columns. With a single
+ * variable, the rows are sorted by the variable so that the two nearest rows
+ * are found by binary search, or directly if the variable is sampled on a
+ * uniform logarithmic grid. Otherwise the rows are scanned.
  *
  * @author Timothy Jones
  *
@@ -44,7 +47,7 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
 	}
 
 	private void parseTable(JSONObject JObj) throws CelloException {
-		Builder<Integer, String, Double> builder = ImmutableTable.builder();
+		Map<String, double[]> table = new HashMap<>();
 		JSONObject jObj = (JSONObject) JObj.get(LookupTableFunction.S_TABLE);
 		if (jObj == null) {
 			String fmt = "Invalid %s specification: %s.";
@@ -57,12 +60,75 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
 				throw new CelloException(String.format(fmt, name));
 			}
 			JSONArray jArr = (JSONArray) jObj.get(key);
+			double[] column = new double[jArr.size()];
 			for (int i = 0; i < jArr.size(); i++) {
 				Double value = (Double) jArr.get(i);
-				builder.put(i, name, value);
+				column[i] = value;
 			}
+			table.put(name, column);
 		}
-		this.table = builder.build();
+		this.table = table;
+		this.compile();
+	}
+
+	/**
+	 * Compiles the table into the primitive columns used for evaluation.
+	 */
+	private void compile() {
+		int numRows = Integer.MAX_VALUE;
+		for (double[] column : this.getTable().values()) {
+			numRows = Math.min(numRows, column.length);
+		}
+		if (numRows == Integer.MAX_VALUE) {
+			numRows = 0;
+		}
+		this.numRows = numRows;
+		this.output = this.getTable().get(LookupTableFunction.S_OUTPUT);
+		int num = this.getVariables().size();
+		this.columns = new double[num][];
+		for (int i = 0; i < num; i++) {
+			this.columns[i] = this.getTable().get(this.getVariables().get(i).getName());
+		}
+		if (num == 1 && this.columns[0] != null && this.output != null && numRows > 0) {
+			final double[] column = this.columns[0];
+			Integer[] order = new Integer[numRows];
+			for (int i = 0; i < numRows; i++) {
+				order[i] = i;
+			}
+			// stable, so that rows with equal values keep their table order
+			Arrays.sort(order, Comparator.comparingDouble(i -> column[i]));
+			this.sortedRows = new int[numRows];
+			this.sortedInput = new double[numRows];
+			this.sortedOutput = new double[numRows];
+			for (int i = 0; i < numRows; i++) {
+				this.sortedRows[i] = order[i];
+				this.sortedInput[i] = column[order[i]];
+				this.sortedOutput[i] = this.output[order[i]];
+			}
+			this.setLogGrid();
+		}
+	}
+
+	/**
+	 * Detects whether the sorted input is sampled on a uniform logarithmic grid.
+	 */
+	private void setLogGrid() {
+		double[] x = this.sortedInput;
+		this.logStep = 0.0;
+		if (x.length < 3 || !(x[0] > 0.0)) {
+			return;
+		}
+		double step = Math.log(x[x.length - 1] / x[0]) / (x.length - 1);
+		if (!(step > 0.0) || Double.isInfinite(step)) {
+			return;
+		}
+		for (int i = 1; i < x.length; i++) {
+			double expected = Math.log(x[i] / x[0]) / step;
+			if (Math.abs(expected - i) > D_GRID_TOLERANCE) {
+				return;
+			}
+		}
+		this.logStep = step;
 	}
 
 	private void parseLookupTableFunction(JSONObject JObj) throws CelloException {
@@ -82,32 +148,98 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
 		return rtn;
 	}
 
-	@Override
-	public Number evaluate(EvaluationContext ec) throws CelloException {
-		Double rtn = null;
-		double input[] = new double[this.getVariables().size()];
-		for (int i = 0; i < this.getVariables().size(); i++) {
-			Variable v = this.getVariables().get(i);
-			String name = v.getName();
-			Double value = v.evaluate(ec).doubleValue();
-			if (!this.getTable().containsColumn(name))
-				throw new RuntimeException(String.format("Missing column %s.", name));
-			input[i] = value;
-		}
-		// stupid two-point average interpolation
-		Integer argMinA = -1;
-		Double minA = Double.MAX_VALUE;
-		Integer argMinB = -1;
-		Double minB = Double.MAX_VALUE;
-		for (Integer row : this.getTable().rowKeySet()) {
-			double record[] = new double[this.getVariables().size()];
-			for (int i = 0; i < this.getVariables().size(); i++) {
-				Variable v = this.getVariables().get(i);
-				Double d = this.getTable().get(row, v.getName());
-				record[i] = d;
+	/**
+	 * Returns the index of the first sorted row whose input is not less than the
+	 * value defined by parameter <i>x</i>.
+	 *
+	 * @param x the value
+	 * @return the index of the first sorted row whose input is not less than
+	 *         <i>x</i>
+	 */
+	int getLowerBound(final double x) {
+		double[] xs = this.sortedInput;
+		int rtn = 0;
+		if (this.logStep > 0.0 && x > 0.0) {
+			double position = Math.log(x / xs[0]) / this.logStep;
+			rtn = (int) Math.max(0.0, Math.min(xs.length, Math.ceil(position)));
+			while (rtn > 0 && xs[rtn - 1] >= x) {
+				rtn--;
+			}
+			while (rtn < xs.length && xs[rtn] < x) {
+				rtn++;
+			}
+		} else {
+			int lo = 0;
+			int hi = xs.length;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (xs[mid] < x) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			rtn = lo;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Interpolates between the two nearest rows, nearest first, ties broken by
+	 * table order. Only the rows around the lower bound of the sorted input can be
+	 * the nearest.
+	 */
+	double evaluateSorted(final double x) {
+		double[] xs = this.sortedInput;
+		int[] rows = this.sortedRows;
+		int p = this.getLowerBound(x);
+		int argMinA = -1;
+		double minA = Double.MAX_VALUE;
+		int argMinB = -1;
+		double minB = Double.MAX_VALUE;
+		for (int side = 0; side < 2; side++) {
+			int step = side == 0 ? -1 : 1;
+			int j = side == 0 ? p - 1 : p;
+			int taken = 0;
+			while (j >= 0 && j < xs.length && (taken < 2 || xs[j] == xs[j - step])) {
+				double distance = Math.abs(x - xs[j]);
+				if (distance < minA || (distance == minA && argMinA >= 0 && rows[j] < rows[argMinA])) {
+					argMinB = argMinA;
+					minB = minA;
+					argMinA = j;
+					minA = distance;
+				} else if (distance < minB || (distance == minB && argMinB >= 0 && rows[j] < rows[argMinB])) {
+					argMinB = j;
+					minB = distance;
+				}
+				taken++;
+				j += step;
+			}
+		}
+		double valueA = this.sortedOutput[argMinA];
+		if (argMinB < 0) {
+			return valueA;
+		}
+		double valueB = this.sortedOutput[argMinB];
+		// two-point average interpolation
+		return (valueA * minA + valueB * minB) / (minA + minB);
+	}
+
+	/**
+	 * Interpolates between the two nearest rows by scanning all rows.
+	 */
+	private double evaluateScan(final double[] input) {
+		int argMinA = -1;
+		double minA = Double.MAX_VALUE;
+		int argMinB = -1;
+		double minB = Double.MAX_VALUE;
+		for (int row = 0; row < this.numRows; row++) {
+			double sum = 0.0;
+			for (int i = 0; i < input.length; i++) {
+				double d = input[i] - this.columns[i][row];
+				sum += d * d;
 			}
-			EuclideanDistance eu = new EuclideanDistance();
-			Double distance = eu.compute(input, record);
+			double distance = Math.sqrt(sum);
 			if (distance < minA) {
 				argMinB = argMinA;
 				minB = minA;
@@ -118,16 +250,87 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
 				minB = distance;
 			}
 		}
-		Double valueA = this.getTable().get(argMinA, LookupTableFunction.S_OUTPUT);
-		Double valueB = this.getTable().get(argMinB, LookupTableFunction.S_OUTPUT);
-		rtn = (valueA * minA + valueB * minB) / (minA + minB);
+		double valueA = this.output[argMinA];
+		if (argMinB < 0) {
+			return valueA;
+		}
+		double valueB = this.output[argMinB];
+		// two-point average interpolation
+		return (valueA * minA + valueB * minB) / (minA + minB);
+	}
+
+	@Override
+	public Number evaluate(EvaluationContext ec) throws CelloException {
+		Double rtn = null;
+		int num = this.getVariables().size();
+		double x = 0.0;
+		double[] input = num == 1 ? null : new double[num];
+		for (int i = 0; i < num; i++) {
+			Variable v = this.getVariables().get(i);
+			String name = v.getName();
+			Double value = v.evaluate(ec).doubleValue();
+			if (this.columns[i] == null)
+				throw new RuntimeException(String.format("Missing column %s.", name));
+			if (input == null) {
+				x = value;
+			} else {
+				input[i] = value;
+			}
+		}
+		if (this.output == null || this.numRows == 0)
+			throw new RuntimeException(String.format("Missing column %s.", LookupTableFunction.S_OUTPUT));
+		if (this.sortedInput != null) {
+			rtn = this.evaluateSorted(x);
+		} else {
+			rtn = this.evaluateScan(input);
+		}
 		return rtn;
 	}
 
-	private Table<Integer, String, Double> getTable() {
+	@Override
+	public void evaluate(final EvaluationContext ec, final double[] out) throws CelloException {
+		int num = this.getVariables().size();
+		double[][] input = new double[num][];
+		for (int i = 0; i < num; i++) {
+			Variable v = this.getVariables().get(i);
+			input[i] = new double[out.length];
+			v.evaluate(ec, input[i]);
+			if (this.columns[i] == null)
+				throw new RuntimeException(String.format("Missing column %s.", v.getName()));
+		}
+		if (this.output == null || this.numRows == 0)
+			throw new RuntimeException(String.format("Missing column %s.", LookupTableFunction.S_OUTPUT));
+		if (this.sortedInput != null) {
+			for (int j = 0; j < out.length; j++) {
+				out[j] = this.evaluateSorted(input[0][j]);
+			}
+		} else {
+			double[] point = new double[num];
+			for (int j = 0; j < out.length; j++) {
+				for (int i = 0; i < num; i++) {
+					point[i] = input[i][j];
+				}
+				out[j] = this.evaluateScan(point);
+			}
+		}
+	}
+
+	private Map<String, double[]> getTable() {
 		return table;
 	}
 
-	private Table<Integer, String, Double> table;
+	private Map<String, double[]> table;
+	private int numRows;
+	// columns by variable index, in table order
+	private double[][] columns;
+	private double[] output;
+	// single variable, sorted by input
+	private int[] sortedRows;
+	private double[] sortedInput;
+	private double[] sortedOutput;
+	// step of the uniform logarithmic grid of the sorted input, or zero
+	private double logStep;
+
+	private static final double D_GRID_TOLERANCE = 1e-6;
 
 }
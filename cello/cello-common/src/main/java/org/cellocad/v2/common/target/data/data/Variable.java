@@ -61,11 +61,22 @@ public class Variable extends Evaluatable {
 		Evaluatable e = ec.dereference(this.getMap());
 		if (e == null)
 			throw new RuntimeException("Dereference failed.");
-		rtn = e.evaluate(ec);
+		rtn = ec.evaluate(e);
 		ec.setNode(node);
 		return rtn;
 	}
 
+	@Override
+	public void evaluate(final EvaluationContext ec, final double[] out) throws CelloException {
+		NetlistNode node = ec.getNode();
+		Evaluatable e = ec.dereference(this.getMap());
+		if (e == null)
+			throw new RuntimeException("Dereference failed.");
+		double[] values = ec.evaluateAll(e);
+		System.arraycopy(values, 0, out, 0, out.length);
+		ec.setNode(node);
+	}
+
 	@Override
 	public boolean isValid() {
 		boolean rtn = super.isValid();
@@ -33,9 +33,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
- * The results of an application. Writes a metadata file.
+ * The results of an application. Writes a metadata file holding the result
+ * objects and the random seed of each algorithm that used one.
  *
  * @author Timothy Jones
  *
@@ -45,13 +47,17 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 public class Results extends CObject {
 
 	private ObjectMapper mapper;
+	private ObjectNode root;
+	private ObjectNode seeds;
 	private ArrayNode array;
 	private ObjectWriter writer;
 	private File file;
 
 	private void init() {
 		this.mapper = new ObjectMapper();
-		this.array = this.mapper.createArrayNode();
+		this.root = this.mapper.createObjectNode();
+		this.seeds = this.root.putObject("seeds");
+		this.array = this.root.putArray("results");
 		this.writer = this.mapper.writer(new DefaultPrettyPrinter());
 	}
 
@@ -78,7 +84,22 @@ public class Results extends CObject {
 	public void addResult(Result result) throws JsonGenerationException, JsonMappingException, IOException {
 		JsonNode node = this.mapper.valueToTree(result);
 		this.array.add(node);
-		this.writer.writeValue(this.file, node);
+		this.writer.writeValue(this.file, this.root);
+	}
+
+	/**
+	 * Record the random seed of an algorithm, so that its results can be
+	 * reproduced.
+	 *
+	 * @param name The name of the algorithm.
+	 * @param seed The seed.
+	 * @throws JsonGenerationException Unable to generate JSON.
+	 * @throws JsonMappingException    Unable to map JSON.
+	 * @throws IOException             Unable to write to results file.
+	 */
+	public void setSeed(String name, long seed) throws JsonGenerationException, JsonMappingException, IOException {
+		this.seeds.put(name, seed);
+		this.writer.writeValue(this.file, this.root);
 	}
 
 }
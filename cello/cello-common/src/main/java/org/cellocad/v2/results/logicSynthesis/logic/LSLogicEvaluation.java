@@ -29,20 +29,23 @@ import java.util.Map;
 
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
-import org.cellocad.v2.common.graph.algorithm.BFS;
 import org.cellocad.v2.results.logicSynthesis.LSResults;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.TruthTable;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 
 /**
  * The LSLogicEvaluation class is class evaluating the logic of a netlist in the
  * <i>logicSynthesis</i> stage.
  *
+ * The logic of each node is stored as a bitset over all the input states, bit
+ * <i>i</i> being the value of the node at the State at index <i>i</i> of
+ * {@link #getStates()}, and evaluated one word (64 states) at a time. The
+ * TruthTable of a node is built from its bitset on first access.
+ *
  * @author Vincent Mirian
  *
  * @date 2018-05-21
@@ -55,6 +58,7 @@ public class LSLogicEvaluation {
 	 */
 	private void init() {
 		truthtables = new HashMap<NetlistNode, TruthTable<NetlistNode, NetlistNode>>();
+		bitsets = new HashMap<NetlistNode, long[]>();
 	}
 
 	/**
@@ -73,42 +77,101 @@ public class LSLogicEvaluation {
 		Boolean Zero = new Boolean(false);
 		States<NetlistNode> states = new States<NetlistNode>(inputNodes, One, Zero);
 		setStates(states);
-		List<NetlistNode> outputNodes = new ArrayList<NetlistNode>();
+		setPrimaryInputs(inputNodes);
+		int numStates = states.getNumStates();
+		numWords = (numStates + Long.SIZE - 1) / Long.SIZE;
+		lastWordMask = (numStates % Long.SIZE == 0) ? -1L : (1L << numStates) - 1;
 		for (int i = 0; i < netlist.getNumVertex(); i++) {
 			NetlistNode node = netlist.getVertexAtIdx(i);
-			outputNodes.clear();
-			outputNodes.add(node);
-			TruthTable<NetlistNode, NetlistNode> truthTable = new TruthTable<NetlistNode, NetlistNode>(states,
-			        outputNodes);
-			getTruthTables().put(node, truthTable);
+			getBitsets().put(node, new long[numWords]);
 		}
 		evaluate(netlist);
 	}
 
 	/**
-	 * Returns a Boolean representation of the evaluation of the NodeType defined by
-	 * <i>nodeType</i> with input defined by parameters <i>inputs</i>
+	 * Returns the bitset of the primary input at index <i>index</i>, i.e. the bit
+	 * pattern of position <i>index</i> in the state index
+	 *
+	 * @param index the index of the primary input
+	 * @return the bitset of the primary input at index <i>index</i>
+	 */
+	private long[] getPrimaryInputBitset(final int index) {
+		long[] rtn = new long[numWords];
+		int numStates = getStates().getNumStates();
+		if (index < 6) {
+			// the pattern repeats within a word
+			long word = 0;
+			for (int i = 0; i < Long.SIZE; i++) {
+				if (((i >> index) & 1) == 1) {
+					word |= 1L << i;
+				}
+			}
+			for (int i = 0; i < numWords; i++) {
+				rtn[i] = word;
+			}
+		} else {
+			// whole words are either set or cleared
+			for (int i = 0; i < numWords; i++) {
+				if ((((i * Long.SIZE) >> index) & 1) == 1) {
+					rtn[i] = -1L;
+				}
+			}
+		}
+		if (numStates > 0) {
+			rtn[numWords - 1] &= lastWordMask;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the bitsets of the input values for NetlistNode defined by parameter
+	 * <i>node</i>
+	 *
+	 * @param node the NetlistNode
+	 * @return the bitsets of the input values for NetlistNode defined by parameter
+	 *         <i>node</i>
+	 */
+	private List<long[]> getInputLogic(final NetlistNode node) {
+		List<long[]> rtn = new ArrayList<long[]>();
+		for (int i = 0; i < node.getNumInEdge(); i++) {
+			NetlistNode inputNode = node.getInEdgeAtIdx(i).getSrc();
+			rtn.add(getBitsets().get(inputNode));
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the bitwise evaluation of the NodeType defined by <i>nodeType</i>
+	 * with input defined by parameters <i>inputs</i>, inverted if <i>invert</i> is
+	 * true
 	 *
-	 * @param inputs   a List of inputs
+	 * @param inputs   a List of input bitsets
 	 * @param nodeType the NodeType
-	 * @return a Boolean representation of the evaluation of the NodeType defined by
-	 *         <i>nodeType</i> with input defined by parameters <i>inputs</i>
+	 * @param invert   whether to invert the result
+	 * @return the bitwise evaluation of the NodeType defined by <i>nodeType</i>
+	 *         with input defined by parameters <i>inputs</i>
 	 */
-	private Boolean computeLogic(final List<Boolean> inputs, final String nodeType) {
-		Boolean rtn = inputs.get(0);
+	private long[] computeLogic(final List<long[]> inputs, final String nodeType, final boolean invert) {
+		long[] rtn = inputs.get(0).clone();
 		for (int i = 1; i < inputs.size(); i++) {
-			Boolean value = inputs.get(i);
+			long[] value = inputs.get(i);
 			switch (nodeType) {
 			case LSResults.S_AND: {
-				rtn = rtn && value;
+				for (int j = 0; j < numWords; j++) {
+					rtn[j] &= value[j];
+				}
 				break;
 			}
 			case LSResults.S_OR: {
-				rtn = rtn || value;
+				for (int j = 0; j < numWords; j++) {
+					rtn[j] |= value[j];
+				}
 				break;
 			}
 			case LSResults.S_XOR: {
-				rtn = rtn ^ value;
+				for (int j = 0; j < numWords; j++) {
+					rtn[j] ^= value[j];
+				}
 				break;
 			}
 			default: {
@@ -116,293 +179,201 @@ public class LSLogicEvaluation {
 			}
 			}
 		}
-		return rtn;
-	}
-
-	/**
-	 * Returns a List of Boolean representation of the input values for NetlistNode
-	 * defined by parameter <i>node</i> at the state defined by parameter
-	 * <i>state</i>
-	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return a List of Boolean representation of the input values for NetlistNode
-	 *         defined by parameter <i>node</i> at the state defined by parameter
-	 *         <i>state</i>
-	 */
-	private List<Boolean> getInputLogic(final NetlistNode node, final State<NetlistNode> state) {
-		List<Boolean> rtn = new ArrayList<Boolean>();
-		for (int i = 0; i < node.getNumInEdge(); i++) {
-			NetlistNode inputNode = node.getInEdgeAtIdx(i).getSrc();
-			TruthTable<NetlistNode, NetlistNode> truthTable = getTruthTables().get(inputNode);
-			truthTable.getStateOutput(state);
-			State<NetlistNode> outputState = truthTable.getStateOutput(state);
-			if (outputState.getNumStatePosition() != 1) {
-				throw new RuntimeException("Invalid number of output(s)!");
+		if (invert) {
+			for (int j = 0; j < numWords; j++) {
+				rtn[j] = ~rtn[j];
 			}
-			rtn.add(outputState.getState(inputNode));
+			rtn[numWords - 1] &= lastWordMask;
 		}
 		return rtn;
 	}
 
 	/**
-	 * Returns the evaluation for a Primary Input for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * Returns the bitset of a Primary Input for NetlistNode defined by parameter
+	 * <i>node</i>
 	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for a Primary Input for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * @param node the NetlistNode
+	 * @return the bitset of a Primary Input for NetlistNode defined by parameter
+	 *         <i>node</i>
 	 */
-	private Boolean computePrimaryInput(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
+	private long[] computePrimaryInput(final NetlistNode node) {
+		long[] rtn = null;
+		List<long[]> inputList = getInputLogic(node);
 		if (inputList.size() == 0) {
-			rtn = state.getState(node);
+			rtn = getPrimaryInputBitset(getPrimaryInputs().indexOf(node));
 		}
 		return rtn;
 	}
 
 	/**
-	 * Returns the evaluation for a Primary Output for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * Returns the bitset of a Primary Output for NetlistNode defined by parameter
+	 * <i>node</i>
 	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for a Primary Output for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * @param node the NetlistNode
+	 * @return the bitset of a Primary Output for NetlistNode defined by parameter
+	 *         <i>node</i>
 	 */
-	private Boolean computePrimaryOutput(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
+	private long[] computePrimaryOutput(final NetlistNode node) {
+		long[] rtn = null;
+		List<long[]> inputList = getInputLogic(node);
 		if (inputList.size() == 1) {
-			rtn = inputList.get(0);
+			rtn = inputList.get(0).clone();
 		}
 		if (inputList.size() > 1) {
-			rtn = computeOR(node, state);
+			rtn = computeLogic(inputList, LSResults.S_OR, false);
 		}
 		return rtn;
 	}
 
 	/**
-	 * Returns the evaluation for a NOT NodeType for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * Returns the bitset of a NOT NodeType for NetlistNode defined by parameter
+	 * <i>node</i>
 	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for a NOT NodeType for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * @param node the NetlistNode
+	 * @return the bitset of a NOT NodeType for NetlistNode defined by parameter
+	 *         <i>node</i>
 	 */
-	private Boolean computeNOT(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
+	private long[] computeNOT(final NetlistNode node) {
+		long[] rtn = null;
+		List<long[]> inputList = getInputLogic(node);
 		if (inputList.size() == 1) {
-			rtn = inputList.get(0);
-			rtn = !(rtn);
+			rtn = computeLogic(inputList, LSResults.S_OR, true);
 		}
 		return rtn;
 	}
 
 	/**
-	 * Returns the evaluation for an AND NodeType for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * Returns the bitset of a multi-input NodeType for NetlistNode defined by
+	 * parameter <i>node</i>
 	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for an AND NodeType for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * @param node     the NetlistNode
+	 * @param nodeType the NodeType of the underlying operation
+	 * @param invert   whether to invert the result
+	 * @return the bitset of a multi-input NodeType for NetlistNode defined by
+	 *         parameter <i>node</i>
 	 */
-	private Boolean computeAND(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
+	private long[] computeGate(final NetlistNode node, final String nodeType, final boolean invert) {
+		long[] rtn = null;
+		List<long[]> inputList = getInputLogic(node);
 		if (inputList.size() > 1) {
-			rtn = computeLogic(inputList, LSResults.S_AND);
+			rtn = computeLogic(inputList, nodeType, invert);
 		}
 		return rtn;
 	}
 
 	/**
-	 * Returns the evaluation for an NAND NodeType for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * Evaluates the bitset for the NetlistNode defined by parameter <i>node</i>
 	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for an NAND NodeType for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * @param node the NetlistNode
 	 */
-	private Boolean computeNAND(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
-		if (inputList.size() > 1) {
-			rtn = computeLogic(inputList, LSResults.S_AND);
-			rtn = !(rtn);
+	private void evaluateBitset(final NetlistNode node) {
+		long[] result = null;
+		final String nodeType = node.getResultNetlistNodeData().getNodeType();
+		switch (nodeType) {
+		case LSResults.S_PRIMARYINPUT: {
+			result = computePrimaryInput(node);
+			break;
 		}
-		return rtn;
-	}
-
-	/**
-	 * Returns the evaluation for an OR NodeType for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
-	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for an OR NodeType for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
-	 */
-	private Boolean computeOR(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
-		if (inputList.size() > 1) {
-			rtn = computeLogic(inputList, LSResults.S_OR);
+		case LSResults.S_PRIMARYOUTPUT: {
+			result = computePrimaryOutput(node);
+			break;
 		}
-		return rtn;
-	}
-
-	/**
-	 * Returns the evaluation for an NOR NodeType for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
-	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for an NOR NodeType for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
-	 */
-	private Boolean computeNOR(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
-		if (inputList.size() > 1) {
-			rtn = computeLogic(inputList, LSResults.S_OR);
-			rtn = !(rtn);
+		case LSResults.S_INPUT: {
+			return;
 		}
-		return rtn;
-	}
-
-	/**
-	 * Returns the evaluation for an XOR NodeType for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
-	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for an XOR NodeType for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
-	 */
-	private Boolean computeXOR(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
-		if (inputList.size() > 1) {
-			rtn = computeLogic(inputList, LSResults.S_XOR);
+		case LSResults.S_OUTPUT: {
+			return;
+		}
+		case LSResults.S_NOT: {
+			result = computeNOT(node);
+			break;
+		}
+		case LSResults.S_AND: {
+			result = computeGate(node, LSResults.S_AND, false);
+			break;
+		}
+		case LSResults.S_NAND: {
+			result = computeGate(node, LSResults.S_AND, true);
+			break;
+		}
+		case LSResults.S_OR: {
+			result = computeGate(node, LSResults.S_OR, false);
+			break;
+		}
+		case LSResults.S_NOR: {
+			result = computeGate(node, LSResults.S_OR, true);
+			break;
+		}
+		case LSResults.S_XOR: {
+			result = computeGate(node, LSResults.S_XOR, false);
+			break;
+		}
+		case LSResults.S_XNOR: {
+			result = computeGate(node, LSResults.S_XOR, true);
+			break;
+		}
+		default: {
+			throw new RuntimeException("Unknown nodeType");
+		}
+		}
+		if (getStates().getNumStates() > 0) {
+			Utils.isNullRuntimeException(result, "result");
+		}
+		if (result != null) {
+			getBitsets().put(node, result);
 		}
-		return rtn;
 	}
 
 	/**
-	 * Returns the evaluation for an XNOR NodeType for NetlistNode defined by
-	 * parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * Evaluates the Netlist defined by parameter <i>netlist</i>
 	 *
-	 * @param node  the NetlistNode
-	 * @param state the state
-	 * @return the evaluation for an XNOR NodeType for NetlistNode defined by
-	 *         parameter <i>node</i> at the state defined by parameter <i>state</i>
+	 * @param netlist the Netlist
 	 */
-	private Boolean computeXNOR(final NetlistNode node, final State<NetlistNode> state) {
-		Boolean rtn = null;
-		List<Boolean> inputList = getInputLogic(node, state);
-		if (inputList.size() > 1) {
-			rtn = computeLogic(inputList, LSResults.S_XOR);
-			rtn = !(rtn);
+	protected void evaluate(Netlist netlist) {
+		for (NetlistNode node : netlist.getLevelization().getNodes()) {
+			evaluateBitset(node);
 		}
-		return rtn;
+		getTruthTables().clear();
 	}
 
 	/**
-	 * Evaluates the truth table for the NetlistNode defined by parameter
-	 * <i>node</i>
+	 * Returns the TruthTable of NetlistNode defined by parameter <i>node</i> built
+	 * from its bitset
 	 *
 	 * @param node the NetlistNode
+	 * @return the TruthTable of NetlistNode defined by parameter <i>node</i>
 	 */
-	private void evaluateTruthTable(final NetlistNode node) {
-		Boolean result = null;
-		final String nodeType = node.getResultNetlistNodeData().getNodeType();
-		TruthTable<NetlistNode, NetlistNode> truthTable = getTruthTables().get(node);
-		for (int i = 0; i < truthTable.getNumStates(); i++) {
-			State<NetlistNode> inputState = truthTable.getStateAtIdx(i);
-			State<NetlistNode> outputState = truthTable.getStateOutput(inputState);
+	private TruthTable<NetlistNode, NetlistNode> buildTruthTable(final NetlistNode node) {
+		List<NetlistNode> outputNodes = new ArrayList<NetlistNode>();
+		outputNodes.add(node);
+		States<NetlistNode> states = getStates();
+		TruthTable<NetlistNode, NetlistNode> rtn = new TruthTable<NetlistNode, NetlistNode>(states, outputNodes);
+		long[] bits = getBitsets().get(node);
+		for (int i = 0; i < rtn.getNumStates(); i++) {
+			State<NetlistNode> outputState = rtn.getStateOutput(states.getStateAtIdx(i));
 			if (outputState.getNumStatePosition() != 1) {
 				throw new RuntimeException("Invalid number of output(s)!");
 			}
-			switch (nodeType) {
-			case LSResults.S_PRIMARYINPUT: {
-				result = computePrimaryInput(node, inputState);
-				break;
-			}
-			case LSResults.S_PRIMARYOUTPUT: {
-				result = computePrimaryOutput(node, inputState);
-				break;
-			}
-			case LSResults.S_INPUT: {
-				continue;
-			}
-			case LSResults.S_OUTPUT: {
-				continue;
-			}
-			case LSResults.S_NOT: {
-				result = computeNOT(node, inputState);
-				break;
-			}
-			case LSResults.S_AND: {
-				result = computeAND(node, inputState);
-				break;
-			}
-			case LSResults.S_NAND: {
-				result = computeNAND(node, inputState);
-				break;
-			}
-			case LSResults.S_OR: {
-				result = computeOR(node, inputState);
-				break;
-			}
-			case LSResults.S_NOR: {
-				result = computeNOR(node, inputState);
-				break;
-			}
-			case LSResults.S_XOR: {
-				result = computeXOR(node, inputState);
-				break;
-			}
-			case LSResults.S_XNOR: {
-				result = computeXNOR(node, inputState);
-				break;
-			}
-			default: {
-				throw new RuntimeException("Unknown nodeType");
-			}
-			}
-			Utils.isNullRuntimeException(result, "result");
-			if (!outputState.setState(node, result)) {
+			Boolean value = isSet(bits, i) ? states.getOne() : states.getZero();
+			if (!outputState.setState(node, value)) {
 				throw new RuntimeException("Node does not exist");
 			}
 		}
+		return rtn;
 	}
 
-	/**
-	 * Evaluates the Netlist defined by parameter <i>netlist</i>
-	 *
-	 * @param netlist the Netlist
-	 */
-	protected void evaluate(Netlist netlist) {
-		BFS<NetlistNode, NetlistEdge, Netlist> BFS = new BFS<NetlistNode, NetlistEdge, Netlist>(netlist);
-		NetlistNode node = null;
-		node = BFS.getNextVertex();
-		while (node != null) {
-			evaluateTruthTable(node);
-			node = BFS.getNextVertex();
-		}
+	private static boolean isSet(final long[] bits, final int index) {
+		return ((bits[index / Long.SIZE] >>> (index % Long.SIZE)) & 1L) == 1L;
 	}
 
 	protected Map<NetlistNode, TruthTable<NetlistNode, NetlistNode>> getTruthTables() {
 		return truthtables;
 	}
 
+	protected Map<NetlistNode, long[]> getBitsets() {
+		return bitsets;
+	}
+
 	protected void setStates(States<NetlistNode> states) {
 		this.states = states;
 	}
@@ -416,15 +387,53 @@ public class LSLogicEvaluation {
 		return states;
 	}
 
+	private void setPrimaryInputs(final List<NetlistNode> primaryInputs) {
+		this.primaryInputs = primaryInputs;
+	}
+
+	private List<NetlistNode> getPrimaryInputs() {
+		return primaryInputs;
+	}
+
+	/**
+	 * Returns the bitset of NetlistNode defined by parameter <i>node</i>, bit
+	 * <i>i</i> being the value at the State at index <i>i</i> of
+	 * {@link #getStates()}. The returned array must not be modified.
+	 *
+	 * @param node the NetlistNode
+	 * @return the bitset of NetlistNode defined by parameter <i>node</i> if the
+	 *         node exists, null otherwise
+	 */
+	public long[] getBitset(final NetlistNode node) {
+		return getBitsets().get(node);
+	}
+
+	/**
+	 * Returns the value of NetlistNode defined by parameter <i>node</i> at the
+	 * State at index <i>index</i> of {@link #getStates()}
+	 *
+	 * @param node  the NetlistNode
+	 * @param index the index of the State
+	 * @return the value of NetlistNode defined by parameter <i>node</i> at the
+	 *         State at index <i>index</i>
+	 */
+	public boolean getValue(final NetlistNode node, final int index) {
+		return isSet(getBitsets().get(node), index);
+	}
+
 	/**
 	 * Returns the truthTable of NetlistNode defined by parameter <i>node</i>
 	 *
 	 * @param node the NetlistNode
 	 * @return the truthTable of NetlistNode defined by parameter <i>node</i>
 	 */
-	public TruthTable<NetlistNode, NetlistNode> getTruthTable(final NetlistNode node) {
+	public synchronized TruthTable<NetlistNode, NetlistNode> getTruthTable(final NetlistNode node) {
 		TruthTable<NetlistNode, NetlistNode> rtn = null;
 		rtn = getTruthTables().get(node);
+		if (rtn == null && getBitsets().containsKey(node)) {
+			rtn = buildTruthTable(node);
+			getTruthTables().put(node, rtn);
+		}
 		return rtn;
 	}
 
@@ -435,13 +444,11 @@ public class LSLogicEvaluation {
 		rtn += S_HEADER + Utils.getNewLine();
 		rtn += "LSLogicEvaluation" + Utils.getNewLine();
 		rtn += S_HEADER + Utils.getNewLine();
-		for (NetlistNode node : getTruthTables().keySet()) {
+		for (NetlistNode node : getBitsets().keySet()) {
 			rtn += String.format("%-15s", node.getName()) + Utils.getTabCharacter();
-			TruthTable<NetlistNode, NetlistNode> truthtable = getTruthTables().get(node);
-			for (int i = 0; i < truthtable.getNumStates(); i++) {
-				State<NetlistNode> input = truthtable.getStateAtIdx(i);
-				State<NetlistNode> output = truthtable.getStateOutput(input);
-				rtn += output.getState(node) + Utils.getTabCharacter();
+			long[] bits = getBitsets().get(node);
+			for (int i = 0; i < getStates().getNumStates(); i++) {
+				rtn += (isSet(bits, i) ? getStates().getOne() : getStates().getZero()) + Utils.getTabCharacter();
 			}
 			rtn += Utils.getNewLine();
 		}
@@ -458,23 +465,25 @@ public class LSLogicEvaluation {
 	 * @throws IOException If an I/O error occurs
 	 */
 	public void writeCSV(String delimiter, Writer os) throws IOException {
-		String str = "";
-		for (NetlistNode node : getTruthTables().keySet()) {
-			str += node.getName();
-			TruthTable<NetlistNode, NetlistNode> truthtable = getTruthTable(node);
-			for (int i = 0; i < truthtable.getNumStates(); i++) {
-				State<NetlistNode> input = truthtable.getStateAtIdx(i);
-				State<NetlistNode> output = truthtable.getStateOutput(input);
-				str += delimiter;
-				str += String.format("%s", output.getState(node));
+		StringBuilder str = new StringBuilder();
+		for (NetlistNode node : getBitsets().keySet()) {
+			str.append(node.getName());
+			long[] bits = getBitsets().get(node);
+			for (int i = 0; i < getStates().getNumStates(); i++) {
+				str.append(delimiter);
+				str.append(String.format("%s", isSet(bits, i) ? getStates().getOne() : getStates().getZero()));
 			}
-			str += Utils.getNewLine();
+			str.append(Utils.getNewLine());
 		}
-		os.write(str);
+		os.write(str.toString());
 	}
 
 	private static final String S_HEADER = "--------------------------------------------";
 
 	private Map<NetlistNode, TruthTable<NetlistNode, NetlistNode>> truthtables;
+	private Map<NetlistNode, long[]> bitsets;
 	private States<NetlistNode> states;
+	private List<NetlistNode> primaryInputs;
+	private int numWords;
+	private long lastWordMask;
 }
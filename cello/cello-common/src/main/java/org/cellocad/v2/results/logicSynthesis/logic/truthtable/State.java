@@ -20,19 +20,19 @@
  */
 package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.Pair;
 
 /**
  * The State class contains a state of a netlist used within the <i>SimulatedAnnealing</i> algorithm class of the <i>technologyMapping</i> stage.
+ * The value of each node is a bit of a bitmask over the nodes numbered by a StateIndex, which is shared by the states over the same nodes.
+ * States are compared by identity, so that they are stable keys of the truth, activity and toxicity tables.
  * @param T type index
  * 
  * @author Vincent Mirian
+ * @author agent
  * 
  * @date 2018-05-21
  *
@@ -40,13 +40,23 @@ import org.cellocad.v2.common.Pair;
 public class State <T> extends CObject{
 
 	/**
-	 *  Initialize class members
+	 *  Initializes a newly created State with the StateIndex defined by parameter <i>index</i>
+	 *  the True value defined by parameter <i>One</i>,
+	 *  the false value defined by parameter <i>Zero</i>,
+	 *  and bitmask defined by parameter <i>value</i>.
+	 *  
+	 *  @param index the StateIndex
+	 *  @param One the True value
+	 *  @param Zero the False value
+	 *  @param value the bitmask, bit <i>i</i> being the value of node <i>i</i> of the index
 	 */
-	private void init() {
-		stateEntry = new ArrayList<Pair<T,Boolean>>();
-		stateEntryMap = new HashMap<T,Boolean>();
+	State(final StateIndex<T> index, final Boolean One, final Boolean Zero, final long value) {
+		this.index = index;
+		this.setOne(One);
+		this.setZero(Zero);
+		this.value = value;
 	}
-	
+
 	/**
 	 *  Initializes a newly created State with the list of types defined by parameter <i>nodes</i>
 	 *  the True value defined by parameter <i>One</i>,
@@ -59,25 +69,7 @@ public class State <T> extends CObject{
 	 *  @param value the value
 	 */
 	public State(final List<T> nodes, final Boolean One, final Boolean Zero, final int value) {
-		init();
-		this.setOne(One);
-		this.setZero(Zero);
-		Boolean bValue = null;
-		int tempValue = value;
-		for (int i = 0; i < nodes.size(); i ++) {
-			T node = nodes.get(i);
-			int temp = tempValue & 1;
-			if (temp == 0) {
-				bValue = Zero;
-			}
-			else { //else if (temp == 1) 
-				bValue = One;
-			}
-			tempValue = tempValue >> 1;
-			Pair<T,Boolean> pair = new Pair<T,Boolean>(node, bValue);
-			this.getState().add(0, pair);
-			this.getStateMap().put(node, bValue);
-		}
+		this(new StateIndex<T>(nodes), One, Zero, value);
 	}
 
 	/**
@@ -97,15 +89,7 @@ public class State <T> extends CObject{
 	 * State
 	 */
 	/**
-	 *  Getter for <i>stateEntry</i>
-	 *  @return the stateEntry of this instance
-	 */
-	protected List<Pair<T,Boolean>> getState() {
-		return stateEntry;
-	}
-	
-	/**
-	 * Returns the Pair<T,Boolean> at the specified position in this instance.
+	 * Returns the Pair<T,Boolean> at the specified position in this instance. Positions are in the reverse order of the nodes.
 	 * 
 	 * @param index index of the Pair<T,Boolean> to return
 	 * @return if the index is within the bounds (0 <= bounds < this.getNumStatePosition()), returns the Pair<T,Boolean> at the specified position in this instance, otherwise null
@@ -117,7 +101,8 @@ public class State <T> extends CObject{
 				&&
 				(index < this.getNumStatePosition())
 				) {
-			rtn = this.getState().get(index);
+			int bit = this.getNumStatePosition() - 1 - index;
+			rtn = new Pair<T,Boolean>(this.getIndex().getNode(bit), this.getState(bit));
 		}
 		return rtn;
 	}
@@ -128,18 +113,11 @@ public class State <T> extends CObject{
 	 * @return the number of Pair<T,Boolean> in this instance.
 	 */
 	public int getNumStatePosition() {
-		return this.getState().size();
+		return this.getIndex().getNumNodes();
 	}
-	
-	/*
-	 * StateMap
-	 */
-	/**
-	 *  Getter for <i>stateEntryMap</i>
-	 *  @return the stateEntryMap of this instance
-	 */
-	protected Map<T,Boolean> getStateMap() {
-		return stateEntryMap;
+
+	private Boolean getState(final int bit) {
+		return ((this.getValue() >>> bit) & 1L) == 1L ? this.getOne() : this.getZero();
 	}
 
 	/**
@@ -148,29 +126,79 @@ public class State <T> extends CObject{
 	 */
 	public Boolean getState(final T node){
 		Boolean rtn = null;
-		rtn = this.getStateMap().get(node);
+		int bit = this.getIndex().getBit(node);
+		if (bit >= 0) {
+			rtn = this.getState(bit);
+		}
 		return rtn;
 	}
 
 	/**
-	 *  Returns true if the <i>node</i> exists in this instance, then assigns the Boolean <i>value</i> to the <i>node</i>
+	 *  Returns true if the <i>node</i> exists in this instance, then assigns the Boolean <i>value</i> to the <i>node</i>.
 	 *  
 	 *  @param node the node
-	 *  @param value the value
+	 *  @param value the value, the True value or the False value of this instance
 	 *  @return true if the node exists in this instance, false otherwise
+	 *  @throws RuntimeException if the value is neither the True value nor the False value
 	 */
 	public boolean setState(final T node, final Boolean value){
 		boolean rtn = false;
-		for (int i = 0; i < this.getNumStatePosition(); i ++) {
-			Pair<T,Boolean> position = this.getStatePositionAtIdx(i);
-			if (position.getFirst().equals(node)) {
-				position.setSecond(value);
-				this.getStateMap().put(node, value);
-				rtn = true;
+		int bit = this.getIndex().getBit(node);
+		if (bit >= 0) {
+			if (this.getOne().equals(value)) {
+				this.value |= 1L << bit;
+			} else if (this.getZero().equals(value)) {
+				this.value &= ~(1L << bit);
+			} else {
+				throw new RuntimeException("Invalid state value: " + value + ".");
 			}
+			rtn = true;
 		}
 		return rtn;
 	}
+
+	/**
+	 *  Getter for <i>value</i>, the bitmask of this instance, bit <i>i</i> being set if node <i>i</i> has the True value
+	 *  @return the value of this instance
+	 */
+	public long getValue() {
+		return this.value;
+	}
+
+	/**
+	 *  Getter for <i>index</i>
+	 *  @return the index of this instance
+	 */
+	StateIndex<T> getIndex() {
+		return this.index;
+	}
+
+	/*
+	 * HashCode
+	 */
+	/**
+	 *  Returns the identity hash code of this instance.
+	 *  
+	 *  @return the identity hash code of this instance
+	 */
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(this);
+	}
+
+	/*
+	 * Equals
+	 */
+	/**
+	 *  Indicates whether some other object is this instance.
+	 *  
+	 *  @param obj the object to compare with.
+	 *  @return true if this object is the same as the obj argument; false otherwise.
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		return this == obj;
+	}
 	
 	/*
 	 * On
@@ -208,8 +236,8 @@ public class State <T> extends CObject{
 		bZero = Zero;
 	}
 
-	private List<Pair<T,Boolean>> stateEntry;
-	private Map<T,Boolean> stateEntryMap;
+	private final StateIndex<T> index;
+	private long value;
 	private Boolean bOne;
 	private Boolean bZero;
 	
@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The StateIndex class numbers the nodes of a State, so that the value of each
+ * node is a bit of the bitmask of the State. An index is shared by all the
+ * states over the same nodes. Nodes are compared by identity.
+ * @param T type index
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+final class StateIndex <T> {
+
+	/**
+	 *  Initializes a newly created StateIndex with the list of nodes defined by parameter <i>nodes</i>,
+	 *  the node at index <i>i</i> being bit <i>i</i> of the bitmask.
+	 *
+	 *  @param nodes the List of nodes
+	 */
+	StateIndex(final List<T> nodes) {
+		if (nodes.size() > Long.SIZE) {
+			throw new RuntimeException("Too many nodes for a State!");
+		}
+		this.nodes = new ArrayList<T>(nodes);
+		this.bits = new IdentityHashMap<T,Integer>();
+		for (int i = 0; i < nodes.size(); i ++) {
+			this.bits.put(nodes.get(i), i);
+		}
+	}
+
+	/**
+	 *  Returns the bit of the node defined by parameter <i>node</i>
+	 *  @param node the node
+	 *  @return the bit of the node if the node exists, -1 otherwise
+	 */
+	int getBit(final T node) {
+		Integer rtn = this.bits.get(node);
+		return rtn == null ? -1 : rtn;
+	}
+
+	/**
+	 *  Returns the node of the bit defined by parameter <i>bit</i>
+	 *  @param bit the bit
+	 *  @return the node of the bit
+	 */
+	T getNode(final int bit) {
+		return this.nodes.get(bit);
+	}
+
+	/**
+	 *  Returns the number of nodes of this instance
+	 *  @return the number of nodes of this instance
+	 */
+	int getNumNodes() {
+		return this.nodes.size();
+	}
+
+	private final List<T> nodes;
+	private final Map<T,Integer> bits;
+
+}
@@ -54,10 +54,13 @@ public class States <T>{
 		init();
 		this.setOne(One);
 		this.setZero(Zero);
-		Double result = Math.pow(2,inputs.size());
-		int size = result.intValue();
+		if (inputs.size() >= Integer.SIZE - 1) {
+			throw new RuntimeException("Too many inputs for States!");
+		}
+		StateIndex<T> index = new StateIndex<T>(inputs);
+		int size = 1 << inputs.size();
 		for (int i = 0; i < size; i ++) {
-			State<T> InputState = new State<T>(inputs, One, Zero, i);
+			State<T> InputState = new State<T>(index, One, Zero, i);
 			this.getStates().add(InputState);
 		}
 	}
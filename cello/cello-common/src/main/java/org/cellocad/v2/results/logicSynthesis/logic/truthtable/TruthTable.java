@@ -56,9 +56,10 @@ public class TruthTable <Input, Output> extends CObject{
 	 */
 	public TruthTable(final List<State<Input>> inputs, final List<Output> outputs) {
 		init();
+		StateIndex<Output> index = new StateIndex<Output>(outputs);
 		for (int i = 0; i < inputs.size(); i ++) {
 			State<Input> InputState = inputs.get(i);
-			State<Output> OutputState = new State<Output>(outputs, InputState.getOne(), InputState.getZero());
+			State<Output> OutputState = new State<Output>(index, InputState.getOne(), InputState.getZero(), 0);
 			this.getTruthTableMap().put(InputState, OutputState);
 			this.getStates().add(InputState);
 		}
@@ -73,9 +74,10 @@ public class TruthTable <Input, Output> extends CObject{
 	 */
 	public TruthTable(final States<Input> states, final List<Output> outputs) {
 		init();
+		StateIndex<Output> index = new StateIndex<Output>(outputs);
 		for (int i = 0; i < states.getNumStates(); i ++) {
 			State<Input> InputState = states.getStateAtIdx(i);
-			State<Output> OutputState = new State<Output>(outputs, InputState.getOne(), InputState.getZero());
+			State<Output> OutputState = new State<Output>(index, InputState.getOne(), InputState.getZero(), 0);
 			this.getTruthTableMap().put(InputState, OutputState);
 			this.getStates().add(InputState);
 		}
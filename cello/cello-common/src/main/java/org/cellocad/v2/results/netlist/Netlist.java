@@ -373,6 +373,27 @@ public class Netlist extends GraphTemplate<NetlistNode, NetlistEdge>{
 		return rtn;
 	}
 	
+	/*
+	 * Levelization
+	 */
+	/**
+	 *  Returns the topological order and the logic levels of the nodes of this instance.
+	 *  The levelization is computed once and reused until the structure of this instance is modified.
+	 *  @return the NetlistLevelization of this instance
+	 *  @throws RuntimeException if this instance is not acyclic
+	 */
+	public NetlistLevelization getLevelization() {
+		NetlistLevelization rtn = this.levelization;
+		long modCount = this.getStructureModCount();
+		if (rtn == null || rtn.getModCount() != modCount) {
+			rtn = new NetlistLevelization(this, modCount);
+			this.levelization = rtn;
+		}
+		return rtn;
+	}
+
+	private volatile NetlistLevelization levelization;
+
 	/*
 	 * inputFilename
 	 */
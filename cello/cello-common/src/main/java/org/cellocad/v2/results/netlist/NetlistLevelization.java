@@ -0,0 +1,216 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.netlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The NetlistLevelization class is a snapshot of the topological order and the
+ * logic levels of the nodes of a Netlist. The level of a node without input is
+ * zero, the level of any other node is one more than the highest level of its
+ * inputs, so that the nodes at the same level do not depend on each other and
+ * may be evaluated concurrently. An instance is obtained with
+ * {@link Netlist#getLevelization()}, which computes it once per structure of
+ * the netlist.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class NetlistLevelization {
+
+	/**
+	 * Initializes a newly created NetlistLevelization of the Netlist defined by
+	 * parameter <i>netlist</i>.
+	 *
+	 * @param netlist  the Netlist
+	 * @param modCount the structural modification count of the netlist
+	 * @throws RuntimeException if the netlist is not acyclic
+	 */
+	NetlistLevelization(final Netlist netlist, final long modCount) {
+		this.modCount = modCount;
+		int num = netlist.getNumVertex();
+		this.indices = new IdentityHashMap<NetlistNode, Integer>(num);
+		for (int i = 0; i < num; i++) {
+			this.indices.put(netlist.getVertexAtIdx(i), i);
+		}
+		// Kahn's algorithm
+		this.order = new int[num];
+		this.ranks = new int[num];
+		this.levels = new int[num];
+		int[] numInEdge = new int[num];
+		int head = 0;
+		int tail = 0;
+		for (int i = 0; i < num; i++) {
+			numInEdge[i] = netlist.getVertexAtIdx(i).getNumInEdge();
+			if (numInEdge[i] == 0) {
+				this.order[tail++] = i;
+			}
+		}
+		int numLevels = 0;
+		while (head < tail) {
+			int idx = this.order[head];
+			this.ranks[idx] = head++;
+			numLevels = Math.max(numLevels, this.levels[idx] + 1);
+			NetlistNode node = netlist.getVertexAtIdx(idx);
+			for (int i = 0; i < node.getNumOutEdge(); i++) {
+				int dst = this.getIndex(node.getOutEdgeAtIdx(i).getDst());
+				this.levels[dst] = Math.max(this.levels[dst], this.levels[idx] + 1);
+				if (--numInEdge[dst] == 0) {
+					this.order[tail++] = dst;
+				}
+			}
+		}
+		if (tail != num) {
+			throw new RuntimeException("Netlist is not acyclic!");
+		}
+		List<NetlistNode> nodes = new ArrayList<NetlistNode>(num);
+		List<List<NetlistNode>> nodesAtLevel = new ArrayList<List<NetlistNode>>(numLevels);
+		for (int i = 0; i < numLevels; i++) {
+			nodesAtLevel.add(new ArrayList<NetlistNode>());
+		}
+		for (int i = 0; i < num; i++) {
+			NetlistNode node = netlist.getVertexAtIdx(this.order[i]);
+			nodes.add(node);
+			nodesAtLevel.get(this.levels[this.order[i]]).add(node);
+		}
+		this.nodes = Collections.unmodifiableList(nodes);
+		for (int i = 0; i < numLevels; i++) {
+			nodesAtLevel.set(i, Collections.unmodifiableList(nodesAtLevel.get(i)));
+		}
+		this.nodesAtLevel = Collections.unmodifiableList(nodesAtLevel);
+	}
+
+	/**
+	 * Returns the index of the NetlistNode defined by parameter <i>node</i> in
+	 * the netlist.
+	 *
+	 * @param node the NetlistNode
+	 * @return the index of the node in the netlist
+	 * @throws RuntimeException if the node is not a node of the netlist
+	 */
+	private int getIndex(final NetlistNode node) {
+		Integer rtn = this.indices.get(node);
+		if (rtn == null) {
+			throw new RuntimeException("Node is not in the netlist!");
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the indices of the nodes in the netlist, as given by
+	 * {@link Netlist#getVertexAtIdx(int)}, in topological order. The returned
+	 * array must not be modified.
+	 *
+	 * @return the indices of the nodes in topological order
+	 */
+	public int[] getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Returns the nodes of the netlist in topological order.
+	 *
+	 * @return an unmodifiable List of the nodes in topological order
+	 */
+	public List<NetlistNode> getNodes() {
+		return this.nodes;
+	}
+
+	/**
+	 * Returns the position of the NetlistNode defined by parameter <i>node</i> in
+	 * the topological order.
+	 *
+	 * @param node the NetlistNode
+	 * @return the position of the node in the topological order
+	 * @throws RuntimeException if the node is not a node of the netlist
+	 */
+	public int getRank(final NetlistNode node) {
+		return this.ranks[this.getIndex(node)];
+	}
+
+	/**
+	 * Returns the logic level of the NetlistNode defined by parameter
+	 * <i>node</i>.
+	 *
+	 * @param node the NetlistNode
+	 * @return the logic level of the node
+	 * @throws RuntimeException if the node is not a node of the netlist
+	 */
+	public int getLevel(final NetlistNode node) {
+		return this.levels[this.getIndex(node)];
+	}
+
+	/**
+	 * Returns the logic levels of the nodes, indexed as given by
+	 * {@link Netlist#getVertexAtIdx(int)}. The returned array must not be
+	 * modified.
+	 *
+	 * @return the logic levels of the nodes
+	 */
+	public int[] getLevels() {
+		return this.levels;
+	}
+
+	/**
+	 * Returns the number of logic levels of the netlist.
+	 *
+	 * @return the number of logic levels of the netlist
+	 */
+	public int getNumLevels() {
+		return this.nodesAtLevel.size();
+	}
+
+	/**
+	 * Returns the nodes at the logic level defined by parameter <i>level</i>, in
+	 * topological order.
+	 *
+	 * @param level the logic level
+	 * @return an unmodifiable List of the nodes at the level
+	 */
+	public List<NetlistNode> getNodesAtLevel(final int level) {
+		return this.nodesAtLevel.get(level);
+	}
+
+	/**
+	 * Getter for <i>modCount</i>, the structural modification count of the
+	 * netlist when this instance was computed.
+	 *
+	 * @return value of <i>modCount</i>
+	 */
+	long getModCount() {
+		return this.modCount;
+	}
+
+	private final long modCount;
+	private final Map<NetlistNode, Integer> indices;
+	private final int[] order;
+	private final int[] ranks;
+	private final int[] levels;
+	private final List<NetlistNode> nodes;
+	private final List<List<NetlistNode>> nodesAtLevel;
+
+}
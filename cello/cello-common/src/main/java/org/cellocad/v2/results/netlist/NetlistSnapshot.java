@@ -0,0 +1,353 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.netlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+
+/**
+ * The NetlistSnapshot class is a read-only snapshot of the structure of a
+ * Netlist in compressed sparse row (CSR) form. Nodes and edges are identified
+ * by their ordinal, their index in the netlist, so that algorithms can work on
+ * arrays of primitives rather than on the NetlistNode and NetlistEdge objects.
+ * The fan-in of node <i>i</i> is at positions <i>getInOffsets()[i]</i>
+ * (inclusive) to <i>getInOffsets()[i + 1]</i> (exclusive) of
+ * {@link #getInAdjacency()} and {@link #getInEdges()}, in the order of the
+ * in-edges of the node, and likewise for the fan-out. A node without an
+ * assigned device is given the device ordinal -1.
+ *
+ * The snapshot is built in O(V+E) and does not follow later changes to the
+ * netlist, including changes of the assigned devices.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class NetlistSnapshot {
+
+	/**
+	 * Initializes a newly created NetlistSnapshot of the Netlist defined by
+	 * parameter <i>netlist</i>.
+	 *
+	 * @param netlist the Netlist
+	 * @throws RuntimeException if an edge of a node of the netlist is not in the
+	 *                          netlist or has an endpoint that is not in the
+	 *                          netlist
+	 */
+	public NetlistSnapshot(final Netlist netlist) {
+		int numNode = netlist.getNumVertex();
+		int numEdge = netlist.getNumEdge();
+		this.nodes = new NetlistNode[numNode];
+		this.edges = new NetlistEdge[numEdge];
+		this.nodeOrdinals = new IdentityHashMap<NetlistNode, Integer>(numNode);
+		Map<NetlistEdge, Integer> edgeOrdinals = new IdentityHashMap<NetlistEdge, Integer>(numEdge);
+		for (int i = 0; i < numNode; i++) {
+			this.nodes[i] = netlist.getVertexAtIdx(i);
+			this.nodeOrdinals.put(this.nodes[i], i);
+		}
+		for (int i = 0; i < numEdge; i++) {
+			this.edges[i] = netlist.getEdgeAtIdx(i);
+			edgeOrdinals.put(this.edges[i], i);
+		}
+		// offsets
+		this.inOffsets = new int[numNode + 1];
+		this.outOffsets = new int[numNode + 1];
+		for (int i = 0; i < numNode; i++) {
+			this.inOffsets[i + 1] = this.inOffsets[i] + this.nodes[i].getNumInEdge();
+			this.outOffsets[i + 1] = this.outOffsets[i] + this.nodes[i].getNumOutEdge();
+		}
+		// adjacency
+		this.inAdjacency = new int[this.inOffsets[numNode]];
+		this.inEdges = new int[this.inOffsets[numNode]];
+		this.outAdjacency = new int[this.outOffsets[numNode]];
+		this.outEdges = new int[this.outOffsets[numNode]];
+		for (int i = 0; i < numNode; i++) {
+			NetlistNode node = this.nodes[i];
+			for (int j = 0; j < node.getNumInEdge(); j++) {
+				NetlistEdge edge = node.getInEdgeAtIdx(j);
+				this.inAdjacency[this.inOffsets[i] + j] = getIndex(this.nodeOrdinals, edge.getSrc());
+				this.inEdges[this.inOffsets[i] + j] = getIndex(edgeOrdinals, edge);
+			}
+			for (int j = 0; j < node.getNumOutEdge(); j++) {
+				NetlistEdge edge = node.getOutEdgeAtIdx(j);
+				this.outAdjacency[this.outOffsets[i] + j] = getIndex(this.nodeOrdinals, edge.getDst());
+				this.outEdges[this.outOffsets[i] + j] = getIndex(edgeOrdinals, edge);
+			}
+		}
+		// node types and devices
+		this.nodeTypes = new byte[numNode];
+		this.deviceOrdinals = new int[numNode];
+		Map<AssignableDevice, Integer> deviceOrdinals = new IdentityHashMap<AssignableDevice, Integer>();
+		List<AssignableDevice> devices = new ArrayList<AssignableDevice>();
+		for (int i = 0; i < numNode; i++) {
+			this.nodeTypes[i] = getNodeTypeCode(this.nodes[i].getResultNetlistNodeData().getNodeType());
+			AssignableDevice device = this.nodes[i].getResultNetlistNodeData().getDevice();
+			int ordinal = -1;
+			if (device != null) {
+				Integer d = deviceOrdinals.get(device);
+				if (d == null) {
+					d = devices.size();
+					deviceOrdinals.put(device, d);
+					devices.add(device);
+				}
+				ordinal = d;
+			}
+			this.deviceOrdinals[i] = ordinal;
+		}
+		this.devices = Collections.unmodifiableList(devices);
+	}
+
+	private static <T> int getIndex(final Map<T, Integer> ordinals, final T obj) {
+		Integer rtn = ordinals.get(obj);
+		if (rtn == null) {
+			throw new RuntimeException("Node or edge is not in the netlist!");
+		}
+		return rtn;
+	}
+
+	private static <T> int getOrdinal(final Map<T, Integer> ordinals, final T obj) {
+		Integer rtn = ordinals.get(obj);
+		return rtn == null ? -1 : rtn;
+	}
+
+	/**
+	 * Returns the code of the node type defined by parameter <i>nodeType</i>, its
+	 * index in {@link LSResultsUtils#ValidNodeTypes}.
+	 *
+	 * @param nodeType the node type
+	 * @return the code of the node type, or -1 if the node type is not valid
+	 */
+	public static byte getNodeTypeCode(final String nodeType) {
+		byte rtn = -1;
+		for (byte i = 0; i < LSResultsUtils.ValidNodeTypes.length; i++) {
+			if (LSResultsUtils.ValidNodeTypes[i].equals(nodeType)) {
+				rtn = i;
+				break;
+			}
+		}
+		return rtn;
+	}
+
+	/*
+	 * Nodes and edges
+	 */
+
+	/**
+	 * Returns the number of nodes of this instance.
+	 *
+	 * @return the number of nodes of this instance
+	 */
+	public int getNumNode() {
+		return this.nodes.length;
+	}
+
+	/**
+	 * Returns the number of edges of this instance.
+	 *
+	 * @return the number of edges of this instance
+	 */
+	public int getNumEdge() {
+		return this.edges.length;
+	}
+
+	/**
+	 * Returns the NetlistNode with the ordinal defined by parameter
+	 * <i>ordinal</i>.
+	 *
+	 * @param ordinal the ordinal of the node
+	 * @return the NetlistNode
+	 */
+	public NetlistNode getNode(final int ordinal) {
+		return this.nodes[ordinal];
+	}
+
+	/**
+	 * Returns the NetlistEdge with the ordinal defined by parameter
+	 * <i>ordinal</i>.
+	 *
+	 * @param ordinal the ordinal of the edge
+	 * @return the NetlistEdge
+	 */
+	public NetlistEdge getEdge(final int ordinal) {
+		return this.edges[ordinal];
+	}
+
+	/**
+	 * Returns the ordinal of the NetlistNode defined by parameter <i>node</i>.
+	 *
+	 * @param node the NetlistNode
+	 * @return the ordinal of the node, or -1 if the node is not in this instance
+	 */
+	public int getNodeOrdinal(final NetlistNode node) {
+		return getOrdinal(this.nodeOrdinals, node);
+	}
+
+	/*
+	 * Fan-in
+	 */
+
+	/**
+	 * Returns the offsets of the fan-in of each node in
+	 * {@link #getInAdjacency()} and {@link #getInEdges()}, followed by the total
+	 * number of in-edges. The returned array must not be modified.
+	 *
+	 * @return the offsets of the fan-in
+	 */
+	public int[] getInOffsets() {
+		return this.inOffsets;
+	}
+
+	/**
+	 * Returns the ordinal of the source node of each in-edge. The returned array
+	 * must not be modified.
+	 *
+	 * @return the ordinals of the source nodes of the in-edges
+	 */
+	public int[] getInAdjacency() {
+		return this.inAdjacency;
+	}
+
+	/**
+	 * Returns the ordinal of each in-edge. The returned array must not be
+	 * modified.
+	 *
+	 * @return the ordinals of the in-edges
+	 */
+	public int[] getInEdges() {
+		return this.inEdges;
+	}
+
+	/**
+	 * Returns the number of in-edges of the node with the ordinal defined by
+	 * parameter <i>node</i>.
+	 *
+	 * @param node the ordinal of the node
+	 * @return the number of in-edges of the node
+	 */
+	public int getNumInEdge(final int node) {
+		return this.inOffsets[node + 1] - this.inOffsets[node];
+	}
+
+	/*
+	 * Fan-out
+	 */
+
+	/**
+	 * Returns the offsets of the fan-out of each node in
+	 * {@link #getOutAdjacency()} and {@link #getOutEdges()}, followed by the
+	 * total number of out-edges. The returned array must not be modified.
+	 *
+	 * @return the offsets of the fan-out
+	 */
+	public int[] getOutOffsets() {
+		return this.outOffsets;
+	}
+
+	/**
+	 * Returns the ordinal of the destination node of each out-edge. The returned
+	 * array must not be modified.
+	 *
+	 * @return the ordinals of the destination nodes of the out-edges
+	 */
+	public int[] getOutAdjacency() {
+		return this.outAdjacency;
+	}
+
+	/**
+	 * Returns the ordinal of each out-edge. The returned array must not be
+	 * modified.
+	 *
+	 * @return the ordinals of the out-edges
+	 */
+	public int[] getOutEdges() {
+		return this.outEdges;
+	}
+
+	/**
+	 * Returns the number of out-edges of the node with the ordinal defined by
+	 * parameter <i>node</i>.
+	 *
+	 * @param node the ordinal of the node
+	 * @return the number of out-edges of the node
+	 */
+	public int getNumOutEdge(final int node) {
+		return this.outOffsets[node + 1] - this.outOffsets[node];
+	}
+
+	/*
+	 * Node types
+	 */
+
+	/**
+	 * Returns the code of the node type of each node, see
+	 * {@link #getNodeTypeCode(String)}. The returned array must not be modified.
+	 *
+	 * @return the codes of the node types
+	 */
+	public byte[] getNodeTypes() {
+		return this.nodeTypes;
+	}
+
+	/*
+	 * Devices
+	 */
+
+	/**
+	 * Returns the ordinal of the device assigned to each node in
+	 * {@link #getDevices()}. The returned array must not be modified.
+	 *
+	 * @return the ordinals of the devices
+	 */
+	public int[] getDeviceOrdinals() {
+		return this.deviceOrdinals;
+	}
+
+	/**
+	 * Returns the devices assigned to the nodes, in the order of the first node
+	 * each device is assigned to.
+	 *
+	 * @return an unmodifiable List of the devices
+	 */
+	public List<AssignableDevice> getDevices() {
+		return this.devices;
+	}
+
+	private final NetlistNode[] nodes;
+	private final NetlistEdge[] edges;
+	private final Map<NetlistNode, Integer> nodeOrdinals;
+	private final int[] inOffsets;
+	private final int[] inAdjacency;
+	private final int[] inEdges;
+	private final int[] outOffsets;
+	private final int[] outAdjacency;
+	private final int[] outEdges;
+	private final byte[] nodeTypes;
+	private final int[] deviceOrdinals;
+	private final List<AssignableDevice> devices;
+
+}
@@ -28,6 +28,7 @@ import java.io.Writer;
 
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.results.technologyMapping.cytometry.TMCytometryEvaluation;
 
 /**
  * 
@@ -61,4 +62,26 @@ public class TMResultsUtils {
 		}
 	}
 
+	/**
+	 *  Writes the cytometry evaluation defined by parameter <i>tmce</i> to file defined by <i>filename</i>
+	 *
+	 *  @param tmce the cytometry evaluation
+	 *  @param filename the file to write the cytometry evaluation
+	 *  @throws RuntimeException if: <br>
+	 *  Any of the parameters are null<br>
+	 */
+	static public void writeCSVForTMCytometryEvaluation(final TMCytometryEvaluation tmce, final String filename){
+		Utils.isNullRuntimeException(tmce, "tmce");
+		Utils.isNullRuntimeException(filename, "filename");
+		try {
+			OutputStream outputStream = new FileOutputStream(filename);
+			Writer outputStreamWriter = new OutputStreamWriter(outputStream);
+			tmce.writeCSV(",", outputStreamWriter);
+			outputStreamWriter.close();
+			outputStream.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
 }
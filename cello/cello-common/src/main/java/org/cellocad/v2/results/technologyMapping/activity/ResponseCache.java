@@ -0,0 +1,247 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.technologyMapping.activity;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+
+/**
+ * The ResponseCache class is a bounded, least recently used cache of the
+ * outputs of the response function of devices. An entry is keyed by the device
+ * assigned to a node, the devices assigned to its input nodes, the activities
+ * of its input nodes, and the state of the node if it has no inputs.
+ *
+ * Input activities are compared exactly if the resolution is zero. Otherwise
+ * they are quantized on a logarithmic grid of relative spacing given by the
+ * resolution, and a hit returns the output computed for the first activities
+ * seen in the same grid cell.
+ *
+ * An instance is not thread-safe and must not be shared by concurrent
+ * evaluations.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ResponseCache {
+
+	/**
+	 * Initializes a newly created ResponseCache holding at most the number of
+	 * entries defined by parameter <i>capacity</i>, with input activities
+	 * quantized at the relative resolution defined by parameter
+	 * <i>resolution</i>.
+	 *
+	 * @param capacity   the maximum number of entries
+	 * @param resolution the relative resolution, zero for exact keys
+	 */
+	public ResponseCache(final int capacity, final double resolution) {
+		if (capacity <= 0) {
+			throw new RuntimeException("Invalid capacity!");
+		}
+		if (resolution < 0.0) {
+			throw new RuntimeException("Invalid resolution!");
+		}
+		this.capacity = capacity;
+		this.scale = resolution > 0.0 ? 1.0 / Math.log1p(resolution) : 0.0;
+		this.entries = new LinkedHashMap<Key, Double>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Key, Double> eldest) {
+				boolean rtn = this.size() > ResponseCache.this.capacity;
+				if (rtn) {
+					ResponseCache.this.evictions++;
+				}
+				return rtn;
+			}
+
+		};
+	}
+
+	/**
+	 * Returns the key of an activity.
+	 *
+	 * @param activity the activity
+	 * @return the key of the activity
+	 */
+	long quantize(final double activity) {
+		double value = activity;
+		if (this.scale > 0.0 && activity > 0.0 && !Double.isInfinite(activity)) {
+			// the center of the grid cell
+			value = Math.exp(Math.rint(Math.log(activity) * this.scale) / this.scale);
+		}
+		return Double.doubleToLongBits(value);
+	}
+
+	/**
+	 * Returns the cached output for the device defined by parameter
+	 * <i>device</i>, the first <i>num</i> source devices and quantized input
+	 * activities, and the state defined by parameter <i>state</i>, and counts a
+	 * hit or a miss. The arrays are only read, so they may be reused by the
+	 * caller.
+	 *
+	 * @param device  the device assigned to the node
+	 * @param sources the devices assigned to the input nodes
+	 * @param inputs  the quantized activities of the input nodes
+	 * @param num     the number of input nodes
+	 * @param state   the state of the node, or -1 if the node has inputs
+	 * @return the cached output, or null if the key is absent
+	 */
+	Double get(final AssignableDevice device, final AssignableDevice[] sources, final long[] inputs, final int num,
+			final int state) {
+		this.probe.set(device, sources, inputs, num, state);
+		Double rtn = this.entries.get(this.probe);
+		if (rtn == null) {
+			this.misses++;
+		} else {
+			this.hits++;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Caches the output defined by parameter <i>value</i> for the device defined
+	 * by parameter <i>device</i>, the first <i>num</i> source devices and
+	 * quantized input activities, and the state defined by parameter
+	 * <i>state</i>. The arrays are copied.
+	 *
+	 * @param device  the device assigned to the node
+	 * @param sources the devices assigned to the input nodes
+	 * @param inputs  the quantized activities of the input nodes
+	 * @param num     the number of input nodes
+	 * @param state   the state of the node, or -1 if the node has inputs
+	 * @param value   the output
+	 */
+	void put(final AssignableDevice device, final AssignableDevice[] sources, final long[] inputs, final int num,
+			final int state, final double value) {
+		Key key = new Key();
+		key.set(device, Arrays.copyOf(sources, num), Arrays.copyOf(inputs, num), num, state);
+		this.entries.put(key, value);
+	}
+
+	/**
+	 * Key of the cache, devices are compared by identity. Only the first
+	 * <i>num</i> sources and inputs are part of the key. The key used for lookups
+	 * is reused, the keys of the entries are never modified.
+	 */
+	private static final class Key {
+
+		private void set(final AssignableDevice device, final AssignableDevice[] sources, final long[] inputs,
+				final int num, final int state) {
+			this.device = device;
+			this.sources = sources;
+			this.inputs = inputs;
+			this.num = num;
+			this.state = state;
+			int hash = System.identityHashCode(device);
+			for (int i = 0; i < num; i++) {
+				hash = 31 * hash + System.identityHashCode(sources[i]);
+				long bits = inputs[i];
+				hash = 31 * hash + (int) (bits ^ (bits >>> 32));
+			}
+			this.hash = 31 * hash + state;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			if (this.hash != other.hash || this.device != other.device || this.state != other.state
+					|| this.num != other.num) {
+				return false;
+			}
+			for (int i = 0; i < this.num; i++) {
+				if (this.sources[i] != other.sources[i] || this.inputs[i] != other.inputs[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private AssignableDevice device;
+		private AssignableDevice[] sources;
+		private long[] inputs;
+		private int num;
+		private int state;
+		private int hash;
+
+	}
+
+	/**
+	 * Returns the number of entries of this cache.
+	 *
+	 * @return the number of entries of this cache
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Getter for <i>hits</i>
+	 *
+	 * @return value of <i>hits</i>
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Getter for <i>misses</i>
+	 *
+	 * @return value of <i>misses</i>
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Getter for <i>evictions</i>
+	 *
+	 * @return value of <i>evictions</i>
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	private final int capacity;
+	private final double scale;
+	private final Map<Key, Double> entries;
+	private final Key probe = new Key();
+	private long hits;
+	private long misses;
+	private long evictions;
+
+}
@@ -29,20 +29,23 @@ import java.util.Map;
 
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.Utils;
-import org.cellocad.v2.common.graph.algorithm.BFS;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.common.target.data.data.EvaluationContext;
+import org.cellocad.v2.common.target.data.data.FixedParameter;
+import org.cellocad.v2.common.target.data.data.Function;
 import org.cellocad.v2.common.target.data.data.FunctionType;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.technologyMapping.activity.activitytable.Activity;
 import org.cellocad.v2.results.technologyMapping.activity.activitytable.ActivityTable;
 
 /**
- *
+ * The activities of all nodes are stored in a single matrix indexed by node and
+ * state ordinals. The ActivityTable and Activity returned by this class are
+ * views on that matrix.
  *
  * @author Timothy Jones
  *
@@ -55,7 +58,9 @@ public class TMActivityEvaluation {
 	 * Initialize class members
 	 */
 	private void init() {
-		activitytables = new HashMap<NetlistNode, ActivityTable<NetlistNode, NetlistNode>>();
+		nodes = new ArrayList<NetlistNode>();
+		nodeIndices = new HashMap<NetlistNode, Integer>();
+		stateIndices = new HashMap<State<NetlistNode>, Integer>();
 	}
 
 	/**
@@ -66,23 +71,139 @@ public class TMActivityEvaluation {
 	 * @throws CelloException
 	 */
 	public TMActivityEvaluation(Netlist netlist, LSLogicEvaluation lsle) throws CelloException {
+		this(netlist, lsle, null);
+	}
+
+	/**
+	 * Initializes a newly created LSLogicEvaluation using the Netlist defined by
+	 * parameter <i>netlist</i>, looking up and storing the outputs of response
+	 * functions in the ResponseCache defined by parameter <i>cache</i>.
+	 *
+	 * @param netlist the Netlist
+	 * @param lsle    the logic evaluation of the netlist
+	 * @param cache   the ResponseCache, or null to evaluate every response
+	 * @throws CelloException
+	 */
+	public TMActivityEvaluation(Netlist netlist, LSLogicEvaluation lsle, ResponseCache cache)
+	        throws CelloException {
 		init();
+		this.cache = cache;
 		if (!netlist.isValid()) {
 			throw new RuntimeException("netlist is not valid!");
 		}
 		setStates(lsle.getStates());
-		List<NetlistNode> outputNodes = new ArrayList<NetlistNode>();
+		for (int i = 0; i < states.getNumStates(); i++) {
+			stateIndices.put(states.getStateAtIdx(i), i);
+		}
 		for (int i = 0; i < netlist.getNumVertex(); i++) {
 			NetlistNode node = netlist.getVertexAtIdx(i);
-			outputNodes.clear();
-			outputNodes.add(node);
-			ActivityTable<NetlistNode, NetlistNode> activityTable = new ActivityTable<NetlistNode, NetlistNode>(states,
-			        outputNodes);
-			getActivityTables().put(node, activityTable);
+			nodeIndices.put(node, nodes.size());
+			nodes.add(node);
 		}
+		numStates = states.getNumStates();
+		activities = new double[nodes.size() * numStates];
+		tables = new ActivityTableView[nodes.size()];
+		result = new double[numStates];
+		missed = new int[numStates];
+		keySources = new AssignableDevice[0];
+		keyOffsets = new int[0];
+		keyInputs = new long[0];
 		evaluate(netlist);
 	}
 
+	/**
+	 * A view on the activities of a node. The views on the activity at each state
+	 * are created on first use and reused afterwards.
+	 */
+	private class ActivityTableView extends ActivityTable<NetlistNode, NetlistNode> {
+
+		private ActivityTableView(final int row) {
+			this.row = row;
+			this.views = new ActivityView[numStates];
+		}
+
+		@Override
+		public Activity<NetlistNode> getActivityOutput(final State<NetlistNode> state) {
+			Activity<NetlistNode> rtn = null;
+			Integer col = stateIndices.get(state);
+			if (col != null) {
+				rtn = views[col];
+				if (rtn == null) {
+					views[col] = new ActivityView(row, col);
+					rtn = views[col];
+				}
+			}
+			return rtn;
+		}
+
+		@Override
+		public State<NetlistNode> getStateAtIdx(final int index) {
+			return TMActivityEvaluation.this.getStates().getStateAtIdx(index);
+		}
+
+		@Override
+		public int getNumStates() {
+			return numStates;
+		}
+
+		private final int row;
+		private final ActivityView[] views;
+
+	}
+
+	/**
+	 * A view on the activity of a node at a state.
+	 */
+	private class ActivityView extends Activity<NetlistNode> {
+
+		private ActivityView(final int row, final int col) {
+			this.row = row;
+			this.col = col;
+		}
+
+		@Override
+		public int getNumActivityPosition() {
+			return 1;
+		}
+
+		@Override
+		public Double getActivity(final NetlistNode node) {
+			Double rtn = null;
+			if (nodes.get(row).equals(node)) {
+				rtn = activities[row * numStates + col];
+			}
+			return rtn;
+		}
+
+		@Override
+		public boolean setActivity(final NetlistNode node, final Double value) {
+			boolean rtn = false;
+			if (nodes.get(row).equals(node)) {
+				activities[row * numStates + col] = value;
+				rtn = true;
+			}
+			return rtn;
+		}
+
+		private final int row;
+		private final int col;
+
+	}
+
+	/**
+	 * Returns the ordinal of the NetlistNode defined by parameter <i>node</i>
+	 *
+	 * @param node the NetlistNode
+	 * @return the ordinal of the NetlistNode defined by parameter <i>node</i>
+	 */
+	private int getRow(final NetlistNode node) {
+		Integer rtn = nodeIndices.get(node);
+		if (rtn == null) {
+			throw new RuntimeException("Node does not exist");
+		}
+		return rtn;
+	}
+
 	/**
 	 * Returns a List of Double representation of the input values for NetlistNode
 	 * defined by parameter <i>node</i> at the state defined by parameter
@@ -96,38 +217,172 @@ public class TMActivityEvaluation {
 	 */
 	public List<Double> getInputActivity(final NetlistNode node, final State<NetlistNode> activity) {
 		List<Double> rtn = new ArrayList<Double>();
+		int col = stateIndices.get(activity);
 		for (int i = 0; i < node.getNumInEdge(); i++) {
 			NetlistNode inputNode = node.getInEdgeAtIdx(i).getSrc();
-			ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTables().get(inputNode);
-			activityTable.getActivityOutput(activity);
-			Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(activity);
-			if (outputActivity.getNumActivityPosition() != 1) {
-				throw new RuntimeException("Invalid number of output(s)!");
+			rtn.add(getActivity(inputNode, col));
+		}
+		return rtn;
+	}
+
+	/**
+	 * Stores the activities of the NetlistNode defined by parameter <i>node</i> in
+	 * the EvaluationContext defined by parameter <i>ec</i> as the values of the
+	 * response function of its device, so that a batch evaluation that refers to
+	 * them does not evaluate them again. The states of the EvaluationContext must
+	 * be the states of this instance.
+	 *
+	 * @param ec   the EvaluationContext
+	 * @param node the NetlistNode
+	 */
+	public void setResponseValues(final EvaluationContext ec, final NetlistNode node) {
+		AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+		if (device == null || device.getModel() == null) {
+			return;
+		}
+		Function function = device.getModel().getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+		if (function != null) {
+			ec.setValues(node, function, getActivities(node));
+		}
+	}
+
+	/**
+	 * Looks up the activities of the NetlistNode defined by parameter
+	 * <i>node</i> in the ResponseCache and stores the hits in the activity
+	 * matrix. The states that missed are stored in <i>missed</i>.
+	 *
+	 * @param node the NetlistNode
+	 * @return the number of states that missed
+	 */
+	private int lookupActivities(final NetlistNode node) {
+		int rtn = 0;
+		int offset = getRow(node) * numStates;
+		AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+		int num = node.getNumInEdge();
+		if (keySources.length < num) {
+			keySources = new AssignableDevice[num];
+			keyOffsets = new int[num];
+			keyInputs = new long[num];
+		}
+		for (int j = 0; j < num; j++) {
+			NetlistNode src = node.getInEdgeAtIdx(j).getSrc();
+			keySources[j] = src.getResultNetlistNodeData().getDevice();
+			keyOffsets[j] = getRow(src) * numStates;
+		}
+		for (int i = 0; i < numStates; i++) {
+			for (int j = 0; j < num; j++) {
+				keyInputs[j] = cache.quantize(activities[keyOffsets[j] + i]);
+			}
+			Double cached = cache.get(device, keySources, keyInputs, num, getKeyState(node, num, i));
+			if (cached == null) {
+				missed[rtn] = i;
+				rtn++;
+			} else {
+				activities[offset + i] = cached;
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the state of the NetlistNode defined by parameter <i>node</i> at the
+	 * State at index <i>index</i> as part of a key of the ResponseCache.
+	 *
+	 * @param node  the NetlistNode
+	 * @param num   the number of inputs of the NetlistNode
+	 * @param index the index of the State
+	 * @return 1 or 0 if the NetlistNode has no inputs and a state, -1 otherwise
+	 */
+	private int getKeyState(final NetlistNode node, final int num, final int index) {
+		int rtn = -1;
+		if (num == 0) {
+			State<NetlistNode> inputState = getStates().getStateAtIdx(index);
+			Boolean value = inputState.getState(node);
+			if (value != null) {
+				rtn = value.equals(inputState.getOne()) ? 1 : 0;
 			}
-			rtn.add(outputActivity.getActivity(inputNode));
 		}
 		return rtn;
 	}
 
 	private void evaluateActivityTable(final NetlistNode node, final EvaluationContext ec) throws CelloException {
-		ec.setNode(node);
-		ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTables().get(node);
-		for (int i = 0; i < activityTable.getNumStates(); i++) {
-			State<NetlistNode> inputState = activityTable.getStateAtIdx(i);
-			Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(inputState);
-			ec.setState(inputState);
-			Double result = node.getResultNetlistNodeData().getDevice().getModel()
-			        .getFunctionByName(FunctionType.S_RESPONSEFUNCTION).evaluate(ec).doubleValue();
-			if (outputActivity.getNumActivityPosition() != 1) {
-				throw new RuntimeException("Invalid number of output(s)!");
+		int offset = getRow(node) * numStates;
+		AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+		Function function = device.getModel().getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+		int num = node.getNumInEdge();
+		int numMissed = numStates;
+		if (cache != null) {
+			numMissed = lookupActivities(node);
+		}
+		if (numMissed == 0) {
+			return;
+		}
+		if (numMissed < numStates) {
+			// partial hit: evaluate the missed states only
+			for (int k = 0; k < numMissed; k++) {
+				int i = missed[k];
+				State<NetlistNode> state = getStates().getStateAtIdx(i);
+				// the activities of the inputs are known
+				for (int j = 0; j < num; j++) {
+					NetlistNode src = node.getInEdgeAtIdx(j).getSrc();
+					Function f = getResponseFunction(src);
+					if (f != null) {
+						ec.getCache().put(new EvaluationContext.Key(src, state, f), getActivity(src, i));
+					}
+				}
+				ec.setNode(node);
+				ec.setState(state);
+				activities[offset + i] = ec.evaluate(function).doubleValue();
+			}
+		} else {
+			// the activities of the inputs are known
+			for (int j = 0; j < num; j++) {
+				setResponseValues(ec, node.getInEdgeAtIdx(j).getSrc());
 			}
-			Utils.isNullRuntimeException(result, "result");
-			if (!outputActivity.setActivity(node, result)) {
-				throw new RuntimeException("Node does not exist");
+			ec.setNode(node);
+			function.evaluate(ec, result);
+			System.arraycopy(result, 0, activities, offset, numStates);
+		}
+		if (cache != null) {
+			for (int k = 0; k < numMissed; k++) {
+				int i = missed[k];
+				for (int j = 0; j < num; j++) {
+					keyInputs[j] = cache.quantize(activities[keyOffsets[j] + i]);
+				}
+				cache.put(device, keySources, keyInputs, num, getKeyState(node, num, i), activities[offset + i]);
 			}
 		}
 	}
 
+	/**
+	 * Returns the response function of the device assigned to the NetlistNode
+	 * defined by parameter <i>node</i>.
+	 *
+	 * @param node the NetlistNode
+	 * @return the response function, or null if the node has no device or model
+	 */
+	private Function getResponseFunction(final NetlistNode node) {
+		Function rtn = null;
+		AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+		if (device != null && device.getModel() != null) {
+			rtn = device.getModel().getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns a new EvaluationContext for the batch evaluation of the states of
+	 * this instance.
+	 *
+	 * @return a new EvaluationContext
+	 */
+	private EvaluationContext getEvaluationContext() {
+		EvaluationContext rtn = new EvaluationContext();
+		rtn.setStates(getStates());
+		rtn.setParameterValues(getParameterValues());
+		return rtn;
+	}
+
 	/**
 	 * Evaluates the Netlist defined by parameter <i>netlist</i>
 	 *
@@ -135,18 +390,156 @@ public class TMActivityEvaluation {
 	 * @throws CelloException
 	 */
 	protected void evaluate(Netlist netlist) throws CelloException {
-		BFS<NetlistNode, NetlistEdge, Netlist> BFS = new BFS<NetlistNode, NetlistEdge, Netlist>(netlist);
-		NetlistNode node = null;
-		EvaluationContext ec = new EvaluationContext();
-		node = BFS.getNextVertex();
-		while (node != null) {
+		// topological order, so that the activities of the inputs of a node are
+		// known when the node is evaluated
+		EvaluationContext ec = getEvaluationContext();
+		for (NetlistNode node : netlist.getLevelization().getNodes()) {
+			evaluateActivityTable(node, ec);
+		}
+	}
+
+	/**
+	 * Evaluates the activity table of each NetlistNode in the List defined by
+	 * parameter <i>nodes</i>, in list order. Only the given nodes are evaluated,
+	 * the activity tables of all other nodes are left untouched.
+	 *
+	 * @param nodes the List of NetlistNode to evaluate
+	 * @throws CelloException
+	 */
+	public void evaluate(final List<NetlistNode> nodes) throws CelloException {
+		EvaluationContext ec = getEvaluationContext();
+		for (NetlistNode node : nodes) {
 			evaluateActivityTable(node, ec);
-			node = BFS.getNextVertex();
 		}
 	}
 
-	protected Map<NetlistNode, ActivityTable<NetlistNode, NetlistNode>> getActivityTables() {
-		return activitytables;
+	/**
+	 * Returns the activity of the NetlistNode defined by parameter <i>node</i> at
+	 * the State at index <i>index</i> of {@link #getStates()}
+	 *
+	 * @param node  the NetlistNode
+	 * @param index the index of the State
+	 * @return the activity of the NetlistNode defined by parameter <i>node</i> at
+	 *         the State at index <i>index</i>
+	 */
+	public double getActivity(final NetlistNode node, final int index) {
+		return activities[getRow(node) * numStates + index];
+	}
+
+	/**
+	 * Returns the ratio of the lowest activity of the NetlistNode defined by
+	 * parameter <i>node</i> in the states whose bit is set in the bitset defined by
+	 * parameter <i>logic</i> to its highest activity in the other states. The
+	 * activities are read in place, without copying them.
+	 *
+	 * @param node  the NetlistNode
+	 * @param logic the bitset of the node, bit <i>i</i> being its value at the
+	 *              State at index <i>i</i> of {@link #getStates()}
+	 * @return the ratio of the lowest ON activity to the highest OFF activity
+	 */
+	public double getOnOffRatio(final NetlistNode node, final long[] logic) {
+		double on = Double.MAX_VALUE;
+		double off = Double.MIN_VALUE;
+		int offset = getRow(node) * numStates;
+		for (int i = 0; i < numStates; i++) {
+			boolean l = ((logic[i >>> 6] >>> i) & 1L) == 1L;
+			double a = activities[offset + i];
+			if (l && on > a) {
+				on = a;
+			} else if (!l && off < a) {
+				off = a;
+			}
+		}
+		return on / off;
+	}
+
+	/**
+	 * Returns the activity of the NetlistNode defined by parameter <i>node</i> for
+	 * each state, in state order.
+	 *
+	 * @param node the NetlistNode
+	 * @return the activity of the NetlistNode defined by parameter <i>node</i> for
+	 *         each state
+	 */
+	public double[] getActivities(final NetlistNode node) {
+		double[] rtn = new double[numStates];
+		System.arraycopy(activities, getRow(node) * numStates, rtn, 0, numStates);
+		return rtn;
+	}
+
+	/**
+	 * Sets the activity of the NetlistNode defined by parameter <i>node</i> for
+	 * each state, in state order, e.g. to restore values previously obtained with
+	 * {@link #getActivities(NetlistNode)}.
+	 *
+	 * @param node       the NetlistNode
+	 * @param activities the activity for each state
+	 */
+	public void setActivities(final NetlistNode node, final double[] activities) {
+		if (activities.length != numStates) {
+			throw new RuntimeException("Invalid number of activities!");
+		}
+		System.arraycopy(activities, 0, this.activities, getRow(node) * numStates, numStates);
+	}
+
+	/**
+	 * Copies the activity of the NetlistNode defined by parameter <i>node</i> for
+	 * each state, in state order, to <i>activities</i> starting at
+	 * <i>offset</i>.
+	 *
+	 * @param node       the NetlistNode
+	 * @param activities the destination
+	 * @param offset     the position of the first activity in <i>activities</i>
+	 */
+	public void getActivities(final NetlistNode node, final double[] activities, final int offset) {
+		System.arraycopy(this.activities, getRow(node) * numStates, activities, offset, numStates);
+	}
+
+	/**
+	 * Sets the activity of the NetlistNode defined by parameter <i>node</i> for
+	 * each state, in state order, from <i>activities</i> starting at
+	 * <i>offset</i>, e.g. to restore values previously obtained with
+	 * {@link #getActivities(NetlistNode, double[], int)}.
+	 *
+	 * @param node       the NetlistNode
+	 * @param activities the source
+	 * @param offset     the position of the first activity in <i>activities</i>
+	 */
+	public void setActivities(final NetlistNode node, final double[] activities, final int offset) {
+		System.arraycopy(activities, offset, this.activities, getRow(node) * numStates, numStates);
+	}
+
+	/**
+	 * Getter for <i>cache</i>.
+	 *
+	 * @return the ResponseCache of this instance, or null
+	 */
+	public ResponseCache getResponseCache() {
+		return cache;
+	}
+
+	/**
+	 * Getter for <i>parameterValues</i>.
+	 *
+	 * @return the values overriding the FixedParameter of the models, or null
+	 */
+	public Map<FixedParameter, Double> getParameterValues() {
+		return parameterValues;
+	}
+
+	/**
+	 * Setter for <i>parameterValues</i>, values overriding the FixedParameter of
+	 * the models in later evaluations. The values must not be combined with a
+	 * ResponseCache, whose entries do not depend on them.
+	 *
+	 * @param parameterValues the values, keyed by identity, or null
+	 * @see EvaluationContext#setParameterValues(Map)
+	 */
+	public void setParameterValues(final Map<FixedParameter, Double> parameterValues) {
+		if (parameterValues != null && this.cache != null) {
+			throw new RuntimeException("Parameter values are not supported with a response cache!");
+		}
+		this.parameterValues = parameterValues;
 	}
 
 	/**
@@ -168,14 +561,24 @@ public class TMActivityEvaluation {
 	}
 
 	/**
-	 * Returns the truthTable of NetlistNode defined by parameter <i>node</i>
+	 * Returns the truthTable of NetlistNode defined by parameter <i>node</i>, a
+	 * view on the activities of this instance that is created on first use and
+	 * reused afterwards. Use {@link #getActivity(NetlistNode, int)} or
+	 * {@link #getActivities(NetlistNode)} to read the activities directly.
 	 *
 	 * @param node the NetlistNode
 	 * @return the truthTable of NetlistNode defined by parameter <i>node</i>
 	 */
 	public ActivityTable<NetlistNode, NetlistNode> getActivityTable(final NetlistNode node) {
 		ActivityTable<NetlistNode, NetlistNode> rtn = null;
-		rtn = getActivityTables().get(node);
+		Integer row = nodeIndices.get(node);
+		if (row != null) {
+			rtn = tables[row];
+			if (rtn == null) {
+				tables[row] = new ActivityTableView(row);
+				rtn = tables[row];
+			}
+		}
 		return rtn;
 	}
 
@@ -186,13 +589,10 @@ public class TMActivityEvaluation {
 		rtn += S_HEADER + Utils.getNewLine();
 		rtn += "TMActivityEvaluation" + Utils.getNewLine();
 		rtn += S_HEADER + Utils.getNewLine();
-		for (NetlistNode node : getActivityTables().keySet()) {
-			rtn += String.format("%-15s", node.getName()) + Utils.getTabCharacter();
-			ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTables().get(node);
-			for (int i = 0; i < activityTable.getNumStates(); i++) {
-				State<NetlistNode> input = activityTable.getStateAtIdx(i);
-				Activity<NetlistNode> output = activityTable.getActivityOutput(input);
-				rtn += String.format("%.4f", output.getActivity(node)) + Utils.getTabCharacter();
+		for (int j = 0; j < nodes.size(); j++) {
+			rtn += String.format("%-15s", nodes.get(j).getName()) + Utils.getTabCharacter();
+			for (int i = 0; i < numStates; i++) {
+				rtn += String.format("%.4f", activities[j * numStates + i]) + Utils.getTabCharacter();
 			}
 			rtn += Utils.getNewLine();
 		}
@@ -209,24 +609,34 @@ public class TMActivityEvaluation {
 	 * @throws IOException If an I/O error occurs
 	 */
 	public void writeCSV(String delimiter, Writer os) throws IOException {
-		String str = "";
-		for (NetlistNode node : getActivityTables().keySet()) {
-			str += node.getName();
-			ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTable(node);
-			for (int i = 0; i < activityTable.getNumStates(); i++) {
-				State<NetlistNode> input = activityTable.getStateAtIdx(i);
-				Activity<NetlistNode> output = activityTable.getActivityOutput(input);
-				str += delimiter;
-				str += String.format("%1.5e", output.getActivity(node));
+		StringBuilder str = new StringBuilder();
+		for (int j = 0; j < nodes.size(); j++) {
+			str.append(nodes.get(j).getName());
+			for (int i = 0; i < numStates; i++) {
+				str.append(delimiter);
+				str.append(String.format("%1.5e", activities[j * numStates + i]));
 			}
-			str += Utils.getNewLine();
+			str.append(Utils.getNewLine());
 		}
-		os.write(str);
+		os.write(str.toString());
 	}
 
 	private static final String S_HEADER = "--------------------------------------------";
 
-	private Map<NetlistNode, ActivityTable<NetlistNode, NetlistNode>> activitytables;
+	private List<NetlistNode> nodes;
+	private Map<NetlistNode, Integer> nodeIndices;
+	private Map<State<NetlistNode>, Integer> stateIndices;
+	private int numStates;
+	private double[] activities;
+	private ActivityTableView[] tables;
 	private States<NetlistNode> states;
+	private ResponseCache cache;
+	// buffers of the evaluation of a node
+	private double[] result;
+	private int[] missed;
+	private AssignableDevice[] keySources;
+	private int[] keyOffsets;
+	private long[] keyInputs;
+	private Map<FixedParameter, Double> parameterValues;
 
 }
@@ -47,6 +47,14 @@ public class Activity<T> extends CObject {
 		activityEntryMap = new HashMap<T, Double>();
 	}
 	
+	/**
+	 * Initializes a newly created empty Activity, used by subclasses that provide
+	 * a view on an activity stored elsewhere.
+	 */
+	protected Activity() {
+		this.init();
+	}
+
 	/**
 	 * Initializes a newly created Activity with the list of types defined by
 	 * parameter <i>nodes</i> and value defined by parameter <i>value</i>.
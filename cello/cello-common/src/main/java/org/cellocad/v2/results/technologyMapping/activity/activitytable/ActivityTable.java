@@ -50,6 +50,14 @@ public class ActivityTable<Input, Output> {
 		states = new ArrayList<State<Input>>();
 	}
 
+	/**
+	 * Initializes a newly created empty ActivityTable, used by subclasses that
+	 * provide a view on activities stored elsewhere.
+	 */
+	protected ActivityTable() {
+		init();
+	}
+
 	/**
 	 * Initializes a newly created ActivityTable with the list of inputs defined by
 	 * parameter <i>inputs</i> a list of outputs defined by parameter
@@ -0,0 +1,278 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.technologyMapping.cytometry;
+
+import java.util.Arrays;
+
+/**
+ * The CytometryBins class is a fixed set of histogram bins, given by their
+ * values in increasing order. A value is placed in the bins by splitting its
+ * mass between the two nearest bins, linearly in log space.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class CytometryBins {
+
+	/**
+	 * Initializes a newly created CytometryBins with the bin values defined by
+	 * parameter <i>bins</i>.
+	 *
+	 * @param bins the bin values, positive and strictly increasing
+	 * @throws RuntimeException if the bin values are not positive and strictly
+	 *                          increasing.
+	 */
+	public CytometryBins(final double[] bins) {
+		if (bins.length == 0) {
+			throw new RuntimeException("No bins!");
+		}
+		this.bins = bins.clone();
+		this.logBins = new double[bins.length];
+		for (int i = 0; i < bins.length; i++) {
+			if (bins[i] <= 0.0 || (i > 0 && bins[i] <= bins[i - 1])) {
+				throw new RuntimeException("Bins are not positive and increasing!");
+			}
+			this.logBins[i] = Math.log(bins[i]);
+		}
+	}
+
+	/**
+	 * Returns CytometryBins of <i>num</i> bins spaced evenly in log space, the
+	 * first bin at <i>min</i> and the bin after the last at <i>max</i>.
+	 *
+	 * @param min the value of the first bin
+	 * @param max the upper end of the bins
+	 * @param num the number of bins
+	 * @return the CytometryBins
+	 */
+	public static CytometryBins getLogBins(final double min, final double max, final int num) {
+		double[] bins = new double[num];
+		double step = Math.log(max / min) / num;
+		for (int i = 0; i < num; i++) {
+			bins[i] = min * Math.exp(step * i);
+		}
+		return new CytometryBins(bins);
+	}
+
+	/**
+	 * Returns the number of bins.
+	 *
+	 * @return the number of bins
+	 */
+	public int getNumBins() {
+		return this.bins.length;
+	}
+
+	/**
+	 * Returns the value of the bin at index <i>index</i>.
+	 *
+	 * @param index the index of the bin
+	 * @return the value of the bin at index <i>index</i>
+	 */
+	public double getBin(final int index) {
+		return this.bins[index];
+	}
+
+	/**
+	 * Returns true if the bin values of this instance equal the values defined by
+	 * parameter <i>values</i>, within a relative tolerance.
+	 *
+	 * @param values the values
+	 * @return true if the bin values of this instance equal <i>values</i>
+	 */
+	public boolean isEqual(final double[] values) {
+		if (values.length != this.bins.length) {
+			return false;
+		}
+		for (int i = 0; i < values.length; i++) {
+			if (Math.abs(values[i] - this.bins[i]) > D_TOLERANCE * this.bins[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the index of the bin of the value defined by parameter
+	 * <i>value</i>, the last bin not greater than <i>value</i>. Values below the
+	 * first bin return 0, values above the last bin return the index of the last
+	 * bin.
+	 *
+	 * @param value the value
+	 * @return the index of the bin of <i>value</i>
+	 */
+	public int getLowerIdx(final double value) {
+		int lo = 0;
+		int hi = this.bins.length - 1;
+		if (!(value > this.bins[0])) {
+			return 0;
+		}
+		if (value >= this.bins[hi]) {
+			return hi;
+		}
+		// bins[lo] <= value < bins[hi]
+		while (hi - lo > 1) {
+			int mid = (lo + hi) >>> 1;
+			if (this.bins[mid] <= value) {
+				lo = mid;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Returns the weight of the bin after the bin at index <i>index</i> when the
+	 * value defined by parameter <i>value</i> is split between the two, linearly
+	 * in log space. The weight is clamped to [0, 1].
+	 *
+	 * @param index the index of the lower bin, from {@link #getLowerIdx(double)}
+	 * @param value the value
+	 * @return the weight of the upper bin
+	 */
+	public double getUpperWeight(final int index, final double value) {
+		double rtn = 0.0;
+		if (index + 1 < this.bins.length && value > this.bins[index]) {
+			rtn = (Math.log(value) - this.logBins[index]) / (this.logBins[index + 1] - this.logBins[index]);
+			rtn = Math.min(1.0, rtn);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Adds the mass defined by parameter <i>mass</i> at the value defined by
+	 * parameter <i>value</i> to the histogram defined by parameter <i>hist</i>.
+	 *
+	 * @param hist  the histogram, one weight per bin
+	 * @param value the value
+	 * @param mass  the mass
+	 */
+	public void add(final double[] hist, final double value, final double mass) {
+		int idx = this.getLowerIdx(value);
+		double w = this.getUpperWeight(idx, value);
+		hist[idx] += mass * (1.0 - w);
+		if (w > 0.0) {
+			hist[idx + 1] += mass * w;
+		}
+	}
+
+	/**
+	 * Returns the histogram of the sum of two independent values distributed
+	 * according to the histograms defined by parameters <i>a</i> and <i>b</i>.
+	 *
+	 * @param a   the histogram of the first value
+	 * @param b   the histogram of the second value
+	 * @param out the histogram of the sum, overwritten
+	 */
+	public void convolve(final double[] a, final double[] b, final double[] out) {
+		int n = this.bins.length;
+		int[] idx = this.getSumIdx();
+		double[] w = this.getSumWeight();
+		Arrays.fill(out, 0.0);
+		for (int i = 0; i < n; i++) {
+			double pa = a[i];
+			if (pa == 0.0) {
+				continue;
+			}
+			int row = i * n;
+			for (int j = 0; j < n; j++) {
+				double p = pa * b[j];
+				if (p == 0.0) {
+					continue;
+				}
+				int k = idx[row + j];
+				double u = w[row + j];
+				out[k] += p * (1.0 - u);
+				if (u > 0.0) {
+					out[k + 1] += p * u;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the value at the quantile defined by parameter
+	 * <i>p</i> of the histogram defined by parameter <i>hist</i>, i.e. the first
+	 * bin where the cumulative mass reaches <i>p</i> times the total mass.
+	 *
+	 * @param hist the histogram
+	 * @param p    the quantile, in [0, 1]
+	 * @return the index of the bin at the quantile
+	 */
+	public int getQuantileIdx(final double[] hist, final double p) {
+		double total = 0.0;
+		for (int i = 0; i < hist.length; i++) {
+			total += hist[i];
+		}
+		double target = p * total;
+		double sum = 0.0;
+		for (int i = 0; i < hist.length; i++) {
+			sum += hist[i];
+			if (sum >= target && hist[i] > 0.0) {
+				return i;
+			}
+		}
+		return hist.length - 1;
+	}
+
+	/*
+	 * The bin and weight of the sum of each pair of bins, computed on first use.
+	 */
+	private synchronized void initSum() {
+		if (this.sumIdx != null) {
+			return;
+		}
+		int n = this.bins.length;
+		int[] idx = new int[n * n];
+		double[] w = new double[n * n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				double value = this.bins[i] + this.bins[j];
+				int k = this.getLowerIdx(value);
+				idx[i * n + j] = k;
+				w[i * n + j] = this.getUpperWeight(k, value);
+			}
+		}
+		this.sumWeight = w;
+		this.sumIdx = idx;
+	}
+
+	private int[] getSumIdx() {
+		this.initSum();
+		return this.sumIdx;
+	}
+
+	private double[] getSumWeight() {
+		this.initSum();
+		return this.sumWeight;
+	}
+
+	private final double[] bins;
+	private final double[] logBins;
+	private int[] sumIdx;
+	private double[] sumWeight;
+
+	private static final double D_TOLERANCE = 1e-9;
+
+}
@@ -0,0 +1,222 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.technologyMapping.cytometry;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.cellocad.v2.common.Pair;
+import org.cellocad.v2.common.target.data.data.BivariateLookupTableFunction;
+import org.cellocad.v2.common.target.data.data.Cytometry;
+import org.cellocad.v2.common.target.data.data.CytometryData;
+
+/**
+ * The CytometryModel class is the cytometry of a gate compiled on a fixed set
+ * of bins: the output histogram measured at each input level, sorted by input.
+ * The histograms are read either from the <i>gate_cytometry</i> collection or
+ * from the <i>cytometry</i> function of the gate model.
+ * The output histogram at any input is interpolated between the two nearest
+ * input levels, linearly in log space.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+class CytometryModel {
+
+	/**
+	 * Initializes a newly created CytometryModel from the Cytometry defined by
+	 * parameter <i>cytometry</i>, i.e. the <i>gate_cytometry</i> collection of the
+	 * target data, on the CytometryBins defined by parameter <i>bins</i>.
+	 * Histograms measured on other bins are rebinned.
+	 *
+	 * @param cytometry the Cytometry
+	 * @param bins      the CytometryBins
+	 * @throws RuntimeException if the Cytometry has no data or inconsistent data.
+	 */
+	CytometryModel(final Cytometry cytometry, final CytometryBins bins) {
+		int num = cytometry.getNumCytometryData();
+		double[] inputs = new double[num];
+		double[][] values = new double[num][];
+		double[][] counts = new double[num][];
+		for (int i = 0; i < num; i++) {
+			CytometryData d = cytometry.getCytometryDataAtIdx(i);
+			if (d.getNumOutputBins() != d.getNumOutputCounts()) {
+				throw new RuntimeException("Invalid cytometry data for " + cytometry.getName() + "!");
+			}
+			inputs[i] = d.getInput();
+			values[i] = new double[d.getNumOutputBins()];
+			counts[i] = new double[d.getNumOutputCounts()];
+			for (int j = 0; j < values[i].length; j++) {
+				values[i][j] = d.getOutputBinsAtIdx(j);
+				counts[i][j] = d.getOutputCountsAtIdx(j);
+			}
+		}
+		this.init(cytometry.getName(), inputs, values, counts, bins);
+	}
+
+	/**
+	 * Initializes a newly created CytometryModel from the <i>cytometry</i>
+	 * function defined by parameter <i>function</i> of a gate model, whose rows
+	 * are the input levels, whose second variable holds the output bins and whose
+	 * output holds the counts, on the CytometryBins defined by parameter
+	 * <i>bins</i>. Histograms measured on other bins are rebinned.
+	 *
+	 * @param function the cytometry function
+	 * @param bins     the CytometryBins
+	 * @throws RuntimeException if the function has no rows or inconsistent rows.
+	 */
+	CytometryModel(final BivariateLookupTableFunction function, final CytometryBins bins) {
+		int num = function.getNumRows();
+		double[] inputs = new double[num];
+		double[][] values = new double[num][];
+		double[][] counts = new double[num][];
+		for (int i = 0; i < num; i++) {
+			inputs[i] = function.getFirstValueAtIdx(i);
+			values[i] = function.getSecondValuesAtIdx(i);
+			List<Double> output = function.evaluate(new Pair<>(function.getFirstVariable(), inputs[i]));
+			if (output.size() != values[i].length) {
+				throw new RuntimeException("Invalid cytometry data for " + function.getName() + "!");
+			}
+			counts[i] = new double[output.size()];
+			for (int j = 0; j < counts[i].length; j++) {
+				counts[i][j] = output.get(j);
+			}
+		}
+		this.init(function.getName(), inputs, values, counts, bins);
+	}
+
+	/*
+	 * Normalizes the histograms, sorted by input level, on the bins.
+	 */
+	private void init(final String name, final double[] inputs, final double[][] values, final double[][] counts,
+			final CytometryBins bins) {
+		int num = inputs.length;
+		if (num == 0) {
+			throw new RuntimeException("No cytometry data for " + name + "!");
+		}
+		Integer[] order = new Integer[num];
+		for (int i = 0; i < num; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Double.compare(inputs[a], inputs[b]));
+		int n = bins.getNumBins();
+		this.inputs = new double[num];
+		this.outputs = new double[num][];
+		for (int i = 0; i < num; i++) {
+			int k = order[i];
+			double[] hist = new double[n];
+			double total = 0.0;
+			if (bins.isEqual(values[k])) {
+				System.arraycopy(counts[k], 0, hist, 0, n);
+			} else {
+				for (int j = 0; j < values[k].length; j++) {
+					bins.add(hist, values[k][j], counts[k][j]);
+				}
+			}
+			for (int j = 0; j < n; j++) {
+				total += hist[j];
+			}
+			if (!(total > 0.0)) {
+				throw new RuntimeException("Empty cytometry data for " + name + "!");
+			}
+			for (int j = 0; j < n; j++) {
+				hist[j] /= total;
+			}
+			this.inputs[i] = inputs[k];
+			this.outputs[i] = hist;
+		}
+		this.lowerIdx = new int[n];
+		this.upperWeight = new double[n];
+		for (int j = 0; j < n; j++) {
+			double x = bins.getBin(j);
+			int k = getLowerIdx(x);
+			this.lowerIdx[j] = k;
+			this.upperWeight[j] = getUpperWeight(k, x);
+		}
+	}
+
+	/*
+	 * The last input level not greater than x, or 0.
+	 */
+	private int getLowerIdx(final double x) {
+		int rtn = 0;
+		while (rtn + 1 < this.inputs.length && this.inputs[rtn + 1] <= x) {
+			rtn++;
+		}
+		return rtn;
+	}
+
+	/*
+	 * The weight of input level k + 1 at x, linearly in log space and clamped to
+	 * [0, 1].
+	 */
+	private double getUpperWeight(final int k, final double x) {
+		double rtn = 0.0;
+		if (k + 1 < this.inputs.length && x > this.inputs[k] && this.inputs[k] > 0.0) {
+			rtn = Math.log(x / this.inputs[k]) / Math.log(this.inputs[k + 1] / this.inputs[k]);
+			rtn = Math.min(1.0, rtn);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Computes the output histogram of this gate for the input histogram defined
+	 * by parameter <i>input</i>. The mass of the input is first gathered per input
+	 * level, so that each measured output histogram is accumulated once.
+	 *
+	 * @param input  the input histogram
+	 * @param output the output histogram, overwritten
+	 */
+	void transfer(final double[] input, final double[] output) {
+		double[] level = new double[this.inputs.length];
+		for (int j = 0; j < input.length; j++) {
+			double p = input[j];
+			if (p == 0.0) {
+				continue;
+			}
+			int k = this.lowerIdx[j];
+			double w = this.upperWeight[j];
+			level[k] += p * (1.0 - w);
+			if (w > 0.0) {
+				level[k + 1] += p * w;
+			}
+		}
+		Arrays.fill(output, 0.0);
+		for (int k = 0; k < level.length; k++) {
+			double p = level[k];
+			if (p == 0.0) {
+				continue;
+			}
+			double[] hist = this.outputs[k];
+			for (int j = 0; j < hist.length; j++) {
+				output[j] += p * hist[j];
+			}
+		}
+	}
+
+	private double[] inputs;
+	private double[][] outputs;
+	private int[] lowerIdx;
+	private double[] upperWeight;
+
+}
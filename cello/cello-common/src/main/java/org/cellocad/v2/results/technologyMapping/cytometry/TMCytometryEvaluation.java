@@ -1,5 +1,5 @@
 /**
- * Copyright (C) 2018 Boston University (BU)
+ * Copyright (C) 2020 Boston University (BU)
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
  * in the Software without restriction, including without limitation the rights
@@ -20,8 +20,43 @@
  */
 package org.cellocad.v2.results.technologyMapping.cytometry;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.BivariateLookupTableFunction;
+import org.cellocad.v2.common.target.data.data.Cytometry;
+import org.cellocad.v2.common.target.data.data.CytometryData;
+import org.cellocad.v2.common.target.data.data.Function;
+import org.cellocad.v2.common.target.data.data.FunctionType;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+
 /**
- * 
+ * The TMCytometryEvaluation class propagates output distributions through a
+ * netlist in topological order, using the cytometry histograms of the gates.
+ * The input of a node is the sum of the outputs of its sources, i.e. the
+ * convolution of their distributions. A gate with cytometry data, from the
+ * <i>gate_cytometry</i> collection or from the <i>cytometry</i> function of its
+ * model, maps its input distribution to an output distribution; the input sensors, and the gates
+ * without cytometry data, take the value of the activity evaluation. The output
+ * devices report their input.
+ * <p>
+ * The distributions of all nodes are stored in a single matrix indexed by node,
+ * state and bin ordinals. States are independent and may be evaluated in
+ * parallel.
  *
  * @author Timothy Jones
  *
@@ -30,4 +65,432 @@ package org.cellocad.v2.results.technologyMapping.cytometry;
  */
 public class TMCytometryEvaluation {
 
+	/**
+	 * Initialize class members
+	 */
+	private void init() {
+		nodes = new ArrayList<NetlistNode>();
+		nodeIndices = new HashMap<NetlistNode, Integer>();
+	}
+
+	/**
+	 * Initializes a newly created TMCytometryEvaluation using the Netlist defined
+	 * by parameter <i>netlist</i>, evaluating the states one after the other.
+	 *
+	 * @param netlist   the Netlist
+	 * @param lsle      the logic evaluation of the netlist
+	 * @param tmae      the activity evaluation of the netlist
+	 * @param cytometry the cytometry data of the gates
+	 */
+	public TMCytometryEvaluation(final Netlist netlist, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae,
+	        final CObjectCollection<Cytometry> cytometry) {
+		this(netlist, lsle, tmae, cytometry, false);
+	}
+
+	/**
+	 * Initializes a newly created TMCytometryEvaluation using the Netlist defined
+	 * by parameter <i>netlist</i>.
+	 *
+	 * @param netlist   the Netlist
+	 * @param lsle      the logic evaluation of the netlist
+	 * @param tmae      the activity evaluation of the netlist
+	 * @param cytometry the cytometry data of the gates
+	 * @param parallel  whether to evaluate the states in parallel
+	 */
+	public TMCytometryEvaluation(final Netlist netlist, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae,
+	        final CObjectCollection<Cytometry> cytometry, final boolean parallel) {
+		init();
+		if (!netlist.isValid()) {
+			throw new RuntimeException("netlist is not valid!");
+		}
+		this.lsle = lsle;
+		this.tmae = tmae;
+		setTopologicalOrder(netlist);
+		this.bins = getBins(cytometry, this.nodes);
+		this.states = tmae.getStates();
+		this.numStates = this.states.getNumStates();
+		this.numBins = this.bins.getNumBins();
+		Map<String, CytometryModel> models = new HashMap<String, CytometryModel>();
+		for (int i = 0; i < cytometry.size(); i++) {
+			Cytometry c = cytometry.get(i);
+			models.put(c.getName(), new CytometryModel(c, this.bins));
+		}
+		Map<Function, CytometryModel> functionModels = new HashMap<Function, CytometryModel>();
+		int num = this.nodes.size();
+		this.sources = new int[num][];
+		this.models = new CytometryModel[num];
+		for (int i = 0; i < num; i++) {
+			NetlistNode node = this.nodes.get(i);
+			this.sources[i] = new int[node.getNumInEdge()];
+			for (int j = 0; j < node.getNumInEdge(); j++) {
+				this.sources[i][j] = this.nodeIndices.get(node.getInEdgeAtIdx(j).getSrc());
+			}
+			if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
+				continue;
+			}
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			if (device == null) {
+				continue;
+			}
+			this.models[i] = models.get(device.getName());
+			BivariateLookupTableFunction function = getCytometryFunction(device);
+			if (this.models[i] == null && function != null) {
+				CytometryModel model = functionModels.get(function);
+				if (model == null) {
+					model = new CytometryModel(function, this.bins);
+					functionModels.put(function, model);
+				}
+				this.models[i] = model;
+			}
+		}
+		this.distributions = new double[num * this.numStates * this.numBins];
+		IntStream indices = IntStream.range(0, this.numStates);
+		if (parallel) {
+			indices = indices.parallel();
+		}
+		indices.forEach(this::evaluate);
+	}
+
+	/**
+	 * Returns the <i>cytometry</i> function of the model of the AssignableDevice
+	 * defined by parameter <i>device</i>, or null if it has none.
+	 */
+	private static BivariateLookupTableFunction getCytometryFunction(final AssignableDevice device) {
+		BivariateLookupTableFunction rtn = null;
+		if (device.getModel() == null) {
+			return rtn;
+		}
+		Function function = device.getModel().getFunctionByName(FunctionType.S_CYTOMETRY);
+		if (function instanceof BivariateLookupTableFunction) {
+			rtn = (BivariateLookupTableFunction) function;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns true if any gate of the Netlist defined by parameter <i>netlist</i>
+	 * has cytometry data, either in the collection defined by parameter
+	 * <i>cytometry</i> or as the <i>cytometry</i> function of its model.
+	 *
+	 * @param netlist   the Netlist
+	 * @param cytometry the cytometry data of the gates
+	 * @return true if any gate of the netlist has cytometry data
+	 */
+	public static boolean hasCytometry(final Netlist netlist, final CObjectCollection<Cytometry> cytometry) {
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			if (device == null || LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
+				continue;
+			}
+			if (cytometry.findCObjectByName(device.getName()) != null || getCytometryFunction(device) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the CytometryBins of the first cytometry data of the collection
+	 * defined by parameter <i>cytometry</i>, else of the first row of the first
+	 * <i>cytometry</i> function of the devices of the nodes defined by parameter
+	 * <i>nodes</i>, or the default bins if there is none.
+	 */
+	private static CytometryBins getBins(final CObjectCollection<Cytometry> cytometry, final List<NetlistNode> nodes) {
+		for (int i = 0; i < cytometry.size(); i++) {
+			Cytometry c = cytometry.get(i);
+			if (c.getNumCytometryData() > 0) {
+				CytometryData d = c.getCytometryDataAtIdx(0);
+				double[] bins = new double[d.getNumOutputBins()];
+				for (int j = 0; j < bins.length; j++) {
+					bins[j] = d.getOutputBinsAtIdx(j);
+				}
+				return new CytometryBins(bins);
+			}
+		}
+		for (NetlistNode node : nodes) {
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			if (device == null || LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
+				continue;
+			}
+			BivariateLookupTableFunction function = getCytometryFunction(device);
+			if (function != null && function.getNumRows() > 0) {
+				return new CytometryBins(function.getSecondValuesAtIdx(0));
+			}
+		}
+		return CytometryBins.getLogBins(D_MIN_BIN, D_MAX_BIN, I_NUM_BINS);
+	}
+
+	/**
+	 * Sets the nodes of this instance to the nodes of the Netlist defined by
+	 * parameter <i>netlist</i> in topological order.
+	 */
+	private void setTopologicalOrder(final Netlist netlist) {
+		for (NetlistNode node : netlist.getLevelization().getNodes()) {
+			this.nodeIndices.put(node, this.nodes.size());
+			this.nodes.add(node);
+		}
+	}
+
+	private int getOffset(final int row, final int index) {
+		return (row * this.numStates + index) * this.numBins;
+	}
+
+	/**
+	 * Evaluates the distribution of every node at the State at index
+	 * <i>index</i>, in topological order.
+	 *
+	 * @param index the index of the State
+	 */
+	private void evaluate(final int index) {
+		double[] input = new double[this.numBins];
+		double[] source = new double[this.numBins];
+		double[] temp = new double[this.numBins];
+		for (int i = 0; i < this.nodes.size(); i++) {
+			NetlistNode node = this.nodes.get(i);
+			int[] src = this.sources[i];
+			CytometryModel model = this.models[i];
+			int offset = getOffset(i, index);
+			if (src.length == 0 || (model == null && !LSResultsUtils.isAllOutput(node))) {
+				// point mass at the activity
+				Arrays.fill(temp, 0.0);
+				this.bins.add(temp, this.tmae.getActivity(node, index), 1.0);
+				System.arraycopy(temp, 0, this.distributions, offset, this.numBins);
+				continue;
+			}
+			// the input is the sum of the outputs of the sources
+			System.arraycopy(this.distributions, getOffset(src[0], index), input, 0, this.numBins);
+			for (int j = 1; j < src.length; j++) {
+				System.arraycopy(this.distributions, getOffset(src[j], index), source, 0, this.numBins);
+				this.bins.convolve(input, source, temp);
+				double[] t = input;
+				input = temp;
+				temp = t;
+			}
+			if (model != null) {
+				model.transfer(input, temp);
+				System.arraycopy(temp, 0, this.distributions, offset, this.numBins);
+			} else {
+				System.arraycopy(input, 0, this.distributions, offset, this.numBins);
+			}
+		}
+	}
+
+	private int getRow(final NetlistNode node) {
+		Integer rtn = this.nodeIndices.get(node);
+		if (rtn == null) {
+			throw new RuntimeException("Node does not exist!");
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the distribution of the NetlistNode defined by parameter
+	 * <i>node</i> at the State at index <i>index</i> of {@link #getStates()}, one
+	 * weight per bin of {@link #getBins()}.
+	 *
+	 * @param node  the NetlistNode
+	 * @param index the index of the State
+	 * @return the distribution of the NetlistNode at the State at index
+	 *         <i>index</i>
+	 */
+	public double[] getDistribution(final NetlistNode node, final int index) {
+		double[] rtn = new double[this.numBins];
+		System.arraycopy(this.distributions, getOffset(getRow(node), index), rtn, 0, this.numBins);
+		return rtn;
+	}
+
+	/**
+	 * Returns the value at the quantile defined by parameter <i>p</i> of the
+	 * distribution of the NetlistNode defined by parameter <i>node</i> at the
+	 * State at index <i>index</i> of {@link #getStates()}.
+	 *
+	 * @param node  the NetlistNode
+	 * @param index the index of the State
+	 * @param p     the quantile, in [0, 1]
+	 * @return the value at the quantile
+	 */
+	public double getQuantile(final NetlistNode node, final int index, final double p) {
+		return this.bins.getBin(this.bins.getQuantileIdx(this.getDistribution(node, index), p));
+	}
+
+	/**
+	 * Returns the median of the distribution of the NetlistNode defined by
+	 * parameter <i>node</i> at the State at index <i>index</i> of
+	 * {@link #getStates()}.
+	 *
+	 * @param node  the NetlistNode
+	 * @param index the index of the State
+	 * @return the median
+	 */
+	public double getMedian(final NetlistNode node, final int index) {
+		return this.getQuantile(node, index, 0.5);
+	}
+
+	/**
+	 * Returns the index of the ON state with the lowest median if parameter
+	 * <i>on</i> is true, or of the OFF state with the highest median otherwise,
+	 * or -1 if there is no such state.
+	 */
+	private int getWorstState(final NetlistNode node, final boolean on) {
+		int rtn = -1;
+		double worst = 0.0;
+		for (int i = 0; i < this.numStates; i++) {
+			if (this.lsle.getValue(node, i) != on) {
+				continue;
+			}
+			double median = this.getMedian(node, i);
+			if (rtn < 0 || (on ? median < worst : median > worst)) {
+				rtn = i;
+				worst = median;
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the overlap of the ON and OFF distributions of the NetlistNode
+	 * defined by parameter <i>node</i>: the shared mass of the distribution of the
+	 * ON state with the lowest median and of the OFF state with the highest
+	 * median. The overlap is 0 for separated distributions and 1 for identical
+	 * distributions.
+	 *
+	 * @param node the NetlistNode
+	 * @return the overlap of the ON and OFF distributions
+	 */
+	public double getOverlap(final NetlistNode node) {
+		double rtn = 0.0;
+		int on = this.getWorstState(node, true);
+		int off = this.getWorstState(node, false);
+		if (on < 0 || off < 0) {
+			return rtn;
+		}
+		int row = getRow(node);
+		int a = getOffset(row, on);
+		int b = getOffset(row, off);
+		for (int i = 0; i < this.numBins; i++) {
+			rtn += Math.min(this.distributions[a + i], this.distributions[b + i]);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the score of the netlist: over the primary outputs, the lowest ratio
+	 * of the lowest median of the ON states to the highest median of the OFF
+	 * states.
+	 *
+	 * @return the score of the netlist
+	 */
+	public double getScore() {
+		double rtn = Double.MAX_VALUE;
+		for (int i = 0; i < this.nodes.size(); i++) {
+			NetlistNode node = this.nodes.get(i);
+			if (!LSResultsUtils.isPrimaryOutput(node)) {
+				continue;
+			}
+			int on = this.getWorstState(node, true);
+			int off = this.getWorstState(node, false);
+			if (on < 0 || off < 0) {
+				continue;
+			}
+			double score = this.getMedian(node, on) / this.getMedian(node, off);
+			if (score < rtn) {
+				rtn = score;
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Getter for <i>bins</i>.
+	 *
+	 * @return the bins of the distributions of this instance
+	 */
+	public CytometryBins getBins() {
+		return this.bins;
+	}
+
+	/**
+	 * Getter for <i>states</i>.
+	 *
+	 * @return the states of this instance
+	 */
+	public States<NetlistNode> getStates() {
+		return this.states;
+	}
+
+	@Override
+	public String toString() {
+		String rtn = "";
+		rtn += Utils.getNewLine();
+		rtn += S_HEADER + Utils.getNewLine();
+		rtn += "TMCytometryEvaluation" + Utils.getNewLine();
+		rtn += S_HEADER + Utils.getNewLine();
+		for (int j = 0; j < this.nodes.size(); j++) {
+			NetlistNode node = this.nodes.get(j);
+			rtn += String.format("%-15s", node.getName()) + Utils.getTabCharacter();
+			for (int i = 0; i < this.numStates; i++) {
+				rtn += String.format("%.4f", this.getMedian(node, i)) + Utils.getTabCharacter();
+			}
+			rtn += String.format("overlap: %.4f", this.getOverlap(node));
+			rtn += Utils.getNewLine();
+		}
+		rtn += S_HEADER + Utils.getNewLine();
+		return rtn;
+	}
+
+	/**
+	 * Writes this instance in CSV format to the writer defined by parameter
+	 * <i>os</i> with the delimiter equivalent to the parameter <i>delimiter</i>.
+	 * The first row holds the bins, each following row the distribution of a node
+	 * at a state, preceded by the name of the node and the index of the state.
+	 *
+	 * @param delimiter the delimiter
+	 * @param os        the writer
+	 * @throws IOException If an I/O error occurs
+	 */
+	public void writeCSV(String delimiter, Writer os) throws IOException {
+		StringBuilder str = new StringBuilder();
+		str.append("node");
+		str.append(delimiter);
+		str.append("state");
+		for (int k = 0; k < this.numBins; k++) {
+			str.append(delimiter);
+			str.append(String.format("%1.5e", this.bins.getBin(k)));
+		}
+		str.append(Utils.getNewLine());
+		for (int j = 0; j < this.nodes.size(); j++) {
+			for (int i = 0; i < this.numStates; i++) {
+				str.append(this.nodes.get(j).getName());
+				str.append(delimiter);
+				str.append(i);
+				int offset = getOffset(j, i);
+				for (int k = 0; k < this.numBins; k++) {
+					str.append(delimiter);
+					str.append(String.format("%1.5e", this.distributions[offset + k]));
+				}
+				str.append(Utils.getNewLine());
+			}
+		}
+		os.write(str.toString());
+	}
+
+	private static final String S_HEADER = "--------------------------------------------";
+
+	private LSLogicEvaluation lsle;
+	private TMActivityEvaluation tmae;
+	private CytometryBins bins;
+	private States<NetlistNode> states;
+	private int numStates;
+	private int numBins;
+	private List<NetlistNode> nodes;
+	private Map<NetlistNode, Integer> nodeIndices;
+	private int[][] sources;
+	private CytometryModel[] models;
+	private double[] distributions;
+
+	private static final double D_MIN_BIN = 1e-3;
+	private static final double D_MAX_BIN = 1e3;
+	private static final int I_NUM_BINS = 250;
+
 }
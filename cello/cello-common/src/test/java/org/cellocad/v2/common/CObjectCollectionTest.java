@@ -0,0 +1,175 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The CObjectCollectionTest class tests the name index of the
+ * CObjectCollection class.
+ * 
+ * @author agent
+ * 
+ * @date 2026-10-17
+ *
+ */
+public class CObjectCollectionTest {
+
+	private static CObject newCObject(final String name) {
+		CObject rtn = new CObject();
+		rtn.setName(name);
+		return rtn;
+	}
+
+	@Before
+	public void init() {
+		collection = new CObjectCollection<>(true);
+		a = newCObject("a");
+		b = newCObject("b");
+		c = newCObject("c");
+		collection.add(a);
+		collection.add(b);
+		collection.add(c);
+	}
+
+	@Test
+	public void findCObjectByName_IteratorRemoveThenAdd_ShouldFindAddedElement() {
+		Iterator<CObject> it = collection.iterator();
+		it.next();
+		it.remove();
+		CObject d = newCObject("d");
+		collection.add(d);
+		assertNull(collection.findCObjectByName("a"));
+		assertSame(d, collection.findCObjectByName("d"));
+	}
+
+	@Test
+	public void findCObjectByName_RenameAfterAdd_ShouldFindNewName() {
+		assertSame(b, collection.findCObjectByName("b"));
+		b.setName("e");
+		assertNull(collection.findCObjectByName("b"));
+		assertSame(b, collection.findCObjectByName("e"));
+	}
+
+	@Test
+	public void findCObjectByName_RenameInSharedElement_ShouldFindNewNameInEachCollection() {
+		CObjectCollection<CObject> other = new CObjectCollection<>(true);
+		other.add(b);
+		assertSame(b, collection.findCObjectByName("b"));
+		assertSame(b, other.findCObjectByName("b"));
+		b.setName("e");
+		assertNull(other.findCObjectByName("b"));
+		assertSame(b, other.findCObjectByName("e"));
+		assertNull(collection.findCObjectByName("b"));
+		assertSame(b, collection.findCObjectByName("e"));
+	}
+
+	@Test
+	public void findCObjectByName_RenameAfterRemove_ShouldNotFindRemovedElement() {
+		assertSame(b, collection.findCObjectByName("b"));
+		collection.remove(b);
+		b.setName("a");
+		assertSame(a, collection.findCObjectByName("a"));
+		assertNull(collection.findCObjectByName("b"));
+	}
+
+	@Test
+	public void findCObjectByName_RenameToEarlierDuplicate_ShouldFindFirstOccurrence() {
+		assertSame(c, collection.findCObjectByName("c"));
+		a.setName("c");
+		assertSame(a, collection.findCObjectByName("c"));
+	}
+
+	@Test
+	public void findCObjectByName_ListIteratorSet_ShouldFindReplacement() {
+		ListIterator<CObject> it = collection.listIterator(1);
+		it.next();
+		CObject d = newCObject("d");
+		it.set(d);
+		assertNull(collection.findCObjectByName("b"));
+		assertSame(d, collection.findCObjectByName("d"));
+	}
+
+	@Test
+	public void findCObjectByName_ListIteratorAdd_ShouldFindAddedElement() {
+		ListIterator<CObject> it = collection.listIterator();
+		CObject d = newCObject("d");
+		it.add(d);
+		assertSame(d, collection.findCObjectByName("d"));
+		assertSame(d, collection.get(0));
+	}
+
+	@Test
+	public void findCObjectByName_SubListSet_ShouldFindReplacement() {
+		List<CObject> sub = collection.subList(1, 3);
+		CObject d = newCObject("d");
+		sub.set(1, d);
+		assertNull(collection.findCObjectByName("c"));
+		assertSame(d, collection.findCObjectByName("d"));
+	}
+
+	@Test
+	public void findCObjectByName_SubListClear_ShouldNotFindRemovedElements() {
+		collection.subList(0, 2).clear();
+		assertNull(collection.findCObjectByName("a"));
+		assertNull(collection.findCObjectByName("b"));
+		assertSame(c, collection.findCObjectByName("c"));
+	}
+
+	@Test
+	public void findCObjectByName_RemoveIf_ShouldNotFindRemovedElement() {
+		collection.removeIf(e -> e.getName().equals("b"));
+		CObject d = newCObject("d");
+		collection.add(d);
+		assertNull(collection.findCObjectByName("b"));
+		assertSame(d, collection.findCObjectByName("d"));
+	}
+
+	@Test
+	public void findCObjectByName_SetDuplicateName_ShouldFindFirstOccurrence() {
+		CObject d = newCObject("a");
+		collection.set(2, d);
+		assertSame(a, collection.findCObjectByName("a"));
+		collection.remove(0);
+		assertSame(d, collection.findCObjectByName("a"));
+	}
+
+	@Test
+	public void findCObjectByName_InsertInMiddle_ShouldFindFirstOccurrence() {
+		CObject d = newCObject("c");
+		collection.add(1, d);
+		assertSame(d, collection.findCObjectByName("c"));
+	}
+
+	private CObjectCollection<CObject> collection;
+	private CObject a;
+	private CObject b;
+	private CObject c;
+
+}
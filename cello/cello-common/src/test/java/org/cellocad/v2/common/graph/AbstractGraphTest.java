@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The AbstractGraphTest class tests the cached validity of the AbstractGraph
+ * class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class AbstractGraphTest {
+
+	/**
+	 * A node whose validity depends on state other than the structure.
+	 */
+	private static class FlaggedNode extends NetlistNode {
+
+		@Override
+		public boolean isValid() {
+			return super.isValid() && this.valid;
+		}
+
+		private boolean valid = true;
+
+	}
+
+	@Before
+	public void init() throws IOException, ParseException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("and_LogicOnly.json");
+		netlist = new Netlist((JSONObject) parser.parse(str));
+		node = new FlaggedNode();
+		node.setName("flagged");
+		NetlistNode src = netlist.getVertexAtIdx(0);
+		edge = new NetlistEdge(src, node);
+		edge.setName("flagged_edge");
+		src.addOutEdge(edge);
+		node.addInEdge(edge);
+		netlist.addVertex(node);
+		netlist.addEdge(edge);
+	}
+
+	@Test
+	public void isValid_UnchangedGraph_ShouldStayValid() {
+		assertTrue(netlist.isValid());
+		assertTrue(netlist.isValid());
+	}
+
+	@Test
+	public void isValid_VertexBecomesInvalidWithoutStructuralChange_ShouldReturnFalse() {
+		assertTrue(netlist.isValid());
+		long count = netlist.getStructureModCount();
+		node.valid = false;
+		assertFalse(netlist.isValid());
+		node.valid = true;
+		assertTrue(netlist.isValid());
+		assertEquals(count, netlist.getStructureModCount());
+	}
+
+	@Test
+	public void isValid_EdgeRemovedFromGraphOnly_ShouldReturnFalse() {
+		assertTrue(netlist.isValid());
+		netlist.removeEdge(edge);
+		assertFalse(netlist.isValid());
+		netlist.addEdge(edge);
+		assertTrue(netlist.isValid());
+	}
+
+	@Test
+	public void isValid_DestinationOutsideGraph_ShouldReturnFalse() {
+		assertTrue(netlist.isValid());
+		NetlistNode other = new NetlistNode();
+		other.setName("other");
+		edge.addDst(other);
+		assertFalse(netlist.isValid());
+		netlist.addVertex(other);
+		assertTrue(netlist.isValid());
+	}
+
+	private Netlist netlist;
+	private FlaggedNode node;
+	private NetlistEdge edge;
+
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.graph.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.junit.Test;
+
+/**
+ * The TraversalTest class tests that the BFS, DFS, SinkBFS and SinkDFS classes
+ * visit the vertices of random acyclic graphs in the order of the traversals
+ * that marked the discovery on the vertices, including when several traversals
+ * of one graph are interleaved.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class TraversalTest {
+
+	/**
+	 * Returns a random acyclic Netlist with <i>numVertex</i> vertices, whose first
+	 * vertices are sources and whose last vertices are sinks. Some edges have
+	 * several destinations.
+	 */
+	private static Netlist getRandomNetlist(final Random random, final int numVertex) {
+		Netlist rtn = new Netlist();
+		rtn.setName("random");
+		int numSource = 1 + random.nextInt(3);
+		int numSink = 1 + random.nextInt(3);
+		List<NetlistNode> nodes = new ArrayList<>();
+		for (int i = 0; i < numVertex; i++) {
+			NetlistNode node = new NetlistNode();
+			node.setName("n" + i);
+			if (i < numSource) {
+				node.setVertexType(VertexType.SOURCE);
+			} else if (i >= numVertex - numSink) {
+				node.setVertexType(VertexType.SINK);
+			}
+			nodes.add(node);
+		}
+		for (int i = numSource; i < numVertex; i++) {
+			int numIn = 1 + random.nextInt(3);
+			for (int j = 0; j < numIn; j++) {
+				NetlistNode src = nodes.get(random.nextInt(Math.min(i, numVertex - numSink)));
+				NetlistEdge edge = new NetlistEdge(src, nodes.get(i));
+				edge.setName(src.getName() + "_" + nodes.get(i).getName() + "_" + j);
+				nodes.get(i).addInEdge(edge);
+				if (random.nextInt(4) == 0 && i + 1 < numVertex) {
+					NetlistNode dst = nodes.get(i + 1 + random.nextInt(numVertex - i - 1));
+					edge.addDst(dst);
+					dst.addInEdge(edge);
+				}
+				src.addOutEdge(edge);
+				rtn.addEdge(edge);
+			}
+		}
+		// the order of the vertices in the graph sets the order of the roots
+		Collections.shuffle(nodes, random);
+		for (NetlistNode node : nodes) {
+			rtn.addVertex(node);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the order of the traversal that marked the discovery on the
+	 * vertices, from the sources if <i>sink</i> is false or from the sinks
+	 * otherwise.
+	 */
+	private static List<NetlistNode> getReferenceOrder(final Netlist netlist, final boolean sink,
+			final boolean depthFirst) {
+		VertexType start = sink ? VertexType.SINK : VertexType.SOURCE;
+		VertexType end = sink ? VertexType.SOURCE : VertexType.SINK;
+		List<NetlistNode> rtn = new ArrayList<>();
+		Deque<NetlistNode> work = new ArrayDeque<>();
+		Set<NetlistNode> visited = Collections.newSetFromMap(new IdentityHashMap<NetlistNode, Boolean>());
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode v = netlist.getVertexAtIdx(i);
+			if (v.getVertexType() == start) {
+				rtn.add(v);
+				work.addLast(v);
+			}
+		}
+		while (!work.isEmpty()) {
+			NetlistNode v = depthFirst ? work.removeLast() : work.removeFirst();
+			if (v.getVertexType() == end) {
+				visited.add(v);
+			}
+			if (!visited.add(v)) {
+				continue;
+			}
+			List<NetlistNode> next = new ArrayList<>();
+			if (sink) {
+				for (int i = 0; i < v.getNumInEdge(); i++) {
+					next.add(v.getInEdgeAtIdx(i).getSrc());
+				}
+			} else {
+				for (int i = 0; i < v.getNumOutEdge(); i++) {
+					NetlistEdge e = v.getOutEdgeAtIdx(i);
+					for (int j = 0; j < e.getNumDst(); j++) {
+						next.add(e.getDstAtIdx(j));
+					}
+				}
+			}
+			for (NetlistNode n : next) {
+				if (!visited.contains(n)) {
+					rtn.add(n);
+					work.addLast(n);
+				}
+			}
+		}
+		if (depthFirst) {
+			Collections.reverse(rtn);
+		}
+		return rtn;
+	}
+
+	private static List<Iterator<NetlistNode>> getTraversals(final Netlist netlist) {
+		List<Iterator<NetlistNode>> rtn = new ArrayList<>();
+		rtn.add(new BFS<NetlistNode, NetlistEdge, Netlist>(netlist));
+		rtn.add(new DFS<NetlistNode, NetlistEdge, Netlist>(netlist));
+		rtn.add(new SinkBFS<NetlistNode, NetlistEdge, Netlist>(netlist));
+		rtn.add(new SinkDFS<NetlistNode, NetlistEdge, Netlist>(netlist));
+		return rtn;
+	}
+
+	private static List<List<NetlistNode>> getReferenceOrders(final Netlist netlist) {
+		List<List<NetlistNode>> rtn = new ArrayList<>();
+		rtn.add(getReferenceOrder(netlist, false, false));
+		rtn.add(getReferenceOrder(netlist, false, true));
+		rtn.add(getReferenceOrder(netlist, true, false));
+		rtn.add(getReferenceOrder(netlist, true, true));
+		return rtn;
+	}
+
+	@Test
+	public void next_RandomGraphs_ShouldMatchReferenceOrder() {
+		Random random = new Random(SEED);
+		for (int k = 0; k < NUM_GRAPHS; k++) {
+			Netlist netlist = getRandomNetlist(random, 6 + random.nextInt(30));
+			List<List<NetlistNode>> expected = getReferenceOrders(netlist);
+			List<Iterator<NetlistNode>> traversals = getTraversals(netlist);
+			for (int i = 0; i < traversals.size(); i++) {
+				List<NetlistNode> actual = new ArrayList<>();
+				traversals.get(i).forEachRemaining(actual::add);
+				assertEquals(expected.get(i), actual);
+			}
+		}
+	}
+
+	@Test
+	public void next_InterleavedTraversalsOfOneGraph_ShouldMatchReferenceOrder() {
+		Random random = new Random(SEED);
+		for (int k = 0; k < NUM_GRAPHS; k++) {
+			Netlist netlist = getRandomNetlist(random, 6 + random.nextInt(30));
+			List<List<NetlistNode>> expected = getReferenceOrders(netlist);
+			// two of each, so that traversals of the same kind overlap too
+			List<Iterator<NetlistNode>> traversals = getTraversals(netlist);
+			traversals.addAll(getTraversals(netlist));
+			List<List<NetlistNode>> actual = new ArrayList<>();
+			for (int i = 0; i < traversals.size(); i++) {
+				actual.add(new ArrayList<NetlistNode>());
+			}
+			boolean hasNext = true;
+			while (hasNext) {
+				hasNext = false;
+				for (int i = 0; i < traversals.size(); i++) {
+					Iterator<NetlistNode> it = traversals.get(i);
+					int steps = random.nextInt(3);
+					for (int j = 0; j < steps && it.hasNext(); j++) {
+						actual.get(i).add(it.next());
+					}
+					hasNext = hasNext || it.hasNext();
+				}
+			}
+			for (int i = 0; i < traversals.size(); i++) {
+				assertEquals(expected.get(i % expected.size()), actual.get(i));
+				assertFalse(traversals.get(i).hasNext());
+			}
+		}
+	}
+
+	private static final long SEED = 23;
+	private static final int NUM_GRAPHS = 200;
+
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+/**
+ * The RandomServiceTest class tests that the streams of the RandomService class
+ * are reproducible from the master seed and independent of each other.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class RandomServiceTest {
+
+	private static long[] draw(final SplittableRandom random) {
+		long[] rtn = new long[NUM];
+		for (int i = 0; i < NUM; i++) {
+			rtn[i] = random.nextLong();
+		}
+		return rtn;
+	}
+
+	private static int[] draw(final Random random) {
+		int[] rtn = new int[NUM];
+		for (int i = 0; i < NUM; i++) {
+			rtn[i] = random.nextInt(BOUND);
+		}
+		return rtn;
+	}
+
+	@Test
+	public void getSplittableRandom_SameSeed_ShouldReplayStream() {
+		long[] a = draw(new RandomService(SEED).getSplittableRandom(S_CHAIN, 3));
+		long[] b = draw(new RandomService(SEED).getSplittableRandom(S_CHAIN, 3));
+		assertArrayEquals(a, b);
+	}
+
+	@Test
+	public void getSplittableRandom_RequestOrder_ShouldNotChangeStreams() {
+		RandomService first = new RandomService(SEED);
+		long[] a0 = draw(first.getSplittableRandom(S_CHAIN, 0));
+		long[] a1 = draw(first.getSplittableRandom(S_CHAIN, 1));
+		RandomService second = new RandomService(SEED);
+		long[] b1 = draw(second.getSplittableRandom(S_CHAIN, 1));
+		long[] b0 = draw(second.getSplittableRandom(S_CHAIN, 0));
+		assertArrayEquals(a0, b0);
+		assertArrayEquals(a1, b1);
+	}
+
+	@Test
+	public void getSplittableRandom_DifferentStreams_ShouldDiffer() {
+		RandomService service = new RandomService(SEED);
+		long[] chain0 = draw(service.getSplittableRandom(S_CHAIN, 0));
+		long[] chain1 = draw(service.getSplittableRandom(S_CHAIN, 1));
+		long[] gates0 = draw(service.getSplittableRandom(S_GATES, 0));
+		long[] other = draw(new RandomService(SEED + 1).getSplittableRandom(S_CHAIN, 0));
+		assertFalse(Arrays.equals(chain0, chain1));
+		assertFalse(Arrays.equals(chain0, gates0));
+		assertFalse(Arrays.equals(chain0, other));
+	}
+
+	@Test
+	public void getRandom_SameSeed_ShouldReplayStream() {
+		int[] a = draw(new RandomService(SEED).getRandom(S_GATES, 2));
+		int[] b = draw(new RandomService(SEED).getRandom(S_GATES, 2));
+		assertArrayEquals(a, b);
+		for (int value : a) {
+			assertTrue(0 <= value && value < BOUND);
+		}
+		assertFalse(Arrays.equals(a, draw(new RandomService(SEED).getRandom(S_GATES, 3))));
+	}
+
+	@Test
+	public void getRandomSeed_Seeds_ShouldBeNonNegative() {
+		for (int i = 0; i < NUM; i++) {
+			assertTrue(RandomService.getRandomSeed() >= 0);
+		}
+	}
+
+	private static final long SEED = 21;
+	private static final int NUM = 64;
+	private static final int BOUND = 1000;
+	private static final String S_CHAIN = "chain";
+	private static final String S_GATES = "gates";
+
+}
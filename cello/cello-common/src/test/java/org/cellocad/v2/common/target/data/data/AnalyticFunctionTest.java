@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.cellocad.v2.common.CelloException;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for the compiled evaluation of {@link AnalyticFunction}.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class AnalyticFunctionTest {
+
+	private static final String HILL = "{\"name\":\"response_function\","
+			+ "\"equation\":\"ymin+(ymax-ymin)/(1.0+(x/K)^n)\","
+			+ "\"variables\":[{\"name\":\"x\",\"map\":\"#//model/functions/input_composition\"}],"
+			+ "\"parameters\":[{\"name\":\"ymax\",\"value\":3.9},{\"name\":\"ymin\",\"value\":0.007},"
+			+ "{\"name\":\"K\",\"value\":0.21},{\"name\":\"n\",\"value\":2.4}]}";
+
+	private static AnalyticFunction getFunction() throws ParseException {
+		JSONParser parser = new JSONParser();
+		return new AnalyticFunction((JSONObject) parser.parse(HILL));
+	}
+
+	private static double hill(final double x) {
+		return 0.007 + (3.9 - 0.007) / (1.0 + Math.pow(x / 0.21, 2.4));
+	}
+
+	private static double evaluate(final AnalyticFunction f, final double x) throws CelloException {
+		Map<Variable, Double> value = new HashMap<>();
+		value.put(f.getVariables().get(0), x);
+		return f.evaluate(new EvaluationContext(), value).doubleValue();
+	}
+
+	@Test
+	public void evaluate_RepeatedWithDifferentValues_ShouldMatchFormula() throws ParseException, CelloException {
+		AnalyticFunction f = getFunction();
+		for (int i = 0; i < 100; i++) {
+			double x = 0.001 * Math.pow(1.1, i);
+			assertEquals(hill(x), evaluate(f, x), 1e-12);
+		}
+	}
+
+	@Test
+	public void evaluate_ConcurrentThreads_ShouldMatchFormula() throws Exception {
+		final AnalyticFunction f = getFunction();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Double>> futures = new ArrayList<>();
+			for (int i = 0; i < TASKS; i++) {
+				final double x = 0.01 * (i + 1);
+				futures.add(executor.submit(() -> {
+					double rtn = 0.0;
+					for (int j = 0; j < 200; j++) {
+						rtn = evaluate(f, x);
+					}
+					return rtn;
+				}));
+			}
+			for (int i = 0; i < TASKS; i++) {
+				assertEquals(hill(0.01 * (i + 1)), futures.get(i).get(), 1e-12);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static final int THREADS = 4;
+	private static final int TASKS = 32;
+
+}
@@ -0,0 +1,263 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.cellocad.v2.common.CelloException;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * The BivariateLookupTableFunctionScanTest class tests the evaluation of the
+ * BivariateLookupTableFunction class against a scan of all rows and bins for
+ * the rows and bins that bracket each point.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class BivariateLookupTableFunctionScanTest {
+
+	private static String toJSON(final double[] values) {
+		StringBuilder rtn = new StringBuilder("[");
+		for (int i = 0; i < values.length; i++) {
+			rtn.append(i > 0 ? ", " : "").append(Double.toString(values[i]));
+		}
+		return rtn.append("]").toString();
+	}
+
+	private static BivariateLookupTableFunction getFunction(final double[] x, final double[][] y,
+	        final double[][] z) throws ParseException, CelloException {
+		StringBuilder str = new StringBuilder();
+		str.append("{\"name\": \"g\", \"variables\": [{\"name\": \"x\"}, {\"name\": \"bin\"}], \"table\": [");
+		for (int i = 0; i < x.length; i++) {
+			str.append(i > 0 ? ", " : "");
+			str.append("{\"x\": ").append(Double.toString(x[i]));
+			str.append(", \"bin\": ").append(toJSON(y[i]));
+			str.append(", \"output\": ").append(toJSON(z[i])).append("}");
+		}
+		str.append("]}");
+		return new BivariateLookupTableFunction((JSONObject) new JSONParser().parse(str.toString()));
+	}
+
+	/**
+	 * Returns the indices of the sorted values that bracket the value defined by
+	 * parameter <i>x</i>: the first equal value twice, the first or last value
+	 * twice if <i>x</i> is out of range, or the two values around <i>x</i>.
+	 */
+	private static int[] bracket(final double[] values, final double x) {
+		int k = 0;
+		for (double v : values) {
+			if (v < x) {
+				k++;
+			}
+		}
+		int[] rtn = null;
+		if (k == values.length) {
+			rtn = new int[] { k - 1, k - 1 };
+		} else if (k == 0 || values[k] == x) {
+			rtn = new int[] { k, k };
+		} else {
+			rtn = new int[] { k - 1, k };
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the inverse-distance weighted output over the bins that bracket
+	 * <i>y</i> in the rows that bracket <i>x</i>.
+	 */
+	private static double scan(final double[] x, final double[][] y, final double[][] z, final double px,
+	        final double py) {
+		int[] rows = bracket(x, px);
+		int num = rows[0] != rows[1] ? 2 : 1;
+		double top = 0.0;
+		double bot = 0.0;
+		for (int r = 0; r < num; r++) {
+			int row = rows[r];
+			int[] bins = bracket(y[row], py);
+			for (int bin : bins) {
+				double dx = x[row] - px;
+				double dy = y[row][bin] - py;
+				double d = Math.sqrt(dx * dx + dy * dy);
+				if (d < 1e-12) {
+					return z[row][bin];
+				}
+				double w = 1.0 / d;
+				top += z[row][bin] * w;
+				bot += w;
+			}
+		}
+		return top / bot;
+	}
+
+	/**
+	 * Returns the sorted values, the midpoints between them, values out of range,
+	 * and random values.
+	 */
+	private static List<Double> getQueries(final double[] values, final Random random) {
+		List<Double> rtn = new ArrayList<>();
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		for (int i = 0; i < sorted.length; i++) {
+			rtn.add(sorted[i]);
+			if (i > 0) {
+				rtn.add((sorted[i - 1] + sorted[i]) / 2.0);
+			}
+		}
+		double min = sorted[0];
+		double max = sorted[sorted.length - 1];
+		double span = Math.max(max - min, 1.0);
+		rtn.add(min - span);
+		rtn.add(max + span);
+		for (int i = 0; i < NUM_QUERIES; i++) {
+			rtn.add(min + span * (random.nextDouble() * 1.2 - 0.1));
+		}
+		return rtn;
+	}
+
+	private static void assertMatchesScan(final double[] x, final double[][] y, final double[][] z)
+	        throws ParseException, CelloException {
+		BivariateLookupTableFunction f = getFunction(x, y, z);
+		Random random = new Random(SEED);
+		List<Double> bins = new ArrayList<>();
+		for (double[] row : y) {
+			for (double bin : row) {
+				bins.add(bin);
+			}
+		}
+		double[] allBins = bins.stream().mapToDouble(Double::doubleValue).toArray();
+		List<Double> qx = new ArrayList<>();
+		List<Double> qy = new ArrayList<>();
+		for (double px : getQueries(x, random)) {
+			for (double py : getQueries(allBins, random).subList(0, NUM_QUERIES / 10)) {
+				qx.add(px);
+				qy.add(py);
+			}
+		}
+		int num = qx.size();
+		double[] xs = new double[num];
+		double[] ys = new double[num];
+		double[] out = new double[num];
+		for (int i = 0; i < num; i++) {
+			xs[i] = qx.get(i);
+			ys[i] = qy.get(i);
+		}
+		f.evaluate(xs, ys, out);
+		for (int i = 0; i < num; i++) {
+			double expected = scan(x, y, z, xs[i], ys[i]);
+			assertEquals(expected, f.evaluate(xs[i], ys[i]), 0.0);
+			assertEquals(expected, out[i], 0.0);
+		}
+	}
+
+	private static double[] getSortedRandom(final int num, final double min, final double max,
+	        final Random random) {
+		double[] rtn = new double[num];
+		for (int i = 0; i < num; i++) {
+			rtn[i] = min + (max - min) * random.nextDouble();
+		}
+		Arrays.sort(rtn);
+		return rtn;
+	}
+
+	@Test
+	public void evaluate_LogGridTable_ShouldMatchScan() throws ParseException, CelloException {
+		Random random = new Random(SEED);
+		double[] x = new double[6];
+		double[][] y = new double[x.length][];
+		double[][] z = new double[x.length][];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = 0.1 * Math.pow(2.0, i);
+			y[i] = new double[9];
+			for (int j = 0; j < y[i].length; j++) {
+				y[i][j] = 1e-2 * Math.pow(10.0, j / 2.0);
+			}
+			z[i] = getSortedRandom(y[i].length, 0.0, 10.0, random);
+		}
+		assertMatchesScan(x, y, z);
+	}
+
+	@Test
+	public void evaluate_NonGridTable_ShouldMatchScan() throws ParseException, CelloException {
+		Random random = new Random(SEED);
+		double[] x = getSortedRandom(7, 0.0, 5.0, random);
+		double[][] y = new double[x.length][];
+		double[][] z = new double[x.length][];
+		for (int i = 0; i < x.length; i++) {
+			int num = 2 + random.nextInt(8);
+			y[i] = getSortedRandom(num, 0.0, 20.0, random);
+			z[i] = getSortedRandom(num, 0.0, 10.0, random);
+		}
+		assertMatchesScan(x, y, z);
+	}
+
+	@Test
+	public void evaluate_Ties_ShouldMatchScan() throws ParseException, CelloException {
+		// repeated rows and repeated bins
+		double[] x = { 1.0, 2.0, 2.0, 3.0 };
+		double[][] y = { { 1.0, 2.0, 3.0 }, { 1.0, 1.0, 3.0 }, { 1.0, 2.0, 2.0, 4.0 }, { 2.0, 3.0 } };
+		double[][] z = { { 4.0, 5.0, 6.0 }, { 5.0, 6.0, 7.0 }, { 6.0, 7.0, 8.0, 9.0 }, { 8.0, 9.0 } };
+		assertMatchesScan(x, y, z);
+	}
+
+	@Test
+	public void evaluate_SingleRow_ShouldMatchScan() throws ParseException, CelloException {
+		double[] x = { 1.0 };
+		double[][] y = { { 1.0, 2.0, 3.0 } };
+		double[][] z = { { 4.0, 5.0, 6.0 } };
+		assertMatchesScan(x, y, z);
+	}
+
+	@Test
+	public void evaluate_TablePoint_ShouldReturnOutput() throws ParseException, CelloException {
+		double[] x = { 1.0, 2.0, 3.0 };
+		double[][] y = { { 1.0, 2.0, 3.0 }, { 1.0, 2.0, 3.0 }, { 1.0, 2.0, 3.0 } };
+		double[][] z = { { 4.0, 5.0, 6.0 }, { 5.0, 6.0, 7.0 }, { 6.0, 7.0, 8.0 } };
+		BivariateLookupTableFunction f = getFunction(x, y, z);
+		for (int i = 0; i < x.length; i++) {
+			for (int j = 0; j < y[i].length; j++) {
+				assertEquals(z[i][j], f.evaluate(x[i], y[i][j]), 0.0);
+			}
+		}
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void evaluate_MismatchedLengths_ShouldThrowException() throws ParseException, CelloException {
+		double[] x = { 1.0, 2.0 };
+		double[][] y = { { 1.0, 2.0 }, { 1.0, 2.0 } };
+		double[][] z = { { 4.0, 5.0 }, { 5.0, 6.0 } };
+		getFunction(x, y, z).evaluate(new double[2], new double[3], new double[2]);
+	}
+
+	private static final int NUM_QUERIES = 100;
+	private static final long SEED = 13;
+
+}
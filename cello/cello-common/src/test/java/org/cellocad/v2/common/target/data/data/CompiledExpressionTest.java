@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link CompiledExpression} and {@link ExpressionProgram}.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class CompiledExpressionTest {
+
+	private static final String HILL = "ymin+(ymax-ymin)/(1.0+(x/K)^n)";
+	private static final List<String> HILL_NAMES = Arrays.asList("ymax", "ymin", "K", "n", "x");
+
+	private static double[][] getRandomValues(final Random random, final int numArgument, final int num) {
+		double[][] rtn = new double[numArgument][num];
+		for (int i = 0; i < numArgument; i++) {
+			for (int j = 0; j < num; j++) {
+				rtn[i][j] = Math.pow(10.0, 4.0 * random.nextDouble() - 2.0);
+			}
+		}
+		return rtn;
+	}
+
+	private static double[] getColumn(final double[][] values, final int j) {
+		double[] rtn = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			rtn[i] = values[i][j];
+		}
+		return rtn;
+	}
+
+	private static void assertBatchMatchesScalar(final CompiledExpression expr, final double[][] values) {
+		double[] out = new double[values[0].length];
+		expr.calculate(values, out);
+		for (int j = 0; j < out.length; j++) {
+			assertEquals(expr.calculate(getColumn(values, j)), out[j], 0.0);
+		}
+	}
+
+	@Test
+	public void compile_Hill_ShouldCompileProgram() {
+		assertTrue(new CompiledExpression(HILL, HILL_NAMES).isCompiled());
+		assertTrue(new CompiledExpression("_STATE*(ymax-ymin)+ymin", Arrays.asList("ymax", "ymin", "_STATE"))
+				.isCompiled());
+		assertTrue(new CompiledExpression("1.0-tox*x/(1.0+x)", Arrays.asList("tox", "x")).isCompiled());
+		assertTrue(new CompiledExpression(" x + y ", Arrays.asList("x", "y")).isCompiled());
+	}
+
+	@Test
+	public void compile_UnsupportedSyntax_ShouldFallBackToParser() {
+		List<String> names = Arrays.asList("x", "y", "z");
+		String[] equations = { "exp(x)", "x^y^z", "-x^2", "1e-3*x", "pi*x", "2x", "+x", "x^-y", "(x+y", "x+w", "" };
+		for (String equation : equations) {
+			assertFalse(equation, new CompiledExpression(equation, names).isCompiled());
+		}
+	}
+
+	@Test
+	public void calculate_Hill_ShouldMatchFormula() {
+		CompiledExpression expr = new CompiledExpression(HILL, HILL_NAMES);
+		Random random = new Random(0);
+		double[][] values = getRandomValues(random, HILL_NAMES.size(), 64);
+		for (int j = 0; j < values[0].length; j++) {
+			double ymax = values[0][j];
+			double ymin = values[1][j];
+			double K = values[2][j];
+			double n = values[3][j];
+			double x = values[4][j];
+			double expected = ymin + (ymax - ymin) / (1.0 + Math.pow(x / K, n));
+			assertEquals(expected, expr.calculate(getColumn(values, j)), Math.abs(expected) * 1e-12);
+		}
+	}
+
+	@Test
+	public void calculate_Precedence_ShouldMatchFormula() {
+		List<String> names = Arrays.asList("a", "b", "c");
+		double a = 3.0;
+		double b = 5.0;
+		double c = 2.0;
+		double[] values = { a, b, c };
+		assertEquals(a - b - c, new CompiledExpression("a-b-c", names).calculate(values), 0.0);
+		assertEquals(a / b / c, new CompiledExpression("a/b/c", names).calculate(values), 0.0);
+		assertEquals(a + b * c, new CompiledExpression("a+b*c", names).calculate(values), 0.0);
+		assertEquals(a * Math.pow(b, c), new CompiledExpression("a*b^c", names).calculate(values), 0.0);
+		assertEquals(-a * b, new CompiledExpression("-a*b", names).calculate(values), 0.0);
+		assertEquals(a - -b, new CompiledExpression("a - -b", names).calculate(values), 0.0);
+		assertEquals(Math.pow(a - b, c), new CompiledExpression("(a-b)^c", names).calculate(values), 0.0);
+	}
+
+	@Test
+	public void calculate_Batch_ShouldMatchScalar() {
+		Random random = new Random(1);
+		assertBatchMatchesScalar(new CompiledExpression(HILL, HILL_NAMES), getRandomValues(random, 5, 16));
+		List<String> names = Arrays.asList("x", "y");
+		assertBatchMatchesScalar(new CompiledExpression("x+y*(x-y)/2.5", names), getRandomValues(random, 2, 16));
+		assertBatchMatchesScalar(new CompiledExpression("exp(x)+y", names), getRandomValues(random, 2, 16));
+	}
+
+	@Test
+	public void calculate_BatchOfDifferentSizes_ShouldMatchScalar() {
+		CompiledExpression expr = new CompiledExpression(HILL, HILL_NAMES);
+		Random random = new Random(2);
+		assertBatchMatchesScalar(expr, getRandomValues(random, 5, 4));
+		assertBatchMatchesScalar(expr, getRandomValues(random, 5, 32));
+		assertBatchMatchesScalar(expr, getRandomValues(random, 5, 8));
+	}
+
+	@Test
+	public void calculate_NegativeBaseFractionalPower_ShouldFallBackToParser() {
+		CompiledExpression expr = new CompiledExpression("x^y", Arrays.asList("x", "y"));
+		assertTrue(expr.isCompiled());
+		double[][] values = { { -8.0, 4.0 }, { 1.0 / 3.0, 0.5 } };
+		assertBatchMatchesScalar(expr, values);
+		assertEquals(2.0, expr.calculate(new double[] { 4.0, 0.5 }), 0.0);
+	}
+
+}
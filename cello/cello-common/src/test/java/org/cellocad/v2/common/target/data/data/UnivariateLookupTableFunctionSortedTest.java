@@ -0,0 +1,221 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.cellocad.v2.common.CelloException;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * The UnivariateLookupTableFunctionSortedTest class tests the sorted evaluation
+ * of the UnivariateLookupTableFunction class against a scan of all rows for the
+ * two nearest rows.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class UnivariateLookupTableFunctionSortedTest {
+
+	private static String toJSON(final double[] values) {
+		StringBuilder rtn = new StringBuilder("[");
+		for (int i = 0; i < values.length; i++) {
+			rtn.append(i > 0 ? ", " : "").append(Double.toString(values[i]));
+		}
+		return rtn.append("]").toString();
+	}
+
+	private static UnivariateLookupTableFunction getFunction(final double[] x, final double[] y)
+	        throws ParseException, CelloException {
+		String str = "{\"name\": \"f\", \"variables\": [{\"name\": \"x\", \"map\": \"#//x\"}], ";
+		str += "\"table\": {\"x\": " + toJSON(x) + ", \"output\": " + toJSON(y) + "}}";
+		return new UnivariateLookupTableFunction((JSONObject) new JSONParser().parse(str));
+	}
+
+	/**
+	 * Returns the two-point average of the two nearest rows, nearest first, ties
+	 * broken by table order.
+	 */
+	private static double scan(final double[] x, final double[] y, final double value) {
+		int argMinA = -1;
+		double minA = Double.MAX_VALUE;
+		int argMinB = -1;
+		double minB = Double.MAX_VALUE;
+		for (int row = 0; row < x.length; row++) {
+			double distance = Math.abs(value - x[row]);
+			if (distance < minA) {
+				argMinB = argMinA;
+				minB = minA;
+				argMinA = row;
+				minA = distance;
+			} else if (distance < minB) {
+				argMinB = row;
+				minB = distance;
+			}
+		}
+		double valueA = y[argMinA];
+		if (argMinB < 0) {
+			return valueA;
+		}
+		double valueB = y[argMinB];
+		return (valueA * minA + valueB * minB) / (minA + minB);
+	}
+
+	private static int countLess(final double[] x, final double value) {
+		int rtn = 0;
+		for (double v : x) {
+			if (v < value) {
+				rtn++;
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the table values, the midpoints between them, their neighbouring
+	 * doubles, values out of range, and random values.
+	 */
+	private static List<Double> getQueries(final double[] x, final Random random) {
+		List<Double> rtn = new ArrayList<>();
+		double[] sorted = x.clone();
+		Arrays.sort(sorted);
+		for (int i = 0; i < sorted.length; i++) {
+			rtn.add(sorted[i]);
+			rtn.add(Math.nextUp(sorted[i]));
+			rtn.add(Math.nextDown(sorted[i]));
+			if (i > 0) {
+				rtn.add((sorted[i - 1] + sorted[i]) / 2.0);
+				rtn.add(Math.sqrt(sorted[i - 1] * sorted[i]));
+			}
+		}
+		double min = sorted[0];
+		double max = sorted[sorted.length - 1];
+		rtn.add(-1.0);
+		rtn.add(0.0);
+		rtn.add(min / 100.0);
+		rtn.add(max * 100.0);
+		rtn.add(max * 1e6);
+		for (int i = 0; i < NUM_QUERIES; i++) {
+			double t = random.nextDouble() * 1.2 - 0.1;
+			rtn.add(min > 0.0 ? min * Math.pow(max / min, t) : min + (max - min) * t);
+		}
+		return rtn;
+	}
+
+	private static void assertMatchesScan(final double[] x, final double[] y) throws ParseException, CelloException {
+		UnivariateLookupTableFunction f = getFunction(x, y);
+		for (double value : getQueries(x, new Random(SEED))) {
+			assertEquals(countLess(x, value), f.getLowerBound(value));
+			assertEquals(scan(x, y, value), f.evaluateSorted(value), 0.0);
+		}
+	}
+
+	private static double[] getRandomOutputs(final int num, final Random random) {
+		double[] rtn = new double[num];
+		for (int i = 0; i < num; i++) {
+			rtn[i] = random.nextDouble() * 10.0;
+		}
+		return rtn;
+	}
+
+	private static double[] shuffle(final double[] values, final Random random) {
+		List<Double> list = new ArrayList<>();
+		for (double v : values) {
+			list.add(v);
+		}
+		Collections.shuffle(list, random);
+		double[] rtn = new double[values.length];
+		for (int i = 0; i < rtn.length; i++) {
+			rtn[i] = list.get(i);
+		}
+		return rtn;
+	}
+
+	@Test
+	public void evaluateSorted_LogGridTable_ShouldMatchScan() throws ParseException, CelloException {
+		Random random = new Random(SEED);
+		double[] x = new double[61];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = 1e-3 * Math.pow(10.0, i / 10.0);
+		}
+		assertMatchesScan(shuffle(x, random), getRandomOutputs(x.length, random));
+		assertMatchesScan(x, getRandomOutputs(x.length, random));
+	}
+
+	@Test
+	public void evaluateSorted_NonGridTable_ShouldMatchScan() throws ParseException, CelloException {
+		Random random = new Random(SEED);
+		double[] x = new double[40];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = Math.pow(10.0, random.nextDouble() * 6.0 - 3.0);
+		}
+		// repeated inputs with other outputs
+		for (int i = 0; i < 5; i++) {
+			x[x.length - 1 - i] = x[i];
+		}
+		assertMatchesScan(x, getRandomOutputs(x.length, random));
+	}
+
+	@Test
+	public void evaluateSorted_Ties_ShouldMatchScan() throws ParseException, CelloException {
+		// equidistant rows at 2.5 and 4.0, repeated rows at 3.0
+		double[] x = { 3.0, 1.0, 5.0, 3.0, 2.0, 3.0 };
+		double[] y = { 30.0, 10.0, 50.0, 31.0, 20.0, 32.0 };
+		assertMatchesScan(x, y);
+		UnivariateLookupTableFunction f = getFunction(x, y);
+		// the first two of the rows at distance 0.5, in table order
+		assertEquals((30.0 + 31.0) / 2.0, f.evaluateSorted(2.5), 0.0);
+		// the first 3.0 and the 5.0, both at distance 1.0
+		assertEquals((30.0 + 50.0) / 2.0, f.evaluateSorted(4.0), 0.0);
+	}
+
+	@Test
+	public void evaluateSorted_NonPositiveInputs_ShouldMatchScan() throws ParseException, CelloException {
+		double[] x = { -2.0, 0.0, 1.0, 4.0, 9.0 };
+		double[] y = { 1.0, 2.0, 3.0, 4.0, 5.0 };
+		assertMatchesScan(x, y);
+	}
+
+	@Test
+	public void evaluateSorted_SingleRow_ShouldReturnRow() throws ParseException, CelloException {
+		UnivariateLookupTableFunction f = getFunction(new double[] { 2.0 }, new double[] { 7.0 });
+		assertEquals(0, f.getLowerBound(1.0));
+		assertEquals(1, f.getLowerBound(3.0));
+		assertEquals(7.0, f.evaluateSorted(1.0), TOLERANCE);
+		assertEquals(7.0, f.evaluateSorted(3.0), TOLERANCE);
+	}
+
+	private static final int NUM_QUERIES = 500;
+	private static final long SEED = 11;
+	private static final double TOLERANCE = 1e-12;
+
+}
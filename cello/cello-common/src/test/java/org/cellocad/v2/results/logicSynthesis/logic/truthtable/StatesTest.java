@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cellocad.v2.common.Pair;
+import org.junit.Test;
+
+/**
+ * The StatesTest class tests the State and States classes.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class StatesTest {
+
+	private static List<Object> getNodes(final int num) {
+		List<Object> rtn = new ArrayList<>();
+		for (int i = 0; i < num; i++) {
+			rtn.add(new Object());
+		}
+		return rtn;
+	}
+
+	@Test
+	public void init_ThreeInputs_ShouldEnumerateAllValues() {
+		List<Object> nodes = getNodes(3);
+		States<Object> states = new States<>(nodes, true, false);
+		assertEquals(8, states.getNumStates());
+		for (int i = 0; i < states.getNumStates(); i++) {
+			State<Object> state = states.getStateAtIdx(i);
+			assertEquals(i, state.getValue());
+			for (int j = 0; j < nodes.size(); j++) {
+				assertEquals(((i >> j) & 1) == 1, state.getState(nodes.get(j)));
+			}
+		}
+		assertNull(states.getStateAtIdx(-1));
+		assertNull(states.getStateAtIdx(8));
+	}
+
+	@Test
+	public void setState_AllValues_ShouldRoundTrip() {
+		List<Object> nodes = getNodes(5);
+		for (int value = 0; value < 1 << nodes.size(); value++) {
+			State<Object> state = new State<>(nodes, true, false);
+			for (int j = 0; j < nodes.size(); j++) {
+				assertTrue(state.setState(nodes.get(j), ((value >> j) & 1) == 1));
+			}
+			assertEquals(value, state.getValue());
+			State<Object> copy = new State<>(nodes, true, false, value);
+			for (int j = 0; j < nodes.size(); j++) {
+				assertEquals(state.getState(nodes.get(j)), copy.getState(nodes.get(j)));
+			}
+		}
+	}
+
+	@Test
+	public void setState_InvertedLogic_ShouldStoreTrueValueAsSetBit() {
+		List<Object> nodes = getNodes(2);
+		State<Object> state = new State<>(nodes, false, true);
+		assertTrue(state.setState(nodes.get(0), false));
+		assertTrue(state.setState(nodes.get(1), true));
+		assertEquals(1L, state.getValue());
+		assertEquals(false, state.getState(nodes.get(0)));
+		assertEquals(true, state.getState(nodes.get(1)));
+	}
+
+	@Test
+	public void setState_SixtyFourNodes_ShouldUseHighestBit() {
+		List<Object> nodes = getNodes(64);
+		State<Object> state = new State<>(nodes, true, false);
+		assertTrue(state.setState(nodes.get(63), true));
+		assertEquals(Long.MIN_VALUE, state.getValue());
+		assertEquals(true, state.getState(nodes.get(63)));
+		assertEquals(false, state.getState(nodes.get(0)));
+	}
+
+	@Test
+	public void setState_UnknownNode_ShouldReturnFalse() {
+		List<Object> nodes = getNodes(2);
+		State<Object> state = new State<>(nodes, true, false, 3);
+		Object other = new Object();
+		assertFalse(state.setState(other, false));
+		assertNull(state.getState(other));
+		assertEquals(3L, state.getValue());
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void setState_NullValue_ShouldThrowException() {
+		List<Object> nodes = getNodes(2);
+		State<Object> state = new State<>(nodes, true, false);
+		state.setState(nodes.get(0), null);
+	}
+
+	@Test
+	public void getStatePositionAtIdx_ThreeNodes_ShouldReverseNodeOrder() {
+		List<Object> nodes = getNodes(3);
+		State<Object> state = new State<>(nodes, true, false, 6);
+		assertEquals(3, state.getNumStatePosition());
+		for (int i = 0; i < 3; i++) {
+			Pair<Object, Boolean> position = state.getStatePositionAtIdx(i);
+			assertTrue(position.getFirst() == nodes.get(2 - i));
+			assertEquals(state.getState(nodes.get(2 - i)), position.getSecond());
+		}
+		assertNull(state.getStatePositionAtIdx(3));
+	}
+
+	@Test
+	public void equals_SameValue_ShouldCompareByIdentity() {
+		List<Object> nodes = getNodes(2);
+		State<Object> a = new State<>(nodes, true, false, 1);
+		State<Object> b = new State<>(nodes, true, false, 1);
+		assertFalse(a.equals(b));
+		Map<State<Object>, Integer> map = new HashMap<>();
+		map.put(a, 0);
+		map.put(b, 1);
+		assertEquals(2, map.size());
+		assertNotNull(map.get(a));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void init_TooManyInputs_ShouldThrowException() {
+		new States<>(getNodes(Integer.SIZE - 1), true, false);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void init_TooManyNodes_ShouldThrowException() {
+		new State<>(getNodes(Long.SIZE + 1), true, false);
+	}
+
+}
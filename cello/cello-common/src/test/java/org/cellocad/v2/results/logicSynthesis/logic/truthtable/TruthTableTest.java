@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * The TruthTableTest class tests the TruthTable class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class TruthTableTest {
+
+	private static List<Object> getNodes(final int num) {
+		List<Object> rtn = new ArrayList<>();
+		for (int i = 0; i < num; i++) {
+			rtn.add(new Object());
+		}
+		return rtn;
+	}
+
+	@Test
+	public void getStateOutput_AndTable_ShouldReturnStoredOutputs() {
+		List<Object> inputs = getNodes(2);
+		List<Object> outputs = getNodes(1);
+		Object out = outputs.get(0);
+		States<Object> states = new States<>(inputs, true, false);
+		TruthTable<Object, Object> table = new TruthTable<>(states, outputs);
+		assertEquals(states.getNumStates(), table.getNumStates());
+		for (int i = 0; i < table.getNumStates(); i++) {
+			State<Object> input = table.getStateAtIdx(i);
+			assertTrue(input == states.getStateAtIdx(i));
+			boolean value = input.getState(inputs.get(0)) && input.getState(inputs.get(1));
+			assertTrue(table.getStateOutput(input).setState(out, value));
+		}
+		for (int i = 0; i < table.getNumStates(); i++) {
+			State<Object> output = table.getStateOutput(states.getStateAtIdx(i));
+			assertEquals(1, output.getNumStatePosition());
+			assertEquals(i == 3, output.getState(out));
+			assertEquals(i == 3 ? 1L : 0L, output.getValue());
+		}
+		assertNull(table.getStateAtIdx(table.getNumStates()));
+	}
+
+	@Test
+	public void getStateOutput_OutputStates_ShouldBeDistinct() {
+		List<Object> inputs = getNodes(2);
+		List<Object> outputs = getNodes(2);
+		States<Object> states = new States<>(inputs, true, false);
+		TruthTable<Object, Object> table = new TruthTable<>(states, outputs);
+		table.getStateOutput(states.getStateAtIdx(0)).setState(outputs.get(1), true);
+		for (int i = 1; i < states.getNumStates(); i++) {
+			assertFalse(table.getStateOutput(states.getStateAtIdx(i)).getState(outputs.get(1)));
+		}
+		assertEquals(2L, table.getStateOutput(states.getStateAtIdx(0)).getValue());
+	}
+
+	@Test
+	public void getStateOutput_EqualValueOtherState_ShouldReturnNull() {
+		List<Object> inputs = getNodes(2);
+		States<Object> states = new States<>(inputs, true, false);
+		TruthTable<Object, Object> table = new TruthTable<>(states, getNodes(1));
+		assertNull(table.getStateOutput(new State<>(inputs, true, false, 1)));
+	}
+
+	@Test
+	public void init_StateList_ShouldKeepInputOrder() {
+		List<Object> inputs = getNodes(2);
+		List<State<Object>> list = new ArrayList<>();
+		list.add(new State<>(inputs, true, false, 2));
+		list.add(new State<>(inputs, true, false, 0));
+		TruthTable<Object, Object> table = new TruthTable<>(list, getNodes(1));
+		assertEquals(2, table.getNumStates());
+		assertTrue(table.getStateAtIdx(0) == list.get(0));
+		assertTrue(table.getStateAtIdx(1) == list.get(1));
+		assertEquals(true, table.getStateOutput(list.get(0)).getOne());
+		assertEquals(false, table.getStateOutput(list.get(0)).getZero());
+	}
+
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.netlist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.cellocad.v2.common.Utils;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for the levelization cached by {@link Netlist#getLevelization()}.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class NetlistLevelizationTest {
+
+	private static Netlist getNetlist() throws IOException, ParseException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("and_LogicOnly.json");
+		JSONObject jObj = (JSONObject) parser.parse(str);
+		return new Netlist(jObj);
+	}
+
+	private static void assertBefore(final NetlistLevelization levelization, final NetlistNode src,
+			final NetlistNode dst) {
+		assertTrue(levelization.getRank(src) < levelization.getRank(dst));
+		assertTrue(levelization.getLevel(src) < levelization.getLevel(dst));
+	}
+
+	@Test
+	public void getLevelization_Unchanged_ShouldReuseLevelization() throws IOException, ParseException {
+		Netlist netlist = getNetlist();
+		NetlistLevelization levelization = netlist.getLevelization();
+		assertSame(levelization, netlist.getLevelization());
+		assertEquals(netlist.getNumVertex(), levelization.getNodes().size());
+		for (int i = 0; i < netlist.getNumEdge(); i++) {
+			NetlistEdge edge = netlist.getEdgeAtIdx(i);
+			assertBefore(levelization, edge.getSrc(), edge.getDst());
+		}
+	}
+
+	@Test
+	public void getLevelization_OtherNetlistModified_ShouldReuseLevelization()
+			throws IOException, ParseException {
+		Netlist netlist = getNetlist();
+		Netlist other = getNetlist();
+		NetlistLevelization levelization = netlist.getLevelization();
+		long modCount = netlist.getStructureModCount();
+		NetlistNode node = new NetlistNode();
+		node.setName("c");
+		other.addVertex(node);
+		other.removeEdge(other.getEdgeAtIdx(0));
+		assertEquals(modCount, netlist.getStructureModCount());
+		assertSame(levelization, netlist.getLevelization());
+	}
+
+	@Test
+	public void getLevelization_EdgeAdded_ShouldRefreshLevelization() throws IOException, ParseException {
+		Netlist netlist = getNetlist();
+		NetlistLevelization levelization = netlist.getLevelization();
+		NetlistNode src = new NetlistNode();
+		src.setName("c");
+		netlist.addVertex(src);
+		NetlistNode dst = netlist.getVertexByName("$49");
+		NetlistEdge edge = new NetlistEdge(src, dst);
+		edge.setName("e6__c_$49");
+		src.addOutEdge(edge);
+		dst.addInEdge(edge);
+		netlist.addEdge(edge);
+		NetlistLevelization refreshed = netlist.getLevelization();
+		assertNotSame(levelization, refreshed);
+		assertEquals(netlist.getNumVertex(), refreshed.getNodes().size());
+		assertBefore(refreshed, src, dst);
+		assertSame(refreshed, netlist.getLevelization());
+	}
+
+	@Test
+	public void getLevelization_EdgeSourceChanged_ShouldRefreshLevelization()
+			throws IOException, ParseException {
+		Netlist netlist = getNetlist();
+		NetlistNode src = new NetlistNode();
+		src.setName("c");
+		netlist.addVertex(src);
+		NetlistLevelization levelization = netlist.getLevelization();
+		NetlistEdge edge = netlist.getVertexByName("b").getOutEdgeAtIdx(0);
+		edge.getSrc().removeOutEdge(edge);
+		edge.setSrc(src);
+		src.addOutEdge(edge);
+		NetlistLevelization refreshed = netlist.getLevelization();
+		assertNotSame(levelization, refreshed);
+		assertBefore(refreshed, src, edge.getDst());
+	}
+
+}
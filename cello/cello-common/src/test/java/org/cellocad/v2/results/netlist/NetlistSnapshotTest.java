@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.netlist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+
+import org.cellocad.v2.common.Utils;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NetlistSnapshot}.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class NetlistSnapshotTest {
+
+	private static Netlist getNetlist() throws IOException, ParseException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("and_LogicOnly.json");
+		JSONObject jObj = (JSONObject) parser.parse(str);
+		return new Netlist(jObj);
+	}
+
+	@Test
+	public void NetlistSnapshot_ParsedNetlist_ShouldMatchNetlist() throws IOException, ParseException {
+		Netlist netlist = getNetlist();
+		NetlistSnapshot snapshot = new NetlistSnapshot(netlist);
+		assertEquals(netlist.getNumVertex(), snapshot.getNumNode());
+		assertEquals(netlist.getNumEdge(), snapshot.getNumEdge());
+		for (int i = 0; i < netlist.getNumEdge(); i++) {
+			assertSame(netlist.getEdgeAtIdx(i), snapshot.getEdge(i));
+		}
+		int[] inOffsets = snapshot.getInOffsets();
+		int[] outOffsets = snapshot.getOutOffsets();
+		assertEquals(0, inOffsets[0]);
+		assertEquals(0, outOffsets[0]);
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			assertSame(node, snapshot.getNode(i));
+			assertEquals(i, snapshot.getNodeOrdinal(node));
+			assertEquals(node.getNumInEdge(), snapshot.getNumInEdge(i));
+			assertEquals(node.getNumOutEdge(), snapshot.getNumOutEdge(i));
+			assertEquals(inOffsets[i] + node.getNumInEdge(), inOffsets[i + 1]);
+			assertEquals(outOffsets[i] + node.getNumOutEdge(), outOffsets[i + 1]);
+			for (int j = 0; j < node.getNumInEdge(); j++) {
+				NetlistEdge edge = node.getInEdgeAtIdx(j);
+				assertSame(edge.getSrc(), snapshot.getNode(snapshot.getInAdjacency()[inOffsets[i] + j]));
+				assertSame(edge, snapshot.getEdge(snapshot.getInEdges()[inOffsets[i] + j]));
+			}
+			for (int j = 0; j < node.getNumOutEdge(); j++) {
+				NetlistEdge edge = node.getOutEdgeAtIdx(j);
+				assertSame(edge.getDst(), snapshot.getNode(snapshot.getOutAdjacency()[outOffsets[i] + j]));
+				assertSame(edge, snapshot.getEdge(snapshot.getOutEdges()[outOffsets[i] + j]));
+			}
+		}
+		assertEquals(netlist.getNumEdge(), inOffsets[netlist.getNumVertex()]);
+		assertEquals(netlist.getNumEdge(), outOffsets[netlist.getNumVertex()]);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void NetlistSnapshot_EndpointNotInNetlist_ShouldThrowException()
+			throws IOException, ParseException {
+		Netlist netlist = getNetlist();
+		NetlistNode src = new NetlistNode();
+		src.setName("c");
+		NetlistNode dst = netlist.getVertexByName("$49");
+		NetlistEdge edge = new NetlistEdge(src, dst);
+		edge.setName("e6__c_$49");
+		dst.addInEdge(edge);
+		netlist.addEdge(edge);
+		new NetlistSnapshot(netlist);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void NetlistSnapshot_EdgeNotInNetlist_ShouldThrowException() throws IOException, ParseException {
+		Netlist netlist = getNetlist();
+		NetlistNode src = netlist.getVertexByName("a");
+		NetlistNode dst = netlist.getVertexByName("$50");
+		NetlistEdge edge = new NetlistEdge(src, dst);
+		edge.setName("e6__a_$50");
+		src.addOutEdge(edge);
+		dst.addInEdge(edge);
+		new NetlistSnapshot(netlist);
+	}
+
+}
@@ -20,6 +20,8 @@
  */
 package org.cellocad.v2.results.technologyMapping.activity;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -130,6 +132,30 @@ public class TMActivityEvaluationIT {
 						at.getActivityOutput(at.getStateAtIdx(0)).getActivity(node) - 0.19295365098478337) < TOLERANCE);
 	}
 
+	/**
+	 * Test that the ActivityTable views of
+	 * <code>{@link org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation TMActivityEvaluation}</code>
+	 * are reused and agree with the activities read directly.
+	 *
+	 * @throws CelloException
+	 */
+	@Test
+	public void getActivityTable_RepeatedCalls_ShouldReuseViewsAndMatchActivities() throws CelloException {
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			ActivityTable<NetlistNode, NetlistNode> at = tmae.getActivityTable(node);
+			assertSame(at, tmae.getActivityTable(node));
+			double[] activities = tmae.getActivities(node);
+			for (int j = 0; j < at.getNumStates(); j++) {
+				assertSame(at.getActivityOutput(at.getStateAtIdx(j)), at.getActivityOutput(at.getStateAtIdx(j)));
+				double a = at.getActivityOutput(at.getStateAtIdx(j)).getActivity(node);
+				assertEquals(activities[j], a, 0.0);
+				assertEquals(tmae.getActivity(node, j), a, 0.0);
+			}
+		}
+	}
+
 	private static TargetDataInstance tdi;
 	private static LSLogicEvaluation lsle;
 	private static Netlist netlist;
@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.technologyMapping.cytometry;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * The CytometryBinsTest class tests the CytometryBins class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class CytometryBinsTest {
+
+	private static double sum(final double[] hist) {
+		double rtn = 0.0;
+		for (double p : hist) {
+			rtn += p;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns a random histogram with a few empty bins.
+	 */
+	private static double[] getRandomHistogram(final int num, final Random random) {
+		double[] rtn = new double[num];
+		for (int i = 0; i < num; i++) {
+			rtn[i] = random.nextInt(4) == 0 ? 0.0 : random.nextDouble();
+		}
+		return rtn;
+	}
+
+	@Test
+	public void convolve_RandomHistograms_ShouldPreserveTotalMass() {
+		CytometryBins bins = CytometryBins.getLogBins(1e-3, 1e3, 50);
+		Random random = new Random(SEED);
+		double[] out = new double[bins.getNumBins()];
+		for (int i = 0; i < ITERATIONS; i++) {
+			double[] a = getRandomHistogram(bins.getNumBins(), random);
+			double[] b = getRandomHistogram(bins.getNumBins(), random);
+			bins.convolve(a, b, out);
+			assertEquals(sum(a) * sum(b), sum(out), TOLERANCE * sum(a) * sum(b));
+		}
+	}
+
+	@Test
+	public void convolve_PointMasses_ShouldPlaceMassAtSum() {
+		CytometryBins bins = new CytometryBins(new double[] { 1.0, 2.0, 4.0, 8.0 });
+		double[] a = { 1.0, 0.0, 0.0, 0.0 };
+		double[] b = { 0.0, 1.0, 0.0, 0.0 };
+		double[] out = new double[4];
+		bins.convolve(a, b, out);
+		// 1 + 2 = 3, halfway between 2 and 4 on the log scale
+		double w = Math.log(3.0 / 2.0) / Math.log(2.0);
+		assertEquals(0.0, out[0], TOLERANCE);
+		assertEquals(1.0 - w, out[1], TOLERANCE);
+		assertEquals(w, out[2], TOLERANCE);
+		assertEquals(0.0, out[3], TOLERANCE);
+	}
+
+	@Test
+	public void add_OutOfRangeValues_ShouldPreserveMass() {
+		CytometryBins bins = CytometryBins.getLogBins(1e-3, 1e3, 50);
+		double[] hist = new double[bins.getNumBins()];
+		bins.add(hist, 1e-6, 1.0);
+		bins.add(hist, 1e6, 2.0);
+		bins.add(hist, 0.5, 3.0);
+		assertEquals(1.0, hist[0], TOLERANCE);
+		assertEquals(2.0, hist[bins.getNumBins() - 1], TOLERANCE);
+		assertEquals(6.0, sum(hist), TOLERANCE);
+	}
+
+	@Test
+	public void getLowerIdx_RandomValues_ShouldMatchLinearScan() {
+		CytometryBins bins = CytometryBins.getLogBins(1e-3, 1e3, 50);
+		Random random = new Random(SEED);
+		for (int i = 0; i < ITERATIONS; i++) {
+			double value = Math.pow(10.0, random.nextDouble() * 8.0 - 4.0);
+			int expected = 0;
+			while (expected + 1 < bins.getNumBins() && bins.getBin(expected + 1) <= value) {
+				expected++;
+			}
+			assertEquals(expected, bins.getLowerIdx(value));
+		}
+	}
+
+	private static final int ITERATIONS = 200;
+	private static final long SEED = 7;
+	private static final double TOLERANCE = 1e-9;
+
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.technologyMapping.cytometry;
+
+import static org.junit.Assert.assertEquals;
+
+import org.cellocad.v2.common.target.data.data.Cytometry;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * The CytometryModelTest class tests the CytometryModel class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class CytometryModelTest {
+
+	private static Cytometry getCytometry(final String data) throws ParseException {
+		String str = "{\"gate_name\": \"gate\", \"cytometry_data\": [" + data + "]}";
+		return new Cytometry((JSONObject) new JSONParser().parse(str));
+	}
+
+	private static String getRow(final double input, final double[] bins, final double[] counts) {
+		StringBuilder rtn = new StringBuilder();
+		rtn.append("{\"maps_to_variable\": \"x\", \"input\": ").append(input);
+		rtn.append(", \"output_bins\": [");
+		for (int i = 0; i < bins.length; i++) {
+			rtn.append(i > 0 ? ", " : "").append(bins[i]);
+		}
+		rtn.append("], \"output_counts\": [");
+		for (int i = 0; i < counts.length; i++) {
+			rtn.append(i > 0 ? ", " : "").append(counts[i]);
+		}
+		rtn.append("]}");
+		return rtn.toString();
+	}
+
+	@Test
+	public void transfer_PointMassThroughOneRowModel_ShouldReproduceRow() throws ParseException {
+		double[] values = { 0.01, 0.1, 1.0, 10.0, 100.0 };
+		double[] counts = { 5.0, 20.0, 50.0, 20.0, 5.0 };
+		CytometryBins bins = new CytometryBins(values);
+		CytometryModel model = new CytometryModel(getCytometry(getRow(1.0, values, counts)), bins);
+		double[] output = new double[bins.getNumBins()];
+		for (double x : new double[] { 1e-4, 0.01, 0.3, 1.0, 42.0, 1e4 }) {
+			double[] input = new double[bins.getNumBins()];
+			bins.add(input, x, 1.0);
+			model.transfer(input, output);
+			for (int i = 0; i < counts.length; i++) {
+				assertEquals(counts[i] / 100.0, output[i], TOLERANCE);
+			}
+		}
+	}
+
+	@Test
+	public void transfer_PointMassAtRowInput_ShouldReproduceRow() throws ParseException {
+		double[] values = { 0.01, 0.1, 1.0, 10.0, 100.0 };
+		double[] low = { 10.0, 0.0, 0.0, 0.0, 0.0 };
+		double[] high = { 0.0, 0.0, 0.0, 0.0, 30.0 };
+		CytometryBins bins = new CytometryBins(values);
+		CytometryModel model = new CytometryModel(
+		        getCytometry(getRow(10.0, values, high) + ", " + getRow(0.1, values, low)), bins);
+		double[] input = new double[bins.getNumBins()];
+		double[] output = new double[bins.getNumBins()];
+		bins.add(input, 0.1, 1.0);
+		model.transfer(input, output);
+		assertEquals(1.0, output[0], TOLERANCE);
+		assertEquals(0.0, output[4], TOLERANCE);
+		input = new double[bins.getNumBins()];
+		bins.add(input, 10.0, 1.0);
+		model.transfer(input, output);
+		assertEquals(0.0, output[0], TOLERANCE);
+		assertEquals(1.0, output[4], TOLERANCE);
+	}
+
+	@Test
+	public void init_RowOnOtherBins_ShouldRebinAndNormalize() throws ParseException {
+		double[] values = { 0.01, 0.1, 1.0, 10.0, 100.0 };
+		double[] counts = { 0.0, 10.0, 10.0, 0.0 };
+		CytometryBins bins = new CytometryBins(values);
+		double[] other = { 0.01, Math.sqrt(0.1 * 1.0), 1.0, 100.0 };
+		CytometryModel model = new CytometryModel(getCytometry(getRow(1.0, other, counts)), bins);
+		double[] input = new double[bins.getNumBins()];
+		double[] output = new double[bins.getNumBins()];
+		bins.add(input, 1.0, 1.0);
+		model.transfer(input, output);
+		// half of the first count lies halfway between 0.1 and 1.0
+		assertEquals(0.0, output[0], TOLERANCE);
+		assertEquals(0.25, output[1], TOLERANCE);
+		assertEquals(0.75, output[2], TOLERANCE);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void init_EmptyRow_ShouldThrowException() throws ParseException {
+		double[] values = { 0.01, 0.1, 1.0 };
+		new CytometryModel(getCytometry(getRow(1.0, values, new double[3])), new CytometryBins(values));
+	}
+
+	private static final double TOLERANCE = 1e-9;
+
+}
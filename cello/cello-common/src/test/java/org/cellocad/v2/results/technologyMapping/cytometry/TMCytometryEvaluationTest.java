@@ -0,0 +1,241 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.technologyMapping.cytometry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.TargetDataUtils;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Cytometry;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The TMCytometryEvaluationTest class tests the TMCytometryEvaluation class on
+ * the and netlist and a small library with cytometry data.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class TMCytometryEvaluationTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("cytometry_library.json");
+		TargetData td = new TargetData((JSONArray) parser.parse(str));
+		cytometry = TargetDataUtils.getCytometry(td);
+		netlist = getNetlist(new TargetDataInstance(td));
+		lsle = new LSLogicEvaluation(netlist);
+		tmae = new TMActivityEvaluation(netlist, lsle);
+	}
+
+	/**
+	 * Returns the and netlist with the devices of the TargetDataInstance defined
+	 * by parameter <i>tdi</i>, assigned in order.
+	 */
+	private static Netlist getNetlist(final TargetDataInstance tdi) throws IOException, ParseException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("and_LogicOnly.json");
+		Netlist netlist = new Netlist((JSONObject) parser.parse(str));
+		LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+		CObjectCollection<NetlistNode> inputs = LSResultsUtils.getPrimaryInputNodes(netlist);
+		for (int i = 0; i < inputs.size(); i++) {
+			inputs.get(i).getResultNetlistNodeData().setDevice(tdi.getInputSensors().get(i));
+		}
+		CObjectCollection<NetlistNode> outputs = LSResultsUtils.getPrimaryOutputNodes(netlist);
+		for (int i = 0; i < outputs.size(); i++) {
+			outputs.get(i).getResultNetlistNodeData().setDevice(tdi.getOutputDevices().get(i));
+		}
+		int gate = 0;
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			if (!LSResultsUtils.isPrimary(node) && !LSResultsUtils.isInputOutput(node)) {
+				node.getResultNetlistNodeData().setDevice(tdi.getGates().get(gate++));
+			}
+		}
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			for (int j = 0; j < node.getNumInEdge(); j++) {
+				node.getInEdgeAtIdx(j).getResultNetlistEdgeData().setInput(device.getStructure().getInputs().get(j));
+			}
+		}
+		return netlist;
+	}
+
+	/**
+	 * Returns the library with the cytometry data of each gate moved from the
+	 * <i>gate_cytometry</i> collection to a <i>cytometry</i> function of its
+	 * model, as in version 2 target data.
+	 */
+	@SuppressWarnings("unchecked")
+	private static JSONArray getFunctionLibrary() throws IOException, ParseException {
+		JSONParser parser = new JSONParser();
+		JSONArray library = (JSONArray) parser.parse(Utils.getResourceAsString("cytometry_library.json"));
+		JSONArray rtn = new JSONArray();
+		Map<String, String> models = new HashMap<>();
+		for (Object obj : library) {
+			JSONObject jObj = (JSONObject) obj;
+			if ("gates".equals(jObj.get("collection"))) {
+				models.put((String) jObj.get("name"), (String) jObj.get("model"));
+			}
+		}
+		Map<String, String> functions = new HashMap<>();
+		for (Object obj : library) {
+			JSONObject jObj = (JSONObject) obj;
+			if (!"gate_cytometry".equals(jObj.get("collection"))) {
+				rtn.add(jObj);
+				continue;
+			}
+			String name = jObj.get("gate_name") + "_cytometry";
+			JSONArray table = new JSONArray();
+			for (Object data : (JSONArray) jObj.get("cytometry_data")) {
+				JSONObject row = new JSONObject();
+				row.put("x", ((JSONObject) data).get("input"));
+				row.put("bin", ((JSONObject) data).get("output_bins"));
+				row.put("output", ((JSONObject) data).get("output_counts"));
+				table.add(row);
+			}
+			JSONArray variables = new JSONArray();
+			for (String variable : new String[] { "x", "bin" }) {
+				JSONObject v = new JSONObject();
+				v.put("name", variable);
+				variables.add(v);
+			}
+			JSONObject function = new JSONObject();
+			function.put("collection", "functions");
+			function.put("name", name);
+			function.put("variables", variables);
+			function.put("table", table);
+			rtn.add(function);
+			functions.put(models.get(jObj.get("gate_name")), name);
+		}
+		for (Object obj : rtn) {
+			JSONObject jObj = (JSONObject) obj;
+			String function = functions.get(jObj.get("name"));
+			if ("models".equals(jObj.get("collection")) && function != null) {
+				((JSONObject) jObj.get("functions")).put("cytometry", function);
+			}
+		}
+		return rtn;
+	}
+
+	@Test
+	public void init_CytometryFunctions_ShouldMatchGateCytometry() throws IOException, ParseException, CelloException {
+		TargetData td = new TargetData(getFunctionLibrary());
+		CObjectCollection<Cytometry> none = TargetDataUtils.getCytometry(td);
+		assertEquals(0, none.size());
+		Netlist other = getNetlist(new TargetDataInstance(td));
+		assertTrue(TMCytometryEvaluation.hasCytometry(other, none));
+		LSLogicEvaluation otherLsle = new LSLogicEvaluation(other);
+		TMActivityEvaluation otherTmae = new TMActivityEvaluation(other, otherLsle);
+		TMCytometryEvaluation expected = new TMCytometryEvaluation(netlist, lsle, tmae, cytometry);
+		TMCytometryEvaluation actual = new TMCytometryEvaluation(other, otherLsle, otherTmae, none);
+		assertEquals(expected.getBins().getNumBins(), actual.getBins().getNumBins());
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			NetlistNode otherNode = other.getVertexByName(node.getName());
+			for (int j = 0; j < expected.getStates().getNumStates(); j++) {
+				double[] a = expected.getDistribution(node, j);
+				double[] b = actual.getDistribution(otherNode, j);
+				for (int k = 0; k < a.length; k++) {
+					assertEquals(a[k], b[k], TOLERANCE);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void hasCytometry_GateCytometry_ShouldBeTrue() {
+		assertTrue(TMCytometryEvaluation.hasCytometry(netlist, cytometry));
+	}
+
+	@Test
+	public void hasCytometry_NoCytometryData_ShouldBeFalse() {
+		assertFalse(TMCytometryEvaluation.hasCytometry(netlist, new CObjectCollection<Cytometry>()));
+	}
+
+	@Test
+	public void init_ParallelAndSequential_ShouldGiveIdenticalDistributions() {
+		TMCytometryEvaluation sequential = new TMCytometryEvaluation(netlist, lsle, tmae, cytometry, false);
+		TMCytometryEvaluation parallel = new TMCytometryEvaluation(netlist, lsle, tmae, cytometry, true);
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			for (int j = 0; j < sequential.getStates().getNumStates(); j++) {
+				double[] a = sequential.getDistribution(node, j);
+				double[] b = parallel.getDistribution(node, j);
+				assertEquals(a.length, b.length);
+				for (int k = 0; k < a.length; k++) {
+					assertEquals(a[k], b[k], 0.0);
+				}
+			}
+			assertEquals(sequential.getOverlap(node), parallel.getOverlap(node), 0.0);
+		}
+		assertEquals(sequential.getScore(), parallel.getScore(), 0.0);
+	}
+
+	@Test
+	public void init_AndNetlist_ShouldPreserveTotalMass() {
+		TMCytometryEvaluation tmce = new TMCytometryEvaluation(netlist, lsle, tmae, cytometry, true);
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			for (int j = 0; j < tmce.getStates().getNumStates(); j++) {
+				double total = 0.0;
+				for (double p : tmce.getDistribution(node, j)) {
+					total += p;
+				}
+				assertEquals(1.0, total, TOLERANCE);
+			}
+		}
+	}
+
+	private static CObjectCollection<Cytometry> cytometry;
+	private static Netlist netlist;
+	private static LSLogicEvaluation lsle;
+	private static TMActivityEvaluation tmae;
+
+	private static final double TOLERANCE = 1e-9;
+
+}
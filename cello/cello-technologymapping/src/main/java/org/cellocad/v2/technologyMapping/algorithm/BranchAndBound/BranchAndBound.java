@@ -0,0 +1,199 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.BranchAndBound;
+
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.BranchAndBound.data.search.AssignmentSearch;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.SimulatedAnnealing;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain.AnnealingChain;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+
+/**
+ * The BranchAndBound class implements the <i>BranchAndBound</i> algorithm in
+ * the <i>technologyMapping</i> stage. The algorithm searches the gate
+ * assignments exhaustively with an {@link AssignmentSearch}, and returns the
+ * assignment with the highest score among those that meet the growth threshold
+ * if the search finishes within the <i>TimeBudget</i> parameter. Otherwise the
+ * <i>SimulatedAnnealing</i> algorithm, as configured by the same parameters,
+ * starts from the best assignment found, which is kept if the annealing does
+ * not improve on it. If no assignment meets the growth threshold, the assignment
+ * is found by the annealing from a random assignment.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class BranchAndBound extends SimulatedAnnealing {
+
+	/**
+	 * Set parameter(s) value(s) of the algorithm
+	 */
+	@Override
+	protected void setParameterValues() {
+		super.setParameterValues();
+		Boolean present = true;
+		present = this.getAlgorithmProfile().getDoubleParameter("TimeBudget").getFirst();
+		if (present) {
+			this.setTimeBudget(this.getAlgorithmProfile().getDoubleParameter("TimeBudget").getSecond());
+		}
+	}
+
+	/**
+	 * Validate parameter value of the algorithm
+	 */
+	@Override
+	protected void validateParameterValues() {
+		super.validateParameterValues();
+		if (this.getTimeBudget() == null)
+			this.setTimeBudget(60.0);
+		if (!(this.getTimeBudget() >= 0.0))
+			throw new RuntimeException("Invalid TimeBudget: " + this.getTimeBudget() + ", expected at least 0.0.");
+	}
+
+	/**
+	 * Run the (core) algorithm
+	 *
+	 * @throws CelloException
+	 */
+	@Override
+	protected void run() throws CelloException {
+		logDebug("Running the (core) algorithm.");
+
+		// input node assignment
+		assignInputNodes();
+		// output node assignment
+		assignOutputNodes();
+
+		// logic node assignment
+		AssignmentSearch search = new AssignmentSearch(getNetlist(), getTargetDataInstance().getGates(),
+		        getChainConfig().getNumThreads(), this::createResponseCache);
+		long start = System.currentTimeMillis();
+		boolean finished = search.run((long) (getTimeBudget() * 1000.0));
+		long time = System.currentTimeMillis() - start;
+		logInfo(String.format("Branch and bound: %d partial assignments in %d ms", search.getNumVisited(), time));
+		Map<NetlistNode, Gate> assignment = search.getAssignment();
+		if (!finished) {
+			logInfo("Time budget exceeded, falling back to annealing from the best assignment found.");
+			setInitialAssignment(assignment);
+			super.run();
+			if (assignment != null && !isBetterThan(search.getScore())) {
+				logInfo(String.format("Annealing did not improve on the best assignment found, score: %.2f",
+				        search.getScore()));
+				setAssignment(assignment);
+			}
+			return;
+		}
+		if (assignment == null) {
+			logInfo("No assignment meets the growth threshold, falling back to annealing.");
+			super.run();
+			return;
+		}
+		logInfo(String.format("Optimal score: %.2f", search.getScore()));
+		setAssignment(assignment);
+	}
+
+	/**
+	 * Returns true if the current assignment of the netlist meets the growth
+	 * threshold and its score is at least the score defined by parameter
+	 * <i>score</i>.
+	 *
+	 * @param score the score
+	 * @return true if the current assignment meets the growth threshold and its
+	 *         score is at least the score defined by parameter <i>score</i>
+	 */
+	private boolean isBetterThan(final double score) {
+		boolean rtn = false;
+		if (getTMToxicityEvaluation().getMinimumGrowth() >= AnnealingChain.D_GROWTH_THRESHOLD) {
+			rtn = ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation()) >= score;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Assigns the gates of the assignment defined by parameter <i>assignment</i>
+	 * to the logic nodes of the netlist, and evaluates the netlist.
+	 *
+	 * @param assignment the assignment, from each logic node of the netlist to
+	 *                   its gate
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	private void setAssignment(final Map<NetlistNode, Gate> assignment) throws CelloException {
+		for (NetlistNode node : assignment.keySet()) {
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			if (device instanceof Gate) {
+				getGateManager().setUnassignedGate((Gate) device);
+			}
+		}
+		for (Map.Entry<NetlistNode, Gate> entry : assignment.entrySet()) {
+			entry.getKey().getResultNetlistNodeData().setDevice(entry.getValue());
+			getGateManager().setAssignedGate(entry.getValue());
+		}
+		updateNetlist();
+		setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation(), createResponseCache()));
+		setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
+	}
+
+	/**
+	 * Returns the Logger for the <i>BranchAndBound</i> algorithm
+	 *
+	 * @return the logger for the <i>BranchAndBound</i> algorithm
+	 */
+	@Override
+	protected Logger getLogger() {
+		return BranchAndBound.logger;
+	}
+
+	private static final Logger logger = LogManager.getLogger(BranchAndBound.class);
+
+	/*
+	 * Parameters
+	 */
+	/**
+	 * Getter for <i>timeBudget</i>, the time budget of the search in seconds.
+	 *
+	 * @return value of <i>timeBudget</i>
+	 */
+	protected Double getTimeBudget() {
+		return this.timeBudget;
+	}
+
+	/**
+	 * Setter for <i>timeBudget</i>
+	 *
+	 * @param timeBudget the value to set <i>timeBudget</i>
+	 */
+	protected void setTimeBudget(final Double timeBudget) {
+		this.timeBudget = timeBudget;
+	}
+
+	private Double timeBudget;
+
+}
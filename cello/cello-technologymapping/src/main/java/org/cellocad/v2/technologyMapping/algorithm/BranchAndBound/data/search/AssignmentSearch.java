@@ -0,0 +1,613 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.BranchAndBound.data.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.ResponseCache;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain.AnnealingChain;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.cellocad.v2.technologyMapping.common.TMUtils;
+
+/**
+ * The AssignmentSearch class is an exhaustive branch-and-bound search for the
+ * gate assignment of a netlist with the highest score among the assignments
+ * whose minimum growth meets {@link AnnealingChain#D_GROWTH_THRESHOLD}. At most
+ * one gate of each group is assigned.
+ * <p>
+ * The logic nodes are assigned in a topological order that completes the fan-in
+ * cone of each primary output in turn, so that the activity and the toxicity of
+ * an assigned node never depend on an unassigned node. The score of a partial
+ * assignment, the minimum on/off ratio of the primary outputs whose cones are
+ * complete, bounds the score of its completions from above, and the product of
+ * the toxicities of the assigned nodes bounds their growth from above. A branch
+ * is pruned when its score bound does not exceed the best complete assignment
+ * found so far, or when its growth bound falls below the threshold.
+ * <p>
+ * The top levels of the search tree are split into tasks of a ForkJoinPool.
+ * Each task evaluates its subtree on a copy of the netlist owned by a worker, of
+ * which there is one per thread.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class AssignmentSearch {
+
+	/**
+	 * Initializes a newly created AssignmentSearch of the gate assignments of the
+	 * Netlist defined by parameter <i>netlist</i>. The primary inputs and outputs
+	 * of the netlist must already be assigned a device.
+	 *
+	 * @param netlist    the Netlist
+	 * @param gates      the gates of the library
+	 * @param numThreads the number of threads of the search
+	 * @param caches     the supplier of the ResponseCache of each worker, whose
+	 *                   value may be null
+	 * @throws CelloException Unable to evaluate the netlist, or the library has
+	 *                        fewer gate groups than the netlist has logic nodes.
+	 */
+	public AssignmentSearch(final Netlist netlist, final CObjectCollection<Gate> gates, final int numThreads,
+			final Supplier<ResponseCache> caches) throws CelloException {
+		if (numThreads <= 0) {
+			throw new RuntimeException("Invalid number of threads!");
+		}
+		this.netlist = netlist;
+		this.numThreads = numThreads;
+		this.initGates(gates);
+		this.initOrder();
+		if (this.numGroups < this.logicNodes.length) {
+			throw new CelloException(String.format(
+					"The netlist has %d logic nodes but the library has only %d gate groups, and at most one gate of each group can be assigned.",
+					this.logicNodes.length, this.numGroups));
+		}
+		this.best = Double.NEGATIVE_INFINITY;
+		this.numVisited = new AtomicLong();
+		this.workers = new LinkedBlockingQueue<>();
+		for (int i = 0; i < numThreads; i++) {
+			this.workers.add(new Worker(caches.get()));
+		}
+	}
+
+	private void initGates(final CObjectCollection<Gate> gates) {
+		this.gates = new Gate[gates.size()];
+		this.gateGroup = new int[gates.size()];
+		Map<String, Integer> groups = new HashMap<>();
+		for (int i = 0; i < gates.size(); i++) {
+			Gate gate = gates.get(i);
+			Integer group = groups.get(gate.getGroup());
+			if (group == null) {
+				group = groups.size();
+				groups.put(gate.getGroup(), group);
+			}
+			this.gates[i] = gate;
+			this.gateGroup[i] = group;
+		}
+		this.numGroups = groups.size();
+	}
+
+	private static boolean isLogic(final NetlistNode node) {
+		return !LSResultsUtils.isPrimary(node) && !LSResultsUtils.isInputOutput(node);
+	}
+
+	private static void visit(final NetlistNode node, final Map<NetlistNode, Boolean> visited,
+			final List<NetlistNode> order) {
+		Boolean done = visited.get(node);
+		if (done != null) {
+			if (!done) {
+				throw new RuntimeException("Netlist is not acyclic!");
+			}
+			return;
+		}
+		visited.put(node, false);
+		for (int i = 0; i < node.getNumInEdge(); i++) {
+			visit(node.getInEdgeAtIdx(i).getSrc(), visited, order);
+		}
+		visited.put(node, true);
+		order.add(node);
+	}
+
+	/**
+	 * Orders the nodes of the netlist so that the fan-in cone of each primary
+	 * output is completed in turn, and splits the order into the segment of nodes
+	 * evaluated after the assignment of each logic node.
+	 */
+	private void initOrder() {
+		Map<NetlistNode, Boolean> visited = new IdentityHashMap<>();
+		List<NetlistNode> order = new ArrayList<>();
+		CObjectCollection<NetlistNode> outputs = LSResultsUtils.getPrimaryOutputNodes(this.getNetlist());
+		for (int i = 0; i < outputs.size(); i++) {
+			visit(outputs.get(i), visited, order);
+		}
+		for (int i = 0; i < this.getNetlist().getNumVertex(); i++) {
+			visit(this.getNetlist().getVertexAtIdx(i), visited, order);
+		}
+		Map<NetlistNode, Integer> indices = new IdentityHashMap<>();
+		for (int i = 0; i < this.getNetlist().getNumVertex(); i++) {
+			indices.put(this.getNetlist().getVertexAtIdx(i), i);
+		}
+		List<Integer> logic = new ArrayList<>();
+		List<List<Integer>> segments = new ArrayList<>();
+		List<Integer> prefix = new ArrayList<>();
+		List<Integer> segment = prefix;
+		for (NetlistNode node : order) {
+			if (isLogic(node)) {
+				logic.add(indices.get(node));
+				segment = new ArrayList<>();
+				segments.add(segment);
+			}
+			segment.add(indices.get(node));
+		}
+		this.logicNodes = new int[logic.size()];
+		this.segments = new int[logic.size()][];
+		for (int i = 0; i < logic.size(); i++) {
+			this.logicNodes[i] = logic.get(i);
+			this.segments[i] = segments.get(i).stream().mapToInt(Integer::intValue).toArray();
+		}
+		this.prefix = prefix.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Returns the depth of the search tree down to which the tree is split into
+	 * tasks, so that there are several tasks per thread.
+	 *
+	 * @return the depth of the search tree down to which the tree is split
+	 */
+	private int getSplitDepth() {
+		int rtn = 0;
+		long tasks = 1;
+		while (rtn < this.logicNodes.length && tasks < (long) I_TASKS_PER_THREAD * this.numThreads) {
+			tasks *= Math.max(1, this.numGroups - rtn);
+			rtn++;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Runs the search for at most the time defined by parameter <i>timeBudget</i>.
+	 *
+	 * @param timeBudget the time budget in milliseconds
+	 * @return true if the search finished within the time budget, false otherwise
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	public boolean run(final long timeBudget) throws CelloException {
+		this.start = System.nanoTime();
+		this.budget = Math.min(Math.max(timeBudget, 0), Long.MAX_VALUE / 2000000L) * 1000000L;
+		this.stopped = false;
+		this.timedOut = false;
+		this.splitDepth = this.getSplitDepth();
+		ForkJoinPool pool = new ForkJoinPool(this.numThreads);
+		try {
+			pool.invoke(new Task(new int[0]));
+		} finally {
+			pool.shutdown();
+		}
+		if (this.error != null) {
+			throw this.error;
+		}
+		return !this.timedOut;
+	}
+
+	/**
+	 * The Task class searches the subtree of the assignment defined by its prefix,
+	 * splitting it into a task per gate of the next logic node above the split
+	 * depth.
+	 */
+	private final class Task extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private Task(final int[] prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		protected void compute() {
+			if (stopped) {
+				return;
+			}
+			int depth = this.prefix.length;
+			if (depth < splitDepth) {
+				boolean[] used = new boolean[numGroups];
+				for (int gate : this.prefix) {
+					used[gateGroup[gate]] = true;
+				}
+				List<Task> tasks = new ArrayList<>();
+				for (int i = 0; i < gates.length; i++) {
+					if (!used[gateGroup[i]]) {
+						int[] prefix = Arrays.copyOf(this.prefix, depth + 1);
+						prefix[depth] = i;
+						tasks.add(new Task(prefix));
+					}
+				}
+				invokeAll(tasks);
+				return;
+			}
+			Worker worker = null;
+			try {
+				worker = workers.take();
+				worker.search(this.prefix);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				setError(new CelloException(e));
+			} catch (CelloException e) {
+				setError(e);
+			} finally {
+				if (worker != null) {
+					workers.add(worker);
+				}
+			}
+		}
+
+		private final int[] prefix;
+
+	}
+
+	/**
+	 * The Worker class evaluates partial assignments on its own copy of the
+	 * netlist. The arrays of a worker are indexed by the depth of the search tree,
+	 * i.e. by the position of the logic node in the assignment order.
+	 * <p>
+	 * The children of a node of the search tree are all evaluated before the
+	 * first is descended into, to visit the most promising first. The evaluation
+	 * of each child, i.e. the activities of its segment and its growths, is saved
+	 * and restored when the child is descended into, rather than evaluated again.
+	 * The segment of a logic node only depends on the nodes assigned at lower
+	 * depths, so the saved evaluation stays valid while the subtrees of its
+	 * siblings are searched. The toxicities are not restored, as the growths of a
+	 * depth already hold their product.
+	 */
+	private final class Worker {
+
+		private Worker(final ResponseCache cache) throws CelloException {
+			// any gate, for the initial evaluation
+			Gate gate = gates.length > 0 ? gates[0] : null;
+			Netlist netlist = TMUtils.copyNetlist(getNetlist(), logicNodes, gate);
+			int depth = logicNodes.length;
+			this.nodes = new NetlistNode[depth];
+			this.segments = new ArrayList<>(depth);
+			this.outputs = new ArrayList<>(depth);
+			for (int i = 0; i < depth; i++) {
+				this.nodes[i] = netlist.getVertexAtIdx(logicNodes[i]);
+				List<NetlistNode> segment = this.getNodes(netlist, AssignmentSearch.this.segments[i]);
+				this.segments.add(segment);
+				this.outputs.add(this.getOutputs(segment));
+			}
+			this.lsle = new LSLogicEvaluation(netlist);
+			this.tmae = new TMActivityEvaluation(netlist, this.lsle, cache);
+			this.tmte = new TMToxicityEvaluation(netlist, this.tmae);
+			int numStates = this.tmae.getStates().getNumStates();
+			this.growths = new double[depth + 1][numStates];
+			Arrays.fill(this.growths[0], 1.0);
+			this.bounds = new double[depth + 1];
+			this.bounds[0] = Double.MAX_VALUE;
+			for (NetlistNode node : this.getOutputs(this.getNodes(netlist, prefix))) {
+				this.bounds[0] = Math.min(this.bounds[0], ScoreUtils.getOnOffRatio(node, this.lsle, this.tmae));
+			}
+			this.saved = new double[depth][];
+			for (int i = 0; i < depth; i++) {
+				this.saved[i] = new double[gates.length * (this.segments.get(i).size() + 1) * numStates];
+			}
+			this.assignment = new int[depth];
+			this.used = new boolean[numGroups];
+			this.children = new int[depth][gates.length];
+			this.slots = new int[depth][gates.length];
+			this.childBounds = new double[depth][gates.length];
+			this.childGrowths = new double[gates.length];
+		}
+
+		private List<NetlistNode> getNodes(final Netlist netlist, final int[] indices) {
+			List<NetlistNode> rtn = new ArrayList<>();
+			for (int index : indices) {
+				rtn.add(netlist.getVertexAtIdx(index));
+			}
+			return rtn;
+		}
+
+		private List<NetlistNode> getOutputs(final List<NetlistNode> nodes) {
+			List<NetlistNode> rtn = new ArrayList<>();
+			for (NetlistNode node : nodes) {
+				if (LSResultsUtils.isPrimaryOutput(node)) {
+					rtn.add(node);
+				}
+			}
+			return rtn;
+		}
+
+		/**
+		 * Assigns the gate defined by parameter <i>gate</i> to the logic node at the
+		 * depth defined by parameter <i>depth</i>, evaluates its segment and updates
+		 * the bounds of the next depth.
+		 *
+		 * @param depth the depth
+		 * @param gate  the index of the gate
+		 * @return false if the assignment is pruned, true otherwise
+		 * @throws CelloException Unable to evaluate the netlist.
+		 */
+		private boolean assign(final int depth, final int gate) throws CelloException {
+			numVisited.incrementAndGet();
+			this.nodes[depth].getResultNetlistNodeData().setDevice(gates[gate]);
+			TMUtils.setInputs(this.nodes[depth]);
+			this.tmae.evaluate(this.segments.get(depth));
+			this.tmte.evaluate(this.segments.get(depth));
+			// growth bound
+			double[] toxicities = this.tmte.getToxicities(this.nodes[depth]);
+			double[] parent = this.growths[depth];
+			double[] growths = this.growths[depth + 1];
+			double growth = Double.MAX_VALUE;
+			for (int i = 0; i < growths.length; i++) {
+				growths[i] = parent[i] * toxicities[i];
+				growth = Math.min(growth, growths[i]);
+			}
+			if (growth < AnnealingChain.D_GROWTH_THRESHOLD) {
+				return false;
+			}
+			// score bound
+			double bound = this.bounds[depth];
+			for (NetlistNode node : this.outputs.get(depth)) {
+				bound = Math.min(bound, ScoreUtils.getOnOffRatio(node, this.lsle, this.tmae));
+			}
+			this.bounds[depth + 1] = bound;
+			this.growth = growth;
+			return bound > best;
+		}
+
+		/**
+		 * Saves the evaluation of the segment and the growths of the depth defined
+		 * by parameter <i>depth</i> to the slot defined by parameter <i>slot</i>.
+		 *
+		 * @param depth the depth
+		 * @param slot  the slot
+		 */
+		private void save(final int depth, final int slot) {
+			double[] saved = this.saved[depth];
+			double[] growths = this.growths[depth + 1];
+			int offset = slot * (saved.length / gates.length);
+			for (NetlistNode node : this.segments.get(depth)) {
+				this.tmae.getActivities(node, saved, offset);
+				offset += growths.length;
+			}
+			System.arraycopy(growths, 0, saved, offset, growths.length);
+		}
+
+		/**
+		 * Assigns the gate defined by parameter <i>gate</i> to the logic node at the
+		 * depth defined by parameter <i>depth</i> and restores the evaluation saved
+		 * to the slot defined by parameter <i>slot</i> by {@link #save(int, int)}.
+		 *
+		 * @param depth the depth
+		 * @param gate  the index of the gate
+		 * @param slot  the slot
+		 */
+		private void restore(final int depth, final int gate, final int slot) {
+			this.nodes[depth].getResultNetlistNodeData().setDevice(gates[gate]);
+			TMUtils.setInputs(this.nodes[depth]);
+			double[] saved = this.saved[depth];
+			double[] growths = this.growths[depth + 1];
+			int offset = slot * (saved.length / gates.length);
+			for (NetlistNode node : this.segments.get(depth)) {
+				this.tmae.setActivities(node, saved, offset);
+				offset += growths.length;
+			}
+			System.arraycopy(saved, offset, growths, 0, growths.length);
+		}
+
+		/**
+		 * Searches the subtree of the assignment defined by parameter
+		 * <i>prefix</i>.
+		 *
+		 * @param prefix the indices of the gates assigned to the first logic nodes
+		 * @throws CelloException Unable to evaluate the netlist.
+		 */
+		private void search(final int[] prefix) throws CelloException {
+			Arrays.fill(this.used, false);
+			for (int i = 0; i < prefix.length; i++) {
+				this.used[gateGroup[prefix[i]]] = true;
+				this.assignment[i] = prefix[i];
+				if (!this.assign(i, prefix[i])) {
+					return;
+				}
+			}
+			this.search(prefix.length);
+		}
+
+		private void search(final int depth) throws CelloException {
+			if (stopped) {
+				return;
+			}
+			if (System.nanoTime() - start > budget) {
+				timedOut = true;
+				stopped = true;
+				return;
+			}
+			if (depth == this.nodes.length) {
+				offer(this.bounds[depth], this.assignment);
+				return;
+			}
+			// evaluate the children first, to visit the most promising first
+			int[] children = this.children[depth];
+			int[] slots = this.slots[depth];
+			double[] childBounds = this.childBounds[depth];
+			int num = 0;
+			for (int i = 0; i < gates.length; i++) {
+				if (this.used[gateGroup[i]] || !this.assign(depth, i)) {
+					continue;
+				}
+				this.save(depth, num);
+				// insertion by descending score bound, then growth bound
+				double bound = this.bounds[depth + 1];
+				int j = num;
+				while (j > 0 && (childBounds[j - 1] < bound
+						|| childBounds[j - 1] == bound && this.childGrowths[j - 1] < this.growth)) {
+					children[j] = children[j - 1];
+					slots[j] = slots[j - 1];
+					childBounds[j] = childBounds[j - 1];
+					this.childGrowths[j] = this.childGrowths[j - 1];
+					j--;
+				}
+				children[j] = i;
+				slots[j] = num;
+				childBounds[j] = bound;
+				this.childGrowths[j] = this.growth;
+				num++;
+			}
+			for (int i = 0; i < num; i++) {
+				// the best score may have improved since the child was evaluated
+				if (childBounds[i] <= best) {
+					break;
+				}
+				int gate = children[i];
+				this.used[gateGroup[gate]] = true;
+				this.assignment[depth] = gate;
+				this.restore(depth, gate, slots[i]);
+				this.bounds[depth + 1] = childBounds[i];
+				this.search(depth + 1);
+				this.used[gateGroup[gate]] = false;
+			}
+		}
+
+		private final NetlistNode[] nodes;
+		private final List<List<NetlistNode>> segments;
+		private final List<List<NetlistNode>> outputs;
+		private final LSLogicEvaluation lsle;
+		private final TMActivityEvaluation tmae;
+		private final TMToxicityEvaluation tmte;
+		private final double[][] growths;
+		private final double[] bounds;
+		private final double[][] saved;
+		private final int[] assignment;
+		private final boolean[] used;
+		private final int[][] children;
+		private final int[][] slots;
+		private final double[][] childBounds;
+		private final double[] childGrowths;
+		private double growth;
+
+	}
+
+	/**
+	 * Records the complete assignment defined by parameter <i>assignment</i> if
+	 * its score defined by parameter <i>score</i> is the best so far.
+	 *
+	 * @param score      the score
+	 * @param assignment the indices of the gates assigned to the logic nodes
+	 */
+	private synchronized void offer(final double score, final int[] assignment) {
+		if (score > this.best) {
+			this.best = score;
+			this.assignment = assignment.clone();
+		}
+	}
+
+	private synchronized void setError(final CelloException error) {
+		if (this.error == null) {
+			this.error = error;
+		}
+		this.stopped = true;
+	}
+
+	/**
+	 * Returns the best assignment found, from each logic node of the netlist to
+	 * its gate, or null if no assignment meets the growth threshold.
+	 *
+	 * @return the best assignment found, or null
+	 */
+	public synchronized Map<NetlistNode, Gate> getAssignment() {
+		Map<NetlistNode, Gate> rtn = null;
+		if (this.assignment == null) {
+			return rtn;
+		}
+		rtn = new IdentityHashMap<>();
+		for (int i = 0; i < this.logicNodes.length; i++) {
+			rtn.put(this.getNetlist().getVertexAtIdx(this.logicNodes[i]), this.gates[this.assignment[i]]);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the score of the best assignment found.
+	 *
+	 * @return the score of the best assignment found
+	 */
+	public synchronized double getScore() {
+		return this.best;
+	}
+
+	/**
+	 * Returns the number of partial assignments evaluated by the search.
+	 *
+	 * @return the number of partial assignments evaluated by the search
+	 */
+	public long getNumVisited() {
+		return this.numVisited.get();
+	}
+
+	/**
+	 * Getter for <i>netlist</i>
+	 *
+	 * @return value of <i>netlist</i>
+	 */
+	public Netlist getNetlist() {
+		return netlist;
+	}
+
+	private final Netlist netlist;
+	private final int numThreads;
+	private Gate[] gates;
+	private int[] gateGroup;
+	private int numGroups;
+	private int[] logicNodes;
+	private int[] prefix;
+	private int[][] segments;
+	private int splitDepth;
+	private final LinkedBlockingQueue<Worker> workers;
+	private final AtomicLong numVisited;
+	private volatile double best;
+	private int[] assignment;
+	private CelloException error;
+	private volatile long start;
+	private volatile long budget;
+	private volatile boolean stopped;
+	private volatile boolean timedOut;
+
+	private static final int I_TASKS_PER_THREAD = 8;
+
+}
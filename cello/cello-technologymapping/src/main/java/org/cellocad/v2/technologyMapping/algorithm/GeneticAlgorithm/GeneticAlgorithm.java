@@ -0,0 +1,424 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.population.FitnessEvaluator;
+import org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.population.GeneticOperators;
+import org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.population.Individual;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.SimulatedAnnealing;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+
+/**
+ * The GeneticAlgorithm class implements the <i>GeneticAlgorithm</i> algorithm in
+ * the <i>technologyMapping</i> stage. A population of gate assignments evolves
+ * by tournament selection, crossover and mutation, keeping the fittest
+ * assignments of each generation. The fitness of the individuals of a
+ * generation is evaluated in parallel, each thread on its own copy of the
+ * netlist. The algorithm shares the input, output and results handling of the
+ * <i>SimulatedAnnealing</i> algorithm.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class GeneticAlgorithm extends SimulatedAnnealing {
+
+	/**
+	 * Set parameter(s) value(s) of the algorithm
+	 */
+	@Override
+	protected void setParameterValues() {
+		super.setParameterValues();
+		Boolean present = true;
+		present = this.getAlgorithmProfile().getIntParameter("PopulationSize").getFirst();
+		if (present) {
+			this.setPopulationSize(this.getAlgorithmProfile().getIntParameter("PopulationSize").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("Generations").getFirst();
+		if (present) {
+			this.setGenerations(this.getAlgorithmProfile().getIntParameter("Generations").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("EliteSize").getFirst();
+		if (present) {
+			this.setEliteSize(this.getAlgorithmProfile().getIntParameter("EliteSize").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("TournamentSize").getFirst();
+		if (present) {
+			this.setTournamentSize(this.getAlgorithmProfile().getIntParameter("TournamentSize").getSecond());
+		}
+		present = this.getAlgorithmProfile().getDoubleParameter("CrossoverRate").getFirst();
+		if (present) {
+			this.setCrossoverRate(this.getAlgorithmProfile().getDoubleParameter("CrossoverRate").getSecond());
+		}
+		present = this.getAlgorithmProfile().getDoubleParameter("MutationRate").getFirst();
+		if (present) {
+			this.setMutationRate(this.getAlgorithmProfile().getDoubleParameter("MutationRate").getSecond());
+		}
+	}
+
+	/**
+	 * Validate parameter value of the algorithm
+	 */
+	@Override
+	protected void validateParameterValues() {
+		super.validateParameterValues();
+		if (this.getPopulationSize() == null)
+			this.setPopulationSize(64);
+		if (this.getPopulationSize() < 2)
+			throw new RuntimeException(
+					"Invalid PopulationSize: " + this.getPopulationSize() + ", expected at least 2.");
+		if (this.getGenerations() == null)
+			this.setGenerations(100);
+		if (this.getGenerations() < 0)
+			throw new RuntimeException("Invalid Generations: " + this.getGenerations() + ", expected at least 0.");
+		if (this.getEliteSize() == null)
+			this.setEliteSize(Math.min(2, this.getPopulationSize() - 1));
+		if (this.getEliteSize() < 0 || this.getEliteSize() >= this.getPopulationSize())
+			throw new RuntimeException("Invalid EliteSize: " + this.getEliteSize()
+					+ ", expected at least 0 and less than PopulationSize " + this.getPopulationSize() + ".");
+		if (this.getTournamentSize() == null)
+			this.setTournamentSize(3);
+		if (this.getTournamentSize() < 1)
+			throw new RuntimeException(
+					"Invalid TournamentSize: " + this.getTournamentSize() + ", expected at least 1.");
+		if (this.getCrossoverRate() == null)
+			this.setCrossoverRate(0.9);
+		if (!(this.getCrossoverRate() >= 0.0 && this.getCrossoverRate() <= 1.0))
+			throw new RuntimeException(
+					"Invalid CrossoverRate: " + this.getCrossoverRate() + ", expected a value in [0, 1].");
+		if (this.getMutationRate() == null)
+			this.setMutationRate(0.05);
+		if (!(this.getMutationRate() >= 0.0 && this.getMutationRate() <= 1.0))
+			throw new RuntimeException(
+					"Invalid MutationRate: " + this.getMutationRate() + ", expected a value in [0, 1].");
+	}
+
+	/**
+	 * Returns the index in the netlist of each logic node, i.e. of each gene.
+	 *
+	 * @return the index in the netlist of each logic node
+	 */
+	private int[] getLogicNodes() {
+		List<Integer> rtn = new ArrayList<>();
+		for (int i = 0; i < getNetlist().getNumVertex(); i++) {
+			NetlistNode node = getNetlist().getVertexAtIdx(i);
+			if (!LSResultsUtils.isPrimary(node) && !LSResultsUtils.isInputOutput(node)) {
+				rtn.add(i);
+			}
+		}
+		return rtn.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Evaluates the individuals defined by parameter <i>individuals</i> on the
+	 * ExecutorService defined by parameter <i>executor</i>, each evaluator taking
+	 * every n-th individual.
+	 *
+	 * @param executor    the ExecutorService
+	 * @param evaluators  the evaluators, one per thread
+	 * @param individuals the individuals
+	 * @throws CelloException Unable to evaluate a netlist.
+	 */
+	private static void evaluate(final ExecutorService executor, final List<FitnessEvaluator> evaluators,
+			final List<Individual> individuals) throws CelloException {
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int i = 0; i < evaluators.size(); i++) {
+			final int from = i;
+			final FitnessEvaluator evaluator = evaluators.get(i);
+			tasks.add(() -> {
+				for (int j = from; j < individuals.size(); j += evaluators.size()) {
+					evaluator.evaluate(individuals.get(j));
+				}
+				return null;
+			});
+		}
+		try {
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CelloException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CelloException) {
+				throw (CelloException) e.getCause();
+			}
+			throw new CelloException(e.getCause());
+		}
+	}
+
+	/**
+	 * Returns the winner of a tournament among random individuals of the
+	 * population defined by parameter <i>population</i>, sorted from the fittest.
+	 *
+	 * @param population the population, sorted from the fittest
+	 * @return the winner of the tournament
+	 */
+	private Individual select(final List<Individual> population) {
+		int rtn = getRandom().nextInt(population.size());
+		for (int i = 1; i < getTournamentSize(); i++) {
+			rtn = Math.min(rtn, getRandom().nextInt(population.size()));
+		}
+		return population.get(rtn);
+	}
+
+	/**
+	 * Returns the offspring of the population defined by parameter
+	 * <i>population</i> that complete the next generation.
+	 *
+	 * @param operators  the genetic operators
+	 * @param population the population, sorted from the fittest
+	 * @param num        the number of offspring
+	 * @return the offspring
+	 */
+	private List<Individual> breed(final GeneticOperators operators, final List<Individual> population,
+			final int num) {
+		List<Individual> rtn = new ArrayList<>();
+		while (rtn.size() < num) {
+			int[] genome = this.select(population).getGenome();
+			if (getRandom().nextDouble() < getCrossoverRate()) {
+				genome = operators.crossover(genome, this.select(population).getGenome(), getRandom());
+			} else {
+				genome = genome.clone();
+			}
+			operators.mutate(genome, getMutationRate(), getRandom());
+			rtn.add(new Individual(genome));
+		}
+		return rtn;
+	}
+
+	/**
+	 * Run the (core) algorithm
+	 *
+	 * @throws CelloException
+	 */
+	@Override
+	protected void run() throws CelloException {
+		logDebug("Running the (core) algorithm.");
+
+		// input node assignment
+		assignInputNodes();
+		// output node assignment
+		assignOutputNodes();
+
+		// logic node assignment
+		CObjectCollection<Gate> gates = getTargetDataInstance().getGates();
+		int[] logicNodes = this.getLogicNodes();
+		GeneticOperators operators = new GeneticOperators(gates, logicNodes.length);
+		int numThreads = Math.min(getChainConfig().getNumThreads(), getPopulationSize());
+		List<FitnessEvaluator> evaluators = new ArrayList<>();
+		for (int i = 0; i < numThreads; i++) {
+			evaluators.add(new FitnessEvaluator(getNetlist(), logicNodes, gates, createResponseCache()));
+		}
+		Individual best = null;
+		long evaluations = 0;
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			List<Individual> population = new ArrayList<>();
+			for (int i = 0; i < getPopulationSize(); i++) {
+				population.add(new Individual(operators.getRandomGenome(getRandom())));
+			}
+			evaluate(executor, evaluators, population);
+			evaluations += population.size();
+			population.sort(Individual.FITTEST_FIRST);
+			for (int generation = 0; generation < getGenerations(); generation++) {
+				List<Individual> next = new ArrayList<>(population.subList(0, getEliteSize()));
+				List<Individual> offspring = this.breed(operators, population, getPopulationSize() - next.size());
+				evaluate(executor, evaluators, offspring);
+				evaluations += offspring.size();
+				next.addAll(offspring);
+				next.sort(Individual.FITTEST_FIRST);
+				population = next;
+				logDebug(String.format("Generation %d: score %.2f, growth %.2f", generation,
+				        population.get(0).getScore(), population.get(0).getGrowth()));
+			}
+			best = population.get(0);
+		} finally {
+			executor.shutdown();
+		}
+		logInfo(String.format("Genetic algorithm: %d evaluations, score %.2f, growth %.2f", evaluations,
+		        best.getScore(), best.getGrowth()));
+
+		// copy the best assignment
+		int[] genome = best.getGenome();
+		for (int i = 0; i < genome.length; i++) {
+			Gate gate = gates.get(genome[i]);
+			getNetlist().getVertexAtIdx(logicNodes[i]).getResultNetlistNodeData().setDevice(gate);
+			getGateManager().setAssignedGate(gate);
+		}
+		updateNetlist();
+		setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation(), createResponseCache()));
+		setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
+	}
+
+	/**
+	 * Returns the Logger for the <i>GeneticAlgorithm</i> algorithm
+	 *
+	 * @return the logger for the <i>GeneticAlgorithm</i> algorithm
+	 */
+	@Override
+	protected Logger getLogger() {
+		return GeneticAlgorithm.logger;
+	}
+
+	private static final Logger logger = LogManager.getLogger(GeneticAlgorithm.class);
+
+	/*
+	 * Parameters
+	 */
+	/**
+	 * Getter for <i>populationSize</i>, the number of individuals of each generation.
+	 *
+	 * @return value of <i>populationSize</i>
+	 */
+	protected Integer getPopulationSize() {
+		return this.populationSize;
+	}
+
+	/**
+	 * Setter for <i>populationSize</i>
+	 *
+	 * @param populationSize the value to set <i>populationSize</i>
+	 */
+	protected void setPopulationSize(final Integer populationSize) {
+		this.populationSize = populationSize;
+	}
+
+	private Integer populationSize;
+
+	/**
+	 * Getter for <i>generations</i>, the number of generations.
+	 *
+	 * @return value of <i>generations</i>
+	 */
+	protected Integer getGenerations() {
+		return this.generations;
+	}
+
+	/**
+	 * Setter for <i>generations</i>
+	 *
+	 * @param generations the value to set <i>generations</i>
+	 */
+	protected void setGenerations(final Integer generations) {
+		this.generations = generations;
+	}
+
+	private Integer generations;
+
+	/**
+	 * Getter for <i>eliteSize</i>, the number of fittest individuals kept in the next generation.
+	 *
+	 * @return value of <i>eliteSize</i>
+	 */
+	protected Integer getEliteSize() {
+		return this.eliteSize;
+	}
+
+	/**
+	 * Setter for <i>eliteSize</i>
+	 *
+	 * @param eliteSize the value to set <i>eliteSize</i>
+	 */
+	protected void setEliteSize(final Integer eliteSize) {
+		this.eliteSize = eliteSize;
+	}
+
+	private Integer eliteSize;
+
+	/**
+	 * Getter for <i>tournamentSize</i>, the number of individuals of each selection tournament.
+	 *
+	 * @return value of <i>tournamentSize</i>
+	 */
+	protected Integer getTournamentSize() {
+		return this.tournamentSize;
+	}
+
+	/**
+	 * Setter for <i>tournamentSize</i>
+	 *
+	 * @param tournamentSize the value to set <i>tournamentSize</i>
+	 */
+	protected void setTournamentSize(final Integer tournamentSize) {
+		this.tournamentSize = tournamentSize;
+	}
+
+	private Integer tournamentSize;
+
+	/**
+	 * Getter for <i>crossoverRate</i>, the probability that an offspring is a crossover of two parents.
+	 *
+	 * @return value of <i>crossoverRate</i>
+	 */
+	protected Double getCrossoverRate() {
+		return this.crossoverRate;
+	}
+
+	/**
+	 * Setter for <i>crossoverRate</i>
+	 *
+	 * @param crossoverRate the value to set <i>crossoverRate</i>
+	 */
+	protected void setCrossoverRate(final Double crossoverRate) {
+		this.crossoverRate = crossoverRate;
+	}
+
+	private Double crossoverRate;
+
+	/**
+	 * Getter for <i>mutationRate</i>, the probability of mutation of each gene.
+	 *
+	 * @return value of <i>mutationRate</i>
+	 */
+	protected Double getMutationRate() {
+		return this.mutationRate;
+	}
+
+	/**
+	 * Setter for <i>mutationRate</i>
+	 *
+	 * @param mutationRate the value to set <i>mutationRate</i>
+	 */
+	protected void setMutationRate(final Double mutationRate) {
+		this.mutationRate = mutationRate;
+	}
+
+	private Double mutationRate;
+
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.population;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.ResponseCache;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.cellocad.v2.technologyMapping.common.TMUtils;
+
+/**
+ * The FitnessEvaluator class evaluates the fitness of individuals of the
+ * <i>GeneticAlgorithm</i> algorithm on its own copy of a netlist, so that
+ * several evaluators can run concurrently without modifying the devices of the
+ * shared netlist. An evaluator must be used by one thread at a time.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class FitnessEvaluator {
+
+	/**
+	 * Initializes a newly created FitnessEvaluator on a copy of the Netlist
+	 * defined by parameter <i>netlist</i>. The primary inputs and outputs of the
+	 * netlist must already be assigned a device.
+	 *
+	 * @param netlist    the Netlist
+	 * @param logicNodes the index in the netlist of the logic node of each gene
+	 * @param gates      the gates of the library
+	 * @param cache      the ResponseCache of the evaluator, or null
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	public FitnessEvaluator(final Netlist netlist, final int[] logicNodes, final CObjectCollection<Gate> gates,
+			final ResponseCache cache) throws CelloException {
+		this.gates = new Gate[gates.size()];
+		for (int i = 0; i < gates.size(); i++) {
+			this.gates[i] = gates.get(i);
+		}
+		// any gate, for the initial evaluation
+		Gate gate = this.gates.length > 0 ? this.gates[0] : null;
+		this.netlist = TMUtils.copyNetlist(netlist, logicNodes, gate);
+		this.nodes = new NetlistNode[logicNodes.length];
+		for (int i = 0; i < logicNodes.length; i++) {
+			this.nodes[i] = this.netlist.getVertexAtIdx(logicNodes[i]);
+		}
+		this.order = this.netlist.getLevelization().getNodes();
+		this.outputs = new ArrayList<>();
+		for (NetlistNode node : this.order) {
+			if (LSResultsUtils.isPrimaryOutput(node)) {
+				this.outputs.add(node);
+			}
+		}
+		this.lsle = new LSLogicEvaluation(this.netlist);
+		this.tmae = new TMActivityEvaluation(this.netlist, this.lsle, cache);
+		this.tmte = new TMToxicityEvaluation(this.netlist, this.tmae);
+	}
+
+	/**
+	 * Evaluates the score and the minimum growth of the Individual defined by
+	 * parameter <i>individual</i>.
+	 *
+	 * @param individual the Individual
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	public void evaluate(final Individual individual) throws CelloException {
+		int[] genome = individual.getGenome();
+		for (int i = 0; i < genome.length; i++) {
+			this.nodes[i].getResultNetlistNodeData().setDevice(this.gates[genome[i]]);
+			TMUtils.setInputs(this.nodes[i]);
+		}
+		this.tmae.evaluate(this.order);
+		this.tmte.evaluate(this.order);
+		double score = Double.MAX_VALUE;
+		for (NetlistNode node : this.outputs) {
+			score = Math.min(score, ScoreUtils.getOnOffRatio(node, this.lsle, this.tmae));
+		}
+		individual.setFitness(score, this.tmte.getMinimumGrowth());
+	}
+
+	private final Netlist netlist;
+	private final Gate[] gates;
+	private final NetlistNode[] nodes;
+	private final List<NetlistNode> order;
+	private final List<NetlistNode> outputs;
+	private final LSLogicEvaluation lsle;
+	private final TMActivityEvaluation tmae;
+	private final TMToxicityEvaluation tmte;
+
+}
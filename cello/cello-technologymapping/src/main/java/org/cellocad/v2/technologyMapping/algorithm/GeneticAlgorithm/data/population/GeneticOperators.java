@@ -0,0 +1,205 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.population;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.target.data.data.Gate;
+
+/**
+ * The GeneticOperators class creates and recombines the genomes of the
+ * <i>GeneticAlgorithm</i> algorithm. A genome holds the index of the gate
+ * assigned to each logic node, and every operator returns a genome in which at
+ * most one gate of each group is assigned.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class GeneticOperators {
+
+	/**
+	 * Initializes a newly created GeneticOperators for genomes of the length
+	 * defined by parameter <i>numGenes</i> over the gates defined by parameter
+	 * <i>gates</i>.
+	 *
+	 * @param gates    the gates of the library
+	 * @param numGenes the number of logic nodes
+	 */
+	public GeneticOperators(final CObjectCollection<Gate> gates, final int numGenes) {
+		Map<String, Integer> groups = new HashMap<>();
+		List<List<Integer>> groupGates = new ArrayList<>();
+		this.gateGroup = new int[gates.size()];
+		for (int i = 0; i < gates.size(); i++) {
+			Gate gate = gates.get(i);
+			Integer group = groups.get(gate.getGroup());
+			if (group == null) {
+				group = groups.size();
+				groups.put(gate.getGroup(), group);
+				groupGates.add(new ArrayList<>());
+			}
+			this.gateGroup[i] = group;
+			groupGates.get(group).add(i);
+		}
+		this.groupGates = new int[groupGates.size()][];
+		for (int i = 0; i < groupGates.size(); i++) {
+			this.groupGates[i] = groupGates.get(i).stream().mapToInt(Integer::intValue).toArray();
+		}
+		if (numGenes > this.groupGates.length) {
+			throw new RuntimeException("Not enough gate groups in the library to cover the netlist.");
+		}
+		this.numGenes = numGenes;
+	}
+
+	private int getRandomGate(final int group, final Random random) {
+		int[] gates = this.groupGates[group];
+		return gates[random.nextInt(gates.length)];
+	}
+
+	/**
+	 * Returns a random gate of a group that is not used, and marks the group as
+	 * used.
+	 */
+	private int getRandomUnusedGate(final boolean[] used, final Random random) {
+		int num = 0;
+		for (boolean u : used) {
+			if (!u) {
+				num++;
+			}
+		}
+		int n = random.nextInt(num);
+		int group = 0;
+		for (int i = 0; i < used.length; i++) {
+			if (!used[i] && n-- == 0) {
+				group = i;
+				break;
+			}
+		}
+		used[group] = true;
+		return this.getRandomGate(group, random);
+	}
+
+	private static int[] getRandomPermutation(final int n, final Random random) {
+		int[] rtn = new int[n];
+		for (int i = 0; i < n; i++) {
+			int j = random.nextInt(i + 1);
+			rtn[i] = rtn[j];
+			rtn[j] = i;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns a random genome.
+	 *
+	 * @param random the random number generator
+	 * @return a random genome
+	 */
+	public int[] getRandomGenome(final Random random) {
+		int[] rtn = new int[this.numGenes];
+		int[] groups = getRandomPermutation(this.groupGates.length, random);
+		for (int i = 0; i < this.numGenes; i++) {
+			rtn[i] = this.getRandomGate(groups[i], random);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the uniform crossover of the genomes defined by parameters <i>a</i>
+	 * and <i>b</i>. The genes are visited in random order, and each takes the gate
+	 * of a random parent, or of the other parent if the group of that gate is
+	 * already used. Genes for which both groups are used take a gate of an unused
+	 * group.
+	 *
+	 * @param a      the first parent
+	 * @param b      the second parent
+	 * @param random the random number generator
+	 * @return the child
+	 */
+	public int[] crossover(final int[] a, final int[] b, final Random random) {
+		int[] rtn = new int[this.numGenes];
+		boolean[] used = new boolean[this.groupGates.length];
+		List<Integer> pending = new ArrayList<>();
+		for (int i : getRandomPermutation(this.numGenes, random)) {
+			boolean first = random.nextBoolean();
+			int x = first ? a[i] : b[i];
+			int y = first ? b[i] : a[i];
+			if (!used[this.gateGroup[x]]) {
+				rtn[i] = x;
+			} else if (!used[this.gateGroup[y]]) {
+				rtn[i] = y;
+			} else {
+				pending.add(i);
+				continue;
+			}
+			used[this.gateGroup[rtn[i]]] = true;
+		}
+		for (int i : pending) {
+			rtn[i] = this.getRandomUnusedGate(used, random);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Mutates the genome defined by parameter <i>genome</i> in place. Each gene
+	 * mutates with the probability defined by parameter <i>rate</i>, either by
+	 * exchanging its gate with another gene, or by taking another gate of its group
+	 * or of an unused group.
+	 *
+	 * @param genome the genome
+	 * @param rate   the probability of mutation of each gene
+	 * @param random the random number generator
+	 */
+	public void mutate(final int[] genome, final double rate, final Random random) {
+		boolean[] used = new boolean[this.groupGates.length];
+		for (int gate : genome) {
+			used[this.gateGroup[gate]] = true;
+		}
+		for (int i = 0; i < genome.length; i++) {
+			if (random.nextDouble() >= rate) {
+				continue;
+			}
+			if (genome.length > 1 && random.nextBoolean()) {
+				int j = random.nextInt(genome.length - 1);
+				if (j >= i) {
+					j++;
+				}
+				int temp = genome[i];
+				genome[i] = genome[j];
+				genome[j] = temp;
+			} else {
+				used[this.gateGroup[genome[i]]] = false;
+				genome[i] = this.getRandomUnusedGate(used, random);
+			}
+		}
+	}
+
+	private final int[] gateGroup;
+	private final int[][] groupGates;
+	private final int numGenes;
+
+}
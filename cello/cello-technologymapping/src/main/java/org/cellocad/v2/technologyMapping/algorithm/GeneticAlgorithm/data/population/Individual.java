@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.population;
+
+import java.util.Comparator;
+
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain.AnnealingChain;
+
+/**
+ * The Individual class is a gate assignment of the <i>GeneticAlgorithm</i>
+ * algorithm. Its genome holds the index of the gate assigned to each logic node,
+ * and its fitness is the score and the minimum growth of the assignment once
+ * evaluated by a {@link FitnessEvaluator}.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class Individual {
+
+	/**
+	 * Initializes a newly created, unevaluated Individual with the genome defined
+	 * by parameter <i>genome</i>.
+	 *
+	 * @param genome the index of the gate assigned to each logic node
+	 */
+	public Individual(final int[] genome) {
+		this.genome = genome;
+		this.evaluated = false;
+	}
+
+	/**
+	 * Returns true if the minimum growth of this instance meets the growth
+	 * threshold.
+	 *
+	 * @return true if the minimum growth of this instance meets the growth
+	 *         threshold
+	 */
+	public boolean isViable() {
+		return this.getGrowth() >= AnnealingChain.D_GROWTH_THRESHOLD;
+	}
+
+	/**
+	 * Returns true if this instance is fitter than the Individual defined by
+	 * parameter <i>other</i>: a viable assignment is fitter than an assignment
+	 * that is not, viable assignments are ranked by score, and others by growth.
+	 *
+	 * @param other the other Individual
+	 * @return true if this instance is fitter than the other
+	 */
+	public boolean isFitterThan(final Individual other) {
+		boolean rtn = false;
+		if (this.isViable() != other.isViable()) {
+			rtn = this.isViable();
+		} else if (this.isViable()) {
+			rtn = this.getScore() > other.getScore();
+		} else {
+			rtn = this.getGrowth() > other.getGrowth();
+		}
+		return rtn;
+	}
+
+	/**
+	 * Orders individuals from the fittest to the least fit.
+	 */
+	public static final Comparator<Individual> FITTEST_FIRST = (a, b) -> a.isFitterThan(b) ? -1
+			: (b.isFitterThan(a) ? 1 : 0);
+
+	/**
+	 * Setter for the fitness of this instance.
+	 *
+	 * @param score  the score of the assignment
+	 * @param growth the minimum growth of the assignment
+	 */
+	void setFitness(final double score, final double growth) {
+		this.score = score;
+		this.growth = growth;
+		this.evaluated = true;
+	}
+
+	/**
+	 * Getter for <i>genome</i>, the index of the gate assigned to each logic node.
+	 * The returned array must not be modified.
+	 *
+	 * @return value of <i>genome</i>
+	 */
+	public int[] getGenome() {
+		return genome;
+	}
+
+	private final int[] genome;
+
+	/**
+	 * Returns true if the fitness of this instance has been evaluated.
+	 *
+	 * @return true if the fitness of this instance has been evaluated
+	 */
+	public boolean isEvaluated() {
+		return evaluated;
+	}
+
+	private boolean evaluated;
+
+	/**
+	 * Getter for <i>score</i>
+	 *
+	 * @return value of <i>score</i>
+	 */
+	public double getScore() {
+		return score;
+	}
+
+	private double score;
+
+	/**
+	 * Getter for <i>growth</i>
+	 *
+	 * @return value of <i>growth</i>
+	 */
+	public double getGrowth() {
+		return growth;
+	}
+
+	private double growth;
+
+}
@@ -22,10 +22,19 @@
  */
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,28 +42,38 @@ import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraint;
+import org.cellocad.v2.common.random.RandomService;
 import org.cellocad.v2.common.runtime.environment.ArgString;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.common.target.data.data.Gate;
-import org.cellocad.v2.common.target.data.data.Input;
 import org.cellocad.v2.common.target.data.data.InputSensor;
 import org.cellocad.v2.common.target.data.data.OutputDevice;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
 import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
 import org.cellocad.v2.results.technologyMapping.TMResultsUtils;
+import org.cellocad.v2.results.technologyMapping.activity.ResponseCache;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
 import org.cellocad.v2.results.technologyMapping.cytometry.TMCytometryEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.TMAlgorithm;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment.GateManager;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.cache.ResponseCacheConfig;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain.AnnealingChain;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain.ChainConfig;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness.RobustnessConfig;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness.TMRobustnessEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.AnnealingSchedule;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.ScheduleConfig;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results.PlotConfig;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results.ResponsePlot;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results.ResponsePlotUtils;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results.SimulatedAnnealingResultsUtils;
+import org.cellocad.v2.technologyMapping.common.TMUtils;
 import org.cellocad.v2.technologyMapping.target.data.TMTargetDataInstance;
 import org.json.simple.JSONObject;
 
@@ -121,6 +140,116 @@ public class SimulatedAnnealing extends TMAlgorithm {
 	 */
 	@Override
 	protected void setParameterValues() {
+		Boolean present = true;
+		present = this.getAlgorithmProfile().getIntParameter("NumChains").getFirst();
+		if (present) {
+			this.getChainConfig().setNumChains(this.getAlgorithmProfile().getIntParameter("NumChains").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("NumThreads").getFirst();
+		if (present) {
+			this.getChainConfig().setNumThreads(this.getAlgorithmProfile().getIntParameter("NumThreads").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("Seed").getFirst();
+		if (present) {
+			this.setSeed(this.getAlgorithmProfile().getIntParameter("Seed").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("ExchangeInterval").getFirst();
+		if (present) {
+			this.getChainConfig()
+					.setExchangeInterval(this.getAlgorithmProfile().getIntParameter("ExchangeInterval").getSecond());
+		}
+		present = this.getAlgorithmProfile().getStringParameter("Schedule").getFirst();
+		if (present) {
+			this.getScheduleConfig().setSchedule(this.getAlgorithmProfile().getStringParameter("Schedule").getSecond());
+		}
+		present = this.getAlgorithmProfile().getDoubleParameter("MaxTemperature").getFirst();
+		if (present) {
+			this.getScheduleConfig()
+					.setMaxTemperature(this.getAlgorithmProfile().getDoubleParameter("MaxTemperature").getSecond());
+		}
+		present = this.getAlgorithmProfile().getDoubleParameter("MinTemperature").getFirst();
+		if (present) {
+			this.getScheduleConfig()
+					.setMinTemperature(this.getAlgorithmProfile().getDoubleParameter("MinTemperature").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("Steps").getFirst();
+		if (present) {
+			this.getScheduleConfig().setSteps(this.getAlgorithmProfile().getIntParameter("Steps").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("StepsPerNode").getFirst();
+		if (present) {
+			this.getScheduleConfig()
+					.setStepsPerNode(this.getAlgorithmProfile().getIntParameter("StepsPerNode").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("StepsPerGate").getFirst();
+		if (present) {
+			this.getScheduleConfig()
+					.setStepsPerGate(this.getAlgorithmProfile().getIntParameter("StepsPerGate").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("ZeroTemperatureSteps").getFirst();
+		if (present) {
+			this.getScheduleConfig().setZeroTemperatureSteps(
+					this.getAlgorithmProfile().getIntParameter("ZeroTemperatureSteps").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("ConvergenceWindow").getFirst();
+		if (present) {
+			this.getScheduleConfig()
+					.setConvergenceWindow(this.getAlgorithmProfile().getIntParameter("ConvergenceWindow").getSecond());
+		}
+		present = this.getAlgorithmProfile().getDoubleParameter("TargetAcceptance").getFirst();
+		if (present) {
+			this.getScheduleConfig()
+					.setTargetAcceptance(this.getAlgorithmProfile().getDoubleParameter("TargetAcceptance").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("AdaptationInterval").getFirst();
+		if (present) {
+			this.getScheduleConfig().setAdaptationInterval(
+					this.getAlgorithmProfile().getIntParameter("AdaptationInterval").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("ReheatInterval").getFirst();
+		if (present) {
+			this.getScheduleConfig()
+					.setReheatInterval(this.getAlgorithmProfile().getIntParameter("ReheatInterval").getSecond());
+		}
+		present = this.getAlgorithmProfile().getDoubleParameter("ReheatFactor").getFirst();
+		if (present) {
+			this.getScheduleConfig()
+					.setReheatFactor(this.getAlgorithmProfile().getDoubleParameter("ReheatFactor").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("ResponseCacheSize").getFirst();
+		if (present) {
+			this.getResponseCacheConfig()
+					.setResponseCacheSize(this.getAlgorithmProfile().getIntParameter("ResponseCacheSize").getSecond());
+		}
+		present = this.getAlgorithmProfile().getDoubleParameter("ResponseCacheResolution").getFirst();
+		if (present) {
+			this.getResponseCacheConfig().setResponseCacheResolution(
+					this.getAlgorithmProfile().getDoubleParameter("ResponseCacheResolution").getSecond());
+		}
+		present = this.getAlgorithmProfile().getIntParameter("RobustnessSamples").getFirst();
+		if (present) {
+			this.getRobustnessConfig()
+					.setRobustnessSamples(this.getAlgorithmProfile().getIntParameter("RobustnessSamples").getSecond());
+		}
+		present = this.getAlgorithmProfile().getDoubleParameter("RobustnessSigma").getFirst();
+		if (present) {
+			this.getRobustnessConfig()
+					.setRobustnessSigma(this.getAlgorithmProfile().getDoubleParameter("RobustnessSigma").getSecond());
+		}
+		present = this.getAlgorithmProfile().getStringParameter("PlotRenderer").getFirst();
+		if (present) {
+			this.getPlotConfig()
+					.setPlotRenderer(this.getAlgorithmProfile().getStringParameter("PlotRenderer").getSecond());
+		}
+		present = this.getAlgorithmProfile().getBooleanParameter("AsyncPlots").getFirst();
+		if (present) {
+			this.getPlotConfig()
+					.setAsyncPlots(this.getAlgorithmProfile().getBooleanParameter("AsyncPlots").getSecond());
+		}
+		present = this.getAlgorithmProfile().getBooleanParameter("EvaluateCytometry").getFirst();
+		if (present) {
+			this.setEvaluateCytometry(this.getAlgorithmProfile().getBooleanParameter("EvaluateCytometry").getSecond());
+		}
 	}
 
 	/**
@@ -128,7 +257,21 @@ public class SimulatedAnnealing extends TMAlgorithm {
 	 */
 	@Override
 	protected void validateParameterValues() {
-
+		this.getChainConfig().validate();
+		if (this.getSeed() == null) {
+			this.setSeed(RandomService.getRandomSeed());
+			logInfo(String.format("No seed given, using random seed %d.", this.getSeed()));
+		} else if (this.getSeed() < 0) {
+			int seed = RandomService.getRandomSeed();
+			logWarn(String.format("Seed %d is negative, using random seed %d.", this.getSeed(), seed));
+			this.setSeed(seed);
+		}
+		this.getScheduleConfig().validate();
+		this.getResponseCacheConfig().validate();
+		this.getRobustnessConfig().validate();
+		this.getPlotConfig().validate();
+		if (this.getEvaluateCytometry() == null)
+			this.setEvaluateCytometry(false);
 	}
 
 	/**
@@ -193,14 +336,59 @@ public class SimulatedAnnealing extends TMAlgorithm {
 	}
 
 	protected void assignNodes() {
+		assignNodes(getNetlist(), getGateManager(), getInitialGates());
+	}
+
+	/**
+	 * Returns the gates of the initial assignment indexed by the vertices of the
+	 * netlist, or null if there is no initial assignment.
+	 *
+	 * @return the gates of the initial assignment, or null
+	 */
+	private Gate[] getInitialGates() {
+		Gate[] rtn = null;
+		if (getInitialAssignment() != null) {
+			rtn = new Gate[getNetlist().getNumVertex()];
+			for (int i = 0; i < rtn.length; i++) {
+				rtn[i] = getInitialAssignment().get(getNetlist().getVertexAtIdx(i));
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Assigns a gate to each logic node of the Netlist defined by parameter
+	 * <i>netlist</i>: the gate of the initial assignment defined by parameter
+	 * <i>initial</i> if any, otherwise a random gate of an unassigned group.
+	 *
+	 * @param netlist the Netlist
+	 * @param GM      the GateManager
+	 * @param initial the gates of the initial assignment indexed by the vertices
+	 *                of the netlist, or null
+	 */
+	private static void assignNodes(final Netlist netlist, final GateManager GM, final Gate[] initial) {
+		// assign initial gates
+		if (initial != null) {
+			for (int i = 0; i < netlist.getNumVertex(); i++) {
+				NetlistNode node = netlist.getVertexAtIdx(i);
+				if (LSResultsUtils.isPrimary(node) || LSResultsUtils.isInputOutput(node) || initial[i] == null) {
+					continue;
+				}
+				if (!GM.setAssignedGate(initial[i])) {
+					throw new RuntimeException("Gate assignment error!");
+				}
+				node.getResultNetlistNodeData().setDevice(initial[i]);
+			}
+		}
 		// assign random gates
-		GateManager GM = getGateManager();
-		Netlist netlist = getNetlist();
 		for (int i = 0; i < netlist.getNumVertex(); i++) {
 			NetlistNode node = netlist.getVertexAtIdx(i);
 			if (LSResultsUtils.isPrimary(node) || LSResultsUtils.isInputOutput(node)) {
 				continue;
 			}
+			if (initial != null && initial[i] != null) {
+				continue;
+			}
 			ResultNetlistNodeData data = node.getResultNetlistNodeData();
 			Gate gate = GM.getRandomGateFromUnassignedGroup();
 			if (gate == null) {
@@ -211,44 +399,272 @@ public class SimulatedAnnealing extends TMAlgorithm {
 		}
 	}
 
+	/**
+	 * Returns a new ResponseCache as configured by the parameters of the
+	 * algorithm, or null if the cache is disabled. The cache is kept for the
+	 * report of {@link #logResponseCaches()}.
+	 *
+	 * @return a new ResponseCache, or null
+	 */
+	protected ResponseCache createResponseCache() {
+		ResponseCache rtn = getResponseCacheConfig().createResponseCache();
+		if (rtn != null) {
+			getResponseCaches().add(rtn);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Logs the hits and misses of all response caches.
+	 */
+	private void logResponseCaches() {
+		long hits = 0;
+		long misses = 0;
+		long evictions = 0;
+		for (ResponseCache cache : getResponseCaches()) {
+			hits += cache.getHits();
+			misses += cache.getMisses();
+			evictions += cache.getEvictions();
+		}
+		if (hits + misses > 0) {
+			logInfo(String.format("Response cache: %d hits, %d misses (%.1f%% hit rate), %d evictions", hits, misses,
+					100.0 * hits / (hits + misses), evictions));
+		}
+	}
+
 	@Override
 	protected void preprocessing() throws CelloException {
-		random = new Random(L_SEED);
+		// random
+		randomService = new RandomService(getSeed());
+		logInfo(String.format("Seed: %d", getSeed()));
+		try {
+			getResults().setSeed(getAlgorithmProfile().getName(), getSeed());
+		} catch (IOException e) {
+			throw new CelloException("Unable to write the seed to the results.", e);
+		}
+		random = getRandomService().getRandom(S_CHAIN, 0);
+		responseCaches = new ArrayList<>();
 		// GateManager
-		setGateManager(new GateManager(getTargetDataInstance().getGates()));
+		setGateManager(new GateManager(getTargetDataInstance().getGates(), getRandomService().getRandom(S_GATES, 0)));
 		// truth table
 		setTruthTable();
 	}
 
-	private void swap(NetlistNode nA, Gate gA, NetlistNode nB, Gate gB) {
-		if (nA == null && nB != null) {
-			getGateManager().setUnassignedGate(gB);
-			nB.getResultNetlistNodeData().setDevice(gA);
-			getGateManager().setAssignedGate(gA);
+	/**
+	 * Returns the number of steps of the annealing phase for the netlist and the
+	 * library of the algorithm.
+	 *
+	 * @return the number of steps of the annealing phase
+	 */
+	private int getStepBudget() {
+		int nodes = 0;
+		for (int i = 0; i < getNetlist().getNumVertex(); i++) {
+			NetlistNode node = getNetlist().getVertexAtIdx(i);
+			if (!LSResultsUtils.isPrimary(node) && !LSResultsUtils.isInputOutput(node)) {
+				nodes++;
+			}
+		}
+		return getScheduleConfig().getStepBudget(nodes, getTargetDataInstance().getGates().size());
+	}
+
+	/**
+	 * Returns the factor applied to the temperature of the chain at the rung
+	 * defined by parameter <i>rung</i> of the temperature ladder.
+	 *
+	 * @param rung the rung
+	 * @return the factor applied to the temperature
+	 */
+	private static double getLadderScale(final int rung) {
+		return Math.pow(D_LADDER_RATIO, rung);
+	}
+
+	/**
+	 * Logs the number of steps performed by the chain defined by parameter
+	 * <i>chain</i>.
+	 *
+	 * @param name  the name of the chain
+	 * @param chain the chain
+	 */
+	private void logSchedule(final String name, final AnnealingChain chain) {
+		AnnealingSchedule schedule = chain.getSchedule();
+		String str = String.format("%s: %d of %d steps", name, schedule.getStep(),
+				schedule.getSteps() + schedule.getZeroSteps());
+		if (schedule.isConvergedEarly()) {
+			str += ", converged early";
 		}
-		if (nA != null && nB == null) {
-			getGateManager().setUnassignedGate(gA);
-			nA.getResultNetlistNodeData().setDevice(gB);
-			getGateManager().setAssignedGate(gB);
+		logInfo(str);
+	}
+
+	/**
+	 * Creates a chain on a copy of the netlist, with its own gate assignment.
+	 *
+	 * @param index the index of the chain
+	 * @param steps the number of steps of the annealing phase
+	 * @return the chain
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	private AnnealingChain createChain(final int index, final int steps) throws CelloException {
+		Netlist netlist = TMUtils.copyNetlist(getNetlist());
+		GateManager GM = new GateManager(getTargetDataInstance().getGates(), getRandomService().getRandom(S_GATES, index));
+		// the first chain starts from the initial assignment, if any
+		assignNodes(netlist, GM, index == 0 ? getInitialGates() : null);
+		updateNetlist(netlist);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		AnnealingChain rtn = new AnnealingChain(netlist, lsle, GM, getRandomService().getRandom(S_CHAIN, index),
+				createResponseCache());
+		rtn.setSchedule(getScheduleConfig().createSchedule(steps));
+		return rtn;
+	}
+
+	/**
+	 * Runs at most the number of steps defined by parameter <i>steps</i> of each of
+	 * the chains defined by parameter <i>chains</i> on the ExecutorService defined
+	 * by parameter <i>executor</i>.
+	 *
+	 * @param executor the ExecutorService
+	 * @param chains   the chains, indexed by rung
+	 * @param ladder   whether the chains run on a ladder of temperatures
+	 * @param steps    the maximum number of steps
+	 * @throws CelloException Unable to evaluate a netlist.
+	 */
+	private static void runChains(final ExecutorService executor, final List<AnnealingChain> chains,
+			final boolean ladder, final int steps) throws CelloException {
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int i = 0; i < chains.size(); i++) {
+			final AnnealingChain chain = chains.get(i);
+			final double scale = ladder ? getLadderScale(i) : 1.0;
+			tasks.add(() -> {
+				chain.anneal(scale, steps);
+				return null;
+			});
 		}
-		if (nA != null && nB != null) {
-			nA.getResultNetlistNodeData().setDevice(gB);
-			nB.getResultNetlistNodeData().setDevice(gA);
+		try {
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CelloException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CelloException) {
+				throw (CelloException) e.getCause();
+			}
+			throw new CelloException(e.getCause());
 		}
 	}
 
-	private NetlistNode getRandomNode() {
-		NetlistNode rtn = null;
-		while (rtn == null) {
-			int rand = random(0, getNetlist().getNumVertex() - 1);
-			NetlistNode temp = getNetlist().getVertexAtIdx(rand);
-			if (!LSResultsUtils.isAllOutput(temp) && !LSResultsUtils.isAllInput(temp)) {
-				rtn = temp;
+	/**
+	 * Proposes an exchange of the assignments of the chains at adjacent rungs of
+	 * the temperature ladder. A chain at a higher temperature with a better score
+	 * is always moved down, otherwise with the Metropolis probability of the
+	 * exchange.
+	 *
+	 * @param chains the chains, indexed by rung
+	 * @param parity the rung of the first pair to consider, zero or one
+	 */
+	private void exchangeChains(final List<AnnealingChain> chains, final int parity) {
+		for (int i = parity; i + 1 < chains.size(); i += 2) {
+			AnnealingChain a = chains.get(i);
+			AnnealingChain b = chains.get(i + 1);
+			double tA = a.getSchedule().getTemperature() * getLadderScale(i);
+			double tB = b.getSchedule().getTemperature() * getLadderScale(i + 1);
+			if (tA <= 0.0 || tB <= 0.0) {
+				continue;
+			}
+			double probability = Math.exp((b.getScore() - a.getScore()) * (1.0 / tA - 1.0 / tB));
+			if (getRandom().nextDouble() < probability) {
+				chains.set(i, b);
+				chains.set(i + 1, a);
 			}
 		}
+	}
+
+	/**
+	 * Returns the chain with the best score among the viable chains, or the chain
+	 * with the best growth if no chain is viable.
+	 *
+	 * @param chains the chains
+	 * @return the best chain
+	 */
+	private static AnnealingChain getBestChain(final List<AnnealingChain> chains) {
+		AnnealingChain rtn = null;
+		for (AnnealingChain chain : chains) {
+			if (rtn == null) {
+				rtn = chain;
+			} else if (chain.isViable() != rtn.isViable()) {
+				if (chain.isViable()) {
+					rtn = chain;
+				}
+			} else if (chain.isViable() ? chain.getScore() > rtn.getScore() : chain.getGrowth() > rtn.getGrowth()) {
+				rtn = chain;
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns true if the schedules of all chains defined by parameter
+	 * <i>chains</i> are finished.
+	 *
+	 * @param chains the chains
+	 * @return true if the schedules of all chains are finished
+	 */
+	private static boolean isFinished(final List<AnnealingChain> chains) {
+		boolean rtn = true;
+		for (AnnealingChain chain : chains) {
+			rtn = rtn && chain.getSchedule().isFinished();
+		}
 		return rtn;
 	}
 
+	/**
+	 * Runs several chains in parallel, as independent chains or, if the exchange
+	 * interval is positive, as replica exchange (parallel tempering) on a ladder
+	 * of temperatures. The assignment of the best chain is copied to the netlist.
+	 *
+	 * @throws CelloException Unable to evaluate a netlist.
+	 */
+	private void runParallel() throws CelloException {
+		int numChains = getChainConfig().getNumChains();
+		int steps = getStepBudget();
+		boolean ladder = getChainConfig().getExchangeInterval() > 0;
+		int interval = ladder ? getChainConfig().getExchangeInterval() : Integer.MAX_VALUE;
+		List<AnnealingChain> chains = new ArrayList<>();
+		for (int i = 0; i < numChains; i++) {
+			chains.add(createChain(i, steps));
+		}
+		List<AnnealingChain> created = new ArrayList<>(chains);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(getChainConfig().getNumThreads(), numChains));
+		try {
+			int exchanges = 0;
+			while (!isFinished(chains)) {
+				runChains(executor, chains, ladder, interval);
+				if (ladder && !isFinished(chains)) {
+					exchangeChains(chains, exchanges % 2);
+					exchanges++;
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+		for (int i = 0; i < created.size(); i++) {
+			AnnealingChain chain = created.get(i);
+			logSchedule(String.format("Chain %d", i), chain);
+			logInfo(String.format("Chain %d: score %.2f, growth %.2f", i, chain.getScore(), chain.getGrowth()));
+		}
+		// copy the best assignment
+		AnnealingChain best = getBestChain(chains);
+		for (int i = 0; i < getNetlist().getNumVertex(); i++) {
+			AssignableDevice device = best.getNetlist().getVertexAtIdx(i).getResultNetlistNodeData().getDevice();
+			getNetlist().getVertexAtIdx(i).getResultNetlistNodeData().setDevice(device);
+		}
+		setGateManager(best.getGateManager());
+		updateNetlist();
+		setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation(),
+				best.getTMActivityEvaluation().getResponseCache()));
+		setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
+	}
+
 	/**
 	 * Run the (core) algorithm
 	 *
@@ -258,92 +674,29 @@ public class SimulatedAnnealing extends TMAlgorithm {
 	protected void run() throws CelloException {
 		logDebug("Running the (core) algorithm.");
 
-		Double MAXTEMP = 100.0;
-		Double MINTEMP = 0.001;
-
-		Integer STEPS = 500;
-
-		Double LOGMAX = Math.log10(MAXTEMP);
-		Double LOGMIN = Math.log10(MINTEMP);
-
-		Double LOGINC = (LOGMAX - LOGMIN) / STEPS;
-
-		Integer T0_STEPS = 100;
-
 		// input node assignment
 		assignInputNodes();
 		// output node assignment
 		assignOutputNodes();
+
+		if (getChainConfig().getNumChains() > 1) {
+			runParallel();
+			return;
+		}
+
 		// logic node assignment
 		assignNodes();
 		updateNetlist();
 
-		setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation()));
-		setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
+		AnnealingChain chain = new AnnealingChain(getNetlist(), getLSLogicEvaluation(), getGateManager(),
+		        getRandom(), createResponseCache());
+		setTMActivityEvaluation(chain.getTMActivityEvaluation());
+		setTMToxicityEvaluation(chain.getTMToxicityEvaluation());
+		chain.setSchedule(getScheduleConfig().createSchedule(getStepBudget()));
 
 		// evaluate
-		for (int j = 0; j < STEPS + T0_STEPS; ++j) {
-			Double LOGTEMP = LOGMAX - j * LOGINC;
-			Double TEMP = Math.pow(10, LOGTEMP);
-
-			if (j >= STEPS) {
-				TEMP = 0.0;
-			}
-
-			Double before = ScoreUtils.score(getNetlist(), getLSLogicEvaluation(),
-			        getTMActivityEvaluation());
-
-			NetlistNode nA = null;
-			Gate gA = getGateManager().getRandomGateFromUnassignedGroup();
-			if (gA == null) {
-				nA = getRandomNode();
-				gA = (Gate) nA.getResultNetlistNodeData().getDevice();
-			}
-			NetlistNode nB = null;
-			Gate gB = null;
-			do {
-				nB = getRandomNode();
-			} while (nB == nA);
-			gB = (Gate) nB.getResultNetlistNodeData().getDevice();
-
-			swap(nA, gA, nB, gB);
-
-			// evaluate
-			TMActivityEvaluation tmae = new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation());
-			Double after = ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), tmae);
-
-			// toxicity
-			TMToxicityEvaluation tmte = new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation());
-			if (getTMToxicityEvaluation().getMinimumGrowth() < D_GROWTH_THRESHOLD) {
-				if (tmte.getMinimumGrowth() > getTMToxicityEvaluation().getMinimumGrowth()) {
-					setTMToxicityEvaluation(tmte);
-					setTMActivityEvaluation(tmae);
-					continue;
-				} else {
-					// undo
-					swap(nB, gB, nA, gA);
-					continue;
-				}
-			} else if (tmte.getMinimumGrowth() < D_GROWTH_THRESHOLD) {
-				// undo
-				swap(nB, gB, nA, gA);
-				continue;
-			}
-
-			// accept or reject
-			Double probability = Math.exp((after - before) / TEMP); // e^b
-			Double ep = Math.random();
-
-			if (ep < probability) {
-				// accept
-				setTMToxicityEvaluation(tmte);
-				setTMActivityEvaluation(tmae);
-			} else {
-				// undo
-				swap(nB, gB, nA, gA);
-			}
-
-		}
+		chain.anneal(1.0, Integer.MAX_VALUE);
+		logSchedule("Chain", chain);
 
 	}
 
@@ -351,20 +704,23 @@ public class SimulatedAnnealing extends TMAlgorithm {
 	 * Copy the gate assignements to the netlist
 	 */
 	protected void updateNetlist() {
-		for (int i = 0; i < getNetlist().getNumVertex(); i++) {
-			NetlistNode node = getNetlist().getVertexAtIdx(i);
+		updateNetlist(getNetlist());
+	}
+
+	/**
+	 * Copies the gate assignments of the Netlist defined by parameter
+	 * <i>netlist</i> to its nodes and edges.
+	 *
+	 * @param netlist the Netlist
+	 */
+	protected static void updateNetlist(final Netlist netlist) {
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
 			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
 			if (device != null) {
 				node.getResultNetlistNodeData().setDeviceName(device.getName());
 			}
-			int num = node.getNumInEdge();
-			if (node.getNumInEdge() > device.getStructure().getInputs().size())
-				throw new RuntimeException("Device structure does not have enough inputs.");
-			for (int j = 0; j < num; j++) {
-				NetlistEdge e = node.getInEdgeAtIdx(j);
-				Input input = device.getStructure().getInputs().get(j);
-				e.getResultNetlistEdgeData().setInput(input);
-			}
+			TMUtils.setInputs(node);
 		}
 	}
 
@@ -380,10 +736,75 @@ public class SimulatedAnnealing extends TMAlgorithm {
 		String filename = Utils.getFilename(inputFilename);
 		String outputDir = getRuntimeEnv().getOptionValue(ArgString.OUTPUTDIR);
 		String outputFile = outputDir + Utils.getFileSeparator() + filename;
+		// plots in the background, joined at the end of the stage
+		ExecutorService executor = null;
+		Future<Void> plots = null;
+		if (getPlotConfig().isEnabled() && getPlotConfig().getAsyncPlots()) {
+			logInfo("Generating plots in the background");
+			executor = ResponsePlotUtils.newPlotExecutor();
+			plots = ResponsePlotUtils.generatePlots(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation(),
+			        getRuntimeEnv(), getPlotConfig().getPlotRenderer(), executor);
+		}
+		try {
+			writeEvaluations(outputFile);
+			if (executor != null) {
+				awaitPlots(executor, plots);
+			} else if (getPlotConfig().isEnabled()) {
+				logInfo("Generating plots");
+				List<ResponsePlot> list = ResponsePlotUtils.getResponsePlots(getNetlist(), getLSLogicEvaluation(),
+				        getTMActivityEvaluation(), outputDir);
+				ResponsePlotUtils.renderPlots(list, getPlotConfig().getPlotRenderer(), getRuntimeEnv());
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Shuts down the ExecutorService defined by parameter <i>executor</i> and waits
+	 * for the plots defined by parameter <i>plots</i> to be rendered.
+	 *
+	 * @param executor the ExecutorService that renders the plots
+	 * @param plots    the Future of the plots
+	 * @throws CelloException Unable to render the plots.
+	 */
+	private void awaitPlots(final ExecutorService executor, final Future<Void> plots) throws CelloException {
+		executor.shutdown();
+		try {
+			while (!executor.awaitTermination(L_PLOT_WAIT, TimeUnit.SECONDS)) {
+				logInfo("Waiting for plots");
+			}
+			plots.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CelloException("Interrupted while generating plots.", e);
+		} catch (ExecutionException e) {
+			throw new CelloException("Unable to generate plots.", e.getCause());
+		}
+	}
+
+	/**
+	 * Writes the evaluations of the netlist to the files with the prefix defined by
+	 * parameter <i>outputFile</i> and logs them.
+	 *
+	 * @param outputFile the prefix of the output files
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	private void writeEvaluations(final String outputFile) throws CelloException {
 		// logic
 		LSResultsUtils.writeCSVForLSLogicEvaluation(getLSLogicEvaluation(), outputFile + "_logic.csv");
-		// cytometry
-		setTMCytometryEvaluation(new TMCytometryEvaluation());
+		// cytometry, only with cytometry data unless requested
+		if (getEvaluateCytometry()
+		        || TMCytometryEvaluation.hasCytometry(getNetlist(), getTargetDataInstance().getCytometry())) {
+			setTMCytometryEvaluation(new TMCytometryEvaluation(getNetlist(), getLSLogicEvaluation(),
+			        getTMActivityEvaluation(), getTargetDataInstance().getCytometry(),
+			        getChainConfig().getNumThreads() > 1));
+			TMResultsUtils.writeCSVForTMCytometryEvaluation(getTMCytometryEvaluation(),
+			        outputFile + "_cytometry.csv");
+			logInfo(getTMCytometryEvaluation().toString());
+		}
 		// toxicity
 		setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
 		SimulatedAnnealingResultsUtils.writeCSVForTMToxicityEvaluation(getTMToxicityEvaluation(),
@@ -408,10 +829,20 @@ public class SimulatedAnnealing extends TMAlgorithm {
 		}
 		logInfo(String.format("Score: %.2f",
 		        ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation())));
-		// plots
-		logInfo("Generating plots");
-		ResponsePlotUtils.generatePlots(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation(),
-		        getRuntimeEnv());
+		logResponseCaches();
+		// robustness
+		if (getRobustnessConfig().isEnabled()) {
+			logInfo("Evaluating robustness");
+			RobustnessConfig config = getRobustnessConfig();
+			TMRobustnessEvaluation tmre = new TMRobustnessEvaluation(getNetlist(), getLSLogicEvaluation(),
+			        config.getRobustnessSamples(), config.getRobustnessSigma(), getSeed(),
+			        getChainConfig().getNumThreads());
+			SimulatedAnnealingResultsUtils.writePercentileCSVForTMRobustnessEvaluation(tmre,
+			        outputFile + "_robustness.csv");
+			SimulatedAnnealingResultsUtils.writeCSVForTMRobustnessEvaluation(tmre, outputFile + "_sensitivity.csv");
+			SimulatedAnnealingResultsUtils.writeJSONForTMRobustnessEvaluation(tmre, outputFile + "_robustness.json");
+			logInfo(tmre.toString());
+		}
 	}
 
 	/**
@@ -575,7 +1006,7 @@ public class SimulatedAnnealing extends TMAlgorithm {
 	private TMActivityEvaluation tmae;
 
 	/**
-	 * Getter for <i>tmce</i>
+	 * Getter for <i>tmce</i>, null if the cytometry was not evaluated
 	 *
 	 * @return value of <i>tmce</i>
 	 */
@@ -594,22 +1025,164 @@ public class SimulatedAnnealing extends TMAlgorithm {
 
 	private TMCytometryEvaluation tmce;
 
+	/*
+	 * Parameters
+	 */
+	/**
+	 * Getter for <i>chainConfig</i>, the parameters of the chains.
+	 *
+	 * @return value of <i>chainConfig</i>
+	 */
+	protected ChainConfig getChainConfig() {
+		return this.chainConfig;
+	}
+
+	private final ChainConfig chainConfig = new ChainConfig();
+
+	/**
+	 * Getter for <i>scheduleConfig</i>, the parameters of the schedule.
+	 *
+	 * @return value of <i>scheduleConfig</i>
+	 */
+	protected ScheduleConfig getScheduleConfig() {
+		return this.scheduleConfig;
+	}
+
+	private final ScheduleConfig scheduleConfig = new ScheduleConfig();
+
+	/**
+	 * Getter for <i>responseCacheConfig</i>, the parameters of the response caches.
+	 *
+	 * @return value of <i>responseCacheConfig</i>
+	 */
+	protected ResponseCacheConfig getResponseCacheConfig() {
+		return this.responseCacheConfig;
+	}
+
+	private final ResponseCacheConfig responseCacheConfig = new ResponseCacheConfig();
+
+	/**
+	 * Getter for <i>plotConfig</i>, the parameters of the plots.
+	 *
+	 * @return value of <i>plotConfig</i>
+	 */
+	protected PlotConfig getPlotConfig() {
+		return this.plotConfig;
+	}
+
+	private final PlotConfig plotConfig = new PlotConfig();
+
+	/**
+	 * Getter for <i>robustnessConfig</i>, the parameters of the robustness analysis.
+	 *
+	 * @return value of <i>robustnessConfig</i>
+	 */
+	protected RobustnessConfig getRobustnessConfig() {
+		return this.robustnessConfig;
+	}
+
+	private final RobustnessConfig robustnessConfig = new RobustnessConfig();
+
+	/**
+	 * Getter for <i>seed</i>, the master seed of the random number generators. A
+	 * missing or negative seed is replaced by a random seed, which is logged and
+	 * recorded in the results.
+	 *
+	 * @return value of <i>seed</i>
+	 */
+	protected Integer getSeed() {
+		return this.seed;
+	}
+
+	/**
+	 * Setter for <i>seed</i>
+	 *
+	 * @param seed the value to set <i>seed</i>
+	 */
+	protected void setSeed(final Integer seed) {
+		this.seed = seed;
+	}
+
+	private Integer seed;
+
+	/**
+	 * Getter for <i>evaluateCytometry</i>, whether to evaluate the cytometry of
+	 * the netlist even if no gate of the netlist has cytometry data.
+	 *
+	 * @return value of <i>evaluateCytometry</i>
+	 */
+	protected Boolean getEvaluateCytometry() {
+		return this.evaluateCytometry;
+	}
+
+	/**
+	 * Setter for <i>evaluateCytometry</i>
+	 *
+	 * @param evaluateCytometry the value to set <i>evaluateCytometry</i>
+	 */
+	protected void setEvaluateCytometry(final Boolean evaluateCytometry) {
+		this.evaluateCytometry = evaluateCytometry;
+	}
+
+	private Boolean evaluateCytometry;
+
+	/**
+	 * Getter for <i>initialAssignment</i>, the gates from which the annealing
+	 * starts, from each logic node of the netlist to its gate. Logic nodes without
+	 * a gate are assigned a random gate.
+	 *
+	 * @return value of <i>initialAssignment</i>
+	 */
+	protected Map<NetlistNode, Gate> getInitialAssignment() {
+		return this.initialAssignment;
+	}
+
+	/**
+	 * Setter for <i>initialAssignment</i>
+	 *
+	 * @param initialAssignment the value to set <i>initialAssignment</i>
+	 */
+	protected void setInitialAssignment(final Map<NetlistNode, Gate> initialAssignment) {
+		this.initialAssignment = initialAssignment;
+	}
+
+	private Map<NetlistNode, Gate> initialAssignment;
+
+	/*
+	 * ResponseCache
+	 */
+	private List<ResponseCache> getResponseCaches() {
+		return responseCaches;
+	}
+
+	private List<ResponseCache> responseCaches;
+
 	/*
 	 * Random
 	 */
-	private int random(int min, int max) {
-		int rtn = 0;
-		Random random = getRandom();
-		rtn = random.nextInt(max - min + 1) + min;
-		return rtn;
+	/**
+	 * Getter for <i>randomService</i>, the source of the random number generators
+	 * of the algorithm, derived from the <i>Seed</i> parameter.
+	 *
+	 * @return value of <i>randomService</i>
+	 */
+	protected RandomService getRandomService() {
+		return randomService;
 	}
 
-	private Random getRandom() {
+	private RandomService randomService;
+
+	protected Random getRandom() {
 		return random;
 	}
 
 	private Random random;
-	private static long L_SEED = 21;
-	private static final double D_GROWTH_THRESHOLD = 0.75;
+
+	private static final String S_CHAIN = "chain";
+	private static final String S_GATES = "gates";
+
+	private static final double D_LADDER_RATIO = 2.0;
+
+	private static final long L_PLOT_WAIT = 60;
 
 }
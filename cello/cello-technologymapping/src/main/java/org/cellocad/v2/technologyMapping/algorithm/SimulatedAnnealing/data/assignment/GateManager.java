@@ -22,11 +22,10 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assi
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
@@ -35,7 +34,17 @@ import org.cellocad.v2.common.target.data.data.Gate;
 /**
  * The GateManager class is class managing the gate(s) for the gate assignment in the <i>SimulatedAnnealing</i> algorithm.
  * 
+ * Gates and groups are numbered by dense ordinals. The gates of a group are
+ * kept in a single array partitioned into its assigned gates followed by its
+ * unassigned gates, so that (un)assigning a gate is a swap, and the groups
+ * without an assigned gate are kept in a swap-remove array. All gates are
+ * likewise kept in a single array partitioned into the assigned gates followed
+ * by the unassigned gates. All operations, including random picks and indexed
+ * access, run in constant time without allocation. The order of the assigned
+ * and unassigned gates changes as gates are (un)assigned.
+ * 
  * @author Vincent Mirian
+ * @author agent
  * 
  * @date 2018-05-21
  *
@@ -43,408 +52,325 @@ import org.cellocad.v2.common.target.data.data.Gate;
 public class GateManager extends CObject{
 
 	/*
-	 * init
+	 * Constructor
 	 */
-	private void init() {
-		this.random = new Random(GateManager.L_SEED);
-		this.gates = new CObjectCollection<Gate>();
-		this.assignedGates = new CObjectCollection<Gate>();
-		this.unassignedGates = new CObjectCollection<Gate>();
-		this.gatesMap = new HashMap<String, CObjectCollection<Gate>>();
-		this.numAssignedGatesGroupMap = new HashMap<String, Integer>();
-		this.numUnassignedGatesGroupMap = new HashMap<String, Integer>();
-		this.assignedGatesMap = new HashMap<String, CObjectCollection<Gate>>();
-		this.unassignedGatesMap = new HashMap<String, CObjectCollection<Gate>>();
-	}
-
-	private void addGroups(final Map<String, CObjectCollection<Gate>> map, final CObjectCollection<Gate> gates) {
-		CObjectCollection<Gate> list = null;
-		for (int i = 0; i < gates.size(); i ++) {
-			Gate gate = gates.get(i);
-			String name = gate.getGroup();
-			list = map.get(name);
-			if (list == null) {
-				list = new CObjectCollection<Gate>();
-				map.put(name, list);
-			}
-		}
-	}
-	
-	private void addNumGroups(final Map<String, Integer> map, final CObjectCollection<Gate> gates) {
-		Integer value = 0;
-		for (int i = 0; i < gates.size(); i ++) {
-			Gate gate = gates.get(i);
-			String name = gate.getGroup();
-			value = map.get(name);
-			if (value == null) {
-				value = new Integer(GateManager.I_ZERO);
-				map.put(name, value);
-			}
-		}
+	/**
+	 * Initializes a newly created GateManager with the gates defined by parameter
+	 * <i>gates</i> and a random number generator with a fixed seed.
+	 *
+	 * @param gates the gates
+	 */
+	public GateManager (final CObjectCollection<Gate> gates){
+		this(gates, new Random(GateManager.L_SEED));
 	}
 
-	private void addGatesToGroup(final Map<String, CObjectCollection<Gate>> map, final CObjectCollection<Gate> gates) {
-		CObjectCollection<Gate> list = null;
-		for (int i = 0; i < gates.size(); i ++) {
+	/**
+	 * Initializes a newly created GateManager with the gates defined by parameter
+	 * <i>gates</i> and the random number generator defined by parameter
+	 * <i>random</i>.
+	 *
+	 * @param gates  the gates
+	 * @param random the random number generator
+	 */
+	public GateManager (final CObjectCollection<Gate> gates, final Random random){
+		this.random = random;
+		int numGates = gates.size();
+		this.gates = new Gate[numGates];
+		this.gateIndices = new IdentityHashMap<>();
+		this.gateGroup = new int[numGates];
+		this.gatePosition = new int[numGates];
+		this.order = new int[numGates];
+		this.orderPosition = new int[numGates];
+		this.numAssignedGates = 0;
+		this.groupIndices = new HashMap<>();
+		List<List<Integer>> members = new ArrayList<>();
+		for (int i = 0; i < numGates; i ++) {
 			Gate gate = gates.get(i);
-			String name = gate.getGroup();
-			list = map.get(name);
-			if (list == null) {
-				throw new RuntimeException("Group name does not exist!");
+			this.gates[i] = gate;
+			this.gateIndices.put(gate, i);
+			Integer group = this.groupIndices.get(gate.getGroup());
+			if (group == null) {
+				group = members.size();
+				this.groupIndices.put(gate.getGroup(), group);
+				members.add(new ArrayList<>());
 			}
-			list.add(gate);
+			this.order[i] = i;
+			this.orderPosition[i] = i;
+			this.gateGroup[i] = group;
+			this.gatePosition[i] = members.get(group).size();
+			members.get(group).add(i);
 		}
-	}
-	
-	private void addNumGatesToGroup(final Map<String, Integer> map, final CObjectCollection<Gate> gates) {
-		Integer value = null;
-		for (int i = 0; i < gates.size(); i ++) {
-			Gate gate = gates.get(i);
-			String name = gate.getGroup();
-			value = map.get(name);
-			map.put(name, value + 1);
+		int numGroups = members.size();
+		this.groupGates = new int[numGroups][];
+		this.numAssigned = new int[numGroups];
+		this.freeGroups = new int[numGroups];
+		this.freeGroupPosition = new int[numGroups];
+		for (int i = 0; i < numGroups; i ++) {
+			List<Integer> list = members.get(i);
+			this.groupGates[i] = new int[list.size()];
+			for (int j = 0; j < list.size(); j ++) {
+				this.groupGates[i][j] = list.get(j);
+			}
+			this.freeGroups[i] = i;
+			this.freeGroupPosition[i] = i;
 		}
-	}
-	
-	/*
-	 * Constructor
-	 */
-	public GateManager (final CObjectCollection<Gate> gates){
-		init();
-		this.getGates().addAll(gates);
-		this.getUnassignedGates().addAll(gates);
-		this.addGroups(this.getGatesMap(), gates);
-		this.addNumGroups(this.getNumAssignedGatesGroupMap(), gates);
-		this.addNumGroups(this.getNumUnassignedGatesGroupMap(), gates);
-		this.addGroups(this.getAssignedGatesMap(), gates);
-		this.addGroups(this.getUnassignedGatesMap(), gates);
-		this.addGatesToGroup(this.getGatesMap(), gates);
-		this.addGatesToGroup(this.getUnassignedGatesMap(), gates);
-		this.addNumGatesToGroup(this.getNumUnassignedGatesGroupMap(), gates);
+		this.numFreeGroups = numGroups;
 	}
 
 	/*
-	 * CObjectCollection
+	 * Ordinals
 	 */
-	private Gate getRandomGate(final CObjectCollection<Gate> gates) {
-		Gate rtn = null;
-		int size = this.getNumGate(gates);
-		if (size > 0) {
-			rtn = gates.get(this.random(0, size - 1));
+	private int getGateIndex(final Gate gate) {
+		int rtn = -1;
+		Integer index = this.gateIndices.get(gate);
+		if (index != null) {
+			rtn = index;
 		}
 		return rtn;
 	}
-	
-	private int getNumGate(final CObjectCollection<Gate> gates) {
-		int rtn = gates.size();
+
+	private int getGroupIndex(final String group) {
+		int rtn = -1;
+		Integer index = this.groupIndices.get(group);
+		if (index != null) {
+			rtn = index;
+		}
 		return rtn;
 	}
+
 	/*
-	private Gate getGateAtIdx(final CObjectCollection<Gate> gates, final int index) {
-		Gate rtn = null;
-		int size = this.getNumGate(gates);
-		if (
-				(0 <= index)
-				&&
-				(index < size)
-				) {
-			gates.get(index);
-		}			
-		return rtn;
-	}
+	 * Groups without an assigned gate
 	 */
+	private void addFreeGroup(final int group) {
+		this.freeGroups[this.numFreeGroups] = group;
+		this.freeGroupPosition[group] = this.numFreeGroups;
+		this.numFreeGroups ++;
+	}
+
+	private void removeFreeGroup(final int group) {
+		int position = this.freeGroupPosition[group];
+		int last = this.freeGroups[this.numFreeGroups - 1];
+		this.freeGroups[position] = last;
+		this.freeGroupPosition[last] = position;
+		this.numFreeGroups --;
+	}
+
 	/*
 	 * Setter
 	 */
-	private boolean contains(final CObjectCollection<Gate> gates, final Gate gate) {
-		boolean rtn = false;
-		rtn = gates.contains(gate);			
-		return rtn;
-	}
-	
-	private boolean contains(final Map<String, CObjectCollection<Gate>> gates, final Gate gate) {
-		boolean rtn = false;
-		CObjectCollection<Gate> list = gates.get(gate.getGroup());
-		rtn = this.contains(list, gate);
-		return rtn;
+	private void swap(final int group, final int a, final int b) {
+		int[] list = this.groupGates[group];
+		int gA = list[a];
+		int gB = list[b];
+		list[a] = gB;
+		list[b] = gA;
+		this.gatePosition[gA] = b;
+		this.gatePosition[gB] = a;
 	}
 
-	private boolean remove(final CObjectCollection<Gate> gates, final Gate gate) {
-		boolean rtn = false;
-		rtn = gates.remove(gate);			
-		return rtn;
-	}
-	
-	private boolean remove(final Map<String, CObjectCollection<Gate>> gates, final Gate gate) {
-		boolean rtn = false;
-		CObjectCollection<Gate> list = gates.get(gate.getGroup());
-		rtn = this.remove(list, gate);
-		return rtn;
+	private void swapOrder(final int a, final int b) {
+		int gA = this.order[a];
+		int gB = this.order[b];
+		this.order[a] = gB;
+		this.order[b] = gA;
+		this.orderPosition[gA] = b;
+		this.orderPosition[gB] = a;
 	}
 
-	private boolean add(final CObjectCollection<Gate> gates, final Gate gate) {
-		boolean rtn = false;
-		rtn = gates.add(gate);			
-		return rtn;
-	}
-	
-	private boolean add(final Map<String, CObjectCollection<Gate>> gates, final Gate gate) {
-		boolean rtn = false;
-		CObjectCollection<Gate> list = gates.get(gate.getGroup());
-		rtn = this.add(list, gate);
-		return rtn;
+	private boolean isAssigned(final int gate) {
+		return this.gatePosition[gate] < this.numAssigned[this.gateGroup[gate]];
 	}
 
-	private void inc(final Map<String, Integer> gates, final Gate gate) {
-		String name = gate.getGroup();
-		Integer value = gates.get(name);
-		if (value == Integer.MAX_VALUE) {
-			throw new RuntimeException("MAX_VALUE!");
-		}
-		gates.put(name, value + 1);
-	}
-	
-	private void dec(final Map<String, Integer> gates, final Gate gate) {
-		String name = gate.getGroup();
-		Integer value = gates.get(name);
-		if (value == GateManager.I_ZERO) {
-			throw new RuntimeException("IS ZERO!");
-		}
-		gates.put(name, value - 1);
-	}
-	
-	private enum OP {
-		LESS_THAN, LESS_THAN_OR_EQUAL, EQUAL, GREATER_THAN_OR_EQUAL, GREATER_THAN;
-		
-		public static boolean evaluate(int lh, int rh, OP op) {
-			boolean rtn = false;
-			if (op == LESS_THAN) {
-				rtn = lh < rh; 
-			}
-			if (op == LESS_THAN_OR_EQUAL) {
-				rtn = lh <= rh; 
-			}
-			if (op == EQUAL) {
-				rtn = lh == rh; 
-			}
-			if (op == GREATER_THAN_OR_EQUAL) {
-				rtn = lh >= rh; 
-			}
-			if (op == GREATER_THAN) {
-				rtn = lh > rh; 
-			}
+	/*
+	 * Random
+	 */
+	private Gate getRandomGateByGroup(final int group, final boolean assigned) {
+		Gate rtn = null;
+		if (group < 0) {
 			return rtn;
 		}
-		
-	}
-	
-	private String getRandomGroupGTEq(final Map<String, Integer> gates, final int value, final OP op) {
-		String rtn = null;
-		Set<Map.Entry<String, Integer>> set = gates.entrySet();
-		Iterator<Map.Entry<String, Integer>> iter = set.iterator();
-		List<String> select = new ArrayList<String>();
-		while(iter.hasNext()) {
-			Map.Entry<String, Integer> entry = iter.next();
-			if (OP.evaluate(entry.getValue(), value, op))
-			{
-				select.add(entry.getKey());
-			}
-		}
-		int size = select.size();
-		if (size > 0) {
-			rtn = select.get(this.random(0, size - 1));
+		int from = assigned ? 0 : this.numAssigned[group];
+		int to = assigned ? this.numAssigned[group] : this.groupGates[group].length;
+		if (to > from) {
+			rtn = this.gates[this.groupGates[group][from + this.getRandom().nextInt(to - from)]];
 		}
 		return rtn;
 	}
-	
-	private boolean setGate(
-			final CObjectCollection<Gate> a1,
-			final Map<String, CObjectCollection<Gate>> a2,
-			final Map<String, Integer> a3,
-			final CObjectCollection<Gate> b1,
-			final Map<String, CObjectCollection<Gate>> b2,
-			final Map<String, Integer> b3,
-			final Gate gate) {
-		boolean rtn = false;
-		// must be: 1) unassigned gates, and, 2) unassigned gates by group
-		boolean g1 = this.contains(a1, gate);
-		boolean g2 = this.contains(a2, gate);
-		if (g1 && g2) {
-			// remove from: 1) unassigned gates, and, 2) unassigned gates by group
-			g1 = this.remove(a1, gate);
-			g2 = this.remove(a2, gate);
-			this.dec(a3, gate);
-			if (!(g1 && g2)) {
-				throw new RuntimeException ("Error!");
-			}
-			// add to: 1) assigned gates, and, 2) assigned gates by group
-			g1 = this.add(b1, gate);
-			g2 = this.add(b2, gate);
-			this.inc(b3, gate);
-			if (!(g1 && g2)) {
-				throw new RuntimeException ("Error!");
-			}			
+
+	private Gate getRandomGate(final int from, final int to) {
+		Gate rtn = null;
+		if (to > from) {
+			rtn = this.gates[this.order[from + this.getRandom().nextInt(to - from)]];
 		}
 		return rtn;
 	}
 
 	/*
-	 * Map/Group
+	 * Index
 	 */
-	private CObjectCollection<Gate> getGatesByGroup(Map<String, CObjectCollection<Gate>> gates, String group) {
-		CObjectCollection<Gate> rtn = null;
-		rtn = gates.get(group);
+	private Gate getGateAtIdx(final int from, final int to, final int index) {
+		Gate rtn = null;
+		if (0 <= index && index < to - from) {
+			rtn = this.gates[this.order[from + index]];
+		}
 		return rtn;
 	}
-	
-	private Gate getRandomGateByGroup(Map<String, CObjectCollection<Gate>> gates, String group) {
+
+	private Gate getGateByGroupAtIdx(final int group, final boolean assigned, final int index) {
 		Gate rtn = null;
-		CObjectCollection<Gate> list = this.getGatesByGroup(gates, group);
-		rtn = this.getRandomGate(list);
+		if (group < 0) {
+			return rtn;
+		}
+		int from = assigned ? 0 : this.numAssigned[group];
+		int to = assigned ? this.numAssigned[group] : this.groupGates[group].length;
+		if (0 <= index && index < to - from) {
+			rtn = this.gates[this.groupGates[group][from + index]];
+		}
 		return rtn;
 	}
-	/*
-	private int getNumGateByGroup(Map<String, CObjectCollection<Gate>> gates, String group) {
+
+	private int getNumGateByGroup(final int group, final boolean assigned) {
 		int rtn = 0;
-		CObjectCollection<Gate> list = this.getGatesByGroup(gates, group);
-		rtn = this.getNumGate(list);
-		return rtn;
-	}
-	
-	private Gate getGateAtIdxByGroup(Map<String, CObjectCollection<Gate>> gates, String group, int index) {
-		Gate rtn = null;
-		CObjectCollection<Gate> list = this.getGatesByGroup(gates, group);
-		rtn = this.getGateAtIdx(list, index);
+		if (group >= 0) {
+			rtn = assigned ? this.numAssigned[group] : this.groupGates[group].length - this.numAssigned[group];
+		}
 		return rtn;
 	}
-	*/
 
 	/*
 	 * Assigned Gates
 	 */
-	/*
 	public Gate getRandomAssignedGate() {
 		Gate rtn = null;
-		rtn = this.getRandomGate(this.getAssignedGates());
+		rtn = this.getRandomGate(0, this.numAssignedGates);
 		return rtn;
 	}
 
 	public int getNumAssignedGate() {
-		int rtn = this.getNumGate(this.getAssignedGates());
+		int rtn = this.numAssignedGates;
 		return rtn;
 	}
-	
+
 	public Gate getAssignedGateAtIdx(final int index) {
 		Gate rtn = null;
-		rtn = this.getGateAtIdx(this.getAssignedGates(), index);
+		rtn = this.getGateAtIdx(0, this.numAssignedGates, index);
 		return rtn;
 	}
-	*/
+
 	public Gate getRandomAssignedGateByGroup(final String group) {
 		Gate rtn = null;
-		rtn = this.getRandomGateByGroup(this.getAssignedGatesMap(), group);
+		rtn = this.getRandomGateByGroup(this.getGroupIndex(group), true);
 		return rtn;
 	}
-	/*
+
 	public int getNumAssignedGateByGroup(final String group) {
 		int rtn = 0;
-		rtn = this.getNumGateByGroup(this.getAssignedGatesMap(), group);
+		rtn = this.getNumGateByGroup(this.getGroupIndex(group), true);
 		return rtn;
 	}
-	
+
 	public Gate getAssignedGateByGroupAtIdx(final String group, final int index) {
 		Gate rtn = null;
-		rtn = this.getGateAtIdxByGroup(this.getAssignedGatesMap(), group, index);
+		rtn = this.getGateByGroupAtIdx(this.getGroupIndex(group), true, index);
 		return rtn;
 	}
-	 */
+
 	/*
 	 * Unassigned Gates
 	 */
-	/*
 	public Gate getRandomUnassignedGate() {
 		Gate rtn = null;
-		rtn = this.getRandomGate(this.getUnassignedGates());
+		rtn = this.getRandomGate(this.numAssignedGates, this.gates.length);
 		return rtn;
 	}
 
 	public int getNumUnassignedGate() {
-		int rtn = this.getNumGate(this.getUnassignedGates());
+		int rtn = this.gates.length - this.numAssignedGates;
 		return rtn;
 	}
-	
+
 	public Gate getUnassignedGateAtIdx(final int index) {
 		Gate rtn = null;
-		rtn = this.getGateAtIdx(this.getUnassignedGates(), index);
+		rtn = this.getGateAtIdx(this.numAssignedGates, this.gates.length, index);
 		return rtn;
-	}*/
-	
+	}
+
 	public Gate getRandomUnassignedGateByGroup(final String group) {
 		Gate rtn = null;
-		rtn = this.getRandomGateByGroup(this.getUnassignedGatesMap(), group);
+		rtn = this.getRandomGateByGroup(this.getGroupIndex(group), false);
 		return rtn;
 	}
-	/*
+
 	public int getNumUnassignedGateByGroup(final String group) {
 		int rtn = 0;
-		rtn = this.getNumGateByGroup(this.getUnassignedGatesMap(), group);
+		rtn = this.getNumGateByGroup(this.getGroupIndex(group), false);
 		return rtn;
 	}
-	
+
 	public Gate getUnassignedGateByGroupAtIdx(final String group, final int index) {
 		Gate rtn = null;
-		rtn = this.getGateAtIdxByGroup(this.getUnassignedGatesMap(), group, index);
+		rtn = this.getGateByGroupAtIdx(this.getGroupIndex(group), false, index);
 		return rtn;
-	}*/
+	}
 
 	/*
 	 * Gates
 	 */
-	/*
 	public Gate getRandomGate() {
 		Gate rtn = null;
-		rtn = this.getRandomGate(this.getGates());
+		rtn = this.getRandomGate(0, this.gates.length);
 		return rtn;
 	}
 
 	public int getNumGate() {
-		int rtn = this.getNumGate(this.getGates());
+		int rtn = this.gates.length;
 		return rtn;
 	}
-	
+
 	public Gate getGateAtIdx(final int index) {
 		Gate rtn = null;
-		rtn = this.getGateAtIdx(this.getGates(), index);
+		if (0 <= index && index < this.gates.length) {
+			rtn = this.gates[index];
+		}
 		return rtn;
 	}
-	
+
 	public Gate getRandomGateByGroup(final String group) {
 		Gate rtn = null;
-		this.getRandomGateByGroup(this.getGatesMap(), group);
+		int index = this.getGroupIndex(group);
+		if (index >= 0) {
+			int[] list = this.groupGates[index];
+			rtn = this.gates[list[this.getRandom().nextInt(list.length)]];
+		}
 		return rtn;
 	}
-	
+
 	public int getNumGateByGroup(final String group) {
 		int rtn = 0;
-		rtn = this.getNumGateByGroup(this.getGatesMap(), group);
+		int index = this.getGroupIndex(group);
+		if (index >= 0) {
+			rtn = this.groupGates[index].length;
+		}
 		return rtn;
 	}
-	
+
 	public Gate getGateByGroupAtIdx(final String group, final int index) {
 		Gate rtn = null;
-		rtn = this.getGateAtIdxByGroup(this.getGatesMap(), group, index);
+		int g = this.getGroupIndex(group);
+		if (g >= 0 && 0 <= index && index < this.groupGates[g].length) {
+			rtn = this.gates[this.groupGates[g][index]];
+		}
 		return rtn;
 	}
-	*/
-	
+
 	/*
 	 * Group Gate Map
 	 */
 	public Gate getRandomGateFromUnassignedGroup() {
 		Gate rtn = null;
-		String group = getRandomGroupGTEq(this.getNumAssignedGatesGroupMap(), GateManager.I_ZERO, OP.EQUAL);
-		if (group != null) {
-			rtn = this.getRandomUnassignedGateByGroup(group);
+		if (this.numFreeGroups > 0) {
+			int group = this.freeGroups[this.getRandom().nextInt(this.numFreeGroups)];
+			rtn = this.getRandomGateByGroup(group, false);
 		}
 		return rtn;
 	}
@@ -454,108 +380,72 @@ public class GateManager extends CObject{
 	 */
 	public boolean setAssignedGate(final Gate gate) {
 		boolean rtn = false;
-		rtn = this.setGate(
-				this.getUnassignedGates(),
-				this.getUnassignedGatesMap(),
-				this.getNumUnassignedGatesGroupMap(),
-				this.getAssignedGates(),
-				this.getAssignedGatesMap(),
-				this.getNumAssignedGatesGroupMap(),
-				gate);
+		int index = this.getGateIndex(gate);
+		if (index >= 0 && !this.isAssigned(index)) {
+			int group = this.gateGroup[index];
+			if (this.numAssigned[group] == GateManager.I_ZERO) {
+				this.removeFreeGroup(group);
+			}
+			this.swap(group, this.gatePosition[index], this.numAssigned[group]);
+			this.numAssigned[group] ++;
+			this.swapOrder(this.orderPosition[index], this.numAssignedGates);
+			this.numAssignedGates ++;
+			rtn = true;
+		}
 		return rtn;
 	}
 
 	public boolean setUnassignedGate(final Gate gate) {
 		boolean rtn = false;
-		rtn = this.setGate(
-				this.getAssignedGates(),
-				this.getAssignedGatesMap(),
-				this.getNumAssignedGatesGroupMap(),
-				this.getUnassignedGates(),
-				this.getUnassignedGatesMap(),
-				this.getNumUnassignedGatesGroupMap(),
-				gate);
+		int index = this.getGateIndex(gate);
+		if (index >= 0 && this.isAssigned(index)) {
+			int group = this.gateGroup[index];
+			this.numAssigned[group] --;
+			this.swap(group, this.gatePosition[index], this.numAssigned[group]);
+			this.numAssignedGates --;
+			this.swapOrder(this.orderPosition[index], this.numAssignedGates);
+			if (this.numAssigned[group] == GateManager.I_ZERO) {
+				this.addFreeGroup(group);
+			}
+			rtn = true;
+		}
 		return rtn;
 	}
-	
-	/*
-	 * Assigned Gates
-	 */
-	// group, then gates
-	private Map<String, CObjectCollection<Gate>> getAssignedGatesMap(){
-		return this.assignedGatesMap;
-	}
-
-	// assigned gates by group
-	private Map<String, CObjectCollection<Gate>> assignedGatesMap;
 
-	private CObjectCollection<Gate> getAssignedGates(){
-		return this.assignedGates;
-	}
-	// assigned gates
-	private CObjectCollection<Gate> assignedGates;
-	
 	/*
-	 * Unassigned Gates
+	 * Gates
 	 */
-	// group, then gates
-	private Map<String, CObjectCollection<Gate>> getUnassignedGatesMap(){
-		return this.unassignedGatesMap;
-	}
-	// unassigned gates by group
-	private Map<String, CObjectCollection<Gate>> unassignedGatesMap;
-
-	private CObjectCollection<Gate> getUnassignedGates(){
-		return this.unassignedGates;
-	}
-
-	// unassigned gates
-	private CObjectCollection<Gate> unassignedGates;
+	// gate by ordinal
+	private Gate[] gates;
+	// ordinal by gate
+	private Map<Gate, Integer> gateIndices;
+	// group ordinal by gate ordinal
+	private int[] gateGroup;
+	// position in the gates of its group by gate ordinal
+	private int[] gatePosition;
+	// gate ordinals, assigned gates first
+	private int[] order;
+	// position in order by gate ordinal
+	private int[] orderPosition;
+	private int numAssignedGates;
 
 	/*
-	 * Num Assigned Gates by group
+	 * Groups
 	 */
-	private Map<String, Integer> getNumAssignedGatesGroupMap(){
-		return this.numAssignedGatesGroupMap;
-	}
-	
-	private Map<String, Integer> numAssignedGatesGroupMap;
-	
-	/*
-	 * Num Unassigned Gates by group
-	 */
-	private Map<String, Integer> getNumUnassignedGatesGroupMap(){
-		return this.numUnassignedGatesGroupMap;
-	}
-	
-	private Map<String, Integer> numUnassignedGatesGroupMap;
-	
-	/*
-	 * Gates
-	 */
-	// group, then gates
-	private Map<String, CObjectCollection<Gate>> getGatesMap(){
-		return this.gatesMap;
-	}
+	// ordinal by group
+	private Map<String, Integer> groupIndices;
+	// gate ordinals by group ordinal, assigned gates first
+	private int[][] groupGates;
+	// number of assigned gates by group ordinal
+	private int[] numAssigned;
+	// groups without an assigned gate
+	private int[] freeGroups;
+	private int[] freeGroupPosition;
+	private int numFreeGroups;
 
-	private Map<String, CObjectCollection<Gate>> gatesMap;
-	
-	private CObjectCollection<Gate> getGates(){
-		return this.gates;
-	}
-	
-	private CObjectCollection<Gate> gates;
-	
 	/*
 	 * Random
 	 */
-	private int random(int min, int max) {
-		int rtn = 0;
-		Random random = this.getRandom();
-		rtn = random.nextInt(max - min + 1) + min;
-		return rtn;
-	}
-	
 	private Random getRandom(){
 		return this.random;
 	}
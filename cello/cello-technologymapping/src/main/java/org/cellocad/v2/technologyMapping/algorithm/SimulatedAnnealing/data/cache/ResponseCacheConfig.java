@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.cache;
+
+import org.cellocad.v2.results.technologyMapping.activity.ResponseCache;
+
+/**
+ * The ResponseCacheConfig class holds the parameters of the response caches of
+ * the <i>SimulatedAnnealing</i> algorithm and creates the caches.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ResponseCacheConfig {
+
+	/**
+	 * Sets the parameters that are not set to their default values, which disable
+	 * the cache, and checks the values of the others.
+	 *
+	 * @throws RuntimeException if a parameter has an invalid value
+	 */
+	public void validate() {
+		if (this.getResponseCacheSize() == null)
+			this.setResponseCacheSize(0);
+		if (this.getResponseCacheSize() < 0)
+			throw new RuntimeException(
+					"Invalid ResponseCacheSize: " + this.getResponseCacheSize() + ", expected at least 0.");
+		if (this.getResponseCacheResolution() == null)
+			this.setResponseCacheResolution(0.0);
+		if (!(this.getResponseCacheResolution() >= 0.0))
+			throw new RuntimeException("Invalid ResponseCacheResolution: " + this.getResponseCacheResolution()
+					+ ", expected at least 0.0.");
+	}
+
+	/**
+	 * Returns true if the cache is enabled.
+	 *
+	 * @return true if the cache is enabled
+	 */
+	public boolean isEnabled() {
+		return this.getResponseCacheSize() > 0;
+	}
+
+	/**
+	 * Returns a new ResponseCache, or null if the cache is disabled.
+	 *
+	 * @return a new ResponseCache, or null
+	 */
+	public ResponseCache createResponseCache() {
+		ResponseCache rtn = null;
+		if (this.isEnabled()) {
+			rtn = new ResponseCache(this.getResponseCacheSize(), this.getResponseCacheResolution());
+		}
+		return rtn;
+	}
+
+	/**
+	 * Getter for <i>responseCacheSize</i>, the maximum number of entries of a
+	 * cache, or zero to disable the cache.
+	 *
+	 * @return value of <i>responseCacheSize</i>
+	 */
+	public Integer getResponseCacheSize() {
+		return this.responseCacheSize;
+	}
+
+	/**
+	 * Setter for <i>responseCacheSize</i>
+	 *
+	 * @param responseCacheSize the value to set <i>responseCacheSize</i>
+	 */
+	public void setResponseCacheSize(final Integer responseCacheSize) {
+		this.responseCacheSize = responseCacheSize;
+	}
+
+	private Integer responseCacheSize;
+
+	/**
+	 * Getter for <i>responseCacheResolution</i>, the relative resolution of the
+	 * input activities, or zero for exact keys.
+	 *
+	 * @return value of <i>responseCacheResolution</i>
+	 */
+	public Double getResponseCacheResolution() {
+		return this.responseCacheResolution;
+	}
+
+	/**
+	 * Setter for <i>responseCacheResolution</i>
+	 *
+	 * @param responseCacheResolution the value to set <i>responseCacheResolution</i>
+	 */
+	public void setResponseCacheResolution(final Double responseCacheResolution) {
+		this.responseCacheResolution = responseCacheResolution;
+	}
+
+	private Double responseCacheResolution;
+
+}
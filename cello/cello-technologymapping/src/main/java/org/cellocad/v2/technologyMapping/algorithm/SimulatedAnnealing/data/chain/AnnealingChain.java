@@ -0,0 +1,300 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain;
+
+import java.util.Random;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.ResponseCache;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment.GateManager;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.incremental.IncrementalEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.AnnealingSchedule;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.IncrementalScore;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+
+/**
+ * The AnnealingChain class is a single Markov chain of the
+ * <i>SimulatedAnnealing</i> algorithm. A chain owns its Netlist assignment, its
+ * GateManager, its evaluations and its random number generator, so that
+ * several chains can run concurrently.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class AnnealingChain {
+
+	/**
+	 * Initializes a newly created AnnealingChain on the Netlist defined by
+	 * parameter <i>netlist</i>. All nodes of the netlist must already be assigned
+	 * a device, and the assigned gates must be marked as assigned in the
+	 * GateManager defined by parameter <i>gateManager</i>.
+	 *
+	 * @param netlist     the Netlist
+	 * @param lsle        the logic evaluation of the netlist
+	 * @param gateManager the GateManager
+	 * @param random      the random number generator
+	 * @param cache       the ResponseCache of the chain, or null
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	public AnnealingChain(final Netlist netlist, final LSLogicEvaluation lsle, final GateManager gateManager,
+			final Random random, final ResponseCache cache) throws CelloException {
+		this.netlist = netlist;
+		this.lsle = lsle;
+		this.gateManager = gateManager;
+		this.random = random;
+		this.tmae = new TMActivityEvaluation(netlist, lsle, cache);
+		this.tmte = new TMToxicityEvaluation(netlist, this.tmae);
+		this.ie = new IncrementalEvaluation(netlist, this.tmae, this.tmte);
+		this.is = new IncrementalScore(netlist, lsle, this.tmae);
+		this.score = this.is.getScore();
+		this.growth = this.tmte.getMinimumGrowth();
+	}
+
+	private void swap(NetlistNode nA, Gate gA, NetlistNode nB, Gate gB) {
+		if (nA == null && nB != null) {
+			this.getGateManager().setUnassignedGate(gB);
+			nB.getResultNetlistNodeData().setDevice(gA);
+			this.getGateManager().setAssignedGate(gA);
+		}
+		if (nA != null && nB == null) {
+			this.getGateManager().setUnassignedGate(gA);
+			nA.getResultNetlistNodeData().setDevice(gB);
+			this.getGateManager().setAssignedGate(gB);
+		}
+		if (nA != null && nB != null) {
+			nA.getResultNetlistNodeData().setDevice(gB);
+			nB.getResultNetlistNodeData().setDevice(gA);
+		}
+	}
+
+	private NetlistNode getRandomNode() {
+		NetlistNode rtn = null;
+		while (rtn == null) {
+			int rand = this.random.nextInt(this.getNetlist().getNumVertex());
+			NetlistNode temp = this.getNetlist().getVertexAtIdx(rand);
+			if (!LSResultsUtils.isAllOutput(temp) && !LSResultsUtils.isAllInput(temp)) {
+				rtn = temp;
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Performs one move of this chain at the temperature defined by parameter
+	 * <i>temperature</i>: a gate is swapped with another node or with an unused
+	 * gate, and the move is accepted or undone.
+	 *
+	 * @param temperature the temperature
+	 * @return true if the move was accepted, false otherwise
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	public boolean step(final double temperature) throws CelloException {
+		NetlistNode nA = null;
+		Gate gA = this.getGateManager().getRandomGateFromUnassignedGroup();
+		if (gA == null) {
+			nA = this.getRandomNode();
+			gA = (Gate) nA.getResultNetlistNodeData().getDevice();
+		}
+		NetlistNode nB = null;
+		Gate gB = null;
+		do {
+			nB = this.getRandomNode();
+		} while (nB == nA);
+		gB = (Gate) nB.getResultNetlistNodeData().getDevice();
+
+		this.swap(nA, gA, nB, gB);
+
+		// evaluate the fan-out cone of the swapped node(s)
+		this.ie.evaluate(nA, nB);
+		double after = this.is.update(this.ie.getEvaluatedNodes());
+
+		// toxicity
+		double afterGrowth = this.getTMToxicityEvaluation().getMinimumGrowth();
+		boolean accept = false;
+		if (this.growth < D_GROWTH_THRESHOLD) {
+			accept = afterGrowth > this.growth;
+		} else if (afterGrowth >= D_GROWTH_THRESHOLD) {
+			// accept or reject
+			double probability = Math.exp((after - this.score) / temperature); // e^b
+			double ep = this.random.nextDouble();
+			accept = ep < probability;
+		}
+
+		if (accept) {
+			this.ie.accept();
+			this.is.accept();
+			this.score = after;
+			this.growth = afterGrowth;
+		} else {
+			// undo, swapping the gates back so that an unassigned gate is released
+			this.swap(nA, gB, nB, gA);
+			this.ie.reject();
+			this.is.reject();
+		}
+		return accept;
+	}
+
+	/**
+	 * Performs at most the number of moves defined by parameter <i>steps</i>,
+	 * stopping early if the schedule of this chain is finished. The temperature of
+	 * each move is the temperature of the schedule multiplied by parameter
+	 * <i>scale</i>.
+	 *
+	 * @param scale the factor applied to the temperature of the schedule
+	 * @param steps the maximum number of moves
+	 * @return the number of moves performed
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	public int anneal(final double scale, final int steps) throws CelloException {
+		int rtn = 0;
+		AnnealingSchedule schedule = this.getSchedule();
+		while (rtn < steps && !schedule.isFinished()) {
+			boolean accepted = this.step(schedule.getTemperature() * scale);
+			schedule.update(accepted, this.getScore());
+			rtn++;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns true if the growth of this chain meets the growth threshold.
+	 *
+	 * @return true if the growth of this chain meets the growth threshold
+	 */
+	public boolean isViable() {
+		return this.getGrowth() >= D_GROWTH_THRESHOLD;
+	}
+
+	/**
+	 * Getter for <i>score</i>, the score of the current assignment.
+	 *
+	 * @return value of <i>score</i>
+	 */
+	public double getScore() {
+		return score;
+	}
+
+	private double score;
+
+	/**
+	 * Getter for <i>growth</i>, the minimum growth of the current assignment.
+	 *
+	 * @return value of <i>growth</i>
+	 */
+	public double getGrowth() {
+		return growth;
+	}
+
+	private double growth;
+
+	/**
+	 * Getter for <i>schedule</i>
+	 *
+	 * @return value of <i>schedule</i>
+	 */
+	public AnnealingSchedule getSchedule() {
+		return schedule;
+	}
+
+	/**
+	 * Setter for <i>schedule</i>
+	 *
+	 * @param schedule the value to set <i>schedule</i>
+	 */
+	public void setSchedule(final AnnealingSchedule schedule) {
+		this.schedule = schedule;
+	}
+
+	private AnnealingSchedule schedule;
+
+	/**
+	 * Getter for <i>netlist</i>
+	 *
+	 * @return value of <i>netlist</i>
+	 */
+	public Netlist getNetlist() {
+		return netlist;
+	}
+
+	private final Netlist netlist;
+
+	/**
+	 * Getter for <i>lsle</i>
+	 *
+	 * @return value of <i>lsle</i>
+	 */
+	public LSLogicEvaluation getLSLogicEvaluation() {
+		return lsle;
+	}
+
+	private final LSLogicEvaluation lsle;
+
+	/**
+	 * Getter for <i>gateManager</i>
+	 *
+	 * @return value of <i>gateManager</i>
+	 */
+	public GateManager getGateManager() {
+		return gateManager;
+	}
+
+	private final GateManager gateManager;
+
+	/**
+	 * Getter for <i>tmae</i>
+	 *
+	 * @return value of <i>tmae</i>
+	 */
+	public TMActivityEvaluation getTMActivityEvaluation() {
+		return tmae;
+	}
+
+	private final TMActivityEvaluation tmae;
+
+	/**
+	 * Getter for <i>tmte</i>
+	 *
+	 * @return value of <i>tmte</i>
+	 */
+	public TMToxicityEvaluation getTMToxicityEvaluation() {
+		return tmte;
+	}
+
+	private final TMToxicityEvaluation tmte;
+
+	private final IncrementalEvaluation ie;
+	private final IncrementalScore is;
+	private final Random random;
+
+	/**
+	 * The minimum growth of a viable assignment.
+	 */
+	public static final double D_GROWTH_THRESHOLD = 0.75;
+
+}
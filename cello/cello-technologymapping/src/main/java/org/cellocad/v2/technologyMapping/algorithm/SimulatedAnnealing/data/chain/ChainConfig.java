@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain;
+
+/**
+ * The ChainConfig class holds the parameters of the chains of the
+ * <i>SimulatedAnnealing</i> algorithm: the number of chains, the number of
+ * threads that run them and the interval of the exchanges between them.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ChainConfig {
+
+	/**
+	 * Sets the parameters that are not set to their default values and checks the
+	 * values of the others. A <i>NumThreads</i> of zero is replaced by the number
+	 * of available processors.
+	 *
+	 * @throws RuntimeException if a parameter has an invalid value
+	 */
+	public void validate() {
+		if (this.getNumChains() == null)
+			this.setNumChains(I_NUM_CHAINS);
+		if (this.getNumChains() < 1)
+			throw new RuntimeException("Invalid NumChains: " + this.getNumChains() + ", expected at least 1.");
+		if (this.getNumThreads() == null)
+			this.setNumThreads(0);
+		if (this.getNumThreads() < 0)
+			throw new RuntimeException("Invalid NumThreads: " + this.getNumThreads() + ", expected at least 0.");
+		if (this.getNumThreads() == 0)
+			this.setNumThreads(Runtime.getRuntime().availableProcessors());
+		if (this.getExchangeInterval() == null)
+			this.setExchangeInterval(0);
+		if (this.getExchangeInterval() < 0)
+			throw new RuntimeException(
+					"Invalid ExchangeInterval: " + this.getExchangeInterval() + ", expected at least 0.");
+	}
+
+	/**
+	 * Getter for <i>numChains</i>
+	 *
+	 * @return value of <i>numChains</i>
+	 */
+	public Integer getNumChains() {
+		return this.numChains;
+	}
+
+	/**
+	 * Setter for <i>numChains</i>
+	 *
+	 * @param numChains the value to set <i>numChains</i>
+	 */
+	public void setNumChains(final Integer numChains) {
+		this.numChains = numChains;
+	}
+
+	private Integer numChains;
+
+	/**
+	 * Getter for <i>numThreads</i>
+	 *
+	 * @return value of <i>numThreads</i>
+	 */
+	public Integer getNumThreads() {
+		return this.numThreads;
+	}
+
+	/**
+	 * Setter for <i>numThreads</i>
+	 *
+	 * @param numThreads the value to set <i>numThreads</i>
+	 */
+	public void setNumThreads(final Integer numThreads) {
+		this.numThreads = numThreads;
+	}
+
+	private Integer numThreads;
+
+	/**
+	 * Getter for <i>exchangeInterval</i>, the number of steps between exchanges
+	 * of the chains, or zero if the chains are independent.
+	 *
+	 * @return value of <i>exchangeInterval</i>
+	 */
+	public Integer getExchangeInterval() {
+		return this.exchangeInterval;
+	}
+
+	/**
+	 * Setter for <i>exchangeInterval</i>
+	 *
+	 * @param exchangeInterval the value to set <i>exchangeInterval</i>
+	 */
+	public void setExchangeInterval(final Integer exchangeInterval) {
+		this.exchangeInterval = exchangeInterval;
+	}
+
+	private Integer exchangeInterval;
+
+	private static final int I_NUM_CHAINS = 1;
+
+}
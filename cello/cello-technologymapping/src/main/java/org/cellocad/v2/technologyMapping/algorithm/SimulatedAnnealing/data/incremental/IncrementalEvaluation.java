@@ -0,0 +1,229 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.incremental;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistLevelization;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+
+/**
+ * The IncrementalEvaluation class re-evaluates the activity and toxicity of a
+ * netlist after a move of the <i>SimulatedAnnealing</i> algorithm. Only the
+ * transitive fan-out cone of the moved nodes is re-evaluated, and the previous
+ * values of the cone are kept so that a rejected move can be undone. The
+ * buffers used for the cone and for the undo information are allocated once,
+ * so that a move costs time proportional to the size of its cone.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class IncrementalEvaluation {
+
+	/**
+	 * Initialize class members
+	 */
+	private void init() {
+		this.cone = new ArrayList<>();
+	}
+
+	/**
+	 * Initializes a newly created IncrementalEvaluation that updates the
+	 * evaluations defined by parameters <i>tmae</i> and <i>tmte</i> of the Netlist
+	 * defined by parameter <i>netlist</i>. The topology of the netlist must not
+	 * change during the lifetime of this instance.
+	 *
+	 * @param netlist the Netlist
+	 * @param tmae    the activity evaluation of the netlist
+	 * @param tmte    the toxicity evaluation of the netlist
+	 */
+	public IncrementalEvaluation(final Netlist netlist, final TMActivityEvaluation tmae,
+			final TMToxicityEvaluation tmte) {
+		this.init();
+		this.tmae = tmae;
+		this.tmte = tmte;
+		this.levelization = netlist.getLevelization();
+		int numNode = netlist.getNumVertex();
+		this.numStates = tmae.getStates().getNumStates();
+		this.visited = new boolean[numNode];
+		this.queue = new int[numNode];
+		this.hasToxicity = new boolean[numNode];
+		this.activityUndo = new double[numNode * this.numStates];
+		this.toxicityUndo = new double[numNode * this.numStates];
+	}
+
+	/**
+	 * Collects the ranks of the transitive fan-out cone of the NetlistNode(s)
+	 * defined by parameter <i>nodes</i> in ascending order at the start of
+	 * <i>queue</i>.
+	 *
+	 * @param nodes the NetlistNode(s)
+	 * @return the number of nodes in the cone
+	 */
+	private int collectFanOutCone(final NetlistNode... nodes) {
+		NetlistLevelization levelization = this.getLevelization();
+		int tail = 0;
+		for (NetlistNode node : nodes) {
+			if (node != null) {
+				int rank = levelization.getRank(node);
+				if (!this.visited[rank]) {
+					this.visited[rank] = true;
+					this.queue[tail++] = rank;
+				}
+			}
+		}
+		for (int head = 0; head < tail; head++) {
+			NetlistNode node = levelization.getNodes().get(this.queue[head]);
+			for (int i = 0; i < node.getNumOutEdge(); i++) {
+				int rank = levelization.getRank(node.getOutEdgeAtIdx(i).getDst());
+				if (!this.visited[rank]) {
+					this.visited[rank] = true;
+					this.queue[tail++] = rank;
+				}
+			}
+		}
+		for (int i = 0; i < tail; i++) {
+			this.visited[this.queue[i]] = false;
+		}
+		Arrays.sort(this.queue, 0, tail);
+		return tail;
+	}
+
+	/**
+	 * Returns the transitive fan-out cone of the NetlistNode(s) defined by
+	 * parameter <i>nodes</i>, including the nodes themselves, in topological
+	 * order. Null nodes are ignored.
+	 *
+	 * @param nodes the NetlistNode(s)
+	 * @return the transitive fan-out cone in topological order
+	 */
+	public List<NetlistNode> getFanOutCone(final NetlistNode... nodes) {
+		int num = this.collectFanOutCone(nodes);
+		List<NetlistNode> rtn = new ArrayList<>(num);
+		for (int i = 0; i < num; i++) {
+			rtn.add(this.getLevelization().getNodes().get(this.queue[i]));
+		}
+		return rtn;
+	}
+
+	/**
+	 * Re-evaluates the activity and toxicity of the transitive fan-out cone of the
+	 * NetlistNode(s) defined by parameter <i>nodes</i>, e.g. the nodes whose device
+	 * assignment changed. The previous values are kept until the move is either
+	 * accepted with {@link #accept()} or undone with {@link #reject()}.
+	 *
+	 * @param nodes the NetlistNode(s) whose assignment changed
+	 * @throws CelloException Unable to evaluate the cone.
+	 */
+	public void evaluate(final NetlistNode... nodes) throws CelloException {
+		if (!this.getCone().isEmpty()) {
+			throw new RuntimeException("Previous move was not accepted or rejected!");
+		}
+		int num = this.collectFanOutCone(nodes);
+		for (int i = 0; i < num; i++) {
+			NetlistNode node = this.getLevelization().getNodes().get(this.queue[i]);
+			this.getCone().add(node);
+			this.getTMActivityEvaluation().getActivities(node, this.activityUndo, i * this.numStates);
+			this.hasToxicity[i] = this.getTMToxicityEvaluation().getToxicities(node, this.toxicityUndo,
+					i * this.numStates);
+		}
+		this.getTMActivityEvaluation().evaluate(this.getCone());
+		this.getTMToxicityEvaluation().evaluate(this.getCone());
+	}
+
+	/**
+	 * Returns the nodes re-evaluated by the last move, in topological order.
+	 *
+	 * @return the nodes re-evaluated by the last move
+	 */
+	public List<NetlistNode> getEvaluatedNodes() {
+		return Collections.unmodifiableList(this.getCone());
+	}
+
+	/**
+	 * Accepts the last move, discarding its undo information.
+	 */
+	public void accept() {
+		this.getCone().clear();
+	}
+
+	/**
+	 * Rejects the last move, restoring the activity and toxicity of its fan-out
+	 * cone. The caller is responsible for restoring the device assignment.
+	 */
+	public void reject() {
+		for (int i = 0; i < this.getCone().size(); i++) {
+			NetlistNode node = this.getCone().get(i);
+			this.getTMActivityEvaluation().setActivities(node, this.activityUndo, i * this.numStates);
+			if (this.hasToxicity[i]) {
+				this.getTMToxicityEvaluation().setToxicities(node, this.toxicityUndo, i * this.numStates);
+			}
+		}
+		this.getCone().clear();
+	}
+
+	/**
+	 * Getter for <i>tmae</i>
+	 *
+	 * @return value of <i>tmae</i>
+	 */
+	public TMActivityEvaluation getTMActivityEvaluation() {
+		return tmae;
+	}
+
+	/**
+	 * Getter for <i>tmte</i>
+	 *
+	 * @return value of <i>tmte</i>
+	 */
+	public TMToxicityEvaluation getTMToxicityEvaluation() {
+		return tmte;
+	}
+
+	private NetlistLevelization getLevelization() {
+		return levelization;
+	}
+
+	private List<NetlistNode> getCone() {
+		return cone;
+	}
+
+	private TMActivityEvaluation tmae;
+	private TMToxicityEvaluation tmte;
+	private NetlistLevelization levelization;
+	private int numStates;
+	private List<NetlistNode> cone;
+	private boolean[] visited;
+	private int[] queue;
+	private boolean[] hasToxicity;
+	private double[] activityUndo;
+	private double[] toxicityUndo;
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+/**
+ * The RobustnessConfig class holds the parameters of the robustness analysis of
+ * the <i>SimulatedAnnealing</i> algorithm.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class RobustnessConfig {
+
+	/**
+	 * Sets the parameters that are not set to their default values, which disable
+	 * the analysis, and checks the values of the others.
+	 *
+	 * @throws RuntimeException if a parameter has an invalid value
+	 */
+	public void validate() {
+		if (this.getRobustnessSamples() == null)
+			this.setRobustnessSamples(0);
+		if (this.getRobustnessSamples() < 0)
+			throw new RuntimeException(
+					"Invalid RobustnessSamples: " + this.getRobustnessSamples() + ", expected at least 0.");
+		if (this.getRobustnessSigma() == null)
+			this.setRobustnessSigma(D_ROBUSTNESS_SIGMA);
+		if (!(this.getRobustnessSigma() >= 0.0))
+			throw new RuntimeException(
+					"Invalid RobustnessSigma: " + this.getRobustnessSigma() + ", expected at least 0.0.");
+	}
+
+	/**
+	 * Returns true if the robustness analysis is enabled.
+	 *
+	 * @return true if the robustness analysis is enabled
+	 */
+	public boolean isEnabled() {
+		return this.getRobustnessSamples() > 0;
+	}
+
+	/**
+	 * Getter for <i>robustnessSamples</i>, the number of Monte Carlo samples, or
+	 * zero to disable the analysis.
+	 *
+	 * @return value of <i>robustnessSamples</i>
+	 */
+	public Integer getRobustnessSamples() {
+		return this.robustnessSamples;
+	}
+
+	/**
+	 * Setter for <i>robustnessSamples</i>
+	 *
+	 * @param robustnessSamples the value to set <i>robustnessSamples</i>
+	 */
+	public void setRobustnessSamples(final Integer robustnessSamples) {
+		this.robustnessSamples = robustnessSamples;
+	}
+
+	private Integer robustnessSamples;
+
+	/**
+	 * Getter for <i>robustnessSigma</i>, the standard deviation of the log factor
+	 * of each perturbed parameter.
+	 *
+	 * @return value of <i>robustnessSigma</i>
+	 */
+	public Double getRobustnessSigma() {
+		return this.robustnessSigma;
+	}
+
+	/**
+	 * Setter for <i>robustnessSigma</i>
+	 *
+	 * @param robustnessSigma the value to set <i>robustnessSigma</i>
+	 */
+	public void setRobustnessSigma(final Double robustnessSigma) {
+		this.robustnessSigma = robustnessSigma;
+	}
+
+	private Double robustnessSigma;
+
+	private static final double D_ROBUSTNESS_SIGMA = 0.1;
+
+}
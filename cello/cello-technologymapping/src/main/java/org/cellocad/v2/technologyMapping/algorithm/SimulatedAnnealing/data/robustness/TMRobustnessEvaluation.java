@@ -0,0 +1,491 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.random.RandomService;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.FixedParameter;
+import org.cellocad.v2.common.target.data.data.Model;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The TMRobustnessEvaluation class is a Monte Carlo analysis of the sensitivity
+ * of the score of a mapped netlist to the uncertainty of the parameters of the
+ * gate models. Each sample multiplies the parameters named in
+ * {@link #S_PARAMETERS} by a log-normal factor and evaluates the score of the
+ * netlist. The samples are drawn up front from a stream of the master seed, so
+ * the results do not depend on the number of threads that evaluate them.
+ * <p>
+ * The sensitivity of a parameter is the correlation of its log factor with the
+ * log score over the samples. The sensitivity of a gate is the root of the sum
+ * of the squared sensitivities of its parameters. As the factors are drawn
+ * independently, that sum (not its root) estimates the fraction of the variance
+ * of the log score that a linear model of the gate's parameters explains; the
+ * root keeps the sensitivity of a gate on the scale of a correlation.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class TMRobustnessEvaluation {
+
+	/**
+	 * Initializes a newly created TMRobustnessEvaluation of the Netlist defined by
+	 * parameter <i>netlist</i>. The devices assigned to the nodes of the netlist
+	 * must not change during the evaluation.
+	 *
+	 * @param netlist    the Netlist
+	 * @param lsle       the logic evaluation of the netlist
+	 * @param numSamples the number of samples
+	 * @param sigma      the standard deviation of the log factor of each parameter
+	 * @param seed       the master seed of the run
+	 * @param numThreads the number of threads
+	 * @throws CelloException Unable to evaluate the netlist.
+	 */
+	public TMRobustnessEvaluation(final Netlist netlist, final LSLogicEvaluation lsle, final int numSamples,
+			final double sigma, final long seed, final int numThreads) throws CelloException {
+		if (numSamples <= 0) {
+			throw new RuntimeException("Invalid number of samples!");
+		}
+		this.netlist = netlist;
+		this.lsle = lsle;
+		this.numSamples = numSamples;
+		this.sigma = sigma;
+		this.seed = seed;
+		this.order = netlist.getLevelization().getNodes();
+		this.gates = new ArrayList<>();
+		this.parameters = new ArrayList<>();
+		this.parameterGates = new ArrayList<>();
+		this.parameterNames = new ArrayList<>();
+		for (NetlistNode node : this.order) {
+			if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
+				continue;
+			}
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			Model model = device == null ? null : device.getModel();
+			if (model == null) {
+				continue;
+			}
+			int gate = this.gates.size();
+			this.gates.add(node);
+			for (String name : S_PARAMETERS) {
+				FixedParameter parameter = model.getParameterByName(name);
+				if (parameter == null || parameter.getValue() == null) {
+					continue;
+				}
+				this.parameters.add(parameter);
+				this.parameterGates.add(gate);
+				this.parameterNames.add(name);
+			}
+		}
+		// samples
+		int num = this.parameters.size();
+		this.deviations = new double[numSamples * num];
+		Random random = new RandomService(seed).getRandom(S_STREAM, 0);
+		for (int i = 0; i < this.deviations.length; i++) {
+			this.deviations[i] = random.nextGaussian();
+		}
+		// scores
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		this.nominalScore = ScoreUtils.score(netlist, lsle, tmae);
+		this.scores = new double[numSamples];
+		this.evaluateSamples(Math.max(1, Math.min(numThreads, numSamples)));
+		this.sortedScores = this.scores.clone();
+		Arrays.sort(this.sortedScores);
+		this.computeSensitivities();
+	}
+
+	/**
+	 * Evaluates the samples from index <i>from</i> (inclusive) to index <i>to</i>
+	 * (exclusive) with an activity evaluation owned by the calling thread.
+	 */
+	private void evaluateSamples(final int from, final int to) throws CelloException {
+		TMActivityEvaluation tmae = new TMActivityEvaluation(this.netlist, this.lsle);
+		int num = this.parameters.size();
+		Map<FixedParameter, Double> values = new IdentityHashMap<>();
+		for (int i = from; i < to; i++) {
+			for (int j = 0; j < num; j++) {
+				FixedParameter parameter = this.parameters.get(j);
+				double factor = Math.exp(this.sigma * this.deviations[i * num + j]);
+				values.put(parameter, parameter.getValue() * factor);
+			}
+			tmae.setParameterValues(values);
+			tmae.evaluate(this.order);
+			this.scores[i] = ScoreUtils.score(this.netlist, this.lsle, tmae);
+		}
+	}
+
+	/**
+	 * Evaluates all samples in contiguous chunks on <i>numThreads</i> threads.
+	 */
+	private void evaluateSamples(final int numThreads) throws CelloException {
+		if (numThreads == 1) {
+			this.evaluateSamples(0, this.numSamples);
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			List<Future<Void>> futures = new ArrayList<>();
+			for (int t = 0; t < numThreads; t++) {
+				final int from = (int) ((long) this.numSamples * t / numThreads);
+				final int to = (int) ((long) this.numSamples * (t + 1) / numThreads);
+				futures.add(executor.submit(() -> {
+					this.evaluateSamples(from, to);
+					return null;
+				}));
+			}
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CelloException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CelloException) {
+				throw (CelloException) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static double getLogScore(final double score) {
+		double rtn = score;
+		if (!(rtn > Double.MIN_NORMAL)) {
+			rtn = Double.MIN_NORMAL;
+		}
+		if (rtn > Double.MAX_VALUE) {
+			rtn = Double.MAX_VALUE;
+		}
+		return Math.log(rtn);
+	}
+
+	/**
+	 * Computes the correlation of the deviation of each parameter with the log
+	 * score, and the sensitivity of each gate.
+	 */
+	private void computeSensitivities() {
+		int num = this.parameters.size();
+		double[] y = new double[this.numSamples];
+		double meanY = 0.0;
+		for (int i = 0; i < this.numSamples; i++) {
+			y[i] = getLogScore(this.scores[i]);
+			meanY += y[i];
+		}
+		meanY /= this.numSamples;
+		double varY = 0.0;
+		for (int i = 0; i < this.numSamples; i++) {
+			varY += (y[i] - meanY) * (y[i] - meanY);
+		}
+		this.correlations = new double[num];
+		for (int j = 0; j < num; j++) {
+			double meanX = 0.0;
+			for (int i = 0; i < this.numSamples; i++) {
+				meanX += this.deviations[i * num + j];
+			}
+			meanX /= this.numSamples;
+			double varX = 0.0;
+			double cov = 0.0;
+			for (int i = 0; i < this.numSamples; i++) {
+				double dx = this.deviations[i * num + j] - meanX;
+				varX += dx * dx;
+				cov += dx * (y[i] - meanY);
+			}
+			if (varX > 0.0 && varY > 0.0) {
+				this.correlations[j] = cov / Math.sqrt(varX * varY);
+			}
+		}
+		this.sensitivities = new double[this.gates.size()];
+		for (int j = 0; j < num; j++) {
+			this.sensitivities[this.parameterGates.get(j)] += this.correlations[j] * this.correlations[j];
+		}
+		for (int i = 0; i < this.sensitivities.length; i++) {
+			this.sensitivities[i] = Math.sqrt(this.sensitivities[i]);
+		}
+	}
+
+	/**
+	 * Getter for <i>nominalScore</i>, the score with the parameters of the target
+	 * data.
+	 *
+	 * @return value of <i>nominalScore</i>
+	 */
+	public double getNominalScore() {
+		return this.nominalScore;
+	}
+
+	/**
+	 * Returns the score at the percentile defined by parameter <i>p</i> of the
+	 * samples, interpolated linearly between the closest ranks.
+	 *
+	 * @param p the percentile, in [0, 100]
+	 * @return the score at the percentile
+	 */
+	public double getPercentile(final double p) {
+		double rank = Math.min(Math.max(p, 0.0), 100.0) / 100.0 * (this.numSamples - 1);
+		int lo = (int) Math.floor(rank);
+		int hi = Math.min(lo + 1, this.numSamples - 1);
+		double w = rank - lo;
+		return this.sortedScores[lo] * (1.0 - w) + this.sortedScores[hi] * w;
+	}
+
+	/**
+	 * Returns the mean score of the samples.
+	 *
+	 * @return the mean score of the samples
+	 */
+	public double getMeanScore() {
+		double rtn = 0.0;
+		for (double score : this.scores) {
+			rtn += score;
+		}
+		return rtn / this.numSamples;
+	}
+
+	/**
+	 * Returns the score of each sample, in sample order.
+	 *
+	 * @return the score of each sample
+	 */
+	public double[] getScores() {
+		return this.scores.clone();
+	}
+
+	/**
+	 * Returns the sensitivity of the gate assigned to the NetlistNode defined by
+	 * parameter <i>node</i>, or null if its parameters are not sampled.
+	 *
+	 * @param node the NetlistNode
+	 * @return the sensitivity of the gate, in [0, 1], or null
+	 */
+	public Double getSensitivity(final NetlistNode node) {
+		Double rtn = null;
+		int idx = this.gates.indexOf(node);
+		if (idx >= 0) {
+			rtn = this.sensitivities[idx];
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the correlation of the parameter named <i>name</i> of the gate
+	 * assigned to the NetlistNode defined by parameter <i>node</i> with the log
+	 * score, or null if the parameter is not sampled.
+	 *
+	 * @param node the NetlistNode
+	 * @param name the name of the parameter
+	 * @return the correlation, in [-1, 1], or null
+	 */
+	public Double getCorrelation(final NetlistNode node, final String name) {
+		Double rtn = null;
+		int idx = this.gates.indexOf(node);
+		for (int j = 0; j < this.parameters.size(); j++) {
+			if (this.parameterGates.get(j) == idx && this.parameterNames.get(j).equals(name)) {
+				rtn = this.correlations[j];
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the NetlistNodes whose gate parameters are sampled, by decreasing
+	 * sensitivity.
+	 *
+	 * @return the NetlistNodes by decreasing sensitivity
+	 */
+	public List<NetlistNode> getSensitivityRanking() {
+		List<NetlistNode> rtn = new ArrayList<>(this.gates);
+		rtn.sort((a, b) -> Double.compare(this.getSensitivity(b), this.getSensitivity(a)));
+		return rtn;
+	}
+
+	private static String getDeviceName(final NetlistNode node) {
+		AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+		return device == null ? "" : device.getName();
+	}
+
+	@Override
+	public String toString() {
+		String rtn = "";
+		rtn += Utils.getNewLine();
+		rtn += S_HEADER + Utils.getNewLine();
+		rtn += "TMRobustnessEvaluation" + Utils.getNewLine();
+		rtn += S_HEADER + Utils.getNewLine();
+		rtn += String.format("Samples: %d, sigma: %.3f, seed: %d", this.numSamples, this.sigma, this.seed);
+		rtn += Utils.getNewLine();
+		rtn += String.format("Nominal score: %.2f", this.getNominalScore()) + Utils.getNewLine();
+		for (double p : D_PERCENTILES) {
+			rtn += String.format("P%.0f score: %.2f", p, this.getPercentile(p));
+			rtn += Utils.getNewLine();
+		}
+		for (NetlistNode node : this.getSensitivityRanking()) {
+			rtn += String.format("%-15s", node.getName()) + Utils.getTabCharacter();
+			rtn += String.format("%-15s", getDeviceName(node)) + Utils.getTabCharacter();
+			rtn += String.format("%.4f", this.getSensitivity(node)) + Utils.getNewLine();
+		}
+		rtn += S_HEADER + Utils.getNewLine();
+		return rtn;
+	}
+
+	/**
+	 * Writes the score percentiles of this instance in CSV format to the writer
+	 * defined by parameter <i>os</i> with the delimiter equivalent to the
+	 * parameter <i>delimiter</i>.
+	 *
+	 * @param delimiter the delimiter
+	 * @param os        the writer
+	 * @throws IOException If an I/O error occurs
+	 */
+	public void writePercentileCSV(String delimiter, Writer os) throws IOException {
+		StringBuilder str = new StringBuilder();
+		str.append("percentile" + delimiter + "score" + Utils.getNewLine());
+		str.append("nominal" + delimiter + String.format("%1.5e", this.getNominalScore()) + Utils.getNewLine());
+		str.append("mean" + delimiter + String.format("%1.5e", this.getMeanScore()) + Utils.getNewLine());
+		for (double p : D_PERCENTILES) {
+			str.append(String.format("%.0f", p) + delimiter + String.format("%1.5e", this.getPercentile(p)));
+			str.append(Utils.getNewLine());
+		}
+		os.write(str.toString());
+	}
+
+	/**
+	 * Writes the sensitivity ranking of this instance in CSV format to the writer
+	 * defined by parameter <i>os</i> with the delimiter equivalent to the
+	 * parameter <i>delimiter</i>: one row per gate, by decreasing sensitivity, with
+	 * the correlation of each parameter.
+	 *
+	 * @param delimiter the delimiter
+	 * @param os        the writer
+	 * @throws IOException If an I/O error occurs
+	 */
+	public void writeCSV(String delimiter, Writer os) throws IOException {
+		StringBuilder str = new StringBuilder();
+		str.append("node" + delimiter + "device" + delimiter + "sensitivity");
+		for (String name : S_PARAMETERS) {
+			str.append(delimiter + name);
+		}
+		str.append(Utils.getNewLine());
+		for (NetlistNode node : this.getSensitivityRanking()) {
+			str.append(node.getName() + delimiter + getDeviceName(node) + delimiter);
+			str.append(String.format("%1.5e", this.getSensitivity(node)));
+			for (String name : S_PARAMETERS) {
+				Double c = this.getCorrelation(node, name);
+				str.append(delimiter);
+				if (c != null) {
+					str.append(String.format("%1.5e", c));
+				}
+			}
+			str.append(Utils.getNewLine());
+		}
+		os.write(str.toString());
+	}
+
+	/**
+	 * Writes this instance in JSON format to the writer defined by parameter
+	 * <i>os</i>.
+	 *
+	 * @param os the writer
+	 * @throws IOException If an I/O error occurs
+	 */
+	public void writeJSON(Writer os) throws IOException {
+		ObjectMapper mapper = new ObjectMapper();
+		ObjectNode root = mapper.createObjectNode();
+		root.put("samples", this.numSamples);
+		root.put("sigma", this.sigma);
+		root.put("seed", this.seed);
+		root.put("nominal", this.getNominalScore());
+		root.put("mean", this.getMeanScore());
+		ObjectNode percentiles = root.putObject("percentiles");
+		for (double p : D_PERCENTILES) {
+			percentiles.put(String.format("%.0f", p), this.getPercentile(p));
+		}
+		ArrayNode ranking = root.putArray("sensitivities");
+		for (NetlistNode node : this.getSensitivityRanking()) {
+			ObjectNode gate = ranking.addObject();
+			gate.put("node", node.getName());
+			gate.put("device", getDeviceName(node));
+			gate.put("sensitivity", this.getSensitivity(node));
+			ObjectNode correlations = gate.putObject("correlations");
+			for (String name : S_PARAMETERS) {
+				Double c = this.getCorrelation(node, name);
+				if (c != null) {
+					correlations.put(name, c);
+				}
+			}
+		}
+		mapper.writerWithDefaultPrettyPrinter().writeValue(os, root);
+	}
+
+	private final Netlist netlist;
+	private final LSLogicEvaluation lsle;
+	private final int numSamples;
+	private final double sigma;
+	private final long seed;
+	private final List<NetlistNode> order;
+	private final List<NetlistNode> gates;
+	private final List<FixedParameter> parameters;
+	private final List<Integer> parameterGates;
+	private final List<String> parameterNames;
+	private final double[] deviations;
+	private final double nominalScore;
+	private final double[] scores;
+	private final double[] sortedScores;
+	private double[] correlations;
+	private double[] sensitivities;
+
+	private static final String S_HEADER = "--------------------------------------------";
+
+	/**
+	 * The names of the sampled parameters of the gate models.
+	 */
+	public static final String[] S_PARAMETERS = { "ymax", "ymin", "K", "n" };
+
+	private static final String S_STREAM = "robustness";
+
+	private static final double[] D_PERCENTILES = { 5.0, 25.0, 50.0, 75.0, 95.0 };
+
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+/**
+ * The AdaptiveSchedule class adjusts the temperature to track a target
+ * acceptance rate. The target decreases linearly from the initial target to
+ * zero over the annealing phase. At the end of each interval, the temperature is
+ * raised if fewer moves than targeted were accepted during the interval, and
+ * lowered otherwise.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class AdaptiveSchedule extends AnnealingSchedule {
+
+	/**
+	 * Initializes a newly created AdaptiveSchedule.
+	 *
+	 * @param maxTemp   the initial temperature
+	 * @param minTemp   the final temperature of the annealing phase
+	 * @param steps     the number of steps of the annealing phase
+	 * @param zeroSteps the number of steps of the zero-temperature phase
+	 * @param window    the convergence window, zero to disable early stop
+	 * @param target    the initial target acceptance rate
+	 * @param interval  the number of steps between adjustments
+	 */
+	public AdaptiveSchedule(final double maxTemp, final double minTemp, final int steps, final int zeroSteps,
+			final int window, final double target, final int interval) {
+		super(maxTemp, minTemp, steps, zeroSteps, window);
+		if (target <= 0.0 || target > 1.0) {
+			throw new RuntimeException("Invalid target acceptance rate!");
+		}
+		if (interval <= 0) {
+			throw new RuntimeException("Invalid adaptation interval!");
+		}
+		this.target = target;
+		this.interval = interval;
+	}
+
+	@Override
+	protected double nextTemperature(final boolean accepted, final boolean improved) {
+		double rtn = this.getAnnealingTemperature();
+		this.count++;
+		if (accepted) {
+			this.accepted++;
+		}
+		if (this.count == this.interval) {
+			double rate = (double) this.accepted / this.count;
+			double target = this.target * (1.0 - this.getProgress());
+			if (rate < target) {
+				rtn *= D_ADJUSTMENT;
+			} else {
+				rtn /= D_ADJUSTMENT;
+			}
+			this.count = 0;
+			this.accepted = 0;
+		}
+		return rtn;
+	}
+
+	private final double target;
+	private final int interval;
+	private int count;
+	private int accepted;
+
+	private static final double D_ADJUSTMENT = 1.25;
+
+}
@@ -0,0 +1,255 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+/**
+ * The AnnealingSchedule class is the base class of the cooling schedules of the
+ * <i>SimulatedAnnealing</i> algorithm. A schedule has an annealing phase of at
+ * most <i>steps</i> steps, followed by a zero-temperature phase of at most
+ * <i>zeroSteps</i> steps in which only improving moves are accepted.
+ *
+ * If the convergence window is positive, a phase ends early once the best score
+ * has not improved for that many steps.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public abstract class AnnealingSchedule {
+
+	/**
+	 * Initializes a newly created AnnealingSchedule.
+	 *
+	 * @param maxTemp   the initial temperature
+	 * @param minTemp   the final temperature of the annealing phase
+	 * @param steps     the number of steps of the annealing phase
+	 * @param zeroSteps the number of steps of the zero-temperature phase
+	 * @param window    the convergence window, zero to disable early stop
+	 */
+	protected AnnealingSchedule(final double maxTemp, final double minTemp, final int steps, final int zeroSteps,
+			final int window) {
+		if (maxTemp <= 0.0 || minTemp <= 0.0 || minTemp > maxTemp) {
+			throw new RuntimeException("Invalid temperature range!");
+		}
+		if (steps < 0 || zeroSteps < 0 || window < 0) {
+			throw new RuntimeException("Invalid number of steps!");
+		}
+		this.maxTemp = maxTemp;
+		this.minTemp = minTemp;
+		this.steps = steps;
+		this.zeroSteps = zeroSteps;
+		this.window = window;
+		this.temperature = maxTemp;
+		this.bestScore = Double.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * Returns the temperature of the next step of the annealing phase, called once
+	 * per step of the annealing phase.
+	 *
+	 * @param accepted whether the move of the current step was accepted
+	 * @param improved whether the move of the current step improved the best score
+	 * @return the temperature of the next step
+	 */
+	protected abstract double nextTemperature(boolean accepted, boolean improved);
+
+	/**
+	 * Returns the temperature of the current step.
+	 *
+	 * @return the temperature of the current step, zero in the zero-temperature
+	 *         phase
+	 */
+	public double getTemperature() {
+		double rtn = 0.0;
+		if (this.isAnnealing()) {
+			rtn = this.temperature;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Records the outcome of the current step and advances to the next step.
+	 *
+	 * @param accepted whether the move was accepted
+	 * @param score    the score after the move
+	 */
+	public void update(final boolean accepted, final double score) {
+		boolean improved = score > this.bestScore;
+		if (improved) {
+			this.bestScore = score;
+			this.stagnant = 0;
+		} else {
+			this.stagnant++;
+		}
+		if (this.isAnnealing()) {
+			this.temperature = Math.max(this.getMinTemp(), Math.min(this.getMaxTemp(),
+					this.nextTemperature(accepted, improved)));
+			this.step++;
+			if (this.isConverged()) {
+				// skip to the zero-temperature phase
+				this.converged = true;
+				this.step = this.getSteps();
+				this.stagnant = 0;
+			}
+		} else {
+			this.step++;
+			if (this.isConverged()) {
+				this.converged = true;
+				this.step = this.getSteps() + this.getZeroSteps();
+			}
+		}
+	}
+
+	private boolean isConverged() {
+		return this.getWindow() > 0 && this.stagnant >= this.getWindow();
+	}
+
+	/**
+	 * Returns true if the schedule is in its annealing phase.
+	 *
+	 * @return true if the schedule is in its annealing phase
+	 */
+	public boolean isAnnealing() {
+		return this.step < this.getSteps();
+	}
+
+	/**
+	 * Returns true if the schedule is finished.
+	 *
+	 * @return true if the schedule is finished
+	 */
+	public boolean isFinished() {
+		return this.step >= this.getSteps() + this.getZeroSteps();
+	}
+
+	/**
+	 * Returns true if a phase of the schedule ended early by convergence.
+	 *
+	 * @return true if a phase of the schedule ended early by convergence
+	 */
+	public boolean isConvergedEarly() {
+		return this.converged;
+	}
+
+	/**
+	 * Getter for <i>step</i>, the index of the current step.
+	 *
+	 * @return value of <i>step</i>
+	 */
+	public int getStep() {
+		return step;
+	}
+
+	/**
+	 * Returns the fraction of the annealing phase that has elapsed.
+	 *
+	 * @return the fraction of the annealing phase that has elapsed
+	 */
+	protected double getProgress() {
+		double rtn = 1.0;
+		if (this.getSteps() > 0) {
+			rtn = Math.min(1.0, (double) this.step / this.getSteps());
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the factor of the geometric cooling from the initial to the final
+	 * temperature in the number of steps of the annealing phase.
+	 *
+	 * @return the factor of the geometric cooling
+	 */
+	protected double getCoolingFactor() {
+		double rtn = 1.0;
+		if (this.getSteps() > 0) {
+			rtn = Math.pow(this.getMinTemp() / this.getMaxTemp(), 1.0 / this.getSteps());
+		}
+		return rtn;
+	}
+
+	/**
+	 * Getter for <i>temperature</i>, the temperature of the annealing phase
+	 * regardless of the current phase.
+	 *
+	 * @return value of <i>temperature</i>
+	 */
+	protected double getAnnealingTemperature() {
+		return temperature;
+	}
+
+	/**
+	 * Getter for <i>maxTemp</i>
+	 *
+	 * @return value of <i>maxTemp</i>
+	 */
+	public double getMaxTemp() {
+		return maxTemp;
+	}
+
+	/**
+	 * Getter for <i>minTemp</i>
+	 *
+	 * @return value of <i>minTemp</i>
+	 */
+	public double getMinTemp() {
+		return minTemp;
+	}
+
+	/**
+	 * Getter for <i>steps</i>
+	 *
+	 * @return value of <i>steps</i>
+	 */
+	public int getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Getter for <i>zeroSteps</i>
+	 *
+	 * @return value of <i>zeroSteps</i>
+	 */
+	public int getZeroSteps() {
+		return zeroSteps;
+	}
+
+	/**
+	 * Getter for <i>window</i>
+	 *
+	 * @return value of <i>window</i>
+	 */
+	public int getWindow() {
+		return window;
+	}
+
+	private final double maxTemp;
+	private final double minTemp;
+	private final int steps;
+	private final int zeroSteps;
+	private final int window;
+	private double temperature;
+	private double bestScore;
+	private int stagnant;
+	private int step;
+	private boolean converged;
+
+}
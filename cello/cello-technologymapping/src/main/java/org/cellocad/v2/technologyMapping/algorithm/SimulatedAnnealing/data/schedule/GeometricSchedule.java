@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+/**
+ * The GeometricSchedule class cools geometrically from the initial to the final
+ * temperature over the annealing phase, i.e. linearly in log scale.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class GeometricSchedule extends AnnealingSchedule {
+
+	/**
+	 * Initializes a newly created GeometricSchedule.
+	 *
+	 * @param maxTemp   the initial temperature
+	 * @param minTemp   the final temperature of the annealing phase
+	 * @param steps     the number of steps of the annealing phase
+	 * @param zeroSteps the number of steps of the zero-temperature phase
+	 * @param window    the convergence window, zero to disable early stop
+	 */
+	public GeometricSchedule(final double maxTemp, final double minTemp, final int steps, final int zeroSteps,
+			final int window) {
+		super(maxTemp, minTemp, steps, zeroSteps, window);
+		this.factor = this.getCoolingFactor();
+	}
+
+	@Override
+	protected double nextTemperature(final boolean accepted, final boolean improved) {
+		return this.getAnnealingTemperature() * this.factor;
+	}
+
+	private final double factor;
+
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+/**
+ * The ReheatingSchedule class cools geometrically like the GeometricSchedule,
+ * and multiplies the temperature by the reheat factor whenever the best score
+ * has not improved for the reheat interval.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ReheatingSchedule extends AnnealingSchedule {
+
+	/**
+	 * Initializes a newly created ReheatingSchedule.
+	 *
+	 * @param maxTemp   the initial temperature
+	 * @param minTemp   the final temperature of the annealing phase
+	 * @param steps     the number of steps of the annealing phase
+	 * @param zeroSteps the number of steps of the zero-temperature phase
+	 * @param window    the convergence window, zero to disable early stop
+	 * @param interval  the number of steps without improvement before a reheat
+	 * @param factor    the reheat factor
+	 */
+	public ReheatingSchedule(final double maxTemp, final double minTemp, final int steps, final int zeroSteps,
+			final int window, final int interval, final double factor) {
+		super(maxTemp, minTemp, steps, zeroSteps, window);
+		if (interval <= 0) {
+			throw new RuntimeException("Invalid reheat interval!");
+		}
+		if (factor < 1.0) {
+			throw new RuntimeException("Invalid reheat factor!");
+		}
+		this.factor = this.getCoolingFactor();
+		this.interval = interval;
+		this.reheat = factor;
+	}
+
+	@Override
+	protected double nextTemperature(final boolean accepted, final boolean improved) {
+		double rtn = this.getAnnealingTemperature() * this.factor;
+		if (improved) {
+			this.stagnant = 0;
+		} else {
+			this.stagnant++;
+		}
+		if (this.stagnant >= this.interval) {
+			rtn *= this.reheat;
+			this.stagnant = 0;
+		}
+		return rtn;
+	}
+
+	private final double factor;
+	private final int interval;
+	private final double reheat;
+	private int stagnant;
+
+}
@@ -0,0 +1,403 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+/**
+ * The ScheduleConfig class holds the parameters of the schedule of the
+ * <i>SimulatedAnnealing</i> algorithm and creates the schedules of its chains.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ScheduleConfig {
+
+	/**
+	 * Sets the parameters that are not set to their default values and checks the
+	 * values of the others.
+	 *
+	 * @throws RuntimeException if a parameter has an invalid value
+	 */
+	public void validate() {
+		if (this.getSchedule() == null)
+			this.setSchedule(S_GEOMETRIC);
+		if (!this.getSchedule().equals(S_GEOMETRIC) && !this.getSchedule().equals(S_ADAPTIVE)
+				&& !this.getSchedule().equals(S_REHEATING))
+			throw new RuntimeException("Invalid schedule: " + this.getSchedule() + ".");
+		if (this.getMaxTemperature() == null)
+			this.setMaxTemperature(D_MAX_TEMPERATURE);
+		if (!(this.getMaxTemperature() > 0.0))
+			throw new RuntimeException(
+					"Invalid MaxTemperature: " + this.getMaxTemperature() + ", expected a positive value.");
+		if (this.getMinTemperature() == null)
+			this.setMinTemperature(Math.min(D_MIN_TEMPERATURE, this.getMaxTemperature()));
+		if (!(this.getMinTemperature() > 0.0) || this.getMinTemperature() > this.getMaxTemperature())
+			throw new RuntimeException("Invalid MinTemperature: " + this.getMinTemperature()
+					+ ", expected a positive value of at most MaxTemperature " + this.getMaxTemperature() + ".");
+		if (this.getSteps() == null)
+			this.setSteps(I_STEPS);
+		if (this.getSteps() < 0)
+			throw new RuntimeException("Invalid Steps: " + this.getSteps() + ", expected at least 0.");
+		if (this.getStepsPerNode() == null)
+			this.setStepsPerNode(0);
+		if (this.getStepsPerNode() < 0)
+			throw new RuntimeException("Invalid StepsPerNode: " + this.getStepsPerNode() + ", expected at least 0.");
+		if (this.getStepsPerGate() == null)
+			this.setStepsPerGate(0);
+		if (this.getStepsPerGate() < 0)
+			throw new RuntimeException("Invalid StepsPerGate: " + this.getStepsPerGate() + ", expected at least 0.");
+		if (this.getZeroTemperatureSteps() == null)
+			this.setZeroTemperatureSteps(I_ZERO_TEMPERATURE_STEPS);
+		if (this.getZeroTemperatureSteps() < 0)
+			throw new RuntimeException(
+					"Invalid ZeroTemperatureSteps: " + this.getZeroTemperatureSteps() + ", expected at least 0.");
+		if (this.getConvergenceWindow() == null)
+			this.setConvergenceWindow(0);
+		if (this.getConvergenceWindow() < 0)
+			throw new RuntimeException(
+					"Invalid ConvergenceWindow: " + this.getConvergenceWindow() + ", expected at least 0.");
+		if (this.getTargetAcceptance() == null)
+			this.setTargetAcceptance(D_TARGET_ACCEPTANCE);
+		if (!(this.getTargetAcceptance() > 0.0) || this.getTargetAcceptance() > 1.0)
+			throw new RuntimeException(
+					"Invalid TargetAcceptance: " + this.getTargetAcceptance() + ", expected a value in (0, 1].");
+		if (this.getAdaptationInterval() == null)
+			this.setAdaptationInterval(I_ADAPTATION_INTERVAL);
+		if (this.getAdaptationInterval() < 1)
+			throw new RuntimeException(
+					"Invalid AdaptationInterval: " + this.getAdaptationInterval() + ", expected at least 1.");
+		if (this.getReheatInterval() == null)
+			this.setReheatInterval(I_REHEAT_INTERVAL);
+		if (this.getReheatInterval() < 1)
+			throw new RuntimeException(
+					"Invalid ReheatInterval: " + this.getReheatInterval() + ", expected at least 1.");
+		if (this.getReheatFactor() == null)
+			this.setReheatFactor(D_REHEAT_FACTOR);
+		if (!(this.getReheatFactor() >= 1.0))
+			throw new RuntimeException(
+					"Invalid ReheatFactor: " + this.getReheatFactor() + ", expected at least 1.0.");
+	}
+
+	/**
+	 * Returns the number of steps of the annealing phase of a netlist with the
+	 * number of logic nodes defined by parameter <i>nodes</i> and a library with
+	 * the number of gates defined by parameter <i>gates</i>: <i>steps</i>, plus
+	 * <i>stepsPerNode</i> steps per logic node and <i>stepsPerGate</i> steps per
+	 * gate.
+	 *
+	 * @param nodes the number of logic nodes of the netlist
+	 * @param gates the number of gates of the library
+	 * @return the number of steps of the annealing phase
+	 */
+	public int getStepBudget(final int nodes, final int gates) {
+		long rtn = (long) this.getSteps() + (long) this.getStepsPerNode() * nodes
+				+ (long) this.getStepsPerGate() * gates;
+		return (int) Math.min(rtn, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns a new schedule with the number of steps of the annealing phase
+	 * defined by parameter <i>steps</i>.
+	 *
+	 * @param steps the number of steps of the annealing phase
+	 * @return a new schedule
+	 */
+	public AnnealingSchedule createSchedule(final int steps) {
+		AnnealingSchedule rtn = null;
+		double maxT = this.getMaxTemperature();
+		double minT = this.getMinTemperature();
+		int zeroSteps = this.getZeroTemperatureSteps();
+		int window = this.getConvergenceWindow();
+		if (this.getSchedule().equals(S_ADAPTIVE)) {
+			rtn = new AdaptiveSchedule(maxT, minT, steps, zeroSteps, window, this.getTargetAcceptance(),
+					this.getAdaptationInterval());
+		} else if (this.getSchedule().equals(S_REHEATING)) {
+			rtn = new ReheatingSchedule(maxT, minT, steps, zeroSteps, window, this.getReheatInterval(),
+					this.getReheatFactor());
+		} else {
+			rtn = new GeometricSchedule(maxT, minT, steps, zeroSteps, window);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Getter for <i>schedule</i>, the name of the schedule: <i>geometric</i>,
+	 * <i>adaptive</i> or <i>reheating</i>.
+	 *
+	 * @return value of <i>schedule</i>
+	 */
+	public String getSchedule() {
+		return this.schedule;
+	}
+
+	/**
+	 * Setter for <i>schedule</i>
+	 *
+	 * @param schedule the value to set <i>schedule</i>
+	 */
+	public void setSchedule(final String schedule) {
+		this.schedule = schedule;
+	}
+
+	private String schedule;
+
+	/**
+	 * Getter for <i>maxTemperature</i>
+	 *
+	 * @return value of <i>maxTemperature</i>
+	 */
+	public Double getMaxTemperature() {
+		return this.maxTemperature;
+	}
+
+	/**
+	 * Setter for <i>maxTemperature</i>
+	 *
+	 * @param maxTemperature the value to set <i>maxTemperature</i>
+	 */
+	public void setMaxTemperature(final Double maxTemperature) {
+		this.maxTemperature = maxTemperature;
+	}
+
+	private Double maxTemperature;
+
+	/**
+	 * Getter for <i>minTemperature</i>
+	 *
+	 * @return value of <i>minTemperature</i>
+	 */
+	public Double getMinTemperature() {
+		return this.minTemperature;
+	}
+
+	/**
+	 * Setter for <i>minTemperature</i>
+	 *
+	 * @param minTemperature the value to set <i>minTemperature</i>
+	 */
+	public void setMinTemperature(final Double minTemperature) {
+		this.minTemperature = minTemperature;
+	}
+
+	private Double minTemperature;
+
+	/**
+	 * Getter for <i>steps</i>, the number of steps of the annealing phase before
+	 * scaling.
+	 *
+	 * @return value of <i>steps</i>
+	 */
+	public Integer getSteps() {
+		return this.steps;
+	}
+
+	/**
+	 * Setter for <i>steps</i>
+	 *
+	 * @param steps the value to set <i>steps</i>
+	 */
+	public void setSteps(final Integer steps) {
+		this.steps = steps;
+	}
+
+	private Integer steps;
+
+	/**
+	 * Getter for <i>stepsPerNode</i>, the number of steps added per logic node of
+	 * the netlist.
+	 *
+	 * @return value of <i>stepsPerNode</i>
+	 */
+	public Integer getStepsPerNode() {
+		return this.stepsPerNode;
+	}
+
+	/**
+	 * Setter for <i>stepsPerNode</i>
+	 *
+	 * @param stepsPerNode the value to set <i>stepsPerNode</i>
+	 */
+	public void setStepsPerNode(final Integer stepsPerNode) {
+		this.stepsPerNode = stepsPerNode;
+	}
+
+	private Integer stepsPerNode;
+
+	/**
+	 * Getter for <i>stepsPerGate</i>, the number of steps added per gate of the
+	 * library.
+	 *
+	 * @return value of <i>stepsPerGate</i>
+	 */
+	public Integer getStepsPerGate() {
+		return this.stepsPerGate;
+	}
+
+	/**
+	 * Setter for <i>stepsPerGate</i>
+	 *
+	 * @param stepsPerGate the value to set <i>stepsPerGate</i>
+	 */
+	public void setStepsPerGate(final Integer stepsPerGate) {
+		this.stepsPerGate = stepsPerGate;
+	}
+
+	private Integer stepsPerGate;
+
+	/**
+	 * Getter for <i>zeroTemperatureSteps</i>
+	 *
+	 * @return value of <i>zeroTemperatureSteps</i>
+	 */
+	public Integer getZeroTemperatureSteps() {
+		return this.zeroTemperatureSteps;
+	}
+
+	/**
+	 * Setter for <i>zeroTemperatureSteps</i>
+	 *
+	 * @param zeroTemperatureSteps the value to set <i>zeroTemperatureSteps</i>
+	 */
+	public void setZeroTemperatureSteps(final Integer zeroTemperatureSteps) {
+		this.zeroTemperatureSteps = zeroTemperatureSteps;
+	}
+
+	private Integer zeroTemperatureSteps;
+
+	/**
+	 * Getter for <i>convergenceWindow</i>, the number of steps without improvement
+	 * that end a phase, or zero to disable early stop.
+	 *
+	 * @return value of <i>convergenceWindow</i>
+	 */
+	public Integer getConvergenceWindow() {
+		return this.convergenceWindow;
+	}
+
+	/**
+	 * Setter for <i>convergenceWindow</i>
+	 *
+	 * @param convergenceWindow the value to set <i>convergenceWindow</i>
+	 */
+	public void setConvergenceWindow(final Integer convergenceWindow) {
+		this.convergenceWindow = convergenceWindow;
+	}
+
+	private Integer convergenceWindow;
+
+	/**
+	 * Getter for <i>targetAcceptance</i>, the initial target acceptance rate of the
+	 * adaptive schedule.
+	 *
+	 * @return value of <i>targetAcceptance</i>
+	 */
+	public Double getTargetAcceptance() {
+		return this.targetAcceptance;
+	}
+
+	/**
+	 * Setter for <i>targetAcceptance</i>
+	 *
+	 * @param targetAcceptance the value to set <i>targetAcceptance</i>
+	 */
+	public void setTargetAcceptance(final Double targetAcceptance) {
+		this.targetAcceptance = targetAcceptance;
+	}
+
+	private Double targetAcceptance;
+
+	/**
+	 * Getter for <i>adaptationInterval</i>, the number of steps between adjustments
+	 * of the adaptive schedule.
+	 *
+	 * @return value of <i>adaptationInterval</i>
+	 */
+	public Integer getAdaptationInterval() {
+		return this.adaptationInterval;
+	}
+
+	/**
+	 * Setter for <i>adaptationInterval</i>
+	 *
+	 * @param adaptationInterval the value to set <i>adaptationInterval</i>
+	 */
+	public void setAdaptationInterval(final Integer adaptationInterval) {
+		this.adaptationInterval = adaptationInterval;
+	}
+
+	private Integer adaptationInterval;
+
+	/**
+	 * Getter for <i>reheatInterval</i>, the number of steps without improvement
+	 * before a reheat of the reheating schedule.
+	 *
+	 * @return value of <i>reheatInterval</i>
+	 */
+	public Integer getReheatInterval() {
+		return this.reheatInterval;
+	}
+
+	/**
+	 * Setter for <i>reheatInterval</i>
+	 *
+	 * @param reheatInterval the value to set <i>reheatInterval</i>
+	 */
+	public void setReheatInterval(final Integer reheatInterval) {
+		this.reheatInterval = reheatInterval;
+	}
+
+	private Integer reheatInterval;
+
+	/**
+	 * Getter for <i>reheatFactor</i>, the reheat factor of the reheating schedule.
+	 *
+	 * @return value of <i>reheatFactor</i>
+	 */
+	public Double getReheatFactor() {
+		return this.reheatFactor;
+	}
+
+	/**
+	 * Setter for <i>reheatFactor</i>
+	 *
+	 * @param reheatFactor the value to set <i>reheatFactor</i>
+	 */
+	public void setReheatFactor(final Double reheatFactor) {
+		this.reheatFactor = reheatFactor;
+	}
+
+	private Double reheatFactor;
+
+	public static final String S_GEOMETRIC = "geometric";
+	public static final String S_ADAPTIVE = "adaptive";
+	public static final String S_REHEATING = "reheating";
+
+	private static final double D_MAX_TEMPERATURE = 100.0;
+	private static final double D_MIN_TEMPERATURE = 0.001;
+	private static final int I_STEPS = 500;
+	private static final int I_ZERO_TEMPERATURE_STEPS = 100;
+	private static final double D_TARGET_ACCEPTANCE = 0.4;
+	private static final int I_ADAPTATION_INTERVAL = 20;
+	private static final int I_REHEAT_INTERVAL = 50;
+	private static final double D_REHEAT_FACTOR = 10.0;
+
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+
+/**
+ * The IncrementalScore class maintains the score of a netlist, as defined by
+ * {@link ScoreUtils#score}, across moves of the <i>SimulatedAnnealing</i>
+ * algorithm. The ON/OFF ratio of each primary output is kept, and only the
+ * ratios of the outputs among the re-evaluated nodes are recomputed after a
+ * move. The previous values are kept so that a rejected move can be undone.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class IncrementalScore {
+
+	/**
+	 * Initializes a newly created IncrementalScore of the Netlist defined by
+	 * parameter <i>netlist</i>. The topology and the logic of the netlist must not
+	 * change during the lifetime of this instance.
+	 *
+	 * @param netlist the Netlist
+	 * @param lsle    the logic evaluation of the netlist
+	 * @param tmae    the activity evaluation of the netlist
+	 */
+	public IncrementalScore(final Netlist netlist, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae) {
+		if (!netlist.isValid()) {
+			throw new RuntimeException("netlist is not valid!");
+		}
+		this.tmae = tmae;
+		this.indices = new IdentityHashMap<>();
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			if (LSResultsUtils.isPrimaryOutput(node)) {
+				this.indices.put(node, this.indices.size());
+			}
+		}
+		int num = this.indices.size();
+		this.outputs = new NetlistNode[num];
+		this.logic = new long[num][];
+		this.ratios = new double[num];
+		this.changed = new int[num];
+		this.undo = new double[num];
+		for (Map.Entry<NetlistNode, Integer> e : this.indices.entrySet()) {
+			int idx = e.getValue();
+			this.outputs[idx] = e.getKey();
+			this.logic[idx] = lsle.getBitset(e.getKey());
+			this.ratios[idx] = this.getOnOffRatio(idx);
+		}
+		this.setMinimum();
+	}
+
+	private double getOnOffRatio(final int idx) {
+		return this.tmae.getOnOffRatio(this.outputs[idx], this.logic[idx]);
+	}
+
+	/**
+	 * Sets the minimum ratio by scanning all outputs.
+	 */
+	private void setMinimum() {
+		this.score = Double.MAX_VALUE;
+		this.argmin = -1;
+		for (int i = 0; i < this.ratios.length; i++) {
+			if (this.ratios[i] < this.score) {
+				this.score = this.ratios[i];
+				this.argmin = i;
+			}
+		}
+	}
+
+	/**
+	 * Updates the score after the activities of the NetlistNode(s) defined by
+	 * parameter <i>nodes</i> were re-evaluated. The previous values are kept until
+	 * the move is either accepted with {@link #accept()} or undone with
+	 * {@link #reject()}.
+	 *
+	 * @param nodes the re-evaluated NetlistNode(s)
+	 * @return the score after the move
+	 */
+	public double update(final Collection<NetlistNode> nodes) {
+		if (this.pending) {
+			throw new RuntimeException("Previous move was not accepted or rejected!");
+		}
+		this.pending = true;
+		this.undoScore = this.score;
+		this.undoArgmin = this.argmin;
+		boolean rescan = false;
+		for (NetlistNode node : nodes) {
+			Integer idx = this.indices.get(node);
+			if (idx == null) {
+				continue;
+			}
+			double ratio = this.getOnOffRatio(idx);
+			this.changed[this.numChanged] = idx;
+			this.undo[this.numChanged] = this.ratios[idx];
+			this.numChanged++;
+			this.ratios[idx] = ratio;
+			if (ratio < this.score) {
+				this.score = ratio;
+				this.argmin = idx;
+			} else if (idx == this.argmin && ratio > this.score) {
+				// the minimum may have moved to an unchanged output
+				rescan = true;
+			}
+		}
+		if (rescan) {
+			this.setMinimum();
+		}
+		return this.score;
+	}
+
+	/**
+	 * Accepts the last move, discarding its undo information.
+	 */
+	public void accept() {
+		this.numChanged = 0;
+		this.pending = false;
+	}
+
+	/**
+	 * Rejects the last move, restoring the ratios and the score before the move.
+	 */
+	public void reject() {
+		for (int i = this.numChanged - 1; i >= 0; i--) {
+			this.ratios[this.changed[i]] = this.undo[i];
+		}
+		this.numChanged = 0;
+		this.pending = false;
+		this.score = this.undoScore;
+		this.argmin = this.undoArgmin;
+	}
+
+	/**
+	 * Getter for <i>score</i>, the score of the current assignment.
+	 *
+	 * @return value of <i>score</i>
+	 */
+	public double getScore() {
+		return score;
+	}
+
+	private final TMActivityEvaluation tmae;
+	private final Map<NetlistNode, Integer> indices;
+	private final NetlistNode[] outputs;
+	private final long[][] logic;
+	private final double[] ratios;
+	private final int[] changed;
+	private final double[] undo;
+	private int numChanged;
+	private boolean pending;
+	private double score;
+	private int argmin;
+	private double undoScore;
+	private int undoArgmin;
+
+}
@@ -22,13 +22,9 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.scor
 
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
-import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
-import org.cellocad.v2.results.logicSynthesis.logic.truthtable.TruthTable;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
-import org.cellocad.v2.results.technologyMapping.activity.activitytable.Activity;
-import org.cellocad.v2.results.technologyMapping.activity.activitytable.ActivityTable;
 
 /**
  * 
@@ -58,37 +54,16 @@ public class ScoreUtils {
 	}
 	
 	/**
-	 * 
+	 * Returns the ratio of the lowest ON activity to the highest OFF activity of
+	 * the NetlistNode defined by parameter <i>node</i>.
+	 *
+	 * @param node the NetlistNode
+	 * @param lsle the logic evaluation of the netlist
+	 * @param tmae the activity evaluation of the netlist
+	 * @return the ratio of the lowest ON activity to the highest OFF activity
 	 */
-	private static Double getOnOffRatio(final NetlistNode node, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae) {
-		Double rtn = null;
-		
-		Double on = Double.MAX_VALUE;
-		Double off = Double.MIN_VALUE;
-		
-		TruthTable<NetlistNode,NetlistNode> truthTable = lsle.getTruthTable(node);
-		ActivityTable<NetlistNode,NetlistNode> activityTable = tmae.getActivityTable(node);
-		
-		for (int i = 0; i < truthTable.getNumStates(); i++) {
-			State<NetlistNode> inputState = truthTable.getStateAtIdx(i);
-			State<NetlistNode> outputState = truthTable.getStateOutput(inputState);
-			Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(inputState);
-			Boolean l = outputState.getState(node);
-			Double a = outputActivity.getActivity(node);
-			if (l == true
-					&&
-					on > a) {
-				on = a;
-			} else if (l == false
-					&&
-					off < a) {
-				off = a;
-			}
-		}
-		
-		rtn = on/off;
-		
-		return rtn;
+	public static Double getOnOffRatio(final NetlistNode node, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae) {
+		return tmae.getOnOffRatio(node, lsle.getBitset(node));
 	}
 
 }
@@ -23,6 +23,7 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxi
 import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,13 +31,11 @@ import java.util.Map;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.Utils;
-import org.cellocad.v2.common.graph.algorithm.SinkDFS;
 import org.cellocad.v2.common.target.data.data.EvaluationContext;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable.Toxicity;
@@ -44,6 +43,12 @@ import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxic
 
 /**
  * The TMToxicityEvaluation class evaluates the toxicity of a netlist used within the <i>SimulatedAnnealing</i> algorithm class of the <i>technologyMapping</i> stage.
+ * The toxicities of all nodes are stored in a single matrix indexed by node and
+ * state ordinals. The ToxicityTable and Toxicity returned by this class are
+ * views on that matrix. The rows of the matrix are the leaves of a binary tree
+ * whose other rows hold the products of their children, so that the growth of
+ * each state is kept up to date in O(log n) per changed node and the minimum
+ * growth is read in O(number of states).
  *
  * @author Timothy Jones
  *
@@ -56,7 +61,9 @@ public class TMToxicityEvaluation extends CObject{
 	 * Initialize class members
 	 */
 	private void init() {
-		this.toxicitytables = new HashMap<NetlistNode, ToxicityTable<NetlistNode, NetlistNode>>();
+		this.nodes = new ArrayList<NetlistNode>();
+		this.nodeIndices = new HashMap<NetlistNode, Integer>();
+		this.stateIndices = new HashMap<State<NetlistNode>, Integer>();
 	}
 
 	/**
@@ -73,7 +80,9 @@ public class TMToxicityEvaluation extends CObject{
 		}
 		this.setTMActivityEvaluation(tmae);
 		States<NetlistNode> states = tmae.getStates();
-		List<NetlistNode> outputNodes = new ArrayList<NetlistNode>();
+		for (int i = 0; i < states.getNumStates(); i++) {
+			this.stateIndices.put(states.getStateAtIdx(i), i);
+		}
 		for(int i = 0; i < netlist.getNumVertex(); i++) {
 			NetlistNode node = netlist.getVertexAtIdx(i);
 			if (LSResultsUtils.isPrimaryInput(node)
@@ -81,14 +90,97 @@ public class TMToxicityEvaluation extends CObject{
 			    LSResultsUtils.isPrimaryOutput(node)) {
 				continue;
 			}
-			outputNodes.clear();
-			outputNodes.add(node);
-			ToxicityTable<NetlistNode, NetlistNode> toxicityTable = new ToxicityTable<NetlistNode, NetlistNode>(states, outputNodes);
-			this.getToxicityTables().put(node, toxicityTable);
+			this.nodeIndices.put(node, this.nodes.size());
+			this.nodes.add(node);
 		}
+		this.numStates = states.getNumStates();
+		this.numLeaves = Integer.highestOneBit(Math.max(1, this.nodes.size() * 2 - 1));
+		this.toxicities = new double[2 * this.numLeaves * this.numStates];
+		Arrays.fill(this.toxicities, D_MAXGROWTH);
+		this.tables = new ToxicityTableView[this.nodes.size()];
 		this.evaluate(netlist);
 	}
 
+	/**
+	 * A view on the toxicities of a node. The views on the toxicity at each state
+	 * are created on first use and reused afterwards.
+	 */
+	private class ToxicityTableView extends ToxicityTable<NetlistNode, NetlistNode> {
+
+		private ToxicityTableView(final int row) {
+			this.row = row;
+			this.views = new ToxicityView[numStates];
+		}
+
+		@Override
+		public Toxicity<NetlistNode> getToxicityOutput(final State<NetlistNode> state) {
+			Toxicity<NetlistNode> rtn = null;
+			Integer col = stateIndices.get(state);
+			if (col != null) {
+				rtn = views[col];
+				if (rtn == null) {
+					views[col] = new ToxicityView(this.row, col);
+					rtn = views[col];
+				}
+			}
+			return rtn;
+		}
+
+		@Override
+		public State<NetlistNode> getStateAtIdx(final int index) {
+			return getTMActivityEvaluation().getStates().getStateAtIdx(index);
+		}
+
+		@Override
+		public int getNumStates() {
+			return numStates;
+		}
+
+		private final int row;
+		private final ToxicityView[] views;
+
+	}
+
+	/**
+	 * A view on the toxicity of a node at a state.
+	 */
+	private class ToxicityView extends Toxicity<NetlistNode> {
+
+		private ToxicityView(final int row, final int col) {
+			this.row = row;
+			this.col = col;
+		}
+
+		@Override
+		public int getNumToxicityPosition() {
+			return 1;
+		}
+
+		@Override
+		public Double getToxicity(final NetlistNode node) {
+			Double rtn = null;
+			if (nodes.get(this.row).equals(node)) {
+				rtn = toxicities[getOffset(this.row) + this.col];
+			}
+			return rtn;
+		}
+
+		@Override
+		public boolean setToxicity(final NetlistNode node, final Double value) {
+			boolean rtn = false;
+			if (nodes.get(this.row).equals(node)) {
+				toxicities[getOffset(this.row) + this.col] = value;
+				updateProducts(this.row);
+				rtn = true;
+			}
+			return rtn;
+		}
+
+		private final int row;
+		private final int col;
+
+	}
+
 	/**
 	 * Evaluates the toxicity table for the NetlistNode defined by parameter
 	 * <i>node</i>
@@ -97,20 +189,34 @@ public class TMToxicityEvaluation extends CObject{
 	 * @throws CelloException
 	 */
 	private void evaluateToxicityTable(final NetlistNode node, EvaluationContext ec) throws CelloException {
+		int offset = this.getOffset(this.nodeIndices.get(node));
+		// the activities of the node and of its inputs are known
+		this.getTMActivityEvaluation().setResponseValues(ec, node);
+		for (int i = 0; i < node.getNumInEdge(); i++) {
+			this.getTMActivityEvaluation().setResponseValues(ec, node.getInEdgeAtIdx(i).getSrc());
+		}
 		ec.setNode(node);
-		ToxicityTable<NetlistNode,NetlistNode> toxicityTable = this.getToxicityTables().get(node);
-		for (int i = 0; i < toxicityTable.getNumStates(); i++) {
-			State<NetlistNode> inputState = toxicityTable.getStateAtIdx(i);
-			Toxicity<NetlistNode> outputToxicity = toxicityTable.getToxicityOutput(inputState);
-			ec.setState(inputState);
-			Double result = node.getResultNetlistNodeData().getDevice().getModel()
-					.getFunctionByName("toxicity").evaluate(ec).doubleValue();
-			if (result > D_MAXGROWTH)
-				result = D_MAXGROWTH;
-			if (result < D_MINGROWTH)
-				result = D_MINGROWTH;
-			outputToxicity.setToxicity(node,result);
+		double[] result = new double[this.numStates];
+		node.getResultNetlistNodeData().getDevice().getModel().getFunctionByName("toxicity").evaluate(ec, result);
+		for (int i = 0; i < this.numStates; i++) {
+			if (result[i] > D_MAXGROWTH)
+				result[i] = D_MAXGROWTH;
+			if (result[i] < D_MINGROWTH)
+				result[i] = D_MINGROWTH;
 		}
+		System.arraycopy(result, 0, this.toxicities, offset, this.numStates);
+	}
+
+	/**
+	 * Returns a new EvaluationContext for the batch evaluation of the states of
+	 * the activity evaluation.
+	 *
+	 * @return a new EvaluationContext
+	 */
+	private EvaluationContext getEvaluationContext() {
+		EvaluationContext rtn = new EvaluationContext();
+		rtn.setStates(this.getTMActivityEvaluation().getStates());
+		return rtn;
 	}
 
 	/**
@@ -120,10 +226,8 @@ public class TMToxicityEvaluation extends CObject{
 	 * @throws CelloException
 	 */
 	protected void evaluate(final Netlist netlist) throws CelloException {
-		SinkDFS<NetlistNode, NetlistEdge, Netlist> DFS = new SinkDFS<NetlistNode, NetlistEdge, Netlist>(netlist);
-		NetlistNode node = null;
-		EvaluationContext ec = new EvaluationContext();
-		while ((node = DFS.getNextVertex()) != null) {
+		EvaluationContext ec = this.getEvaluationContext();
+		for (NetlistNode node : netlist.getLevelization().getNodes()) {
 			if (LSResultsUtils.isPrimaryInput(node)
 			    ||
 			    LSResultsUtils.isPrimaryOutput(node)) {
@@ -131,57 +235,199 @@ public class TMToxicityEvaluation extends CObject{
 			}
 			evaluateToxicityTable(node, ec);
 		}
+		this.updateProducts();
 	}
 
-	public Double getGrowth(final State<NetlistNode> state) {
-		Double rtn = D_MAXGROWTH;
-		for(NetlistNode node : this.getToxicityTables().keySet()) {
-			ToxicityTable<NetlistNode,NetlistNode> table = this.getToxicityTables().get(node);
-			Toxicity<NetlistNode> toxicity = table.getToxicityOutput(state);
-			Double value = toxicity.getToxicity(node);
-			rtn *= value;
+	/**
+	 * Evaluates the toxicity table of each NetlistNode in the List defined by
+	 * parameter <i>nodes</i>, in list order. Nodes without a toxicity table
+	 * (primary inputs and outputs) are skipped.
+	 *
+	 * @param nodes the List of NetlistNode to evaluate
+	 * @throws CelloException
+	 */
+	public void evaluate(final List<NetlistNode> nodes) throws CelloException {
+		EvaluationContext ec = this.getEvaluationContext();
+		for (NetlistNode node : nodes) {
+			Integer row = this.nodeIndices.get(node);
+			if (row == null) {
+				continue;
+			}
+			evaluateToxicityTable(node, ec);
+			this.updateProducts(row);
 		}
+	}
+
+	/**
+	 * Returns the offset in <i>toxicities</i> of the leaf holding the row defined
+	 * by parameter <i>row</i>.
+	 *
+	 * @param row the ordinal of the node
+	 * @return the offset of the row
+	 */
+	private int getOffset(final int row) {
+		return (this.numLeaves + row) * this.numStates;
+	}
+
+	/**
+	 * Recomputes the products of the ancestors of the leaf holding the row
+	 * defined by parameter <i>row</i>.
+	 *
+	 * @param row the ordinal of the node
+	 */
+	private void updateProducts(final int row) {
+		for (int k = (this.numLeaves + row) >> 1; k >= 1; k >>= 1) {
+			this.updateProduct(k);
+		}
+	}
+
+	/**
+	 * Recomputes the products of all inner rows of the tree.
+	 */
+	private void updateProducts() {
+		for (int k = this.numLeaves - 1; k >= 1; k--) {
+			this.updateProduct(k);
+		}
+	}
+
+	private void updateProduct(final int k) {
+		int offset = k * this.numStates;
+		int left = 2 * k * this.numStates;
+		int right = left + this.numStates;
+		for (int i = 0; i < this.numStates; i++) {
+			this.toxicities[offset + i] = this.toxicities[left + i] * this.toxicities[right + i];
+		}
+	}
+
+	/**
+	 * Returns the toxicity of the NetlistNode defined by parameter <i>node</i> for
+	 * each state, in state order, or null if the node has no toxicity table.
+	 *
+	 * @param node the NetlistNode
+	 * @return the toxicity of the NetlistNode defined by parameter <i>node</i> for
+	 *         each state
+	 */
+	public double[] getToxicities(final NetlistNode node) {
+		double[] rtn = null;
+		Integer row = this.nodeIndices.get(node);
+		if (row == null) {
+			return rtn;
+		}
+		rtn = new double[this.numStates];
+		System.arraycopy(this.toxicities, this.getOffset(row), rtn, 0, this.numStates);
+		return rtn;
+	}
+
+	/**
+	 * Copies the toxicity of the NetlistNode defined by parameter <i>node</i> for
+	 * each state, in state order, to <i>toxicities</i> starting at
+	 * <i>offset</i>.
+	 *
+	 * @param node       the NetlistNode
+	 * @param toxicities the destination
+	 * @param offset     the position of the first toxicity in <i>toxicities</i>
+	 * @return false if the node has no toxicity table, true otherwise
+	 */
+	public boolean getToxicities(final NetlistNode node, final double[] toxicities, final int offset) {
+		boolean rtn = false;
+		Integer row = this.nodeIndices.get(node);
+		if (row != null) {
+			System.arraycopy(this.toxicities, this.getOffset(row), toxicities, offset, this.numStates);
+			rtn = true;
+		}
+		return rtn;
+	}
+
+	/**
+	 * Sets the toxicity of the NetlistNode defined by parameter <i>node</i> for
+	 * each state, in state order, e.g. to restore values previously obtained with
+	 * {@link #getToxicities(NetlistNode)}.
+	 *
+	 * @param node       the NetlistNode
+	 * @param toxicities the toxicity for each state
+	 */
+	public void setToxicities(final NetlistNode node, final double[] toxicities) {
+		if (toxicities.length != this.numStates) {
+			throw new RuntimeException("Invalid number of toxicities!");
+		}
+		this.setToxicities(node, toxicities, 0);
+	}
+
+	/**
+	 * Sets the toxicity of the NetlistNode defined by parameter <i>node</i> for
+	 * each state, in state order, from <i>toxicities</i> starting at
+	 * <i>offset</i>, e.g. to restore values previously obtained with
+	 * {@link #getToxicities(NetlistNode, double[], int)}.
+	 *
+	 * @param node       the NetlistNode
+	 * @param toxicities the source
+	 * @param offset     the position of the first toxicity in <i>toxicities</i>
+	 */
+	public void setToxicities(final NetlistNode node, final double[] toxicities, final int offset) {
+		int row = this.nodeIndices.get(node);
+		System.arraycopy(toxicities, offset, this.toxicities, this.getOffset(row), this.numStates);
+		this.updateProducts(row);
+	}
+
+	/**
+	 * Returns the growth of the state with the ordinal defined by parameter
+	 * <i>col</i>, i.e. the product of the toxicities of all nodes, held by the
+	 * root of the tree, bounded below by the minimum growth.
+	 *
+	 * @param col the ordinal of the state
+	 * @return the growth of the state
+	 */
+	private double getGrowth(final int col) {
+		double rtn = D_MAXGROWTH * this.toxicities[this.numStates + col];
 		if (rtn < D_MINGROWTH)
 			rtn = D_MINGROWTH;
 		return rtn;
 	}
 
-	// public Double getMinimumGrowth() {
-	// 	Double rtn = D_MAXGROWTH;
-	// 	for (NetlistNode node : this.getToxicityTables().keySet()) {
-	// 		ToxicityTable<NetlistNode,NetlistNode> toxicitytable = this.getToxicityTable(node);
-	// 		for (int i = 0; i < toxicitytable.getNumActivities(); i++) {
-	// 			Activity<NetlistNode> input = toxicitytable.getActivityAtIdx(i);
-	// 			GateToxicity<NetlistNode> output = toxicitytable.getToxicityOutput(input);
-	// 			rtn = Math.min(rtn,output.getToxicity(node));
-	// 		}
-	// 	}
-	// 	return rtn;
-	// }
-
-	public Double getMinimumGrowth() {
-		Double rtn = D_MAXGROWTH;
-		States<NetlistNode> states = this.getTMActivityEvaluation().getStates();
-		for (int i = 0; i < states.getNumStates(); i++) {
-			State<NetlistNode> state = states.getStateAtIdx(i);
-			rtn = Math.min(rtn, this.getGrowth(state));
+	/**
+	 * Returns the growth of each state, in state order, i.e. the product of the
+	 * toxicities of all nodes bounded below by the minimum growth.
+	 *
+	 * @return the growth of each state
+	 */
+	private double[] getGrowths() {
+		double[] rtn = new double[this.numStates];
+		for (int i = 0; i < this.numStates; i++) {
+			rtn[i] = this.getGrowth(i);
 		}
 		return rtn;
 	}
 
-	protected Map<NetlistNode, ToxicityTable<NetlistNode, NetlistNode>> getToxicityTables(){
-		return this.toxicitytables;
+	public Double getGrowth(final State<NetlistNode> state) {
+		return this.getGrowth(this.stateIndices.get(state));
+	}
+
+	public Double getMinimumGrowth() {
+		double rtn = D_MAXGROWTH;
+		for (int i = 0; i < this.numStates; i++) {
+			rtn = Math.min(rtn, this.getGrowth(i));
+		}
+		return rtn;
 	}
 
 	/**
-	 * Returns the toxicityTable of NetlistNode defined by parameter <i>node</i>
+	 * Returns the toxicityTable of NetlistNode defined by parameter <i>node</i>.
+	 * The table is a view on the toxicities of the node, created on first use and
+	 * reused afterwards.
 	 *
 	 * @param node the NetlistNode
 	 * @return the truthTable of NetlistNode defined by parameter <i>node</i>
 	 */
 	public ToxicityTable<NetlistNode, NetlistNode> getToxicityTable(final NetlistNode node){
 		ToxicityTable<NetlistNode, NetlistNode> rtn = null;
-		rtn = this.getToxicityTables().get(node);
+		Integer row = this.nodeIndices.get(node);
+		if (row != null) {
+			rtn = tables[row];
+			if (rtn == null) {
+				tables[row] = new ToxicityTableView(row);
+				rtn = tables[row];
+			}
+		}
 		return rtn;
 	}
 
@@ -207,22 +453,17 @@ public class TMToxicityEvaluation extends CObject{
 		rtn += S_HEADER + Utils.getNewLine();
 		rtn += "TMToxicityEvaluation" + Utils.getNewLine();
 		rtn += S_HEADER + Utils.getNewLine();
-		for (NetlistNode node : this.getToxicityTables().keySet()) {
-			rtn += String.format("%-15s",node.getName()) + Utils.getTabCharacter();
-			ToxicityTable<NetlistNode,NetlistNode> toxicityTable = this.getToxicityTable(node);
-			for (int i = 0; i < toxicityTable.getNumStates(); i++) {
-				State<NetlistNode> input = toxicityTable.getStateAtIdx(i);
-				Toxicity<NetlistNode> output = toxicityTable.getToxicityOutput(input);
-				rtn += String.format("%.2f",output.getToxicity(node)) + Utils.getTabCharacter();
+		for (int j = 0; j < this.nodes.size(); j++) {
+			rtn += String.format("%-15s",this.nodes.get(j).getName()) + Utils.getTabCharacter();
+			for (int i = 0; i < this.numStates; i++) {
+				rtn += String.format("%.2f",this.toxicities[this.getOffset(j) + i]) + Utils.getTabCharacter();
 			}
 			rtn += Utils.getNewLine();
 		}
 		rtn += S_HEADER + Utils.getNewLine();
 		rtn += String.format("%-15s","") + Utils.getTabCharacter();
-		States<NetlistNode> states = this.getTMActivityEvaluation().getStates();
-		for (int i = 0; i < states.getNumStates(); i++) {
-			State<NetlistNode> state = states.getStateAtIdx(i);
-			rtn += String.format("%.2f", this.getGrowth(state)) + Utils.getTabCharacter();
+		for (double growth : this.getGrowths()) {
+			rtn += String.format("%.2f", growth) + Utils.getTabCharacter();
 		}
 		rtn += Utils.getNewLine();
 		rtn += S_HEADER + Utils.getNewLine();
@@ -236,26 +477,29 @@ public class TMToxicityEvaluation extends CObject{
 	 *  @throws IOException If an I/O error occurs
 	 */
 	public void writeCSV(String delimiter, Writer os) throws IOException {
-		String str = "";
-		for (NetlistNode node : this.getToxicityTables().keySet()) {
-			str += node.getName();
-			ToxicityTable<NetlistNode,NetlistNode> toxicityTable = this.getToxicityTable(node);
-			for (int i = 0; i < toxicityTable.getNumStates(); i++) {
-				State<NetlistNode> input = toxicityTable.getStateAtIdx(i);
-				Toxicity<NetlistNode> output = toxicityTable.getToxicityOutput(input);
-				str += delimiter;
-				str += String.format("%.2f",output.getToxicity(node));
+		StringBuilder str = new StringBuilder();
+		for (int j = 0; j < this.nodes.size(); j++) {
+			str.append(this.nodes.get(j).getName());
+			for (int i = 0; i < this.numStates; i++) {
+				str.append(delimiter);
+				str.append(String.format("%.2f",this.toxicities[this.getOffset(j) + i]));
 			}
-			str += Utils.getNewLine();
+			str.append(Utils.getNewLine());
 		}
-		os.write(str);
+		os.write(str.toString());
 	}
 
 	private static final String S_HEADER = "--------------------------------------------";
 	private static final double D_MAXGROWTH = 1.00;
 	private static final double D_MINGROWTH = 0.01;
 
-	private Map<NetlistNode,ToxicityTable<NetlistNode,NetlistNode>> toxicitytables;
+	private List<NetlistNode> nodes;
+	private Map<NetlistNode, Integer> nodeIndices;
+	private Map<State<NetlistNode>, Integer> stateIndices;
+	private int numStates;
+	private int numLeaves;
+	private double[] toxicities;
+	private ToxicityTableView[] tables;
 	private TMActivityEvaluation tmae;
 
 }
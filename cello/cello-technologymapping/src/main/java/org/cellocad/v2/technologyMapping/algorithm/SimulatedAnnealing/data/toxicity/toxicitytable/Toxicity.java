@@ -47,6 +47,14 @@ public class Toxicity<T> extends CObject{
 		toxicityEntryMap = new HashMap<T,Double>();
 	}
 
+	/**
+	 * Initializes a newly created empty GateToxicity, used by subclasses that
+	 * provide a view on a toxicity stored elsewhere.
+	 */
+	protected Toxicity() {
+		init();
+	}
+
 	/**
 	 * Initializes a newly created GateToxicity with the list of types defined by parameter <i>nodes</i>
 	 * and value defined by parameter <i>value</i>.
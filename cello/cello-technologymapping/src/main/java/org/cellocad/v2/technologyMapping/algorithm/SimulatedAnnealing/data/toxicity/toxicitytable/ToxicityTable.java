@@ -46,6 +46,14 @@ public class ToxicityTable<Input,Output> {
 		states = new ArrayList<State<Input>>();
 	}
 
+	/**
+	 * Initializes a newly created empty ToxicityTable, used by subclasses that
+	 * provide a view on toxicities stored elsewhere.
+	 */
+	protected ToxicityTable() {
+		this.init();
+	}
+
 	/**
 	 * Initializes a newly created ToxicityTable with the list of inputs defined by parameter <i>inputs</i>
 	 * a list of outputs defined by parameter <i>outputs</i>.
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results;
+
+/**
+ * The PlotConfig class holds the parameters of the response plots of the
+ * <i>SimulatedAnnealing</i> algorithm.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class PlotConfig {
+
+	/**
+	 * Sets the parameters that are not set to their default values and checks the
+	 * values of the others.
+	 *
+	 * @throws RuntimeException if a parameter has an invalid value
+	 */
+	public void validate() {
+		if (this.getPlotRenderer() == null)
+			this.setPlotRenderer(ResponsePlotUtils.S_PYTHON);
+		if (!this.getPlotRenderer().equals(ResponsePlotUtils.S_PYTHON)
+				&& !this.getPlotRenderer().equals(ResponsePlotUtils.S_JAVA) && !this.getPlotRenderer().equals(S_NONE))
+			throw new RuntimeException("Invalid plot renderer: " + this.getPlotRenderer() + ".");
+		if (this.getAsyncPlots() == null)
+			this.setAsyncPlots(false);
+	}
+
+	/**
+	 * Returns true if the plots are generated.
+	 *
+	 * @return true if the plots are generated
+	 */
+	public boolean isEnabled() {
+		return !this.getPlotRenderer().equals(S_NONE);
+	}
+
+	/**
+	 * Getter for <i>plotRenderer</i>, the renderer of the plots: <i>python</i>,
+	 * <i>java</i> or <i>none</i>.
+	 *
+	 * @return value of <i>plotRenderer</i>
+	 */
+	public String getPlotRenderer() {
+		return this.plotRenderer;
+	}
+
+	/**
+	 * Setter for <i>plotRenderer</i>
+	 *
+	 * @param plotRenderer the value to set <i>plotRenderer</i>
+	 */
+	public void setPlotRenderer(final String plotRenderer) {
+		this.plotRenderer = plotRenderer;
+	}
+
+	private String plotRenderer;
+
+	/**
+	 * Getter for <i>asyncPlots</i>, whether the plots are rendered in the
+	 * background while the algorithm writes its other results.
+	 *
+	 * @return value of <i>asyncPlots</i>
+	 */
+	public Boolean getAsyncPlots() {
+		return this.asyncPlots;
+	}
+
+	/**
+	 * Setter for <i>asyncPlots</i>
+	 *
+	 * @param asyncPlots the value to set <i>asyncPlots</i>
+	 */
+	public void setAsyncPlots(final Boolean asyncPlots) {
+		this.asyncPlots = asyncPlots;
+	}
+
+	private Boolean asyncPlots;
+
+	public static final String S_NONE = "none";
+
+}
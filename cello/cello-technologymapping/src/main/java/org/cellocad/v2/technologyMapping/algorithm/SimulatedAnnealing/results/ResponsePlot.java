@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results;
+
+/**
+ * The ResponsePlot class holds the data of the response plot of a gate: the
+ * response function sampled on a log grid, the activities of the high and low
+ * states, the axis limits, the color of the gate and the output file. The data
+ * is a snapshot, so that the plot can be rendered after the netlist has changed.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ResponsePlot {
+
+	/**
+	 * Initializes a newly created ResponsePlot.
+	 *
+	 * @param output the output file
+	 * @param color  the color of the response, e.g. <i>#3ba9e0</i>
+	 * @param limits the axis limits: x minimum, x maximum, y minimum, y maximum
+	 * @param x      the input values of the response
+	 * @param y      the output values of the response
+	 * @param hiX    the input activities of the high states
+	 * @param hiY    the output activities of the high states
+	 * @param loX    the input activities of the low states
+	 * @param loY    the output activities of the low states
+	 */
+	public ResponsePlot(final String output, final String color, final double[] limits, final double[] x,
+			final double[] y, final double[] hiX, final double[] hiY, final double[] loX, final double[] loY) {
+		this.output = output;
+		this.color = color;
+		this.limits = limits;
+		this.x = x;
+		this.y = y;
+		this.hiX = hiX;
+		this.hiY = hiY;
+		this.loX = loX;
+		this.loY = loY;
+	}
+
+	/**
+	 * Getter for <i>output</i>
+	 *
+	 * @return value of <i>output</i>
+	 */
+	public String getOutput() {
+		return output;
+	}
+
+	private final String output;
+
+	/**
+	 * Getter for <i>color</i>
+	 *
+	 * @return value of <i>color</i>
+	 */
+	public String getColor() {
+		return color;
+	}
+
+	private final String color;
+
+	/**
+	 * Getter for <i>limits</i>
+	 *
+	 * @return value of <i>limits</i>
+	 */
+	public double[] getLimits() {
+		return limits;
+	}
+
+	private final double[] limits;
+
+	/**
+	 * Getter for <i>x</i>
+	 *
+	 * @return value of <i>x</i>
+	 */
+	public double[] getX() {
+		return x;
+	}
+
+	private final double[] x;
+
+	/**
+	 * Getter for <i>y</i>
+	 *
+	 * @return value of <i>y</i>
+	 */
+	public double[] getY() {
+		return y;
+	}
+
+	private final double[] y;
+
+	/**
+	 * Getter for <i>hiX</i>
+	 *
+	 * @return value of <i>hiX</i>
+	 */
+	public double[] getHiX() {
+		return hiX;
+	}
+
+	private final double[] hiX;
+
+	/**
+	 * Getter for <i>hiY</i>
+	 *
+	 * @return value of <i>hiY</i>
+	 */
+	public double[] getHiY() {
+		return hiY;
+	}
+
+	private final double[] hiY;
+
+	/**
+	 * Getter for <i>loX</i>
+	 *
+	 * @return value of <i>loX</i>
+	 */
+	public double[] getLoX() {
+		return loX;
+	}
+
+	private final double[] loX;
+
+	/**
+	 * Getter for <i>loY</i>
+	 *
+	 * @return value of <i>loY</i>
+	 */
+	public double[] getLoY() {
+		return loY;
+	}
+
+	private final double[] loY;
+
+}
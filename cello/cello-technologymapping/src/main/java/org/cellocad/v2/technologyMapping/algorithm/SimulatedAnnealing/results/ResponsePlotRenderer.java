@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The ResponsePlotRenderer class renders a ResponsePlot to a PNG file with
+ * Java2D, without an external interpreter. The layout follows the Python
+ * renderer: a log-log response curve, filled markers for the high states and
+ * open markers for the low states.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ResponsePlotRenderer {
+
+	private static double getLogPosition(final double value, final double min, final double max) {
+		double v = Math.max(value, Double.MIN_NORMAL);
+		return (Math.log10(v) - Math.log10(min)) / (Math.log10(max) - Math.log10(min));
+	}
+
+	private static double getX(final ResponsePlot plot, final double value) {
+		double[] limits = plot.getLimits();
+		return I_LEFT + getLogPosition(value, limits[0], limits[1]) * I_WIDTH;
+	}
+
+	private static double getY(final ResponsePlot plot, final double value) {
+		double[] limits = plot.getLimits();
+		return I_TOP + (1.0 - getLogPosition(value, limits[2], limits[3])) * I_HEIGHT;
+	}
+
+	private static void drawMarkers(final Graphics2D g, final ResponsePlot plot, final double[] x, final double[] y,
+			final boolean filled) {
+		for (int i = 0; i < x.length; i++) {
+			Ellipse2D marker = new Ellipse2D.Double(getX(plot, x[i]) - D_MARKER / 2, getY(plot, y[i]) - D_MARKER / 2,
+					D_MARKER, D_MARKER);
+			if (filled) {
+				g.setColor(Color.BLACK);
+				g.fill(marker);
+			} else {
+				g.setColor(Color.WHITE);
+				g.fill(marker);
+				g.setColor(Color.BLACK);
+				g.draw(marker);
+			}
+		}
+	}
+
+	private static void drawTicks(final Graphics2D g, final double min, final double max, final boolean horizontal) {
+		int lo = (int) Math.ceil(Math.log10(min) - 1e-9);
+		int hi = (int) Math.floor(Math.log10(max) + 1e-9);
+		g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 10));
+		for (int k = lo; k <= hi; k++) {
+			double p = getLogPosition(Math.pow(10, k), min, max);
+			String label = "1e" + k;
+			int w = g.getFontMetrics().stringWidth(label);
+			if (horizontal) {
+				int x = (int) Math.round(I_LEFT + p * I_WIDTH);
+				g.drawLine(x, I_TOP + I_HEIGHT, x, I_TOP + I_HEIGHT + I_TICK);
+				g.drawString(label, x - w / 2, I_TOP + I_HEIGHT + I_TICK + 12);
+			} else {
+				int y = (int) Math.round(I_TOP + (1.0 - p) * I_HEIGHT);
+				g.drawLine(I_LEFT - I_TICK, y, I_LEFT, y);
+				g.drawString(label, I_LEFT - I_TICK - w - 2, y + 4);
+			}
+		}
+	}
+
+	private static Color getColor(final String color) {
+		Color rtn = Color.BLACK;
+		try {
+			rtn = Color.decode(color);
+		} catch (NumberFormatException e) {
+			// keep black
+		}
+		return rtn;
+	}
+
+	/**
+	 * Renders the ResponsePlot defined by parameter <i>plot</i> to its output
+	 * file.
+	 *
+	 * @param plot the ResponsePlot
+	 * @throws IOException Unable to write the output file.
+	 */
+	public static void render(final ResponsePlot plot) throws IOException {
+		BufferedImage image = new BufferedImage(I_SIZE, I_SIZE, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			g.setColor(Color.WHITE);
+			g.fillRect(0, 0, I_SIZE, I_SIZE);
+			// response
+			double[] x = plot.getX();
+			double[] y = plot.getY();
+			Path2D path = new Path2D.Double();
+			for (int i = 0; i < x.length; i++) {
+				if (i == 0) {
+					path.moveTo(getX(plot, x[i]), getY(plot, y[i]));
+				} else {
+					path.lineTo(getX(plot, x[i]), getY(plot, y[i]));
+				}
+			}
+			g.setClip(I_LEFT, I_TOP, I_WIDTH, I_HEIGHT);
+			g.setColor(getColor(plot.getColor()));
+			g.setStroke(new BasicStroke(3.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+			g.draw(path);
+			// states
+			g.setStroke(new BasicStroke(1.0f));
+			drawMarkers(g, plot, plot.getHiX(), plot.getHiY(), true);
+			drawMarkers(g, plot, plot.getLoX(), plot.getLoY(), false);
+			// axes
+			g.setClip(null);
+			g.setColor(Color.BLACK);
+			g.drawRect(I_LEFT, I_TOP, I_WIDTH, I_HEIGHT);
+			double[] limits = plot.getLimits();
+			drawTicks(g, limits[0], limits[1], true);
+			drawTicks(g, limits[2], limits[3], false);
+		} finally {
+			g.dispose();
+		}
+		ImageIO.write(image, "png", new File(plot.getOutput()));
+	}
+
+	private static final int I_SIZE = 250;
+	private static final int I_LEFT = 45;
+	private static final int I_TOP = 10;
+	private static final int I_WIDTH = 190;
+	private static final int I_HEIGHT = 190;
+	private static final int I_TICK = 4;
+	private static final double D_MARKER = 8.0;
+
+}
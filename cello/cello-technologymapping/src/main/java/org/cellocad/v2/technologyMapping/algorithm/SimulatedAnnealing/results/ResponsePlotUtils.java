@@ -21,11 +21,15 @@
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results;
 
 import java.awt.Color;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.Utils;
@@ -47,10 +51,10 @@ import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
-import org.cellocad.v2.results.technologyMapping.activity.activitytable.Activity;
-import org.cellocad.v2.results.technologyMapping.activity.activitytable.ActivityTable;
 import org.cellocad.v2.technologyMapping.runtime.environment.TMArgString;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  *
  *
@@ -68,13 +72,6 @@ public class ResponsePlotUtils {
 		return rtn;
 	}
 
-	private static String getPlotScriptFilename(final NetlistNode node) {
-		String rtn = null;
-		String gateType = node.getResultNetlistNodeData().getDeviceName();
-		rtn = String.format(S_PREFIX + "%s_%s.py", node.getName(), gateType);
-		return rtn;
-	}
-
 	private static String getColor(Color color) {
 		String rtn = null;
 		int r = color.getRed();
@@ -113,14 +110,6 @@ public class ResponsePlotUtils {
 		return rtn;
 	}
 
-	private static String getDoubleList(List<Double> x) {
-		String rtn = "";
-		for (Double n : x) {
-			rtn += String.format("%e,", n);
-		}
-		return rtn;
-	}
-
 	private static List<Integer> getHiIdx(final NetlistNode node, final LSLogicEvaluation lsle) {
 		List<Integer> rtn = new ArrayList<>();
 		TruthTable<NetlistNode, NetlistNode> tt = lsle.getTruthTable(node);
@@ -157,11 +146,7 @@ public class ResponsePlotUtils {
 			for (int j = 0; j < node.getNumInEdge(); j++) {
 				NetlistEdge e = node.getInEdgeAtIdx(j);
 				NetlistNode src = e.getSrc();
-				ActivityTable<NetlistNode, NetlistNode> at = tmae.getActivityTable(src);
-				State<NetlistNode> input = at.getStateAtIdx(i);
-				Activity<NetlistNode> output = at.getActivityOutput(input);
-				Double a = output.getActivity(src);
-				d += a;
+				d += tmae.getActivity(src, i);
 			}
 			rtn.add(d);
 		}
@@ -171,25 +156,34 @@ public class ResponsePlotUtils {
 	private static List<Double> getHiLoYData(final NetlistNode node, final List<Integer> idx,
 			final TMActivityEvaluation tmae) {
 		List<Double> rtn = new ArrayList<>();
-		ActivityTable<NetlistNode, NetlistNode> at = tmae.getActivityTable(node);
 		for (int i : idx) {
-			State<NetlistNode> input = at.getStateAtIdx(i);
-			Activity<NetlistNode> output = at.getActivityOutput(input);
-			Double a = output.getActivity(node);
-			rtn.add(a);
+			rtn.add(tmae.getActivity(node, i));
 		}
 		return rtn;
 	}
 
-	private static String getPlotScript(final NetlistNode node, final LSLogicEvaluation lsle,
-			final TMActivityEvaluation tmae, final String dir) throws CelloException {
-		String rtn = null;
-		// template
-		try {
-			rtn = Utils.getResourceAsString("response_plot.py");
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+	private static double[] toArray(final List<Double> list) {
+		double[] rtn = new double[list.size()];
+		for (int i = 0; i < rtn.length; i++) {
+			rtn[i] = list.get(i);
 		}
+		return rtn;
+	}
+
+	/**
+	 * Returns the ResponsePlot of the gate assigned to the NetlistNode defined by
+	 * parameter <i>node</i>, with output file in the directory defined by
+	 * parameter <i>dir</i>.
+	 *
+	 * @param node the NetlistNode
+	 * @param lsle the logic evaluation
+	 * @param tmae the activity evaluation
+	 * @param dir  the output directory
+	 * @return the ResponsePlot
+	 * @throws CelloException Unable to evaluate the response function.
+	 */
+	public static ResponsePlot getResponsePlot(final NetlistNode node, final LSLogicEvaluation lsle,
+			final TMActivityEvaluation tmae, final String dir) throws CelloException {
 		// gate
 		ResultNetlistNodeData data = node.getResultNetlistNodeData();
 		AssignableDevice a = data.getDevice();
@@ -204,52 +198,188 @@ public class ResponsePlotUtils {
 		List<Integer> lo = getLoIdx(node, lsle);
 		// output
 		String output = dir + Utils.getFileSeparator() + getPlotFilename(node);
-		// string replace
-		rtn = rtn.replace(S_XMIN, String.format("%e", D_XMIN));
-		rtn = rtn.replace(S_XMAX, String.format("%e", D_XMAX));
-		rtn = rtn.replace(S_YMIN, String.format("%e", D_YMIN));
-		rtn = rtn.replace(S_YMAX, String.format("%e", D_YMAX));
-		rtn = rtn.replace(S_XDATA, String.join(",", getDoubleList(x)));
-		rtn = rtn.replace(S_YDATA, String.join(",", getDoubleList(y)));
-		rtn = rtn.replace(S_COLOR, getColor(gate.getColor()));
-		rtn = rtn.replace(S_HIX, getDoubleList(getHiLoXData(node, hi, tmae)));
-		rtn = rtn.replace(S_HIY, getDoubleList(getHiLoYData(node, hi, tmae)));
-		rtn = rtn.replace(S_LOX, getDoubleList(getHiLoXData(node, lo, tmae)));
-		rtn = rtn.replace(S_LOY, getDoubleList(getHiLoYData(node, lo, tmae)));
-		rtn = rtn.replace(S_OUTPUTFILE, output);
+		double[] limits = { D_XMIN, D_XMAX, D_YMIN, D_YMAX };
+		return new ResponsePlot(output, getColor(gate.getColor()), limits, toArray(x), toArray(y),
+				toArray(getHiLoXData(node, hi, tmae)), toArray(getHiLoYData(node, hi, tmae)),
+				toArray(getHiLoXData(node, lo, tmae)), toArray(getHiLoYData(node, lo, tmae)));
+	}
+
+	/**
+	 * Returns the ResponsePlot of every gate of the Netlist defined by parameter
+	 * <i>netlist</i>, with output files in the directory defined by parameter
+	 * <i>dir</i>.
+	 *
+	 * @param netlist the Netlist
+	 * @param lsle    the logic evaluation
+	 * @param tmae    the activity evaluation
+	 * @param dir     the output directory
+	 * @return the ResponsePlots
+	 * @throws CelloException Unable to evaluate a response function.
+	 */
+	public static List<ResponsePlot> getResponsePlots(final Netlist netlist, final LSLogicEvaluation lsle,
+			final TMActivityEvaluation tmae, final String dir) throws CelloException {
+		List<ResponsePlot> rtn = new ArrayList<>();
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node))
+				continue;
+			rtn.add(getResponsePlot(node, lsle, tmae, dir));
+		}
 		return rtn;
 	}
 
-	private static String getPlotCommand(final RuntimeEnv runEnv, final String file) {
+	private static String getPlotCommand(final RuntimeEnv runEnv, final String script, final String data) {
 		String rtn = null;
 		String python = runEnv.getOptionValue(TMArgString.PYTHONENV);
-		rtn = String.format("%s %s", python, file);
+		rtn = String.format("%s %s %s", python, script, data);
 		return rtn;
 	}
 
-	private static void generatePlot(final NetlistNode node, final LSLogicEvaluation lsle,
-			final TMActivityEvaluation tmae, final RuntimeEnv runEnv) throws CelloException {
+	/**
+	 * Renders the ResponsePlots defined by parameter <i>plots</i> with a single
+	 * Python invocation: the data of all plots is written to one data file read by
+	 * one script.
+	 *
+	 * @param plots  the ResponsePlots
+	 * @param runEnv the RuntimeEnv
+	 * @return the ResponsePlots whose output file was not written
+	 * @throws CelloException Unable to write the data file.
+	 */
+	public static List<ResponsePlot> renderPython(final List<ResponsePlot> plots, final RuntimeEnv runEnv)
+			throws CelloException {
+		List<ResponsePlot> rtn = new ArrayList<>();
+		if (plots.isEmpty())
+			return rtn;
 		String outDir = runEnv.getOptionValue(TMArgString.OUTPUTDIR);
 		// script
-		String script = getPlotScript(node, lsle, tmae, outDir);
-		String scriptFilename = outDir + Utils.getFileSeparator() + getPlotScriptFilename(node);
+		String script = null;
+		try {
+			script = Utils.getResourceAsString(S_SCRIPT);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		String scriptFilename = outDir + Utils.getFileSeparator() + S_SCRIPT;
 		Utils.writeToFile(script, scriptFilename);
+		// data
+		String dataFilename = outDir + Utils.getFileSeparator() + S_DATA;
+		try {
+			new ObjectMapper().writeValue(new File(dataFilename), plots);
+		} catch (IOException e) {
+			throw new CelloException(e);
+		}
 		// plot
-		String cmd = getPlotCommand(runEnv, scriptFilename);
+		for (ResponsePlot plot : plots) {
+			new File(plot.getOutput()).delete();
+		}
+		String cmd = getPlotCommand(runEnv, scriptFilename, dataFilename);
 		Utils.executeAndWaitForCommand(cmd);
+		for (ResponsePlot plot : plots) {
+			if (!new File(plot.getOutput()).isFile())
+				rtn.add(plot);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Renders the ResponsePlots defined by parameter <i>plots</i> with the
+	 * {@link ResponsePlotRenderer}.
+	 *
+	 * @param plots the ResponsePlots
+	 * @throws CelloException Unable to write an output file.
+	 */
+	public static void renderJava(final List<ResponsePlot> plots) throws CelloException {
+		for (ResponsePlot plot : plots) {
+			try {
+				ResponsePlotRenderer.render(plot);
+			} catch (IOException e) {
+				throw new CelloException(e);
+			}
+		}
+	}
+
+	/**
+	 * Renders the ResponsePlots defined by parameter <i>plots</i> with the
+	 * renderer defined by parameter <i>renderer</i>. The plots that the Python
+	 * renderer fails to write are rendered with the Java renderer.
+	 *
+	 * @param plots    the ResponsePlots
+	 * @param renderer the renderer, {@link #S_PYTHON} or {@link #S_JAVA}
+	 * @param runEnv   the RuntimeEnv
+	 * @throws CelloException Unable to render a plot.
+	 */
+	public static void renderPlots(final List<ResponsePlot> plots, final String renderer, final RuntimeEnv runEnv)
+			throws CelloException {
+		List<ResponsePlot> remaining = plots;
+		if (renderer.equals(S_PYTHON))
+			remaining = renderPython(plots, runEnv);
+		else if (!renderer.equals(S_JAVA))
+			throw new RuntimeException("Invalid renderer: " + renderer + ".");
+		renderJava(remaining);
 	}
 
+	/**
+	 * Generates the response plots of the gates of the Netlist defined by parameter
+	 * <i>netlist</i> with the Python renderer, falling back to the Java renderer.
+	 *
+	 * @param netlist the Netlist
+	 * @param lsle    the logic evaluation
+	 * @param tmae    the activity evaluation
+	 * @param runEnv  the RuntimeEnv
+	 * @throws CelloException Unable to generate the plots.
+	 */
 	public static void generatePlots(final Netlist netlist, final LSLogicEvaluation lsle,
 			final TMActivityEvaluation tmae,
 			final RuntimeEnv runEnv) throws CelloException {
-		for (int i = 0; i < netlist.getNumVertex(); i++) {
-			NetlistNode node = netlist.getVertexAtIdx(i);
-			if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node))
-				continue;
-			generatePlot(node, lsle, tmae, runEnv);
-		}
+		String outDir = runEnv.getOptionValue(TMArgString.OUTPUTDIR);
+		renderPlots(getResponsePlots(netlist, lsle, tmae, outDir), S_PYTHON, runEnv);
 	}
 
+	/**
+	 * Generates the response plots of the gates of the Netlist defined by parameter
+	 * <i>netlist</i> on the ExecutorService defined by parameter <i>executor</i>.
+	 * The plot data is collected before this method returns, so that the netlist
+	 * and evaluations may change while the plots are rendered.
+	 *
+	 * @param netlist  the Netlist
+	 * @param lsle     the logic evaluation
+	 * @param tmae     the activity evaluation
+	 * @param runEnv   the RuntimeEnv
+	 * @param renderer the renderer, {@link #S_PYTHON} or {@link #S_JAVA}
+	 * @param executor the ExecutorService
+	 * @return the Future of the rendering
+	 * @throws CelloException Unable to collect the plot data.
+	 */
+	public static Future<Void> generatePlots(final Netlist netlist, final LSLogicEvaluation lsle,
+			final TMActivityEvaluation tmae, final RuntimeEnv runEnv, final String renderer,
+			final ExecutorService executor) throws CelloException {
+		String outDir = runEnv.getOptionValue(TMArgString.OUTPUTDIR);
+		List<ResponsePlot> plots = getResponsePlots(netlist, lsle, tmae, outDir);
+		return executor.submit(() -> {
+			renderPlots(plots, renderer, runEnv);
+			return null;
+		});
+	}
+
+	/**
+	 * Returns a new single-thread ExecutorService for the rendering of plots in the
+	 * background. Its thread is a daemon thread, so that an unfinished rendering
+	 * does not keep the application alive.
+	 *
+	 * @return a new single-thread ExecutorService
+	 */
+	public static ExecutorService newPlotExecutor() {
+		return Executors.newSingleThreadExecutor(runnable -> {
+			Thread rtn = new Thread(runnable, S_PLOT_THREAD);
+			rtn.setDaemon(true);
+			return rtn;
+		});
+	}
+
+	public static final String S_PYTHON = "python";
+	public static final String S_JAVA = "java";
+
+	private static final String S_PLOT_THREAD = "plots";
+
 	private static Double D_XMIN = 1e-3;
 	private static Double D_XMAX = 1e2;
 	private static Double D_YMIN = 1e-3;
@@ -258,18 +388,7 @@ public class ResponsePlotUtils {
 
 	private static String S_PREFIX = "response_plot_";
 
-	private static String S_NONCE = "##NONCE##21##";
-	private static String S_XMIN = S_NONCE + "XMIN" + S_NONCE;
-	private static String S_XMAX = S_NONCE + "XMAX" + S_NONCE;
-	private static String S_YMIN = S_NONCE + "YMIN" + S_NONCE;
-	private static String S_YMAX = S_NONCE + "YMAX" + S_NONCE;
-	private static String S_XDATA = S_NONCE + "XDATA" + S_NONCE;
-	private static String S_YDATA = S_NONCE + "YDATA" + S_NONCE;
-	private static String S_COLOR = S_NONCE + "COLOR" + S_NONCE;
-	private static String S_HIX = S_NONCE + "HIX" + S_NONCE;
-	private static String S_HIY = S_NONCE + "HIY" + S_NONCE;
-	private static String S_LOX = S_NONCE + "LOX" + S_NONCE;
-	private static String S_LOY = S_NONCE + "LOY" + S_NONCE;
-	private static String S_OUTPUTFILE = S_NONCE + "OUTPUTFILE" + S_NONCE;
+	private static String S_SCRIPT = "response_plots.py";
+	private static String S_DATA = "response_plots.json";
 
 }
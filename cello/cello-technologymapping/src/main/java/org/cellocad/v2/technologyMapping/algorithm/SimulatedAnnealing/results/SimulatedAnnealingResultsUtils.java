@@ -27,6 +27,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 
 import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness.TMRobustnessEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
 
 /**
@@ -61,4 +62,70 @@ public class SimulatedAnnealingResultsUtils {
 		}
 	}
 
+	/**
+	 *  Writes the sensitivity ranking of the robustness evaluation defined by parameter <i>tmre</i> to file defined by <i>filename</i>
+	 *
+	 *  @param tmre the robustness evaluation
+	 *  @param filename the file to write the sensitivity ranking
+	 *  @throws RuntimeException if: <br>
+	 *  Any of the parameters are null<br>
+	 */
+	static public void writeCSVForTMRobustnessEvaluation(final TMRobustnessEvaluation tmre, final String filename){
+		Utils.isNullRuntimeException(tmre, "tmre");
+		Utils.isNullRuntimeException(filename, "filename");
+		try {
+			OutputStream outputStream = new FileOutputStream(filename);
+			Writer outputStreamWriter = new OutputStreamWriter(outputStream);
+			tmre.writeCSV(",", outputStreamWriter);
+			outputStreamWriter.close();
+			outputStream.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 *  Writes the score percentiles of the robustness evaluation defined by parameter <i>tmre</i> to file defined by <i>filename</i>
+	 *
+	 *  @param tmre the robustness evaluation
+	 *  @param filename the file to write the score percentiles
+	 *  @throws RuntimeException if: <br>
+	 *  Any of the parameters are null<br>
+	 */
+	static public void writePercentileCSVForTMRobustnessEvaluation(final TMRobustnessEvaluation tmre, final String filename){
+		Utils.isNullRuntimeException(tmre, "tmre");
+		Utils.isNullRuntimeException(filename, "filename");
+		try {
+			OutputStream outputStream = new FileOutputStream(filename);
+			Writer outputStreamWriter = new OutputStreamWriter(outputStream);
+			tmre.writePercentileCSV(",", outputStreamWriter);
+			outputStreamWriter.close();
+			outputStream.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 *  Writes the robustness evaluation defined by parameter <i>tmre</i> in JSON format to file defined by <i>filename</i>
+	 *
+	 *  @param tmre the robustness evaluation
+	 *  @param filename the file to write the robustness evaluation
+	 *  @throws RuntimeException if: <br>
+	 *  Any of the parameters are null<br>
+	 */
+	static public void writeJSONForTMRobustnessEvaluation(final TMRobustnessEvaluation tmre, final String filename){
+		Utils.isNullRuntimeException(tmre, "tmre");
+		Utils.isNullRuntimeException(filename, "filename");
+		try {
+			OutputStream outputStream = new FileOutputStream(filename);
+			Writer outputStreamWriter = new OutputStreamWriter(outputStream);
+			tmre.writeJSON(outputStreamWriter);
+			outputStreamWriter.close();
+			outputStream.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
 }
@@ -21,6 +21,8 @@
 package org.cellocad.v2.technologyMapping.algorithm;
 
 import org.cellocad.v2.common.algorithm.AlgorithmFactory;
+import org.cellocad.v2.technologyMapping.algorithm.BranchAndBound.BranchAndBound;
+import org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.GeneticAlgorithm;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.SimulatedAnnealing;
 
 /**
@@ -45,6 +47,12 @@ public class TMAlgorithmFactory extends AlgorithmFactory<TMAlgorithm>{
 		if (name.equals("SimulatedAnnealing")){
 			rtn = new SimulatedAnnealing();
 		}
+		if (name.equals("BranchAndBound")){
+			rtn = new BranchAndBound();
+		}
+		if (name.equals("GeneticAlgorithm")){
+			rtn = new GeneticAlgorithm();
+		}
 		return rtn;
 	}
 
@@ -21,6 +21,8 @@
 package org.cellocad.v2.technologyMapping.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistDataFactory;
+import org.cellocad.v2.technologyMapping.algorithm.BranchAndBound.data.BranchAndBoundNetlistData;
+import org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.GeneticAlgorithmNetlistData;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistData;
 
 /**
@@ -45,6 +47,12 @@ public class TMNetlistDataFactory extends NetlistDataFactory<TMNetlistData>{
 		if (name.equals("SimulatedAnnealing")){
 			rtn = new SimulatedAnnealingNetlistData();
 		}
+		if (name.equals("BranchAndBound")){
+			rtn = new BranchAndBoundNetlistData();
+		}
+		if (name.equals("GeneticAlgorithm")){
+			rtn = new GeneticAlgorithmNetlistData();
+		}
 		return rtn;
 	}
 
@@ -21,6 +21,8 @@
 package org.cellocad.v2.technologyMapping.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistEdgeDataFactory;
+import org.cellocad.v2.technologyMapping.algorithm.BranchAndBound.data.BranchAndBoundNetlistEdgeData;
+import org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.GeneticAlgorithmNetlistEdgeData;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistEdgeData;
 
 /**
@@ -45,6 +47,12 @@ public class TMNetlistEdgeDataFactory extends NetlistEdgeDataFactory<TMNetlistEd
 		if (name.equals("SimulatedAnnealing")){
 			rtn = new SimulatedAnnealingNetlistEdgeData();
 		}
+		if (name.equals("BranchAndBound")){
+			rtn = new BranchAndBoundNetlistEdgeData();
+		}
+		if (name.equals("GeneticAlgorithm")){
+			rtn = new GeneticAlgorithmNetlistEdgeData();
+		}
 		return rtn;
 	}
 
@@ -21,6 +21,8 @@
 package org.cellocad.v2.technologyMapping.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistNodeDataFactory;
+import org.cellocad.v2.technologyMapping.algorithm.BranchAndBound.data.BranchAndBoundNetlistNodeData;
+import org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.GeneticAlgorithmNetlistNodeData;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.SimulatedAnnealingNetlistNodeData;
 
 /**
@@ -45,6 +47,12 @@ public class TMNetlistNodeDataFactory extends NetlistNodeDataFactory<TMNetlistNo
 		if (name.equals("SimulatedAnnealing")){
 			rtn = new SimulatedAnnealingNetlistNodeData();
 		}
+		if (name.equals("BranchAndBound")){
+			rtn = new BranchAndBoundNetlistNodeData();
+		}
+		if (name.equals("GeneticAlgorithm")){
+			rtn = new GeneticAlgorithmNetlistNodeData();
+		}
 		return rtn;
 	}
 
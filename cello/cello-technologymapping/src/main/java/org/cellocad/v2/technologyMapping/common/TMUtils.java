@@ -26,6 +26,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
 /**
  * The TMUtils class is class with utility methods for the <i>technologyMapping</i> stage.
  * 
@@ -59,4 +66,63 @@ public class TMUtils {
 		return rtn;
 	}
 	
+	/**
+	 * Returns a copy of the Netlist defined by parameter <i>netlist</i>, with the
+	 * vertex types set from the logic synthesis result and the device of each node
+	 * copied from <i>netlist</i>. The devices of the copy can be changed without
+	 * modifying <i>netlist</i>.
+	 *
+	 * @param netlist the Netlist
+	 * @return a copy of the Netlist defined by parameter <i>netlist</i>
+	 */
+	static public Netlist copyNetlist(final Netlist netlist) {
+		Netlist rtn = new Netlist(netlist);
+		LSResultNetlistUtils.setVertexTypeUsingLSResult(rtn);
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			AssignableDevice device = netlist.getVertexAtIdx(i).getResultNetlistNodeData().getDevice();
+			rtn.getVertexAtIdx(i).getResultNetlistNodeData().setDevice(device);
+		}
+		return rtn;
+	}
+
+	/**
+	 * Returns a copy of the Netlist defined by parameter <i>netlist</i>, as
+	 * {@link #copyNetlist(Netlist)}, with the AssignableDevice defined by parameter
+	 * <i>device</i> assigned to the nodes at the indices defined by parameter
+	 * <i>nodes</i>, e.g. as a placeholder for the initial evaluation, and the input
+	 * edges of every node connected with {@link #setInputs(NetlistNode)}.
+	 *
+	 * @param netlist the Netlist
+	 * @param nodes   the indices in the netlist of the nodes to assign
+	 * @param device  the AssignableDevice
+	 * @return a copy of the Netlist defined by parameter <i>netlist</i>
+	 */
+	static public Netlist copyNetlist(final Netlist netlist, final int[] nodes, final AssignableDevice device) {
+		Netlist rtn = copyNetlist(netlist);
+		for (int i = 0; i < nodes.length; i++) {
+			rtn.getVertexAtIdx(nodes[i]).getResultNetlistNodeData().setDevice(device);
+		}
+		for (int i = 0; i < rtn.getNumVertex(); i++) {
+			setInputs(rtn.getVertexAtIdx(i));
+		}
+		return rtn;
+	}
+
+	/**
+	 * Connects the input edges of the NetlistNode defined by parameter
+	 * <i>node</i> to the inputs of the structure of its device, in order.
+	 *
+	 * @param node the NetlistNode
+	 */
+	static public void setInputs(final NetlistNode node) {
+		AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+		CObjectCollection<Input> inputs = device.getStructure().getInputs();
+		if (node.getNumInEdge() > inputs.size()) {
+			throw new RuntimeException("Device structure does not have enough inputs.");
+		}
+		for (int i = 0; i < node.getNumInEdge(); i++) {
+			node.getInEdgeAtIdx(i).getResultNetlistEdgeData().setInput(inputs.get(i));
+		}
+	}
+
 }
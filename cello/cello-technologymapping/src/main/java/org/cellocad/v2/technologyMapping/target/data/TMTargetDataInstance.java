@@ -20,9 +20,11 @@
  */
 package org.cellocad.v2.technologyMapping.target.data;
 
+import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.CelloException;
 import org.cellocad.v2.common.target.data.TargetData;
 import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.Cytometry;
 
 /**
  *
@@ -36,6 +38,18 @@ public class TMTargetDataInstance extends TargetDataInstance {
 
 	public TMTargetDataInstance(TargetData td) throws CelloException {
 		super(td);
+		this.cytometry = TMTargetDataUtils.getCytometry(td);
 	}
 
+	/**
+	 * Getter for <i>cytometry</i>, the cytometry data of the gates.
+	 *
+	 * @return value of <i>cytometry</i>
+	 */
+	public CObjectCollection<Cytometry> getCytometry() {
+		return this.cytometry;
+	}
+
+	private CObjectCollection<Cytometry> cytometry;
+
 }
@@ -0,0 +1,40 @@
+import json
+import sys
+
+import matplotlib
+matplotlib.use("Agg")
+import matplotlib.pyplot as plt
+import matplotlib.ticker as ticker
+import numpy as np
+
+with open(sys.argv[1]) as f:
+    plots = json.load(f)
+
+for p in plots:
+    fig, ax = plt.subplots(figsize=(2.5,2.5))
+
+    xmin, xmax, ymin, ymax = p["limits"]
+    plt.xlim(xmin, xmax)
+    plt.ylim(ymin, ymax)
+
+    x = np.array(p["x"])
+    y = np.array(p["y"])
+    c = p["color"]
+
+    hi_x = np.array(p["hiX"])
+    hi_y = np.array(p["hiY"])
+    lo_x = np.array(p["loX"])
+    lo_y = np.array(p["loY"])
+
+    plt.loglog(x,y,lw=3,color=c)
+    plt.scatter(hi_x,hi_y,marker='o',s=50,color='black',zorder=10)
+    plt.scatter(lo_x,lo_y,marker='o',s=50,edgecolors='black',color='none',zorder=10)
+
+    ax.xaxis.set_major_locator(ticker.LogLocator(numticks=3))
+    ax.yaxis.set_major_locator(ticker.LogLocator(numticks=3))
+
+    ax.set_aspect('equal')
+    plt.tight_layout()
+
+    plt.savefig(p["output"], bbox_inches='tight')
+    plt.close(fig)
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.results.technologyMapping.activity;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.technologyMapping.TMTestUtils;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The ResponseCacheTest class tests that the activities evaluated with a
+ * ResponseCache match those evaluated without one, and that a partial hit
+ * evaluates the missed states only.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ResponseCacheTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		tdi = TMTestUtils.getTargetDataInstance();
+	}
+
+	private static void assertSameActivities(final Netlist netlist, final TMActivityEvaluation expected,
+			final TMActivityEvaluation actual) {
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			assertArrayEquals(expected.getActivities(node), actual.getActivities(node), 0.0);
+		}
+	}
+
+	@Test
+	public void evaluate_RepeatedEvaluation_ShouldHitAndMatchUncachedEvaluation() throws CelloException {
+		Netlist netlist = TMTestUtils.getRandomNetlist(new Random(SEED), 12, tdi);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation expected = new TMActivityEvaluation(netlist, lsle);
+		ResponseCache cache = new ResponseCache(1024, 0.0);
+		assertSameActivities(netlist, expected, new TMActivityEvaluation(netlist, lsle, cache));
+		long misses = cache.getMisses();
+		long hits = cache.getHits();
+		assertSameActivities(netlist, expected, new TMActivityEvaluation(netlist, lsle, cache));
+		assertEquals(misses, cache.getMisses());
+		assertEquals(hits + netlist.getNumVertex() * lsle.getStates().getNumStates(), cache.getHits());
+	}
+
+	@Test
+	public void evaluate_PartialHit_ShouldEvaluateMissedStatesOnly() throws CelloException {
+		Netlist netlist = TMTestUtils.getRandomNetlist(new Random(SEED), 12, tdi);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation expected = new TMActivityEvaluation(netlist, lsle);
+		int numStates = lsle.getStates().getNumStates();
+		NetlistNode node = TMTestUtils.getLogicNodes(netlist).get(0);
+		int num = node.getNumInEdge();
+		AssignableDevice[] sources = new AssignableDevice[num];
+		long[] inputs = new long[num];
+		ResponseCache cache = new ResponseCache(1024, 0.0);
+		// cache a marker for the even states of the node
+		for (int i = 0; i < numStates; i += 2) {
+			for (int j = 0; j < num; j++) {
+				NetlistNode src = node.getInEdgeAtIdx(j).getSrc();
+				sources[j] = src.getResultNetlistNodeData().getDevice();
+				inputs[j] = cache.quantize(expected.getActivity(src, i));
+			}
+			cache.put(node.getResultNetlistNodeData().getDevice(), sources, inputs, num, -1, MARKER + i);
+		}
+		TMActivityEvaluation actual = new TMActivityEvaluation(netlist, lsle, cache);
+		for (int i = 0; i < numStates; i++) {
+			double value = i % 2 == 0 ? MARKER + i : expected.getActivity(node, i);
+			assertEquals(value, actual.getActivity(node, i), 0.0);
+		}
+		assertEquals((numStates + 1) / 2, cache.getHits());
+	}
+
+	private static TargetDataInstance tdi;
+
+	private static final long SEED = 11;
+	private static final double MARKER = 1e6;
+
+}
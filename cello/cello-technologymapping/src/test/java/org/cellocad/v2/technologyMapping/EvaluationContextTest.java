@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.EvaluationContext;
+import org.cellocad.v2.common.target.data.data.Function;
+import org.cellocad.v2.common.target.data.data.FunctionType;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The EvaluationContextTest class tests the resolution of references to the
+ * inputs of a device structure and the cache of the EvaluationContext class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class EvaluationContextTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		tdi = TMTestUtils.getTargetDataInstance();
+	}
+
+	private static NetlistNode getNodeByType(final Netlist netlist, final String type) {
+		for (NetlistNode node : TMTestUtils.getLogicNodes(netlist)) {
+			if (node.getResultNetlistNodeData().getNodeType().equals(type)) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	private static Number evaluate(final EvaluationContext ec, final NetlistNode node, final State<NetlistNode> state)
+			throws CelloException {
+		Function function = node.getResultNetlistNodeData().getDevice().getModel()
+				.getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+		ec.setNode(node);
+		ec.setState(state);
+		return ec.evaluate(function);
+	}
+
+	@Test
+	public void evaluate_NotNodeOnTwoInputStructure_ShouldMatchActivityAndCache() throws CelloException {
+		Netlist netlist = TMTestUtils.getRandomNetlist(new Random(SEED), 8, tdi);
+		NetlistNode node = getNodeByType(netlist, LSResults.S_NOT);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		EvaluationContext ec = new EvaluationContext();
+		for (int i = 0; i < lsle.getStates().getNumStates(); i++) {
+			State<NetlistNode> state = lsle.getStates().getStateAtIdx(i);
+			Number value = evaluate(ec, node, state);
+			assertEquals(tmae.getActivities(node)[i], value.doubleValue(), 0.0);
+			Function function = node.getResultNetlistNodeData().getDevice().getModel()
+					.getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+			assertEquals(value, ec.getCache().get(new EvaluationContext.Key(node, state, function)));
+		}
+		assertFalse(ec.getCache().isEmpty());
+		ec.clearCache();
+		assertTrue(ec.getCache().isEmpty());
+	}
+
+	@Test
+	public void evaluate_EdgeWithoutInput_ShouldThrowCelloException() {
+		Netlist netlist = TMTestUtils.getRandomNetlist(new Random(SEED), 8, tdi);
+		NetlistNode node = TMTestUtils.getLogicNodes(netlist).get(0);
+		node.getInEdgeAtIdx(0).getResultNetlistEdgeData().setInput(null);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		EvaluationContext ec = new EvaluationContext();
+		String message = null;
+		try {
+			evaluate(ec, node, lsle.getStates().getStateAtIdx(0));
+		} catch (CelloException e) {
+			message = e.getMessage();
+		}
+		assertTrue(message != null && message.contains(node.getInEdgeAtIdx(0).getName()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void evaluate_UnknownStructureInput_ShouldThrowCelloException()
+			throws IOException, ParseException, CelloException {
+		JSONArray jArr = (JSONArray) new JSONParser().parse(Utils.getResourceAsString("mock_library.json"));
+		for (Object o : jArr) {
+			JSONObject jObj = (JSONObject) o;
+			if ("input_composition".equals(jObj.get("name"))) {
+				JSONObject variable = (JSONObject) ((JSONArray) jObj.get("variables")).get(1);
+				variable.put("map", "#//structure/inputs/in3/model/functions/response_function");
+			}
+		}
+		TargetDataInstance other = new TargetDataInstance(new TargetData(jArr));
+		Netlist netlist = TMTestUtils.getRandomNetlist(new Random(SEED), 8, other);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		String message = null;
+		try {
+			new TMActivityEvaluation(netlist, lsle);
+		} catch (CelloException e) {
+			message = e.getMessage();
+		}
+		assertTrue(message != null && message.contains("in3"));
+	}
+
+	private static TargetDataInstance tdi;
+
+	private static final long SEED = 7;
+
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * The TMTestUtils class builds the mock target data and random netlists used
+ * by the tests of the <i>technologyMapping</i> stage.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class TMTestUtils {
+
+	/**
+	 * Returns the TargetDataInstance of the mock library, whose gates are NOR
+	 * gates with two inputs.
+	 *
+	 * @return the TargetDataInstance of the mock library
+	 * @throws IOException    Failure to load resource.
+	 * @throws ParseException Failure to parse resource.
+	 * @throws CelloException Failure to build the target data.
+	 */
+	public static TargetDataInstance getTargetDataInstance() throws IOException, ParseException, CelloException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("mock_library.json");
+		TargetData td = new TargetData((JSONArray) parser.parse(str));
+		return new TargetDataInstance(td);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static JSONObject getNode(final String name, final String nodeType) {
+		JSONObject rtn = new JSONObject();
+		rtn.put("name", name);
+		rtn.put("nodeType", nodeType);
+		rtn.put("partitionID", -1L);
+		rtn.put("gateType", "");
+		return rtn;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static JSONObject getEdge(final String src, final String dst) {
+		JSONObject rtn = new JSONObject();
+		rtn.put("name", src + "_" + dst);
+		rtn.put("src", src);
+		rtn.put("dst", dst);
+		return rtn;
+	}
+
+	/**
+	 * Returns a random acyclic netlist with two primary inputs, one primary
+	 * output fed by the last logic node, and <i>numLogic</i> NOT and NOR nodes,
+	 * each fed by one or two distinct earlier nodes. The primary inputs and
+	 * outputs are assigned the devices of <i>tdi</i> and the logic nodes random
+	 * gates of <i>tdi</i>.
+	 *
+	 * @param random   the random number generator
+	 * @param numLogic the number of logic nodes
+	 * @param tdi      the target data
+	 * @return the netlist
+	 */
+	public static Netlist getRandomNetlist(final Random random, final int numLogic, final TargetDataInstance tdi) {
+		return getRandomNetlist(random, numLogic, 1, tdi);
+	}
+
+	/**
+	 * Returns a random acyclic netlist like {@link #getRandomNetlist(Random, int,
+	 * TargetDataInstance)}, with <i>numOutputs</i> primary outputs fed by the
+	 * last <i>numOutputs</i> logic nodes. The output devices of <i>tdi</i> are
+	 * reused if there are fewer than the outputs.
+	 *
+	 * @param random     the random number generator
+	 * @param numLogic   the number of logic nodes
+	 * @param numOutputs the number of primary outputs, at most <i>numLogic</i>
+	 * @param tdi        the target data
+	 * @return the netlist
+	 */
+	@SuppressWarnings("unchecked")
+	public static Netlist getRandomNetlist(final Random random, final int numLogic, final int numOutputs,
+			final TargetDataInstance tdi) {
+		JSONArray nodes = new JSONArray();
+		JSONArray edges = new JSONArray();
+		List<String> names = new ArrayList<>();
+		names.add("a");
+		names.add("b");
+		nodes.add(getNode("a", LSResults.S_PRIMARYINPUT));
+		nodes.add(getNode("b", LSResults.S_PRIMARYINPUT));
+		for (int i = 0; i < numLogic; i++) {
+			String name = "g" + i;
+			int src = random.nextInt(names.size());
+			if (random.nextBoolean()) {
+				int other = random.nextInt(names.size() - 1);
+				other = other >= src ? other + 1 : other;
+				nodes.add(getNode(name, LSResults.S_NOR));
+				edges.add(getEdge(names.get(src), name));
+				edges.add(getEdge(names.get(other), name));
+			} else {
+				nodes.add(getNode(name, LSResults.S_NOT));
+				edges.add(getEdge(names.get(src), name));
+			}
+			names.add(name);
+		}
+		for (int i = 0; i < numOutputs; i++) {
+			String name = i == 0 ? "out" : "out" + i;
+			nodes.add(getNode(name, LSResults.S_PRIMARYOUTPUT));
+			edges.add(getEdge(names.get(names.size() - 1 - i), name));
+		}
+		JSONObject jObj = new JSONObject();
+		jObj.put("name", "random");
+		jObj.put("inputFilename", "");
+		jObj.put("placements", new JSONArray());
+		jObj.put("nodes", nodes);
+		jObj.put("edges", edges);
+		Netlist rtn = new Netlist(jObj);
+		LSResultNetlistUtils.setVertexTypeUsingLSResult(rtn);
+		CObjectCollection<NetlistNode> inputs = LSResultsUtils.getPrimaryInputNodes(rtn);
+		for (int i = 0; i < inputs.size(); i++) {
+			inputs.get(i).getResultNetlistNodeData().setDevice(tdi.getInputSensors().get(i));
+		}
+		CObjectCollection<NetlistNode> outputs = LSResultsUtils.getPrimaryOutputNodes(rtn);
+		for (int i = 0; i < outputs.size(); i++) {
+			outputs.get(i).getResultNetlistNodeData()
+					.setDevice(tdi.getOutputDevices().get(i % tdi.getOutputDevices().size()));
+		}
+		for (NetlistNode node : getLogicNodes(rtn)) {
+			node.getResultNetlistNodeData().setDevice(tdi.getGates().get(random.nextInt(tdi.getGates().size())));
+		}
+		setInputs(rtn);
+		return rtn;
+	}
+
+	/**
+	 * Returns the logic nodes of the Netlist defined by parameter
+	 * <i>netlist</i>, in netlist order.
+	 *
+	 * @param netlist the Netlist
+	 * @return the logic nodes
+	 */
+	public static List<NetlistNode> getLogicNodes(final Netlist netlist) {
+		List<NetlistNode> rtn = new ArrayList<>();
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			if (!LSResultsUtils.isPrimary(node) && !LSResultsUtils.isInputOutput(node)) {
+				rtn.add(node);
+			}
+		}
+		return rtn;
+	}
+
+	/**
+	 * Connects the input edges of every node of the Netlist defined by parameter
+	 * <i>netlist</i> to the inputs of the structure of its device.
+	 *
+	 * @param netlist the Netlist
+	 */
+	public static void setInputs(final Netlist netlist) {
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			for (int j = 0; j < node.getNumInEdge(); j++) {
+				NetlistEdge e = node.getInEdgeAtIdx(j);
+				e.getResultNetlistEdgeData().setInput(device.getStructure().getInputs().get(j));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,231 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.BranchAndBound.data.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.TMTestUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain.AnnealingChain;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The AssignmentSearchTest class tests the AssignmentSearch class against an
+ * exhaustive enumeration of the gate assignments of a small netlist.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class AssignmentSearchTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("mock_library.json");
+		TargetData td = new TargetData((JSONArray) parser.parse(str));
+		tdi = new TargetDataInstance(td);
+	}
+
+	/**
+	 * Returns a new netlist whose primary inputs and outputs are assigned a
+	 * device.
+	 */
+	private static Netlist getNetlist() throws IOException, ParseException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("and_netlist.json");
+		Netlist rtn = new Netlist((JSONObject) parser.parse(str));
+		LSResultNetlistUtils.setVertexTypeUsingLSResult(rtn);
+		CObjectCollection<NetlistNode> inputs = LSResultsUtils.getPrimaryInputNodes(rtn);
+		for (int i = 0; i < inputs.size(); i++) {
+			inputs.get(i).getResultNetlistNodeData().setDevice(tdi.getInputSensors().get(i));
+		}
+		CObjectCollection<NetlistNode> outputs = LSResultsUtils.getPrimaryOutputNodes(rtn);
+		for (int i = 0; i < outputs.size(); i++) {
+			outputs.get(i).getResultNetlistNodeData().setDevice(tdi.getOutputDevices().get(i));
+		}
+		return rtn;
+	}
+
+	private static List<NetlistNode> getLogicNodes(final Netlist netlist) {
+		List<NetlistNode> rtn = new ArrayList<>();
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			if (!LSResultsUtils.isPrimary(node) && !LSResultsUtils.isInputOutput(node)) {
+				rtn.add(node);
+			}
+		}
+		return rtn;
+	}
+
+	private static void setInputs(final Netlist netlist) {
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			for (int j = 0; j < node.getNumInEdge(); j++) {
+				NetlistEdge e = node.getInEdgeAtIdx(j);
+				e.getResultNetlistEdgeData().setInput(device.getStructure().getInputs().get(j));
+			}
+		}
+	}
+
+	/**
+	 * Returns the best score of the assignments of the logic nodes from the
+	 * depth defined by parameter <i>depth</i> that meet the growth threshold, or
+	 * negative infinity if there is none.
+	 */
+	private static double enumerate(final Netlist netlist, final LSLogicEvaluation lsle,
+			final List<NetlistNode> nodes, final int depth, final Set<String> groups) throws CelloException {
+		double rtn = Double.NEGATIVE_INFINITY;
+		if (depth == nodes.size()) {
+			setInputs(netlist);
+			TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+			TMToxicityEvaluation tmte = new TMToxicityEvaluation(netlist, tmae);
+			if (tmte.getMinimumGrowth() >= AnnealingChain.D_GROWTH_THRESHOLD) {
+				rtn = ScoreUtils.score(netlist, lsle, tmae);
+			}
+			return rtn;
+		}
+		for (Gate gate : tdi.getGates()) {
+			if (!groups.add(gate.getGroup())) {
+				continue;
+			}
+			nodes.get(depth).getResultNetlistNodeData().setDevice(gate);
+			rtn = Math.max(rtn, enumerate(netlist, lsle, nodes, depth + 1, groups));
+			groups.remove(gate.getGroup());
+		}
+		return rtn;
+	}
+
+	@Test
+	public void run_MockData_ShouldFindExhaustiveOptimum() throws IOException, ParseException, CelloException {
+		Netlist netlist = getNetlist();
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		double expected = enumerate(netlist, lsle, getLogicNodes(netlist), 0, new HashSet<>());
+		assertTrue(expected > Double.NEGATIVE_INFINITY);
+		for (int numThreads : new int[] { 1, 4 }) {
+			AssignmentSearch search = new AssignmentSearch(getNetlist(), tdi.getGates(), numThreads, () -> null);
+			assertTrue(search.run(Long.MAX_VALUE));
+			assertNotNull(search.getAssignment());
+			assertEquals(expected, search.getScore(), TOLERANCE);
+		}
+	}
+
+	@Test
+	public void run_RandomNetlists_ShouldFindExhaustiveOptimum() throws CelloException {
+		Random random = new Random(7);
+		for (int i = 0; i < 20; i++) {
+			Netlist netlist = TMTestUtils.getRandomNetlist(random, 2 + random.nextInt(3), tdi);
+			LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+			double expected = enumerate(netlist, lsle, getLogicNodes(netlist), 0, new HashSet<>());
+			AssignmentSearch search = new AssignmentSearch(netlist, tdi.getGates(), 1, () -> null);
+			assertTrue(search.run(Long.MAX_VALUE));
+			assertEquals(expected, search.getScore(), TOLERANCE);
+			assertEquals(expected > Double.NEGATIVE_INFINITY, search.getAssignment() != null);
+		}
+	}
+
+	@Test
+	public void run_MockData_ShouldAssignReturnedScore() throws IOException, ParseException, CelloException {
+		Netlist netlist = getNetlist();
+		AssignmentSearch search = new AssignmentSearch(netlist, tdi.getGates(), 2, () -> null);
+		search.run(Long.MAX_VALUE);
+		for (Map.Entry<NetlistNode, Gate> entry : search.getAssignment().entrySet()) {
+			entry.getKey().getResultNetlistNodeData().setDevice(entry.getValue());
+		}
+		setInputs(netlist);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		TMToxicityEvaluation tmte = new TMToxicityEvaluation(netlist, tmae);
+		assertTrue(tmte.getMinimumGrowth() >= AnnealingChain.D_GROWTH_THRESHOLD);
+		assertEquals(search.getScore(), ScoreUtils.score(netlist, lsle, tmae), TOLERANCE);
+	}
+
+	@Test
+	public void run_MockData_ShouldNotAssignTwoGatesOfSameGroup() throws IOException, ParseException, CelloException {
+		Netlist netlist = getNetlist();
+		AssignmentSearch search = new AssignmentSearch(netlist, tdi.getGates(), 2, () -> null);
+		search.run(Long.MAX_VALUE);
+		Map<NetlistNode, Gate> assignment = search.getAssignment();
+		assertEquals(getLogicNodes(netlist).size(), assignment.size());
+		Set<String> groups = new HashSet<>();
+		for (Gate gate : assignment.values()) {
+			assertTrue(groups.add(gate.getGroup()));
+		}
+	}
+
+	@Test
+	public void run_ZeroTimeBudget_ShouldReturnFalse() throws IOException, ParseException, CelloException {
+		AssignmentSearch search = new AssignmentSearch(getNetlist(), tdi.getGates(), 1, () -> null);
+		assertFalse(search.run(0));
+	}
+
+	@Test(expected = CelloException.class)
+	public void AssignmentSearch_FewerGroupsThanLogicNodes_ShouldThrowCelloException()
+			throws IOException, ParseException, CelloException {
+		Netlist netlist = getNetlist();
+		CObjectCollection<Gate> gates = new CObjectCollection<>();
+		for (Gate gate : tdi.getGates()) {
+			if (gate.getGroup().equals(tdi.getGates().get(0).getGroup())) {
+				gates.add(gate);
+			}
+		}
+		assertTrue(getLogicNodes(netlist).size() > 1);
+		new AssignmentSearch(netlist, gates, 1, () -> null);
+	}
+
+	private static TargetDataInstance tdi;
+
+	private static final double TOLERANCE = 1e-8;
+
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.population;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The FitnessEvaluatorTest class tests that the FitnessEvaluator class agrees
+ * with a full evaluation of the netlist scored by ScoreUtils.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class FitnessEvaluatorTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("mock_library.json");
+		TargetData td = new TargetData((JSONArray) parser.parse(str));
+		tdi = new TargetDataInstance(td);
+	}
+
+	/**
+	 * Returns a new netlist whose primary inputs and outputs are assigned a
+	 * device.
+	 */
+	private static Netlist getNetlist() throws IOException, ParseException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("and_netlist.json");
+		Netlist rtn = new Netlist((JSONObject) parser.parse(str));
+		LSResultNetlistUtils.setVertexTypeUsingLSResult(rtn);
+		CObjectCollection<NetlistNode> inputs = LSResultsUtils.getPrimaryInputNodes(rtn);
+		for (int i = 0; i < inputs.size(); i++) {
+			inputs.get(i).getResultNetlistNodeData().setDevice(tdi.getInputSensors().get(i));
+		}
+		CObjectCollection<NetlistNode> outputs = LSResultsUtils.getPrimaryOutputNodes(rtn);
+		for (int i = 0; i < outputs.size(); i++) {
+			outputs.get(i).getResultNetlistNodeData().setDevice(tdi.getOutputDevices().get(i));
+		}
+		return rtn;
+	}
+
+	private static int[] getLogicNodes(final Netlist netlist) {
+		List<Integer> rtn = new ArrayList<>();
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			if (!LSResultsUtils.isPrimary(node) && !LSResultsUtils.isInputOutput(node)) {
+				rtn.add(i);
+			}
+		}
+		return rtn.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static void setInputs(final Netlist netlist) {
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			for (int j = 0; j < node.getNumInEdge(); j++) {
+				NetlistEdge e = node.getInEdgeAtIdx(j);
+				e.getResultNetlistEdgeData().setInput(device.getStructure().getInputs().get(j));
+			}
+		}
+	}
+
+	@Test
+	public void evaluate_RandomGenomes_ShouldMatchScoreUtils() throws IOException, ParseException, CelloException {
+		Netlist netlist = getNetlist();
+		int[] logicNodes = getLogicNodes(netlist);
+		FitnessEvaluator evaluator = new FitnessEvaluator(netlist, logicNodes, tdi.getGates(), null);
+		GeneticOperators operators = new GeneticOperators(tdi.getGates(), logicNodes.length);
+		Random random = new Random(SEED);
+		for (int i = 0; i < ITERATIONS; i++) {
+			Individual individual = new Individual(operators.getRandomGenome(random));
+			evaluator.evaluate(individual);
+			assertTrue(individual.isEvaluated());
+			int[] genome = individual.getGenome();
+			for (int j = 0; j < genome.length; j++) {
+				netlist.getVertexAtIdx(logicNodes[j]).getResultNetlistNodeData().setDevice(tdi.getGates().get(genome[j]));
+			}
+			setInputs(netlist);
+			LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+			TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+			TMToxicityEvaluation tmte = new TMToxicityEvaluation(netlist, tmae);
+			assertEquals(ScoreUtils.score(netlist, lsle, tmae), individual.getScore(), TOLERANCE);
+			assertEquals(tmte.getMinimumGrowth(), individual.getGrowth(), TOLERANCE);
+		}
+	}
+
+	private static TargetDataInstance tdi;
+
+	private static final int ITERATIONS = 50;
+	private static final long SEED = 42;
+	private static final double TOLERANCE = 1e-8;
+
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.GeneticAlgorithm.data.population;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.json.simple.JSONArray;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The GeneticOperatorsTest class tests that the genomes built by the
+ * GeneticOperators class never assign two gates of the same group.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class GeneticOperatorsTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("mock_library.json");
+		TargetData td = new TargetData((JSONArray) parser.parse(str));
+		gates = new TargetDataInstance(td).getGates();
+	}
+
+	private static void assertDistinctGroups(final int[] genome, final int numGenes) {
+		assertEquals(numGenes, genome.length);
+		Set<String> groups = new HashSet<>();
+		for (int gene : genome) {
+			assertTrue(groups.add(gates.get(gene).getGroup()));
+		}
+	}
+
+	@Test
+	public void getRandomGenome_Seeded_ShouldNotRepeatGroups() {
+		for (int numGenes = 1; numGenes <= NUM_GROUPS; numGenes++) {
+			GeneticOperators operators = new GeneticOperators(gates, numGenes);
+			Random random = new Random(SEED);
+			for (int i = 0; i < ITERATIONS; i++) {
+				assertDistinctGroups(operators.getRandomGenome(random), numGenes);
+			}
+		}
+	}
+
+	@Test
+	public void crossover_Seeded_ShouldNotRepeatGroups() {
+		for (int numGenes = 1; numGenes <= NUM_GROUPS; numGenes++) {
+			GeneticOperators operators = new GeneticOperators(gates, numGenes);
+			Random random = new Random(SEED);
+			for (int i = 0; i < ITERATIONS; i++) {
+				int[] a = operators.getRandomGenome(random);
+				int[] b = operators.getRandomGenome(random);
+				assertDistinctGroups(operators.crossover(a, b, random), numGenes);
+			}
+		}
+	}
+
+	@Test
+	public void mutate_Seeded_ShouldNotRepeatGroups() {
+		for (int numGenes = 1; numGenes <= NUM_GROUPS; numGenes++) {
+			GeneticOperators operators = new GeneticOperators(gates, numGenes);
+			Random random = new Random(SEED);
+			int[] genome = operators.getRandomGenome(random);
+			for (int i = 0; i < ITERATIONS; i++) {
+				operators.mutate(genome, i % 2 == 0 ? 0.5 : 1.0, random);
+				assertDistinctGroups(genome, numGenes);
+			}
+		}
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void init_MoreGenesThanGroups_ShouldThrowException() {
+		new GeneticOperators(gates, NUM_GROUPS + 1);
+	}
+
+	private static CObjectCollection<Gate> gates;
+
+	private static final int NUM_GROUPS = 4;
+	private static final int ITERATIONS = 1000;
+	private static final long SEED = 42;
+
+}
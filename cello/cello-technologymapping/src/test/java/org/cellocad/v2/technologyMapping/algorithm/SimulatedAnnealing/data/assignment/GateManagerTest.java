@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.technologyMapping.TMTestUtils;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The GateManagerTest class tests the bookkeeping of the assigned and
+ * unassigned gates of the GateManager class over random sequences of
+ * assignments.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class GateManagerTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		gates = TMTestUtils.getTargetDataInstance().getGates();
+		groups = new ArrayList<>();
+		for (Gate gate : gates) {
+			if (!groups.contains(gate.getGroup())) {
+				groups.add(gate.getGroup());
+			}
+		}
+	}
+
+	private static Set<Gate> newSet() {
+		return Collections.newSetFromMap(new IdentityHashMap<Gate, Boolean>());
+	}
+
+	private static void assertBookkeeping(final GateManager gm, final Set<Gate> assigned) {
+		assertEquals(gates.size(), gm.getNumGate());
+		for (int i = 0; i < gates.size(); i++) {
+			assertSame(gates.get(i), gm.getGateAtIdx(i));
+		}
+		assertEquals(assigned.size(), gm.getNumAssignedGate());
+		assertEquals(gates.size() - assigned.size(), gm.getNumUnassignedGate());
+		Set<Gate> seen = newSet();
+		for (int i = 0; i < gm.getNumAssignedGate(); i++) {
+			Gate gate = gm.getAssignedGateAtIdx(i);
+			assertTrue(assigned.contains(gate));
+			assertTrue(seen.add(gate));
+		}
+		for (int i = 0; i < gm.getNumUnassignedGate(); i++) {
+			Gate gate = gm.getUnassignedGateAtIdx(i);
+			assertTrue(!assigned.contains(gate));
+			assertTrue(seen.add(gate));
+		}
+		assertEquals(gates.size(), seen.size());
+		assertNull(gm.getAssignedGateAtIdx(gm.getNumAssignedGate()));
+		assertNull(gm.getUnassignedGateAtIdx(-1));
+		Set<String> freeGroups = new HashSet<>();
+		for (String group : groups) {
+			int numAssigned = 0;
+			int numGates = 0;
+			for (Gate gate : gates) {
+				if (gate.getGroup().equals(group)) {
+					numGates++;
+					numAssigned += assigned.contains(gate) ? 1 : 0;
+				}
+			}
+			assertEquals(numGates, gm.getNumGateByGroup(group));
+			assertEquals(numAssigned, gm.getNumAssignedGateByGroup(group));
+			assertEquals(numGates - numAssigned, gm.getNumUnassignedGateByGroup(group));
+			for (int i = 0; i < numAssigned; i++) {
+				Gate gate = gm.getAssignedGateByGroupAtIdx(group, i);
+				assertEquals(group, gate.getGroup());
+				assertTrue(assigned.contains(gate));
+			}
+			for (int i = 0; i < numGates - numAssigned; i++) {
+				Gate gate = gm.getUnassignedGateByGroupAtIdx(group, i);
+				assertEquals(group, gate.getGroup());
+				assertTrue(!assigned.contains(gate));
+			}
+			if (numAssigned == 0) {
+				freeGroups.add(group);
+			}
+		}
+		Gate gate = gm.getRandomGateFromUnassignedGroup();
+		if (freeGroups.isEmpty()) {
+			assertNull(gate);
+		} else {
+			assertTrue(freeGroups.contains(gate.getGroup()));
+			assertTrue(!assigned.contains(gate));
+		}
+		gate = gm.getRandomAssignedGate();
+		assertTrue(assigned.isEmpty() ? gate == null : assigned.contains(gate));
+		gate = gm.getRandomUnassignedGate();
+		assertTrue(assigned.size() == gates.size() ? gate == null : !assigned.contains(gate));
+	}
+
+	@Test
+	public void setAssignedGate_RandomSequence_ShouldKeepBookkeeping() {
+		Random random = new Random(SEED);
+		GateManager gm = new GateManager(gates, new Random(SEED));
+		Set<Gate> assigned = newSet();
+		assertBookkeeping(gm, assigned);
+		for (int i = 0; i < MOVES; i++) {
+			Gate gate = gates.get(random.nextInt(gates.size()));
+			if (random.nextBoolean()) {
+				assertEquals(assigned.add(gate), gm.setAssignedGate(gate));
+			} else {
+				assertEquals(assigned.remove(gate), gm.setUnassignedGate(gate));
+			}
+			assertBookkeeping(gm, assigned);
+		}
+	}
+
+	@Test
+	public void getGateByGroupAtIdx_UnknownGroupOrIndex_ShouldReturnNull() {
+		GateManager gm = new GateManager(gates);
+		assertNull(gm.getGateByGroupAtIdx("unknown", 0));
+		assertNull(gm.getGateByGroupAtIdx(groups.get(0), gm.getNumGateByGroup(groups.get(0))));
+		assertNull(gm.getRandomGateByGroup("unknown"));
+		assertEquals(0, gm.getNumAssignedGateByGroup("unknown"));
+		assertNull(gm.getGateAtIdx(gates.size()));
+	}
+
+	private static CObjectCollection<Gate> gates;
+	private static List<String> groups;
+
+	private static final long SEED = 5;
+	private static final int MOVES = 500;
+
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The ResponseCacheConfigTest class tests the defaults and the validation of
+ * the ResponseCacheConfig class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ResponseCacheConfigTest {
+
+	@Test
+	public void validate_NoParameters_ShouldDisableCache() {
+		ResponseCacheConfig config = new ResponseCacheConfig();
+		config.validate();
+		assertEquals(Integer.valueOf(0), config.getResponseCacheSize());
+		assertEquals(0.0, config.getResponseCacheResolution(), 0.0);
+		assertFalse(config.isEnabled());
+		assertNull(config.createResponseCache());
+	}
+
+	@Test
+	public void createResponseCache_PositiveSize_ShouldCreateNewCaches() {
+		ResponseCacheConfig config = new ResponseCacheConfig();
+		config.setResponseCacheSize(16);
+		config.setResponseCacheResolution(0.01);
+		config.validate();
+		assertTrue(config.isEnabled());
+		assertNotNull(config.createResponseCache());
+		assertTrue(config.createResponseCache() != config.createResponseCache());
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NegativeSize_ShouldThrowRuntimeException() {
+		ResponseCacheConfig config = new ResponseCacheConfig();
+		config.setResponseCacheSize(-1);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NegativeResolution_ShouldThrowRuntimeException() {
+		ResponseCacheConfig config = new ResponseCacheConfig();
+		config.setResponseCacheResolution(-0.1);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NaNResolution_ShouldThrowRuntimeException() {
+		ResponseCacheConfig config = new ResponseCacheConfig();
+		config.setResponseCacheResolution(Double.NaN);
+		config.validate();
+	}
+
+}
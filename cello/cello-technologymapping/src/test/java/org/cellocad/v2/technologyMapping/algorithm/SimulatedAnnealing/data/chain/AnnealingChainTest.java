@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.TMTestUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment.GateManager;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule.GeometricSchedule;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The AnnealingChainTest class tests that an AnnealingChain keeps a valid
+ * assignment and a score that agrees with a full evaluation, and that a chain
+ * is replayed exactly from its seed.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class AnnealingChainTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		tdi = TMTestUtils.getTargetDataInstance();
+	}
+
+	/**
+	 * Returns a new chain on a random netlist whose logic nodes are assigned gates
+	 * of distinct groups.
+	 */
+	private static AnnealingChain getChain(final long seed) throws CelloException {
+		Random random = new Random(seed);
+		Netlist netlist = TMTestUtils.getRandomNetlist(random, NUM_LOGIC, tdi);
+		GateManager GM = new GateManager(tdi.getGates(), new Random(seed));
+		for (NetlistNode node : TMTestUtils.getLogicNodes(netlist)) {
+			Gate gate = GM.getRandomGateFromUnassignedGroup();
+			GM.setAssignedGate(gate);
+			node.getResultNetlistNodeData().setDevice(gate);
+		}
+		TMTestUtils.setInputs(netlist);
+		AnnealingChain rtn = new AnnealingChain(netlist, new LSLogicEvaluation(netlist), GM, new Random(seed), null);
+		rtn.setSchedule(new GeometricSchedule(MAX_TEMP, MIN_TEMP, STEPS, ZERO_STEPS, 0));
+		return rtn;
+	}
+
+	@Test
+	public void anneal_RandomNetlists_ShouldMatchFullEvaluation() throws CelloException {
+		for (long seed = 0; seed < NETLISTS; seed++) {
+			AnnealingChain chain = getChain(seed);
+			chain.anneal(1.0, Integer.MAX_VALUE);
+			assertTrue(chain.getSchedule().isFinished());
+			Netlist netlist = chain.getNetlist();
+			List<NetlistNode> logicNodes = TMTestUtils.getLogicNodes(netlist);
+			Set<String> groups = new HashSet<>();
+			for (NetlistNode node : logicNodes) {
+				Gate gate = (Gate) node.getResultNetlistNodeData().getDevice();
+				assertTrue(groups.add(gate.getGroup()));
+			}
+			assertEquals(logicNodes.size(), chain.getGateManager().getNumAssignedGate());
+			// the chain moves devices only, so connect the inputs for the full evaluation
+			TMTestUtils.setInputs(netlist);
+			LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+			TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+			assertEquals(ScoreUtils.score(netlist, lsle, tmae), chain.getScore(), 1e-9 * Math.abs(chain.getScore()));
+			assertEquals(new TMToxicityEvaluation(netlist, tmae).getMinimumGrowth(), chain.getGrowth(), 0.0);
+		}
+	}
+
+	@Test
+	public void anneal_SameSeed_ShouldReplayAssignment() throws CelloException {
+		for (long seed = 0; seed < NETLISTS; seed++) {
+			AnnealingChain a = getChain(seed);
+			AnnealingChain b = getChain(seed);
+			a.anneal(1.0, Integer.MAX_VALUE);
+			b.anneal(1.0, Integer.MAX_VALUE);
+			for (int i = 0; i < a.getNetlist().getNumVertex(); i++) {
+				assertSame(a.getNetlist().getVertexAtIdx(i).getResultNetlistNodeData().getDevice(),
+						b.getNetlist().getVertexAtIdx(i).getResultNetlistNodeData().getDevice());
+			}
+			assertEquals(a.getScore(), b.getScore(), 0.0);
+		}
+	}
+
+	@Test
+	public void anneal_StepLimit_ShouldStopAtLimit() throws CelloException {
+		AnnealingChain chain = getChain(0);
+		assertEquals(LIMIT, chain.anneal(1.0, LIMIT));
+		assertEquals(LIMIT, chain.getSchedule().getStep());
+		assertTrue(chain.getSchedule().getTemperature() < MAX_TEMP);
+		assertEquals(STEPS + ZERO_STEPS - LIMIT, chain.anneal(1.0, Integer.MAX_VALUE));
+		assertTrue(chain.getSchedule().isFinished());
+	}
+
+	private static TargetDataInstance tdi;
+
+	private static final int NETLISTS = 10;
+	private static final int NUM_LOGIC = 4;
+	private static final int STEPS = 200;
+	private static final int ZERO_STEPS = 50;
+	private static final int LIMIT = 30;
+	private static final double MAX_TEMP = 100.0;
+	private static final double MIN_TEMP = 0.001;
+
+}
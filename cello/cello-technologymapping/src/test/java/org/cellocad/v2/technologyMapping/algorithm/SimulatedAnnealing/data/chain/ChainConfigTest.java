@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.chain;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * The ChainConfigTest class tests the defaults and the validation of the
+ * ChainConfig class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ChainConfigTest {
+
+	@Test
+	public void validate_NoParameters_ShouldSetDefaults() {
+		ChainConfig config = new ChainConfig();
+		config.validate();
+		assertEquals(Integer.valueOf(1), config.getNumChains());
+		assertEquals(Integer.valueOf(Runtime.getRuntime().availableProcessors()), config.getNumThreads());
+		assertEquals(Integer.valueOf(0), config.getExchangeInterval());
+	}
+
+	@Test
+	public void validate_ValidParameters_ShouldKeepValues() {
+		ChainConfig config = new ChainConfig();
+		config.setNumChains(4);
+		config.setNumThreads(2);
+		config.setExchangeInterval(50);
+		config.validate();
+		assertEquals(Integer.valueOf(4), config.getNumChains());
+		assertEquals(Integer.valueOf(2), config.getNumThreads());
+		assertEquals(Integer.valueOf(50), config.getExchangeInterval());
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_ZeroChains_ShouldThrowRuntimeException() {
+		ChainConfig config = new ChainConfig();
+		config.setNumChains(0);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NegativeThreads_ShouldThrowRuntimeException() {
+		ChainConfig config = new ChainConfig();
+		config.setNumThreads(-1);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NegativeExchangeInterval_ShouldThrowRuntimeException() {
+		ChainConfig config = new ChainConfig();
+		config.setExchangeInterval(-1);
+		config.validate();
+	}
+
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.incremental;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.TMTestUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The IncrementalEvaluationTest class tests that the IncrementalEvaluation
+ * class agrees with a full evaluation of the netlist over random sequences of
+ * moves, each accepted or rejected.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class IncrementalEvaluationTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		tdi = TMTestUtils.getTargetDataInstance();
+	}
+
+	private static void assertMatchesFullEvaluation(final Netlist netlist, final LSLogicEvaluation lsle,
+			final TMActivityEvaluation tmae, final TMToxicityEvaluation tmte) throws CelloException {
+		TMActivityEvaluation full = new TMActivityEvaluation(netlist, lsle);
+		TMToxicityEvaluation fullToxicity = new TMToxicityEvaluation(netlist, full);
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			assertArrayEquals(full.getActivities(node), tmae.getActivities(node), 0.0);
+			double[] toxicities = fullToxicity.getToxicities(node);
+			if (toxicities != null) {
+				assertArrayEquals(toxicities, tmte.getToxicities(node), 0.0);
+			}
+		}
+		for (int i = 0; i < lsle.getStates().getNumStates(); i++) {
+			assertEquals(fullToxicity.getGrowth(lsle.getStates().getStateAtIdx(i)),
+					tmte.getGrowth(lsle.getStates().getStateAtIdx(i)), 0.0);
+		}
+		assertEquals(fullToxicity.getMinimumGrowth(), tmte.getMinimumGrowth(), 0.0);
+	}
+
+	private static void testRandomMoves(final long seed, final int numLogic) throws CelloException {
+		Random random = new Random(seed);
+		Netlist netlist = TMTestUtils.getRandomNetlist(random, numLogic, tdi);
+		List<NetlistNode> logicNodes = TMTestUtils.getLogicNodes(netlist);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		TMToxicityEvaluation tmte = new TMToxicityEvaluation(netlist, tmae);
+		IncrementalEvaluation ie = new IncrementalEvaluation(netlist, tmae, tmte);
+		for (int i = 0; i < MOVES; i++) {
+			NetlistNode a = logicNodes.get(random.nextInt(logicNodes.size()));
+			NetlistNode b = random.nextBoolean() ? logicNodes.get(random.nextInt(logicNodes.size())) : null;
+			AssignableDevice oldA = a.getResultNetlistNodeData().getDevice();
+			AssignableDevice oldB = b == null ? null : b.getResultNetlistNodeData().getDevice();
+			a.getResultNetlistNodeData().setDevice(tdi.getGates().get(random.nextInt(tdi.getGates().size())));
+			if (b != null) {
+				b.getResultNetlistNodeData().setDevice(tdi.getGates().get(random.nextInt(tdi.getGates().size())));
+			}
+			TMTestUtils.setInputs(netlist);
+			ie.evaluate(a, b);
+			assertTrue(ie.getEvaluatedNodes().contains(a));
+			assertMatchesFullEvaluation(netlist, lsle, tmae, tmte);
+			if (random.nextBoolean()) {
+				ie.accept();
+			} else {
+				if (b != null) {
+					b.getResultNetlistNodeData().setDevice(oldB);
+				}
+				a.getResultNetlistNodeData().setDevice(oldA);
+				TMTestUtils.setInputs(netlist);
+				ie.reject();
+			}
+			assertMatchesFullEvaluation(netlist, lsle, tmae, tmte);
+		}
+	}
+
+	@Test
+	public void evaluate_RandomMoves_ShouldMatchFullEvaluation() throws CelloException {
+		for (long seed = 0; seed < NETLISTS; seed++) {
+			testRandomMoves(seed, 3 + (int) seed * 2);
+		}
+	}
+
+	@Test
+	public void getFanOutCone_RandomNetlist_ShouldBeClosedAndTopologicallyOrdered() throws CelloException {
+		Random random = new Random(SEED);
+		Netlist netlist = TMTestUtils.getRandomNetlist(random, 20, tdi);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		IncrementalEvaluation ie = new IncrementalEvaluation(netlist, tmae, new TMToxicityEvaluation(netlist, tmae));
+		for (NetlistNode node : TMTestUtils.getLogicNodes(netlist)) {
+			List<NetlistNode> cone = ie.getFanOutCone(node, null, node);
+			assertEquals(node, cone.get(0));
+			for (int i = 0; i < cone.size(); i++) {
+				NetlistNode n = cone.get(i);
+				for (int j = 0; j < n.getNumOutEdge(); j++) {
+					assertTrue(cone.indexOf(n.getOutEdgeAtIdx(j).getDst()) > i);
+				}
+			}
+		}
+	}
+
+	private static TargetDataInstance tdi;
+
+	private static final int NETLISTS = 8;
+	private static final int MOVES = 100;
+	private static final long SEED = 42;
+
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The RobustnessConfigTest class tests the defaults and the validation of the
+ * RobustnessConfig class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class RobustnessConfigTest {
+
+	@Test
+	public void validate_NoParameters_ShouldDisableAnalysis() {
+		RobustnessConfig config = new RobustnessConfig();
+		config.validate();
+		assertEquals(Integer.valueOf(0), config.getRobustnessSamples());
+		assertEquals(0.1, config.getRobustnessSigma(), 0.0);
+		assertFalse(config.isEnabled());
+	}
+
+	@Test
+	public void isEnabled_PositiveSamples_ShouldBeTrue() {
+		RobustnessConfig config = new RobustnessConfig();
+		config.setRobustnessSamples(100);
+		config.validate();
+		assertTrue(config.isEnabled());
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NegativeSamples_ShouldThrowRuntimeException() {
+		RobustnessConfig config = new RobustnessConfig();
+		config.setRobustnessSamples(-1);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NegativeSigma_ShouldThrowRuntimeException() {
+		RobustnessConfig config = new RobustnessConfig();
+		config.setRobustnessSigma(-0.1);
+		config.validate();
+	}
+
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The TMRobustnessEvaluationTest class tests the TMRobustnessEvaluation class
+ * on the and netlist assigned to gates of a small mock library.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class TMRobustnessEvaluationTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		JSONParser parser = new JSONParser();
+		String str = Utils.getResourceAsString("mock_library.json");
+		TargetData td = new TargetData((JSONArray) parser.parse(str));
+		TargetDataInstance tdi = new TargetDataInstance(td);
+		str = Utils.getResourceAsString("and_netlist.json");
+		netlist = new Netlist((JSONObject) parser.parse(str));
+		LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+		CObjectCollection<NetlistNode> inputs = LSResultsUtils.getPrimaryInputNodes(netlist);
+		for (int i = 0; i < inputs.size(); i++) {
+			inputs.get(i).getResultNetlistNodeData().setDevice(tdi.getInputSensors().get(i));
+		}
+		CObjectCollection<NetlistNode> outputs = LSResultsUtils.getPrimaryOutputNodes(netlist);
+		for (int i = 0; i < outputs.size(); i++) {
+			outputs.get(i).getResultNetlistNodeData().setDevice(tdi.getOutputDevices().get(i));
+		}
+		// one gate of each of the first groups
+		String group = null;
+		int gate = 0;
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			if (LSResultsUtils.isPrimary(node) || LSResultsUtils.isInputOutput(node)) {
+				continue;
+			}
+			while (tdi.getGates().get(gate).getGroup().equals(group)) {
+				gate++;
+			}
+			group = tdi.getGates().get(gate).getGroup();
+			node.getResultNetlistNodeData().setDevice(tdi.getGates().get(gate));
+		}
+		for (int i = 0; i < netlist.getNumVertex(); i++) {
+			NetlistNode node = netlist.getVertexAtIdx(i);
+			AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+			for (int j = 0; j < node.getNumInEdge(); j++) {
+				node.getInEdgeAtIdx(j).getResultNetlistEdgeData().setInput(device.getStructure().getInputs().get(j));
+			}
+		}
+		lsle = new LSLogicEvaluation(netlist);
+	}
+
+	@Test
+	public void init_ZeroSigma_ShouldMatchNominalScore() throws CelloException {
+		TMRobustnessEvaluation tmre = new TMRobustnessEvaluation(netlist, lsle, NUM_SAMPLES, 0.0, SEED, 1);
+		double nominal = tmre.getNominalScore();
+		assertEquals(ScoreUtils.score(netlist, lsle, new TMActivityEvaluation(netlist, lsle)), nominal, 0.0);
+		for (double p : new double[] { 0.0, 5.0, 25.0, 50.0, 75.0, 95.0, 100.0 }) {
+			assertEquals(nominal, tmre.getPercentile(p), TOLERANCE * nominal);
+		}
+		assertEquals(nominal, tmre.getMeanScore(), TOLERANCE * nominal);
+		for (NetlistNode node : tmre.getSensitivityRanking()) {
+			assertEquals(0.0, tmre.getSensitivity(node), 0.0);
+		}
+	}
+
+	@Test
+	public void init_FixedSeed_ShouldNotDependOnNumThreads() throws CelloException {
+		TMRobustnessEvaluation a = new TMRobustnessEvaluation(netlist, lsle, NUM_SAMPLES, SIGMA, SEED, 1);
+		TMRobustnessEvaluation b = new TMRobustnessEvaluation(netlist, lsle, NUM_SAMPLES, SIGMA, SEED, 4);
+		double[] x = a.getScores();
+		double[] y = b.getScores();
+		assertEquals(x.length, y.length);
+		for (int i = 0; i < x.length; i++) {
+			assertEquals(x[i], y[i], 0.0);
+		}
+		for (NetlistNode node : a.getSensitivityRanking()) {
+			assertEquals(a.getSensitivity(node), b.getSensitivity(node), 0.0);
+		}
+		assertEquals(a.getPercentile(5.0), b.getPercentile(5.0), 0.0);
+		assertEquals(a.getPercentile(95.0), b.getPercentile(95.0), 0.0);
+	}
+
+	@Test
+	public void init_PositiveSigma_ShouldSpreadScores() throws CelloException {
+		TMRobustnessEvaluation tmre = new TMRobustnessEvaluation(netlist, lsle, NUM_SAMPLES, SIGMA, SEED, 2);
+		assertTrue(tmre.getPercentile(5.0) < tmre.getPercentile(95.0));
+		assertTrue(tmre.getPercentile(5.0) <= tmre.getPercentile(50.0));
+		assertTrue(tmre.getPercentile(50.0) <= tmre.getPercentile(95.0));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void init_NoSamples_ShouldThrowException() throws CelloException {
+		new TMRobustnessEvaluation(netlist, lsle, 0, SIGMA, SEED, 1);
+	}
+
+	private static Netlist netlist;
+	private static LSLogicEvaluation lsle;
+
+	private static final int NUM_SAMPLES = 64;
+	private static final double SIGMA = 0.2;
+	private static final long SEED = 42;
+	private static final double TOLERANCE = 1e-12;
+
+}
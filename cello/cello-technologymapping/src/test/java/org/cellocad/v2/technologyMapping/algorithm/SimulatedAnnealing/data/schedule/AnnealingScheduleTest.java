@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The AnnealingScheduleTest class tests the temperatures, the phases and the
+ * early stop of the schedules of the <i>SimulatedAnnealing</i> algorithm.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class AnnealingScheduleTest {
+
+	@Test
+	public void update_GeometricSchedule_ShouldCoolToMinTemperature() {
+		AnnealingSchedule schedule = new GeometricSchedule(MAX_TEMP, MIN_TEMP, STEPS, ZERO_STEPS, 0);
+		assertEquals(MAX_TEMP, schedule.getTemperature(), 0.0);
+		double previous = schedule.getTemperature();
+		for (int i = 0; i < STEPS; i++) {
+			assertTrue(schedule.isAnnealing());
+			schedule.update(true, i);
+			if (schedule.isAnnealing()) {
+				assertTrue(schedule.getTemperature() < previous);
+				previous = schedule.getTemperature();
+			}
+		}
+		// the last step of the annealing phase is one cooling step above the final temperature
+		assertEquals(MAX_TEMP * Math.pow(MIN_TEMP / MAX_TEMP, (STEPS - 1.0) / STEPS), previous, 1e-9);
+		assertFalse(schedule.isAnnealing());
+		assertEquals(0.0, schedule.getTemperature(), 0.0);
+		for (int i = 0; i < ZERO_STEPS; i++) {
+			assertFalse(schedule.isFinished());
+			schedule.update(false, STEPS);
+		}
+		assertTrue(schedule.isFinished());
+		assertFalse(schedule.isConvergedEarly());
+	}
+
+	@Test
+	public void update_ConvergenceWindow_ShouldEndPhasesEarly() {
+		AnnealingSchedule schedule = new GeometricSchedule(MAX_TEMP, MIN_TEMP, STEPS, ZERO_STEPS, WINDOW);
+		schedule.update(true, 1.0);
+		for (int i = 0; i < WINDOW; i++) {
+			schedule.update(false, 0.0);
+		}
+		assertTrue(schedule.isConvergedEarly());
+		assertFalse(schedule.isAnnealing());
+		assertEquals(STEPS, schedule.getStep());
+		for (int i = 0; i < WINDOW; i++) {
+			schedule.update(false, 0.0);
+		}
+		assertTrue(schedule.isFinished());
+	}
+
+	@Test
+	public void update_AdaptiveScheduleNoAcceptance_ShouldNotCool() {
+		AnnealingSchedule schedule = new AdaptiveSchedule(MAX_TEMP, MIN_TEMP, STEPS, ZERO_STEPS, 0, 0.5, 10);
+		for (int i = 0; i < STEPS / 2; i++) {
+			schedule.update(false, 0.0);
+			assertEquals(MAX_TEMP, schedule.getTemperature(), 0.0);
+		}
+	}
+
+	@Test
+	public void update_AdaptiveScheduleFullAcceptance_ShouldCool() {
+		AnnealingSchedule schedule = new AdaptiveSchedule(MAX_TEMP, MIN_TEMP, STEPS, ZERO_STEPS, 0, 0.5, 10);
+		for (int i = 0; i < 10; i++) {
+			schedule.update(true, i);
+		}
+		assertEquals(MAX_TEMP / 1.25, schedule.getTemperature(), 1e-9);
+	}
+
+	@Test
+	public void update_ReheatingScheduleStagnant_ShouldReheat() {
+		AnnealingSchedule schedule = new ReheatingSchedule(MAX_TEMP, MIN_TEMP, STEPS, ZERO_STEPS, 0, 5, 10.0);
+		schedule.update(true, 1.0);
+		double previous = schedule.getTemperature();
+		for (int i = 0; i < 4; i++) {
+			schedule.update(false, 0.0);
+			assertTrue(schedule.getTemperature() < previous);
+			previous = schedule.getTemperature();
+		}
+		schedule.update(false, 0.0);
+		assertTrue(schedule.getTemperature() > previous);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void AnnealingSchedule_MinTemperatureAboveMaxTemperature_ShouldThrowRuntimeException() {
+		new GeometricSchedule(MIN_TEMP, MAX_TEMP, STEPS, ZERO_STEPS, 0);
+	}
+
+	private static final double MAX_TEMP = 100.0;
+	private static final double MIN_TEMP = 0.001;
+	private static final int STEPS = 100;
+	private static final int ZERO_STEPS = 20;
+	private static final int WINDOW = 5;
+
+}
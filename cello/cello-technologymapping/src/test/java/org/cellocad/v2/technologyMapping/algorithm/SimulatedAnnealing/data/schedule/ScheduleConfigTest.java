@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The ScheduleConfigTest class tests the defaults and the validation of the
+ * ScheduleConfig class, and the schedules it creates.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ScheduleConfigTest {
+
+	@Test
+	public void validate_NoParameters_ShouldSetDefaults() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.validate();
+		assertEquals(ScheduleConfig.S_GEOMETRIC, config.getSchedule());
+		assertEquals(100.0, config.getMaxTemperature(), 0.0);
+		assertEquals(0.001, config.getMinTemperature(), 0.0);
+		assertEquals(Integer.valueOf(500), config.getSteps());
+		assertEquals(Integer.valueOf(100), config.getZeroTemperatureSteps());
+		assertEquals(Integer.valueOf(0), config.getConvergenceWindow());
+	}
+
+	@Test
+	public void validate_LowMaxTemperature_ShouldDefaultMinTemperatureToMaxTemperature() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.setMaxTemperature(0.0001);
+		config.validate();
+		assertEquals(0.0001, config.getMinTemperature(), 0.0);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_MinTemperatureAboveMaxTemperature_ShouldThrowRuntimeException() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.setMaxTemperature(1.0);
+		config.setMinTemperature(2.0);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NonPositiveMaxTemperature_ShouldThrowRuntimeException() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.setMaxTemperature(0.0);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_InvalidSchedule_ShouldThrowRuntimeException() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.setSchedule("linear");
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_NegativeSteps_ShouldThrowRuntimeException() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.setSteps(-1);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_TargetAcceptanceAboveOne_ShouldThrowRuntimeException() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.setTargetAcceptance(1.5);
+		config.validate();
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_ReheatFactorBelowOne_ShouldThrowRuntimeException() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.setReheatFactor(0.5);
+		config.validate();
+	}
+
+	@Test
+	public void getStepBudget_StepsPerNodeAndGate_ShouldScaleSteps() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.setSteps(100);
+		config.setStepsPerNode(10);
+		config.setStepsPerGate(3);
+		config.validate();
+		assertEquals(100 + 10 * 5 + 3 * 7, config.getStepBudget(5, 7));
+		config.setStepsPerNode(Integer.MAX_VALUE);
+		assertEquals(Integer.MAX_VALUE, config.getStepBudget(5, 7));
+	}
+
+	@Test
+	public void createSchedule_Schedules_ShouldCreateConfiguredSchedule() {
+		ScheduleConfig config = new ScheduleConfig();
+		config.validate();
+		assertTrue(config.createSchedule(10) instanceof GeometricSchedule);
+		config.setSchedule(ScheduleConfig.S_ADAPTIVE);
+		assertTrue(config.createSchedule(10) instanceof AdaptiveSchedule);
+		config.setSchedule(ScheduleConfig.S_REHEATING);
+		AnnealingSchedule schedule = config.createSchedule(10);
+		assertTrue(schedule instanceof ReheatingSchedule);
+		assertEquals(10, schedule.getSteps());
+		assertEquals(config.getZeroTemperatureSteps().intValue(), schedule.getZeroSteps());
+	}
+
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.TMTestUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.incremental.IncrementalEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The IncrementalScoreTest class tests that the IncrementalScore class agrees
+ * with the score of a full evaluation of netlists with several primary outputs
+ * over random sequences of moves, each accepted or rejected.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class IncrementalScoreTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		tdi = TMTestUtils.getTargetDataInstance();
+	}
+
+	private static double getFullScore(final Netlist netlist, final LSLogicEvaluation lsle) throws CelloException {
+		return ScoreUtils.score(netlist, lsle, new TMActivityEvaluation(netlist, lsle));
+	}
+
+	private static void testRandomMoves(final long seed, final int numLogic, final int numOutputs)
+			throws CelloException {
+		Random random = new Random(seed);
+		Netlist netlist = TMTestUtils.getRandomNetlist(random, numLogic, numOutputs, tdi);
+		List<NetlistNode> logicNodes = TMTestUtils.getLogicNodes(netlist);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		TMToxicityEvaluation tmte = new TMToxicityEvaluation(netlist, tmae);
+		IncrementalEvaluation ie = new IncrementalEvaluation(netlist, tmae, tmte);
+		IncrementalScore is = new IncrementalScore(netlist, lsle, tmae);
+		assertEquals(getFullScore(netlist, lsle), is.getScore(), 0.0);
+		for (int i = 0; i < MOVES; i++) {
+			double before = is.getScore();
+			NetlistNode a = logicNodes.get(random.nextInt(logicNodes.size()));
+			AssignableDevice old = a.getResultNetlistNodeData().getDevice();
+			a.getResultNetlistNodeData().setDevice(tdi.getGates().get(random.nextInt(tdi.getGates().size())));
+			TMTestUtils.setInputs(netlist);
+			ie.evaluate(a, null);
+			double after = is.update(ie.getEvaluatedNodes());
+			assertEquals(after, is.getScore(), 0.0);
+			assertEquals(getFullScore(netlist, lsle), after, 0.0);
+			if (random.nextBoolean()) {
+				ie.accept();
+				is.accept();
+			} else {
+				a.getResultNetlistNodeData().setDevice(old);
+				TMTestUtils.setInputs(netlist);
+				ie.reject();
+				is.reject();
+				assertEquals(before, is.getScore(), 0.0);
+			}
+			assertEquals(getFullScore(netlist, lsle), is.getScore(), 0.0);
+		}
+	}
+
+	@Test
+	public void update_RandomMoves_ShouldMatchFullScore() throws CelloException {
+		for (long seed = 0; seed < NETLISTS; seed++) {
+			testRandomMoves(seed, 4 + (int) seed, 1 + (int) seed % 3);
+		}
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void update_PendingMove_ShouldThrowRuntimeException() throws CelloException {
+		Netlist netlist = TMTestUtils.getRandomNetlist(new Random(0), 4, 2, tdi);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		IncrementalScore is = new IncrementalScore(netlist, lsle, tmae);
+		List<NetlistNode> nodes = TMTestUtils.getLogicNodes(netlist);
+		is.update(nodes);
+		is.update(nodes);
+	}
+
+	private static TargetDataInstance tdi;
+
+	private static final int NETLISTS = 12;
+	private static final int MOVES = 40;
+
+}
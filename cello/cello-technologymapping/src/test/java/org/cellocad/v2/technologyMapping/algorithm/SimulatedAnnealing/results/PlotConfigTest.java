@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The PlotConfigTest class tests the defaults and the validation of the
+ * PlotConfig class.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class PlotConfigTest {
+
+	@Test
+	public void validate_NoParameters_ShouldSetDefaults() {
+		PlotConfig config = new PlotConfig();
+		config.validate();
+		assertEquals(ResponsePlotUtils.S_PYTHON, config.getPlotRenderer());
+		assertFalse(config.getAsyncPlots());
+		assertTrue(config.isEnabled());
+	}
+
+	@Test
+	public void isEnabled_NoneRenderer_ShouldBeFalse() {
+		PlotConfig config = new PlotConfig();
+		config.setPlotRenderer(PlotConfig.S_NONE);
+		config.validate();
+		assertFalse(config.isEnabled());
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void validate_InvalidRenderer_ShouldThrowRuntimeException() {
+		PlotConfig config = new PlotConfig();
+		config.setPlotRenderer("gnuplot");
+		config.validate();
+	}
+
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2020 Boston University (BU)
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.cellocad.v2.common.CelloException;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+import org.cellocad.v2.common.stage.runtime.environment.StageArgString;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.TMTestUtils;
+import org.cellocad.v2.technologyMapping.runtime.environment.TMRuntimeEnv;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The ResponsePlotUtilsTest class tests the rendering of the response plots in
+ * the background.
+ *
+ * @author agent
+ *
+ * @date 2026-10-17
+ *
+ */
+public class ResponsePlotUtilsTest {
+
+	@BeforeClass
+	public static void init() throws IOException, ParseException, CelloException {
+		tdi = TMTestUtils.getTargetDataInstance();
+	}
+
+	private static Future<Void> generatePlots(final File dir, final ExecutorService executor)
+			throws CelloException {
+		Netlist netlist = TMTestUtils.getRandomNetlist(new Random(0), NUM_LOGIC, tdi);
+		LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+		TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+		String[] args = { "-" + ArgString.INPUTNETLIST, S_UNUSED, "-" + ArgString.USERCONSTRAINTSFILE, S_UNUSED,
+				"-" + ArgString.INPUTSENSORFILE, S_UNUSED, "-" + ArgString.OUTPUTDEVICEFILE, S_UNUSED,
+				"-" + StageArgString.ALGORITHMNAME, "SimulatedAnnealing", "-" + ArgString.OUTPUTDIR, dir.getPath() };
+		return ResponsePlotUtils.generatePlots(netlist, lsle, tmae, new TMRuntimeEnv(args), ResponsePlotUtils.S_JAVA,
+				executor);
+	}
+
+	@Test
+	public void newPlotExecutor_Task_ShouldRunOnDaemonThread() throws InterruptedException, ExecutionException {
+		ExecutorService executor = ResponsePlotUtils.newPlotExecutor();
+		try {
+			assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void generatePlots_JavaRenderer_ShouldWritePlotOfEachGate()
+			throws CelloException, IOException, InterruptedException, ExecutionException {
+		File dir = Files.createTempDirectory("cello_").toFile();
+		ExecutorService executor = ResponsePlotUtils.newPlotExecutor();
+		try {
+			Future<Void> plots = generatePlots(dir, executor);
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+			plots.get();
+			Collection<File> files = FileUtils.listFiles(dir, new String[] { "png" }, false);
+			assertEquals(NUM_LOGIC, files.size());
+		} finally {
+			executor.shutdownNow();
+			FileUtils.deleteDirectory(dir);
+		}
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void generatePlots_MissingDirectory_ShouldFailFuture()
+			throws CelloException, InterruptedException, ExecutionException {
+		File dir = new File(System.getProperty("java.io.tmpdir"), "cello_missing_" + System.nanoTime());
+		ExecutorService executor = ResponsePlotUtils.newPlotExecutor();
+		try {
+			generatePlots(dir, executor).get();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static TargetDataInstance tdi;
+
+	private static final int NUM_LOGIC = 3;
+	private static final String S_UNUSED = "unused";
+
+}